@@ -3,9 +3,11 @@ package edu.unc.eventos;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "edu.unc.eventos")
 @EnableFeignClients
+@EnableScheduling
 public class EventosApplication {
 
 	public static void main(String[] args) {
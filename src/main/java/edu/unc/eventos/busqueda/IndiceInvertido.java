@@ -0,0 +1,169 @@
+/**
+ * @file: IndiceInvertido.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:31:06 PM
+ */
+package edu.unc.eventos.busqueda;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Índice invertido en memoria para búsquedas de texto con resultados ordenados por relevancia.
+ * <p>
+ * Cada término apunta a los documentos que lo contienen y a su frecuencia ponderada por campo. El puntaje de un
+ * documento es la suma, por cada término de la consulta, de esa frecuencia por {@code ln(1 + N / df)}, multiplicada
+ * por la fracción de términos de la consulta que contiene; así los documentos que contienen todos los términos quedan
+ * primero y los términos raros pesan más que los comunes. Las lecturas pueden ser concurrentes; las escrituras son
+ * exclusivas. Los empates se ordenan por título.
+ *
+ * @param <K> Tipo de la clave de los documentos.
+ */
+public class IndiceInvertido<K> {
+    /**
+     * Texto de un campo y el peso de sus términos.
+     */
+    public record Campo(String texto, int peso) {
+    }
+
+    /**
+     * Documento encontrado y su puntaje.
+     */
+    public record Resultado<K>(K clave, String titulo, double puntaje) {
+    }
+
+    /**
+     * Documento indexado: su título y los términos con su frecuencia ponderada, necesarios para quitarlo.
+     */
+    private record Documento(String titulo, Map<String, Integer> terminos) {
+    }
+
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    private final Map<K, Documento> documentos = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Agrega o reemplaza un documento.
+     *
+     * @param clave  Clave del documento.
+     * @param titulo Texto que se devuelve en los resultados.
+     * @param campos Campos indexados con su peso.
+     */
+    public void agregar(K clave, String titulo, Campo... campos) {
+        Map<String, Integer> terminos = new HashMap<>();
+        for (Campo campo : campos) {
+            for (String termino : Tokenizador.terminos(campo.texto())) {
+                terminos.merge(termino, campo.peso(), Integer::sum);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            quitarSinBloqueo(clave);
+            documentos.put(clave, new Documento(titulo, terminos));
+            terminos.forEach((termino, frecuencia) ->
+                    postings.computeIfAbsent(termino, t -> new HashMap<>()).put(clave, frecuencia));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita un documento del índice, si existe.
+     *
+     * @param clave Clave del documento.
+     */
+    public void quitar(K clave) {
+        lock.writeLock().lock();
+        try {
+            quitarSinBloqueo(clave);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Número de documentos indexados.
+     */
+    public int tamanio() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los documentos más relevantes para una consulta.
+     *
+     * @param consulta Texto de la consulta; se divide con el mismo {@link Tokenizador} que los documentos.
+     * @param filtro   Condición que deben cumplir las claves de los resultados.
+     * @param limite   Número máximo de resultados.
+     * @return Resultados ordenados de mayor a menor puntaje.
+     */
+    public List<Resultado<K>> buscar(String consulta, Predicate<K> filtro, int limite) {
+        List<String> terminos = Tokenizador.terminos(consulta).stream().distinct().toList();
+        if (terminos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        Map<K, double[]> acumulados = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int total = documentos.size();
+            for (String termino : terminos) {
+                Map<K, Integer> lista = postings.get(termino);
+                if (lista == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (double) total / lista.size());
+                lista.forEach((clave, frecuencia) -> {
+                    if (filtro.test(clave)) {
+                        double[] acumulado = acumulados.computeIfAbsent(clave, c -> new double[2]);
+                        acumulado[0] += frecuencia * idf;
+                        acumulado[1]++;
+                    }
+                });
+            }
+            Comparator<Resultado<K>> porPuntaje = Comparator.comparingDouble(Resultado::puntaje);
+            PriorityQueue<Resultado<K>> mejores = new PriorityQueue<>(limite + 1, porPuntaje);
+            acumulados.forEach((clave, acumulado) -> {
+                double puntaje = acumulado[0] * acumulado[1] / terminos.size();
+                if (mejores.size() < limite) {
+                    mejores.add(new Resultado<>(clave, documentos.get(clave).titulo(), puntaje));
+                } else if (puntaje > mejores.peek().puntaje()) {
+                    mejores.poll();
+                    mejores.add(new Resultado<>(clave, documentos.get(clave).titulo(), puntaje));
+                }
+            });
+            List<Resultado<K>> resultados = new ArrayList<>(mejores);
+            resultados.sort(porPuntaje.reversed()
+                    .thenComparing(Resultado::titulo, Comparator.nullsLast(Comparator.naturalOrder())));
+            return resultados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void quitarSinBloqueo(K clave) {
+        Documento anterior = documentos.remove(clave);
+        if (anterior == null) {
+            return;
+        }
+        for (String termino : anterior.terminos().keySet()) {
+            Map<K, Integer> lista = postings.get(termino);
+            if (lista != null) {
+                lista.remove(clave);
+                if (lista.isEmpty()) {
+                    postings.remove(termino);
+                }
+            }
+        }
+    }
+}
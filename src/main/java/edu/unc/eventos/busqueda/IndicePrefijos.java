@@ -0,0 +1,233 @@
+/**
+ * @file: IndicePrefijos.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:06:31 PM
+ */
+package edu.unc.eventos.busqueda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice de búsqueda por prefijo para autocompletar nombres, documentos y teléfonos.
+ * <p>
+ * Guarda un arreglo ordenado de términos y, en paralelo, la entrada a la que pertenece cada término; un prefijo
+ * corresponde a un rango contiguo del arreglo, que se encuentra con dos búsquedas binarias. Los arreglos no se
+ * modifican: cada escritura publica una copia nueva con una referencia {@code volatile}, de modo que las lecturas no
+ * se bloquean y siempre ven un estado completo. Copiar cuesta O(n) por escritura, lo que es aceptable porque las
+ * altas y cambios de personas son mucho menos frecuentes que las consultas.
+ */
+public class IndicePrefijos {
+    /**
+     * Elemento indexado.
+     *
+     * @param id       Identificador de la entidad.
+     * @param nombre   Nombre que se muestra en la sugerencia.
+     * @param detalle  Dato que ayuda a distinguir dos personas con el mismo nombre.
+     * @param terminos Términos normalizados por los que se puede encontrar.
+     */
+    public record Entrada(long id, String nombre, String detalle, String[] terminos) {
+    }
+
+    private record Instantanea(String[] terminos, Entrada[] entradas) {
+    }
+
+    private record Par(String termino, Entrada entrada) {
+    }
+
+    private volatile Instantanea instantanea = new Instantanea(new String[0], new Entrada[0]);
+    private final Map<Long, Entrada> porId = new HashMap<>();
+
+    /**
+     * Crea una entrada a partir de las palabras de su nombre y de valores que se buscan completos.
+     *
+     * @param id        Identificador de la entidad.
+     * @param nombre    Nombre que se muestra; sus palabras se indexan por separado.
+     * @param detalle   Dato que se muestra junto al nombre.
+     * @param compactos Valores, como documentos o teléfonos, que se indexan sin separadores.
+     * @return La entrada.
+     */
+    public static Entrada entrada(long id, String nombre, String detalle, String... compactos) {
+        Set<String> terminos = new HashSet<>(Tokenizador.palabras(nombre));
+        for (String valor : compactos) {
+            String termino = Tokenizador.compacto(valor);
+            if (!termino.isEmpty()) {
+                terminos.add(termino);
+            }
+        }
+        return new Entrada(id, nombre, detalle, terminos.toArray(String[]::new));
+    }
+
+    /**
+     * Reemplaza todo el contenido del índice.
+     *
+     * @param entradas Entradas a indexar.
+     */
+    public synchronized void cargar(List<Entrada> entradas) {
+        porId.clear();
+        entradas.forEach(entrada -> porId.put(entrada.id(), entrada));
+        List<Par> pares = new ArrayList<>();
+        for (Entrada entrada : porId.values()) {
+            for (String termino : entrada.terminos()) {
+                pares.add(new Par(termino, entrada));
+            }
+        }
+        pares.sort((a, b) -> comparar(a.termino(), a.entrada(), b.termino(), b.entrada()));
+        String[] terminos = new String[pares.size()];
+        Entrada[] propietarias = new Entrada[pares.size()];
+        for (int i = 0; i < pares.size(); i++) {
+            terminos[i] = pares.get(i).termino();
+            propietarias[i] = pares.get(i).entrada();
+        }
+        instantanea = new Instantanea(terminos, propietarias);
+    }
+
+    /**
+     * Agrega una entrada o reemplaza la que tenga el mismo identificador.
+     *
+     * @param entrada Entrada a indexar.
+     */
+    public synchronized void agregar(Entrada entrada) {
+        Entrada anterior = porId.put(entrada.id(), entrada);
+        publicar(anterior, entrada);
+    }
+
+    /**
+     * Quita la entrada con el identificador indicado, si existe.
+     *
+     * @param id Identificador de la entidad.
+     */
+    public synchronized void quitar(long id) {
+        Entrada anterior = porId.remove(id);
+        if (anterior != null) {
+            publicar(anterior, null);
+        }
+    }
+
+    /**
+     * Número de entradas indexadas.
+     */
+    public synchronized int tamanio() {
+        return porId.size();
+    }
+
+    /**
+     * Busca las entradas que tienen, por cada palabra del prefijo, algún término que empieza por ella. Si el prefijo
+     * solo tiene dígitos, se busca como un único valor sin separadores. Los resultados salen en orden alfabético del
+     * término encontrado.
+     *
+     * @param prefijo Texto escrito hasta el momento.
+     * @param limite  Número máximo de resultados.
+     * @return Las entradas encontradas, sin repetir.
+     */
+    public List<Entrada> sugerir(String prefijo, int limite) {
+        String compacto = Tokenizador.compacto(prefijo);
+        List<String> palabras = !compacto.isEmpty() && compacto.chars().allMatch(Character::isDigit)
+                ? List.of(compacto) : Tokenizador.palabras(prefijo);
+        if (palabras.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        Instantanea actual = instantanea;
+        // Se recorre el rango de la palabra más selectiva y se comprueban las demás en cada candidato
+        int desde = 0;
+        int hasta = -1;
+        String recorrida = null;
+        for (String palabra : palabras) {
+            int inicio = primero(actual.terminos(), palabra);
+            int fin = primero(actual.terminos(), palabra + Character.MAX_VALUE);
+            if (recorrida == null || fin - inicio < hasta - desde) {
+                desde = inicio;
+                hasta = fin;
+                recorrida = palabra;
+            }
+        }
+        List<Entrada> resultados = new ArrayList<>();
+        Set<Long> vistos = new HashSet<>();
+        for (int i = desde; i < hasta && resultados.size() < limite; i++) {
+            Entrada entrada = actual.entradas()[i];
+            if (vistos.add(entrada.id()) && contieneTodas(entrada, palabras, recorrida)) {
+                resultados.add(entrada);
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Publica una copia de los arreglos sin los términos de la entrada anterior y con los de la nueva, mezclando en
+     * una sola pasada.
+     */
+    private void publicar(Entrada anterior, Entrada nueva) {
+        Instantanea actual = instantanea;
+        String[] agregados = nueva == null ? new String[0] : nueva.terminos().clone();
+        Arrays.sort(agregados);
+        int quitados = anterior == null ? 0 : anterior.terminos().length;
+        int tamanio = actual.terminos().length - quitados + agregados.length;
+        String[] terminos = new String[tamanio];
+        Entrada[] entradas = new Entrada[tamanio];
+        int k = 0;
+        int j = 0;
+        for (int i = 0; i < actual.terminos().length; i++) {
+            if (anterior != null && actual.entradas()[i].id() == anterior.id()) {
+                continue;
+            }
+            while (j < agregados.length
+                    && comparar(agregados[j], nueva, actual.terminos()[i], actual.entradas()[i]) < 0) {
+                terminos[k] = agregados[j++];
+                entradas[k++] = nueva;
+            }
+            terminos[k] = actual.terminos()[i];
+            entradas[k++] = actual.entradas()[i];
+        }
+        while (j < agregados.length) {
+            terminos[k] = agregados[j++];
+            entradas[k++] = nueva;
+        }
+        instantanea = new Instantanea(terminos, entradas);
+    }
+
+    private static boolean contieneTodas(Entrada entrada, List<String> palabras, String recorrida) {
+        for (String palabra : palabras) {
+            if (palabra.equals(recorrida)) {
+                continue;
+            }
+            boolean encontrada = false;
+            for (String termino : entrada.terminos()) {
+                if (termino.startsWith(palabra)) {
+                    encontrada = true;
+                    break;
+                }
+            }
+            if (!encontrada) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int comparar(String termino1, Entrada entrada1, String termino2, Entrada entrada2) {
+        int comparacion = termino1.compareTo(termino2);
+        return comparacion != 0 ? comparacion : Long.compare(entrada1.id(), entrada2.id());
+    }
+
+    /**
+     * Posición del primer término mayor o igual que la clave.
+     */
+    private static int primero(String[] terminos, String clave) {
+        int bajo = 0;
+        int alto = terminos.length;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (terminos[medio].compareTo(clave) < 0) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+}
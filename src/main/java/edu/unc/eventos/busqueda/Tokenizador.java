@@ -0,0 +1,128 @@
+/**
+ * @file: Tokenizador.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:24:50 PM
+ */
+package edu.unc.eventos.busqueda;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Divide textos en español en términos de búsqueda.
+ * <p>
+ * Pasa el texto a minúsculas, quita tildes y diéresis ({@code "Decoración"} y {@code "decoracion"} dan el mismo
+ * término), separa por cualquier carácter que no sea letra o dígito, descarta las palabras vacías más comunes y
+ * reduce cada palabra a una raíz ligera, como el {@code SpanishLightStemmer} de Lucene: quita el plural regular y la
+ * vocal final de género, de modo que {@code "postre"} y {@code "postres"} dan {@code "postr"}, y {@code "rosa"} y
+ * {@code "rosas"} dan {@code "ros"}.
+ */
+public final class Tokenizador {
+    private static final Set<String> VACIAS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "la", "las", "lo", "los", "o", "para", "por", "sin", "su",
+            "un", "una", "unos", "unas", "y");
+
+    private Tokenizador() {
+    }
+
+    /**
+     * Obtiene los términos de un texto, en orden y con repeticiones.
+     *
+     * @param texto Texto a dividir; puede ser {@code null}.
+     * @return Lista de términos normalizados.
+     */
+    public static List<String> terminos(String texto) {
+        List<String> terminos = new ArrayList<>();
+        for (String palabra : palabras(texto)) {
+            if (!VACIAS.contains(palabra)) {
+                terminos.add(raiz(palabra));
+            }
+        }
+        return terminos;
+    }
+
+    /**
+     * Obtiene las palabras normalizadas de un texto, sin descartar palabras vacías ni reducir plurales. Es la forma
+     * que necesitan las búsquedas por prefijo, donde la palabra todavía se está escribiendo.
+     *
+     * @param texto Texto a dividir; puede ser {@code null}.
+     * @return Lista de palabras normalizadas, en orden.
+     */
+    public static List<String> palabras(String texto) {
+        List<String> palabras = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return palabras;
+        }
+        String normalizado = normalizar(texto);
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letra = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letra && inicio < 0) {
+                inicio = i;
+            } else if (!letra && inicio >= 0) {
+                palabras.add(normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return palabras;
+    }
+
+    /**
+     * Une las palabras de un texto en un único término, por ejemplo {@code "987-654 321"} → {@code "987654321"}.
+     * Sirve para documentos y teléfonos, que se escriben con separadores distintos.
+     *
+     * @param texto Texto original; puede ser {@code null}.
+     * @return El término compacto; vacío si el texto no tiene letras ni dígitos.
+     */
+    public static String compacto(String texto) {
+        return String.join("", palabras(texto));
+    }
+
+    /**
+     * Pasa el texto a minúsculas y quita los signos diacríticos.
+     *
+     * @param texto Texto original.
+     * @return Texto normalizado.
+     */
+    public static String normalizar(String texto) {
+        String descompuesto = Normalizer.normalize(texto.toLowerCase(), Normalizer.Form.NFD);
+        StringBuilder resultado = new StringBuilder(descompuesto.length());
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char c = descompuesto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+
+    /**
+     * Reduce una palabra a su raíz ligera: {@code -ces} pasa a {@code -z}, se quita {@code -es} tras consonante o
+     * {@code -s} tras vocal, y después la vocal final {@code a}, {@code e} u {@code o}. Sin este último paso el
+     * singular y el plural de las palabras terminadas en {@code -e} no coinciden ({@code "postre"} frente a
+     * {@code "postr"}).
+     */
+    private static String raiz(String palabra) {
+        int n = palabra.length();
+        if (n > 4 && palabra.endsWith("ces")) {
+            return palabra.substring(0, n - 3) + "z";
+        }
+        if (n > 4 && palabra.endsWith("es") && !esVocal(palabra.charAt(n - 3))) {
+            palabra = palabra.substring(0, n - 2);
+        } else if (n > 3 && palabra.charAt(n - 1) == 's' && esVocal(palabra.charAt(n - 2))) {
+            palabra = palabra.substring(0, n - 1);
+        }
+        n = palabra.length();
+        char ultima = palabra.charAt(n - 1);
+        if (n > 3 && (ultima == 'a' || ultima == 'e' || ultima == 'o')) {
+            return palabra.substring(0, n - 1);
+        }
+        return palabra;
+    }
+
+    private static boolean esVocal(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * @file: CacheRegion.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:12:40 AM
+ */
+package edu.unc.eventos.cache;
+
+/**
+ * Regiones de la caché de respuestas HTTP.
+ * <p>
+ * Cada región agrupa las respuestas de un catálogo de la API ({@code /api/platos}, {@code /api/decoraciones},
+ * {@code /api/locales} y {@code /api/seguros}), incluidas sus subrutas. Las invalidaciones se realizan por región.
+ */
+public enum CacheRegion {
+    PLATOS("/api/platos"),
+    DECORACIONES("/api/decoraciones"),
+    LOCALES("/api/locales"),
+    SEGUROS("/api/seguros");
+
+    private final String ruta;
+
+    CacheRegion(String ruta) {
+        this.ruta = ruta;
+    }
+
+    public String getRuta() {
+        return ruta;
+    }
+
+    /**
+     * Obtiene la región a la que pertenece una ruta.
+     *
+     * @param uri URI de la solicitud.
+     * @return La región correspondiente o {@code null} si la ruta no es cacheable.
+     */
+    public static CacheRegion fromPath(String uri) {
+        for (CacheRegion region : values()) {
+            if (uri.equals(region.ruta) || uri.startsWith(region.ruta + "/")) {
+                return region;
+            }
+        }
+        return null;
+    }
+}
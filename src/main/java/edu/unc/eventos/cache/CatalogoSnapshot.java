@@ -0,0 +1,45 @@
+/**
+ * @file: CatalogoSnapshot.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:02:37 AM
+ */
+package edu.unc.eventos.cache;
+
+import edu.unc.eventos.dto.DecoracionDTO;
+import edu.unc.eventos.dto.LocalDTO;
+import edu.unc.eventos.dto.PlatoDTO;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instantánea inmutable de los catálogos de platos, decoraciones y locales.
+ * <p>
+ * Guarda los DTOs indexados por identificador (para calcular cambios entre versiones) y la respuesta ya serializada,
+ * opcionalmente comprimida con gzip, para servirla sin volver a mapear ni serializar.
+ */
+@Getter
+public class CatalogoSnapshot {
+    private final long version;
+    private final Map<Long, PlatoDTO> platos;
+    private final Map<Long, DecoracionDTO> decoraciones;
+    private final Map<Long, LocalDTO> locales;
+    private final byte[] json;
+    private final byte[] jsonGzip;
+
+    /**
+     * Cambios ya serializados desde versiones anteriores, indexados por la versión de origen.
+     */
+    private final Map<Long, byte[]> deltas = new ConcurrentHashMap<>();
+
+    public CatalogoSnapshot(long version, Map<Long, PlatoDTO> platos, Map<Long, DecoracionDTO> decoraciones,
+                            Map<Long, LocalDTO> locales, byte[] json, byte[] jsonGzip) {
+        this.version = version;
+        this.platos = platos;
+        this.decoraciones = decoraciones;
+        this.locales = locales;
+        this.json = json;
+        this.jsonGzip = jsonGzip;
+    }
+}
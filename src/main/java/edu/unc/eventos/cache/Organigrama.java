@@ -0,0 +1,116 @@
+/**
+ * @file: Organigrama.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:48:12 PM
+ */
+package edu.unc.eventos.cache;
+
+import edu.unc.eventos.dto.NodoOrganigramaDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Instantánea inmutable del árbol de supervisión de los empleados.
+ * <p>
+ * Se construye con una sola lectura de la relación empleado-supervisor y resuelve en memoria los subordinados
+ * (directos e indirectos) y la cadena de mando de cualquier empleado. Si los datos tuvieran un ciclo, los recorridos
+ * lo cortan al volver a un empleado ya visitado.
+ */
+public class Organigrama {
+    /**
+     * Empleado del árbol.
+     *
+     * @param idEmpleado   Identificador del empleado.
+     * @param idSupervisor Identificador de su supervisor directo; {@code null} si no tiene.
+     * @param nombre       Nombres y apellidos.
+     */
+    public record Nodo(Long idEmpleado, Long idSupervisor, String nombre) {
+    }
+
+    private final Map<Long, Nodo> nodos = new HashMap<>();
+    private final Map<Long, List<Nodo>> hijos = new HashMap<>();
+
+    /**
+     * Construye el árbol.
+     *
+     * @param empleados Todos los empleados con su supervisor.
+     */
+    public Organigrama(Collection<Nodo> empleados) {
+        for (Nodo nodo : empleados) {
+            nodos.put(nodo.idEmpleado(), nodo);
+            if (nodo.idSupervisor() != null) {
+                hijos.computeIfAbsent(nodo.idSupervisor(), id -> new ArrayList<>()).add(nodo);
+            }
+        }
+    }
+
+    /**
+     * Indica si el empleado está en el árbol.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return {@code true} si existe.
+     */
+    public boolean contiene(Long idEmpleado) {
+        return nodos.containsKey(idEmpleado);
+    }
+
+    /**
+     * Obtiene todos los empleados que están bajo el mando de un empleado, recorriendo el árbol por niveles.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Los subordinados, del nivel 1 (directos) hacia abajo.
+     */
+    public List<NodoOrganigramaDTO> subordinados(Long idEmpleado) {
+        List<NodoOrganigramaDTO> resultado = new ArrayList<>();
+        Set<Long> visitados = new HashSet<>();
+        visitados.add(idEmpleado);
+        Deque<Long> pendientes = new ArrayDeque<>();
+        pendientes.add(idEmpleado);
+        int nivel = 0;
+        while (!pendientes.isEmpty()) {
+            nivel++;
+            for (int n = pendientes.size(); n > 0; n--) {
+                for (Nodo hijo : hijos.getOrDefault(pendientes.poll(), List.of())) {
+                    if (visitados.add(hijo.idEmpleado())) {
+                        resultado.add(aDTO(hijo, nivel));
+                        pendientes.add(hijo.idEmpleado());
+                    }
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene la cadena de mando de un empleado: su supervisor, el supervisor de este, y así hasta la cima.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Los supervisores, empezando por el directo (nivel 1).
+     */
+    public List<NodoOrganigramaDTO> supervisores(Long idEmpleado) {
+        List<NodoOrganigramaDTO> resultado = new ArrayList<>();
+        Set<Long> visitados = new HashSet<>();
+        visitados.add(idEmpleado);
+        Nodo actual = nodos.get(idEmpleado);
+        int nivel = 0;
+        while (actual != null && actual.idSupervisor() != null && visitados.add(actual.idSupervisor())) {
+            actual = nodos.get(actual.idSupervisor());
+            if (actual != null) {
+                resultado.add(aDTO(actual, ++nivel));
+            }
+        }
+        return resultado;
+    }
+
+    private static NodoOrganigramaDTO aDTO(Nodo nodo, int nivel) {
+        return new NodoOrganigramaDTO(nodo.idEmpleado(), nodo.nombre(), nodo.idSupervisor(), nivel);
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * @file: RankingClientes.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:45:37 PM
+ */
+package edu.unc.eventos.cache;
+
+import edu.unc.eventos.dto.TopClienteDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Clasificación acotada de los mejores clientes de un periodo según un criterio (eventos o gasto).
+ * <p>
+ * Guarda como máximo {@code capacidad} clientes ordenados; el peor se descarta cuando entra uno mejor. Cada cambio
+ * publica una lista inmutable con las posiciones, de modo que las lecturas no bloquean ni ordenan. La capacidad
+ * debe ser mayor que el {@code k} máximo que se sirve: si un cliente de la clasificación baja, otro que no estaba
+ * guardado podría superarlo, y ese margen es el que mantiene correcto el top-k hasta la siguiente reconciliación.
+ */
+public class RankingClientes {
+    /**
+     * Valores de un cliente en el periodo.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param eventos   Número de eventos.
+     * @param gasto     Gasto total.
+     */
+    public record Puntaje(Long idCliente, long eventos, BigDecimal gasto) {
+    }
+
+    /**
+     * Criterios de ordenación.
+     */
+    public enum Criterio {
+        EVENTOS(Comparator.comparingLong(Puntaje::eventos).thenComparing(Puntaje::gasto)),
+        GASTO(Comparator.comparing(Puntaje::gasto).thenComparingLong(Puntaje::eventos));
+
+        private final Comparator<Puntaje> orden;
+
+        Criterio(Comparator<Puntaje> comparador) {
+            this.orden = comparador.reversed().thenComparing(Puntaje::idCliente);
+        }
+    }
+
+    private final int capacidad;
+    private final Comparator<Puntaje> orden;
+    private final TreeSet<Puntaje> clasificados;
+    private final Map<Long, Puntaje> porCliente = new HashMap<>();
+    private volatile List<TopClienteDTO> posiciones = List.of();
+
+    /**
+     * Constructor de la clasificación.
+     *
+     * @param criterio  Criterio de ordenación.
+     * @param capacidad Número máximo de clientes guardados.
+     */
+    public RankingClientes(Criterio criterio, int capacidad) {
+        this.capacidad = capacidad;
+        this.orden = criterio.orden;
+        this.clasificados = new TreeSet<>(orden);
+    }
+
+    /**
+     * Devuelve los {@code k} primeros clientes sin recorrer ni ordenar la clasificación.
+     *
+     * @param k Número de clientes.
+     * @return Lista inmutable con las posiciones.
+     */
+    public List<TopClienteDTO> top(int k) {
+        List<TopClienteDTO> actuales = posiciones;
+        return actuales.subList(0, Math.min(k, actuales.size()));
+    }
+
+    /**
+     * Reemplaza la clasificación por los puntajes indicados. Como en {@link #actualizar(Puntaje)}, los puntajes sin
+     * eventos no entran.
+     *
+     * @param puntajes Puntajes leídos de la base de datos.
+     */
+    public synchronized void cargar(List<Puntaje> puntajes) {
+        clasificados.clear();
+        porCliente.clear();
+        puntajes.stream().filter(p -> p.eventos() > 0).forEach(this::insertar);
+        publicar();
+    }
+
+    /**
+     * Actualiza el puntaje de un cliente. Un puntaje sin eventos lo retira de la clasificación.
+     *
+     * @param puntaje Nuevo puntaje del cliente.
+     */
+    public synchronized void actualizar(Puntaje puntaje) {
+        Puntaje anterior = porCliente.remove(puntaje.idCliente());
+        if (anterior != null) {
+            clasificados.remove(anterior);
+        }
+        if (puntaje.eventos() > 0) {
+            insertar(puntaje);
+        }
+        publicar();
+    }
+
+    private void insertar(Puntaje puntaje) {
+        if (clasificados.size() >= capacidad) {
+            Puntaje peor = clasificados.last();
+            if (orden.compare(puntaje, peor) >= 0) {
+                return;
+            }
+            clasificados.pollLast();
+            porCliente.remove(peor.idCliente());
+        }
+        clasificados.add(puntaje);
+        porCliente.put(puntaje.idCliente(), puntaje);
+    }
+
+    private void publicar() {
+        List<TopClienteDTO> nuevas = new ArrayList<>(clasificados.size());
+        for (Puntaje puntaje : clasificados) {
+            nuevas.add(new TopClienteDTO(nuevas.size() + 1, puntaje.idCliente(), puntaje.eventos(), puntaje.gasto()));
+        }
+        posiciones = List.copyOf(nuevas);
+    }
+}
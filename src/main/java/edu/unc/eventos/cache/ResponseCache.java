@@ -0,0 +1,161 @@
+/**
+ * @file: ResponseCache.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:20:05 AM
+ */
+package edu.unc.eventos.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché en memoria de respuestas HTTP serializadas.
+ * <p>
+ * Las entradas se guardan como bytes, se desalojan por orden de acceso (LRU) cuando el tamaño total supera
+ * {@code app.cache.respuestas.max-bytes} y se invalidan por región desde los controladores que modifican datos.
+ * <p>
+ * Cada región tiene un número de generación que se incrementa en cada invalidación. Una respuesta solo se guarda
+ * si la generación no cambió mientras se calculaba, así una lectura concurrente con una escritura no deja datos
+ * obsoletos en la caché.
+ */
+@Component
+public class ResponseCache {
+    private final long maxBytes;
+    private final Map<String, Entrada> entradas = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<CacheRegion, AtomicLong> generaciones = new EnumMap<>(CacheRegion.class);
+    private long bytesActuales;
+
+    private final Counter aciertos;
+    private final Counter fallos;
+    private final Counter desalojos;
+    private final Map<CacheRegion, Counter> invalidaciones = new EnumMap<>(CacheRegion.class);
+
+    public ResponseCache(@Value("${app.cache.respuestas.max-bytes:16777216}") long maxBytes, MeterRegistry registry) {
+        this.maxBytes = maxBytes;
+        for (CacheRegion region : CacheRegion.values()) {
+            generaciones.put(region, new AtomicLong());
+            invalidaciones.put(region, Counter.builder("eventos.cache.respuestas.invalidaciones")
+                    .tag("region", region.name().toLowerCase())
+                    .register(registry));
+        }
+        this.aciertos = Counter.builder("eventos.cache.respuestas").tag("resultado", "hit").register(registry);
+        this.fallos = Counter.builder("eventos.cache.respuestas").tag("resultado", "miss").register(registry);
+        this.desalojos = Counter.builder("eventos.cache.respuestas.desalojos").register(registry);
+        Gauge.builder("eventos.cache.respuestas.bytes", this, ResponseCache::getBytesActuales).register(registry);
+        Gauge.builder("eventos.cache.respuestas.entradas", this, ResponseCache::getNumeroEntradas).register(registry);
+        Gauge.builder("eventos.cache.respuestas.tasa.aciertos", this, ResponseCache::getTasaAciertos).register(registry);
+    }
+
+    /**
+     * Busca una respuesta en la caché.
+     *
+     * @param clave Clave de la respuesta (ruta, parámetros y versión de la API).
+     * @return La entrada encontrada o {@code null} si no existe.
+     */
+    public Entrada get(String clave) {
+        Entrada entrada;
+        synchronized (this) {
+            entrada = entradas.get(clave);
+        }
+        if (entrada == null) {
+            fallos.increment();
+        } else {
+            aciertos.increment();
+        }
+        return entrada;
+    }
+
+    /**
+     * Devuelve la generación actual de una región. Debe leerse antes de calcular la respuesta.
+     *
+     * @param region Región de la caché.
+     * @return Número de generación.
+     */
+    public long generacion(CacheRegion region) {
+        return generaciones.get(region).get();
+    }
+
+    /**
+     * Guarda una respuesta si la región no fue invalidada desde que se leyó su generación.
+     *
+     * @param clave      Clave de la respuesta.
+     * @param generacion Generación de la región leída antes de calcular la respuesta.
+     * @param entrada    Respuesta a guardar.
+     */
+    public synchronized void put(String clave, long generacion, Entrada entrada) {
+        if (entrada.getCuerpo().length > maxBytes || generaciones.get(entrada.getRegion()).get() != generacion) {
+            return;
+        }
+        Entrada anterior = entradas.put(clave, entrada);
+        if (anterior != null) {
+            bytesActuales -= anterior.getCuerpo().length;
+        }
+        bytesActuales += entrada.getCuerpo().length;
+
+        Iterator<Entrada> it = entradas.values().iterator();
+        while (bytesActuales > maxBytes && it.hasNext()) {
+            bytesActuales -= it.next().getCuerpo().length;
+            it.remove();
+            desalojos.increment();
+        }
+    }
+
+    /**
+     * Invalida todas las respuestas de las regiones indicadas.
+     *
+     * @param regiones Regiones cuyos datos fueron modificados.
+     */
+    public synchronized void invalidate(CacheRegion... regiones) {
+        for (CacheRegion region : regiones) {
+            generaciones.get(region).incrementAndGet();
+            invalidaciones.get(region).increment();
+        }
+        Iterator<Entrada> it = entradas.values().iterator();
+        while (it.hasNext()) {
+            Entrada entrada = it.next();
+            for (CacheRegion region : regiones) {
+                if (entrada.getRegion() == region) {
+                    bytesActuales -= entrada.getCuerpo().length;
+                    it.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    public synchronized long getBytesActuales() {
+        return bytesActuales;
+    }
+
+    public synchronized int getNumeroEntradas() {
+        return entradas.size();
+    }
+
+    public double getTasaAciertos() {
+        double total = aciertos.count() + fallos.count();
+        return total == 0 ? 0 : aciertos.count() / total;
+    }
+
+    /**
+     * Respuesta almacenada en la caché.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entrada {
+        private final CacheRegion region;
+        private final int status;
+        private final String contentType;
+        private final byte[] cuerpo;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * @file: Suscripcion.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 01:18:02 AM
+ */
+package edu.unc.eventos.cambios;
+
+import edu.unc.eventos.events.TipoEntidad;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Conexión abierta de un suscriptor del flujo de cambios.
+ * <p>
+ * Los cambios se encolan en un buffer propio y acotado, y un hilo del ejecutor compartido los escribe en la conexión;
+ * como mucho hay un envío en curso por suscripción. Quien publica nunca escribe en la red: si el buffer está lleno, el
+ * suscriptor es demasiado lento y la suscripción se cierra, para que se reconecte y retome desde su último cambio.
+ * Mientras no hay cambios, la suscripción no ocupa ningún hilo y su buffer vacío no reserva memoria.
+ */
+public class Suscripcion {
+    /**
+     * Evento SSE listo para enviar: identificador, nombre y datos ya serializados.
+     */
+    public record Envio(String id, String nombre, String datos) {
+    }
+
+    private final SseEmitter emisor;
+    private final Set<TipoEntidad> tipos;
+    private final BlockingQueue<Envio> pendientes;
+    private final Executor ejecutor;
+    private final Consumer<Suscripcion> alCerrar;
+    private final AtomicBoolean programada = new AtomicBoolean();
+    private final AtomicBoolean terminada = new AtomicBoolean();
+    private volatile boolean latido;
+    private volatile boolean cerrada;
+
+    /**
+     * Constructor de la suscripción.
+     *
+     * @param emisor    Conexión SSE del suscriptor.
+     * @param tipos     Tipos de entidad que le interesan.
+     * @param capacidad Cambios que puede tener pendientes antes de considerarlo lento.
+     * @param ejecutor  Ejecutor compartido que realiza los envíos.
+     * @param alCerrar  Acción que se ejecuta una sola vez cuando la suscripción se cierra.
+     */
+    public Suscripcion(SseEmitter emisor, Set<TipoEntidad> tipos, int capacidad, Executor ejecutor,
+                       Consumer<Suscripcion> alCerrar) {
+        this.emisor = emisor;
+        this.tipos = tipos;
+        this.pendientes = new LinkedBlockingQueue<>(capacidad);
+        this.ejecutor = ejecutor;
+        this.alCerrar = alCerrar;
+    }
+
+    public SseEmitter getEmisor() {
+        return emisor;
+    }
+
+    /**
+     * Indica si el suscriptor quiere recibir los cambios de un tipo de entidad.
+     *
+     * @param tipo Tipo de la entidad modificada.
+     * @return {@code true} si el tipo está entre los de la suscripción.
+     */
+    public boolean interesa(TipoEntidad tipo) {
+        return tipos.contains(tipo);
+    }
+
+    /**
+     * Encola un evento para el suscriptor sin bloquear.
+     *
+     * @param envio Evento a enviar.
+     * @return {@code false} si el buffer estaba lleno; en ese caso la suscripción se cierra.
+     */
+    public boolean ofrecer(Envio envio) {
+        if (cerrada) {
+            return true;
+        }
+        if (!pendientes.offer(envio)) {
+            cerrar();
+            return false;
+        }
+        programar();
+        return true;
+    }
+
+    /**
+     * Pide enviar un comentario vacío, que mantiene viva la conexión en los proxies y detecta los clientes que se
+     * fueron sin cerrarla.
+     */
+    public void latir() {
+        latido = true;
+        programar();
+    }
+
+    /**
+     * Cierra la suscripción. El cierre de la conexión lo hace el hilo de envío, para no bloquear a quien lo pide.
+     */
+    public void cerrar() {
+        cerrada = true;
+        pendientes.clear();
+        terminar();
+        programar();
+    }
+
+    private void programar() {
+        if (programada.compareAndSet(false, true)) {
+            try {
+                ejecutor.execute(this::enviar);
+            } catch (RejectedExecutionException e) {
+                cerrada = true;
+                programada.set(false);
+                terminar();
+            }
+        }
+    }
+
+    private void enviar() {
+        try {
+            if (cerrada) {
+                emisor.complete();
+                terminar();
+                return;
+            }
+            Envio envio;
+            while (!cerrada && (envio = pendientes.poll()) != null) {
+                SseEmitter.SseEventBuilder evento = SseEmitter.event().name(envio.nombre()).data(envio.datos());
+                emisor.send(envio.id() == null ? evento : evento.id(envio.id()));
+            }
+            if (latido && !cerrada) {
+                latido = false;
+                emisor.send(SseEmitter.event().comment(""));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // El cliente se desconectó o la conexión ya terminó; el contenedor cierra la solicitud
+            cerrada = true;
+            pendientes.clear();
+            terminar();
+            return;
+        } finally {
+            programada.set(false);
+        }
+        if (cerrada || !pendientes.isEmpty()) {
+            programar();
+        }
+    }
+
+    private void terminar() {
+        if (terminada.compareAndSet(false, true)) {
+            alCerrar.accept(this);
+        }
+    }
+}
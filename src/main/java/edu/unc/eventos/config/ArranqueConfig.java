@@ -0,0 +1,68 @@
+/**
+ * @file: ArranqueConfig.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 03:11:40 PM
+ */
+package edu.unc.eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.cache.ResponseCache;
+import edu.unc.eventos.services.CatalogoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Configuración del arranque con inicialización diferida ({@code spring.main.lazy-initialization=true}, activada por
+ * el perfil {@code rapido}).
+ * <p>
+ * Los controladores, servicios, repositorios y el cliente Feign se crean con la primera petición que los usa. Se
+ * siguen creando al arrancar:
+ * <ul>
+ *     <li>el pool de conexiones, el modelo de Hibernate, los mapeadores, la caché de respuestas y el catálogo, porque
+ *     construirlos en la primera petición la haría muy lenta;</li>
+ *     <li>{@link ReporteArranque}, que mide el arranque y la primera petición;</li>
+ *     <li>los beans con métodos {@link Scheduled} (la reconciliación de la clasificación de clientes, la depuración
+ *     de la sincronización y la del límite de peticiones), porque sus tareas solo se programan al crear el bean y no
+ *     se ejecutarían hasta su primer uso. Spring Boot los excluye solo si se registra su autoconfiguración de
+ *     tareas; aquí se excluyen siempre.</li>
+ * </ul>
+ */
+@Configuration
+public class ArranqueConfig {
+    /**
+     * Beans excluidos de la inicialización diferida.
+     *
+     * @return el filtro de exclusión.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter beansCriticos() {
+        LazyInitializationExcludeFilter porTipo = LazyInitializationExcludeFilter.forBeanTypes(DataSource.class,
+                EntityManagerFactory.class, ObjectMapper.class, ModelMapper.class, ResponseCache.class,
+                CatalogoService.class, ReporteArranque.class);
+        return (nombre, definicion, tipo) -> porTipo.isExcluded(nombre, definicion, tipo) || tieneTareasProgramadas(tipo);
+    }
+
+    /**
+     * Indica si la clase tiene algún método {@link Scheduled}, con el mismo criterio que usa Spring para programarlos.
+     */
+    static boolean tieneTareasProgramadas(Class<?> tipo) {
+        if (tipo == null || !AnnotationUtils.isCandidateClass(tipo, Set.of(Scheduled.class, Schedules.class))) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(tipo, (MethodIntrospector.MetadataLookup<Set<Scheduled>>) metodo -> {
+            Set<Scheduled> tareas = AnnotatedElementUtils.getMergedRepeatableAnnotations(metodo, Scheduled.class, Schedules.class);
+            return tareas.isEmpty() ? null : tareas;
+        }).isEmpty();
+    }
+}
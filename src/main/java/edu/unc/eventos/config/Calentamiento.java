@@ -0,0 +1,357 @@
+/**
+ * @file: Calentamiento.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 04:02:37 PM
+ */
+package edu.unc.eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.ClienteDTO;
+import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.PlatoDTO;
+import edu.unc.eventos.repositories.ClienteRepository;
+import edu.unc.eventos.repositories.EventoRepository;
+import edu.unc.eventos.services.BusquedaService;
+import edu.unc.eventos.services.CatalogoService;
+import edu.unc.eventos.services.ClienteService;
+import edu.unc.eventos.services.EventoService;
+import edu.unc.eventos.services.SugerenciaService;
+import edu.unc.eventos.util.ApiResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fase de calentamiento que se ejecuta al arrancar, antes de que la sonda de disponibilidad
+ * ({@code /actuator/health/readiness}) informe {@code UP}.
+ * <p>
+ * Spring Boot publica {@link ReadinessState#ACCEPTING_TRAFFIC} después de ejecutar los {@link ApplicationRunner}, de
+ * modo que el balanceador no envía tráfico hasta que termina. El calentamiento:
+ * <ol>
+ *     <li>abre las conexiones mínimas del pool;</li>
+ *     <li>construye la instantánea de catálogos y los índices de búsqueda y autocompletado;</li>
+ *     <li>recorre las lecturas de eventos y clientes (servicio, ModelMapper y Jackson) contra la base de datos real,
+ *     para compilar el código con el JIT, crear los mapeos de ModelMapper y llenar la caché de planes de Hibernate;</li>
+ *     <li>hace algunas peticiones HTTP locales a las lecturas principales, que calientan Tomcat, los filtros y el
+ *     {@code DispatcherServlet} y llenan la caché de respuestas de los catálogos.</li>
+ * </ol>
+ * Los errores no detienen el arranque: se cuentan y se informan en el log.
+ */
+@Component
+public class Calentamiento implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(Calentamiento.class);
+
+    private static final String[] RUTAS_CATALOGO = {"/api/platos", "/api/decoraciones", "/api/locales", "/api/seguros", "/api/catalogo"};
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private CatalogoService catalogoService;
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private SugerenciaService sugerenciaService;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${app.calentamiento.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${app.calentamiento.iteraciones:2000}")
+    private int iteraciones;
+
+    @Value("${app.calentamiento.muestra:100}")
+    private int muestra;
+
+    @Value("${app.calentamiento.peticiones-http:10}")
+    private int peticionesHttp;
+
+    @Value("${app.calentamiento.duracion-maxima:30s}")
+    private Duration duracionMaxima;
+
+    private volatile long duracionMs;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!habilitado) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+        long inicio = System.nanoTime();
+        long limite = inicio + duracionMaxima.toNanos();
+        // Las lecturas en proceso dejan una cuarta parte del tiempo para las peticiones HTTP
+        long limiteLecturas = inicio + duracionMaxima.toNanos() * 3 / 4;
+
+        int conexiones = abrirConexiones();
+        calentarCatalogo();
+
+        List<Long> eventos = List.of();
+        List<Long> clientes = List.of();
+        try {
+            eventos = eventoRepository.findAll(PageRequest.of(0, muestra, Sort.by("idEvento"))).map(Evento::getIdEvento).getContent();
+            clientes = clienteRepository.findAll(PageRequest.of(0, muestra, Sort.by("idCliente"))).map(Cliente::getIdCliente).getContent();
+        } catch (RuntimeException e) {
+            logger.warn("Calentamiento: no se pudieron leer los identificadores de muestra: {}", e.getMessage());
+        }
+        Medicion lecturas = calentarLecturas(eventos, clientes, limiteLecturas);
+        Medicion http = calentarHttp(eventos, clientes, limite);
+
+        duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+        Gauge.builder("eventos.calentamiento.duracion", this, c -> c.duracionMs).baseUnit("milliseconds").register(registry);
+        logger.info("Calentamiento completado en {} ms. Conexiones abiertas: {}. Lecturas: {} (errores: {}), latencia media "
+                        + "{} µs al inicio y {} µs al final ({}x). Peticiones HTTP: {} en {} ms (errores: {})",
+                duracionMs, conexiones, lecturas.total, lecturas.errores,
+                lecturas.inicialMicros(), lecturas.finalMicros(), lecturas.mejora(),
+                http.total, http.totalMs(), http.errores);
+    }
+
+    /**
+     * Pide a la vez el número mínimo de conexiones del pool, para que estén abiertas antes de la primera petición.
+     */
+    private int abrirConexiones() {
+        int objetivo = dataSource instanceof HikariDataSource hikari ? Math.max(hikari.getMinimumIdle(), 1) : 1;
+        List<CompletableFuture<Connection>> pendientes = new ArrayList<>();
+        for (int i = 0; i < objetivo; i++) {
+            pendientes.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    Connection conexion = dataSource.getConnection();
+                    conexion.isValid(1);
+                    return conexion;
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        int abiertas = 0;
+        for (CompletableFuture<Connection> pendiente : pendientes) {
+            try (Connection ignored = pendiente.join()) {
+                abiertas++;
+            } catch (RuntimeException | SQLException e) {
+                logger.warn("Calentamiento: no se pudo abrir una conexión: {}", e.getMessage());
+            }
+        }
+        return abiertas;
+    }
+
+    private void calentarCatalogo() {
+        try {
+            catalogoService.reconstruir();
+            busquedaService.reconstruir();
+            sugerenciaService.reconstruir();
+        } catch (RuntimeException e) {
+            logger.warn("Calentamiento: no se pudo construir el catálogo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Repite las lecturas de los controladores de eventos y clientes dentro de una transacción de solo lectura, como
+     * lo hace la sesión abierta durante una petición.
+     */
+    private Medicion calentarLecturas(List<Long> eventos, List<Long> clientes, long limite) {
+        Medicion medicion = new Medicion(Math.max(iteraciones, 0));
+        if (eventos.isEmpty() && clientes.isEmpty()) {
+            return medicion;
+        }
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        for (int i = 0; i < iteraciones && System.nanoTime() < limite; i++) {
+            int n = i;
+            long inicio = System.nanoTime();
+            try {
+                lectura.executeWithoutResult(estado -> {
+                    if (!eventos.isEmpty()) {
+                        Long id = eventos.get(n % eventos.size());
+                        serializar(modelMapper.map(eventoService.getEventoById(id), EventoDTO.class));
+                        serializar(eventoService.getPlatosByEventoId(id).stream().map(p -> modelMapper.map(p, PlatoDTO.class)).toList());
+                    }
+                    if (!clientes.isEmpty()) {
+                        Long id = clientes.get(n % clientes.size());
+                        serializar(modelMapper.map(clienteService.getById(id), ClienteDTO.class));
+                        serializar(clienteService.getAllEventosByIdCliente(id).stream().map(e -> modelMapper.map(e, EventoDTO.class)).toList());
+                    }
+                });
+                medicion.registrar(System.nanoTime() - inicio);
+            } catch (RuntimeException e) {
+                medicion.error(e);
+            }
+        }
+        return medicion;
+    }
+
+    /**
+     * Hace peticiones HTTP locales a los catálogos y a las lecturas principales de eventos y clientes.
+     * Las peticiones cuentan para el límite de solicitudes del cliente local, por lo que son pocas. No se hace nada si la aplicación no tiene servidor web (por ejemplo, en las pruebas).
+     */
+    private Medicion calentarHttp(List<Long> eventos, List<Long> clientes, long limite) {
+        Medicion medicion = new Medicion(RUTAS_CATALOGO.length + 3 * Math.max(peticionesHttp, 0));
+        if (!(context instanceof WebServerApplicationContext web) || web.getWebServer() == null || peticionesHttp <= 0) {
+            return medicion;
+        }
+        List<String> rutas = new ArrayList<>(List.of(RUTAS_CATALOGO));
+        for (int i = 0; i < Math.min(peticionesHttp, Math.max(eventos.size(), clientes.size())); i++) {
+            if (i < eventos.size()) {
+                rutas.add("/api/eventos/" + eventos.get(i));
+                rutas.add("/api/eventos/" + eventos.get(i) + "/platos");
+            }
+            if (i < clientes.size()) {
+                rutas.add("/api/clientes/" + clientes.get(i) + "/eventos");
+            }
+        }
+
+        String base = "http://localhost:" + web.getWebServer().getPort();
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        for (int i = 0; i < rutas.size(); i++) {
+            // Los catálogos se piden siempre, para dejar llena la caché de respuestas
+            if (i >= RUTAS_CATALOGO.length && System.nanoTime() >= limite) {
+                break;
+            }
+            String ruta = rutas.get(i);
+            HttpRequest peticion = HttpRequest.newBuilder(URI.create(base + ruta))
+                    .header("Api-Version", "1")
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long inicio = System.nanoTime();
+            try {
+                int status = cliente.send(peticion, HttpResponse.BodyHandlers.discarding()).statusCode();
+                medicion.registrar(System.nanoTime() - inicio);
+                if (status >= 400) {
+                    medicion.errores++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                medicion.error(e);
+            }
+        }
+        return medicion;
+    }
+
+    private void serializar(Object datos) {
+        try {
+            objectMapper.writeValueAsBytes(new ApiResponse<>(true, "Calentamiento", datos));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Latencias de una fase. La mejora compara la media del primer y del último 10% de las operaciones.
+     */
+    private static class Medicion {
+        private final long[] latencias;
+        private int total;
+        private int errores;
+
+        Medicion(int capacidad) {
+            this.latencias = new long[capacidad];
+        }
+
+        void registrar(long nanos) {
+            if (total < latencias.length) {
+                latencias[total++] = nanos;
+            }
+        }
+
+        void error(Exception e) {
+            if (errores++ == 0) {
+                logger.warn("Calentamiento: error en una lectura: {}", e.toString());
+            }
+        }
+
+        long inicialMicros() {
+            return media(0, ventana()) / 1000;
+        }
+
+        long finalMicros() {
+            return media(total - ventana(), total) / 1000;
+        }
+
+        long totalMs() {
+            long suma = 0;
+            for (int i = 0; i < total; i++) {
+                suma += latencias[i];
+            }
+            return suma / 1_000_000;
+        }
+
+        String mejora() {
+            long fin = finalMicros();
+            return fin == 0 ? "-" : String.format("%.1f", (double) inicialMicros() / fin);
+        }
+
+        private int ventana() {
+            return Math.max(total / 10, 1);
+        }
+
+        private long media(int desde, int hasta) {
+            if (hasta <= desde) {
+                return 0;
+            }
+            long suma = 0;
+            for (int i = desde; i < hasta; i++) {
+                suma += latencias[i];
+            }
+            return suma / (hasta - desde);
+        }
+    }
+}
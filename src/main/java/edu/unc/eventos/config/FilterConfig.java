@@ -0,0 +1,163 @@
+/**
+ * @file: FilterConfig.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:55:10 AM
+ */
+package edu.unc.eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.cache.ResponseCache;
+import edu.unc.eventos.filters.ConcurrencyLimitFilter;
+import edu.unc.eventos.filters.IdempotencyFilter;
+import edu.unc.eventos.filters.LimitadorAdaptativo;
+import edu.unc.eventos.filters.RateLimitFilter;
+import edu.unc.eventos.filters.ResponseCacheFilter;
+import edu.unc.eventos.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Registro de los filtros servlet de la API.
+ * <p>
+ * Los filtros se registran explícitamente para controlar su orden y limitar su alcance a {@code /api/*}.
+ */
+@Configuration
+public class FilterConfig {
+    /**
+     * Filtro de límite de solicitudes por cliente y grupo de rutas. Se declara como bean para que se ejecute su
+     * depuración programada de cubetas.
+     *
+     * @param tasa         Solicitudes por segundo permitidas por defecto.
+     * @param rafaga       Ráfaga permitida por defecto.
+     * @param grupos       Límites por grupo ({@code grupo:tasa:rafaga}).
+     * @param conocidos    Grupos de rutas de la API; el resto se cuentan como {@code otros}.
+     * @param maxCubetas   Número máximo de cubetas por cliente.
+     * @param objectMapper Serializador de los mensajes de error.
+     * @param registry     Registro de métricas.
+     * @return el filtro.
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            @Value("${app.limite.tasa:50}") double tasa,
+            @Value("${app.limite.rafaga:100}") int rafaga,
+            @Value("${app.limite.grupos:}") String[] grupos,
+            @Value("${app.limite.grupos-conocidos:}") String[] conocidos,
+            @Value("${app.limite.max-cubetas:100000}") int maxCubetas,
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        return new RateLimitFilter(tasa, rafaga, grupos, conocidos, maxCubetas, objectMapper, registry);
+    }
+
+    /**
+     * Registro del filtro de límite de solicitudes. Se ejecuta antes que el resto de filtros.
+     *
+     * @param filtro     Filtro de límite de solicitudes.
+     * @param habilitado Si es {@code false}, el filtro no se registra.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+            RateLimitFilter filtro,
+            @Value("${app.limite.habilitado:true}") boolean habilitado) {
+        FilterRegistrationBean<RateLimitFilter> registro = new FilterRegistrationBean<>(filtro);
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(5);
+        registro.setEnabled(habilitado);
+        return registro;
+    }
+
+    /**
+     * Filtro de límite adaptativo de solicitudes concurrentes, con un límite para lecturas y otro para escrituras.
+     * Se declara como bean para que el servicio de lotes reserve sus permisos para cada petición del lote.
+     *
+     * @param lecturaInicial   Límite inicial de lecturas concurrentes.
+     * @param lecturaMinimo    Límite mínimo de lecturas concurrentes.
+     * @param lecturaMaximo    Límite máximo de lecturas concurrentes.
+     * @param escrituraInicial Límite inicial de escrituras concurrentes.
+     * @param escrituraMinimo  Límite mínimo de escrituras concurrentes.
+     * @param escrituraMaximo  Límite máximo de escrituras concurrentes.
+     * @param objectMapper     Serializador de los mensajes de error.
+     * @param registry         Registro de métricas.
+     * @return el filtro.
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            @Value("${app.concurrencia.lectura.inicial:20}") int lecturaInicial,
+            @Value("${app.concurrencia.lectura.minimo:4}") int lecturaMinimo,
+            @Value("${app.concurrencia.lectura.maximo:150}") int lecturaMaximo,
+            @Value("${app.concurrencia.escritura.inicial:10}") int escrituraInicial,
+            @Value("${app.concurrencia.escritura.minimo:2}") int escrituraMinimo,
+            @Value("${app.concurrencia.escritura.maximo:50}") int escrituraMaximo,
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        LimitadorAdaptativo lecturas = new LimitadorAdaptativo("lectura", lecturaInicial, lecturaMinimo, lecturaMaximo, registry);
+        LimitadorAdaptativo escrituras = new LimitadorAdaptativo("escritura", escrituraInicial, escrituraMinimo, escrituraMaximo, registry);
+        return new ConcurrencyLimitFilter(lecturas, escrituras, objectMapper);
+    }
+
+    /**
+     * Registro del filtro de límite adaptativo de solicitudes concurrentes.
+     *
+     * @param filtro     Filtro de límite de solicitudes concurrentes.
+     * @param habilitado Si es {@code false}, el filtro no se registra.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter filtro,
+            @Value("${app.concurrencia.habilitado:true}") boolean habilitado) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registro = new FilterRegistrationBean<>(filtro);
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(7);
+        registro.setEnabled(habilitado);
+        return registro;
+    }
+
+    /**
+     * Filtro de claves de idempotencia para las creaciones y relaciones.
+     *
+     * @param store        Almacén de claves ({@code app.idempotencia.almacen}: memoria o jdbc).
+     * @param objectMapper Serializador de los mensajes de error.
+     * @param registry     Registro de métricas.
+     * @param ttl          Tiempo durante el que se conserva la respuesta de una clave.
+     * @param reserva      Tiempo durante el que se mantiene reservada una clave cuya solicitud no terminó.
+     * @param espera       Tiempo máximo que un duplicado espera a la solicitud en curso.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore store,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.idempotencia.ttl:24h}") Duration ttl,
+            @Value("${app.idempotencia.reserva:30s}") Duration reserva,
+            @Value("${app.idempotencia.espera:30s}") Duration espera) {
+        FilterRegistrationBean<IdempotencyFilter> registro = new FilterRegistrationBean<>(
+                new IdempotencyFilter(store, objectMapper, registry, ttl, reserva, espera));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(10);
+        return registro;
+    }
+
+    /**
+     * Filtro de caché de respuestas de los catálogos.
+     *
+     * @param responseCache Caché de respuestas.
+     * @param maxAge        Valor de {@code max-age} enviado en {@code Cache-Control}.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            @Value("${app.cache.respuestas.max-age:0}") long maxAge) {
+        FilterRegistrationBean<ResponseCacheFilter> registro = new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, maxAge));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(20);
+        return registro;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * @file: ReporteArranque.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 03:05:12 PM
+ */
+package edu.unc.eventos.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Informa del tiempo de arranque de la aplicación y de la latencia de la primera petición atendida.
+ * <p>
+ * Los valores se escriben en el log y se publican como métricas ({@code eventos.arranque.listo} y
+ * {@code eventos.arranque.primera.peticion}) para comparar el arranque normal con el modo rápido (AOT y CDS).
+ */
+@Component
+public class ReporteArranque {
+    private static final Logger logger = LoggerFactory.getLogger(ReporteArranque.class);
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private final AtomicBoolean primeraPeticion = new AtomicBoolean(true);
+    private volatile long listoMs;
+    private volatile long primeraPeticionMs;
+
+    /**
+     * Registra el tiempo desde el inicio de la JVM hasta que la aplicación está lista.
+     *
+     * @param evento Evento de aplicación lista.
+     */
+    @EventListener
+    public void onListo(ApplicationReadyEvent evento) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        listoMs = runtime.getUptime();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(a -> a.startsWith("-XX:SharedArchiveFile"));
+        Gauge.builder("eventos.arranque.listo", this, r -> r.listoMs).baseUnit("milliseconds").register(registry);
+        Gauge.builder("eventos.arranque.primera.peticion", this, r -> r.primeraPeticionMs).baseUnit("milliseconds").register(registry);
+        logger.info("Aplicación lista en {} ms desde el inicio de la JVM (contexto: {} ms, AOT: {}, CDS: {}, inicialización diferida: {})",
+                listoMs, evento.getTimeTaken() == null ? -1 : evento.getTimeTaken().toMillis(),
+                AotDetector.useGeneratedArtifacts(), cds,
+                evento.getApplicationContext().getEnvironment().getProperty("spring.main.lazy-initialization", "false"));
+    }
+
+    /**
+     * Registra la latencia de la primera petición atendida por el {@code DispatcherServlet} una vez que la aplicación
+     * está lista. Las peticiones del calentamiento, anteriores, no se cuentan.
+     *
+     * @param evento Evento de petición atendida.
+     */
+    @EventListener
+    public void onPeticion(ServletRequestHandledEvent evento) {
+        if (listoMs > 0 && primeraPeticion.compareAndSet(true, false)) {
+            primeraPeticionMs = evento.getProcessingTimeMillis();
+            logger.info("Primera petición ({} {}) atendida en {} ms, {} ms después del arranque",
+                    evento.getMethod(), evento.getRequestUrl(), primeraPeticionMs,
+                    ManagementFactory.getRuntimeMXBean().getUptime() - listoMs);
+        }
+    }
+}
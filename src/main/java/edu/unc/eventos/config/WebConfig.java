@@ -1,6 +1,7 @@
 package edu.unc.eventos.config;
 
 import edu.unc.eventos.interceptors.ApiLoggingInterceptor;
+import edu.unc.eventos.interceptors.AsignacionInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -12,8 +13,12 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private ApiLoggingInterceptor apiLoggingInterceptor;
 
+    @Autowired
+    private AsignacionInterceptor asignacionInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(apiLoggingInterceptor);
+        registry.addInterceptor(asignacionInterceptor);
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+/**
+ * @file: BusquedaController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:49:15 PM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.dto.ResultadoBusquedaDTO;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.services.BusquedaService;
+import edu.unc.eventos.util.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST de la búsqueda en los catálogos de platos, decoraciones y locales.
+ * <p>Se mapea a la ruta '/api/buscar' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.</p>
+ */
+@RestController
+@RequestMapping(value = "/api/buscar", headers = "Api-Version=1")
+@CrossOrigin(origins = "http://localhost:3000")
+public class BusquedaController {
+    private static final int LIMITE_MAXIMO = 50;
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    /**
+     * Busca platos, decoraciones y locales por su texto, sin distinguir mayúsculas ni tildes.
+     *
+     * @param q      Texto a buscar.
+     * @param tipo   Catálogo en el que buscar ({@code plato}, {@code decoracion} o {@code local}); por defecto, todos.
+     * @param limite Número máximo de resultados, hasta 50.
+     * @return ResponseEntity con los resultados ordenados por relevancia.
+     * @throws IllegalOperationException Si la consulta está vacía o el tipo o el límite no son válidos.
+     */
+    @GetMapping
+    public ResponseEntity<?> buscar(@RequestParam String q,
+                                    @RequestParam(required = false) String tipo,
+                                    @RequestParam(defaultValue = "10") int limite) throws IllegalOperationException {
+        if (q.isBlank()) {
+            throw new IllegalOperationException("La consulta no puede estar vacía");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalOperationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        TipoEntidad catalogo = null;
+        if (tipo != null) {
+            try {
+                catalogo = TipoEntidad.valueOf(tipo.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                catalogo = null;
+            }
+            if (catalogo != TipoEntidad.PLATO && catalogo != TipoEntidad.DECORACION && catalogo != TipoEntidad.LOCAL) {
+                throw new IllegalOperationException("El tipo debe ser plato, decoracion o local");
+            }
+        }
+        List<ResultadoBusquedaDTO> resultados = busquedaService.buscar(q, catalogo, limite);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Resultados de la búsqueda", resultados));
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * @file: CambioController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 01:52:19 AM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.services.CambioService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Controlador REST del flujo de cambios de eventos, platos, decoraciones y locales, en formato
+ * {@code text/event-stream}.
+ * <p>Se mapea a la ruta '/api/cambios'. A diferencia del resto de la API no exige el encabezado 'Api-Version', porque
+ * {@code EventSource} de los navegadores no permite enviar encabezados propios.</p>
+ */
+@RestController
+@RequestMapping("/api/cambios")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CambioController {
+    private static final Map<String, TipoEntidad> TIPOS = Map.of(
+            "eventos", TipoEntidad.EVENTO,
+            "platos", TipoEntidad.PLATO,
+            "decoraciones", TipoEntidad.DECORACION,
+            "locales", TipoEntidad.LOCAL);
+
+    @Autowired
+    private CambioService cambioService;
+
+    /**
+     * Abre una suscripción a los cambios confirmados. Cada cambio llega como un evento {@code cambio} con el tipo, el
+     * identificador y la operación; el navegador se reconecta solo y envía {@code Last-Event-ID} para retomar.
+     *
+     * @param tipos    Tipos que se quieren recibir, separados por comas ({@code eventos}, {@code platos},
+     *                 {@code decoraciones}, {@code locales}); si no se indica, se reciben todos.
+     * @param ultimoId Identificador del último cambio recibido.
+     * @return La conexión SSE, o 503 si se alcanzó el máximo de suscriptores.
+     * @throws IllegalOperationException Si algún tipo no es válido.
+     */
+    @GetMapping
+    public ResponseEntity<SseEmitter> suscribir(@RequestParam(required = false) String tipos,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String ultimoId)
+            throws IllegalOperationException {
+        Optional<SseEmitter> emisor = cambioService.suscribir(tipos(tipos), ultimoId);
+        if (emisor.isEmpty()) {
+            // El tipo de retorno debe ser SseEmitter para que Spring abra el flujo, así que el 503 va sin cuerpo
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emisor.get());
+    }
+
+    private static Set<TipoEntidad> tipos(String tipos) throws IllegalOperationException {
+        if (tipos == null || tipos.isBlank()) {
+            return CambioService.TIPOS;
+        }
+        Set<TipoEntidad> elegidos = EnumSet.noneOf(TipoEntidad.class);
+        for (String nombre : tipos.split(",")) {
+            TipoEntidad tipo = TIPOS.get(nombre.trim());
+            if (tipo == null) {
+                throw new IllegalOperationException("El tipo '" + nombre.trim() + "' no es válido. Tipos permitidos: eventos, platos, decoraciones, locales");
+            }
+            elegidos.add(tipo);
+        }
+        return elegidos;
+    }
+}
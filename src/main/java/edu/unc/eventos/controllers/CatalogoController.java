@@ -0,0 +1,65 @@
+/**
+ * @file: CatalogoController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:40:26 AM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.cache.CatalogoSnapshot;
+import edu.unc.eventos.services.CatalogoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST que expone la instantánea versionada de los catálogos.
+ * <p>Se mapea a la ruta '/api/catalogo' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.
+ * Devuelve en una sola respuesta los platos, decoraciones y locales, ya serializados en memoria.</p>
+ */
+@RestController
+@RequestMapping(value = "/api/catalogo", headers = "Api-Version=1")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CatalogoController {
+    @Autowired
+    private CatalogoService catalogoService;
+
+    /**
+     * Obtiene la instantánea de los catálogos.
+     * <p>
+     * Si se indica {@code sinceVersion} y coincide con la versión actual, responde 304 (sin contenido).
+     * Si la versión indicada sigue en el historial, responde solo con los cambios; en otro caso, con el catálogo completo.
+     * El catálogo completo se envía comprimido con gzip cuando el cliente lo acepta.
+     *
+     * @param sinceVersion   Versión del catálogo que tiene el cliente.
+     * @param acceptEncoding Codificaciones que acepta el cliente.
+     * @return ResponseEntity con el catálogo, los cambios o el estado 304.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getCatalogo(@RequestParam(required = false) Long sinceVersion,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogoSnapshot snapshot = catalogoService.getSnapshot();
+        String etag = "\"" + snapshot.getVersion() + "\"";
+
+        if (sinceVersion != null) {
+            if (sinceVersion == snapshot.getVersion()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            byte[] delta = catalogoService.getDelta(sinceVersion);
+            if (delta != null) {
+                return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(delta);
+            }
+        }
+
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (snapshot.getJsonGzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getJsonGzip());
+        }
+        return respuesta.body(snapshot.getJson());
+    }
+}
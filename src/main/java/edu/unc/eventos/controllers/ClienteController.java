@@ -1,13 +1,26 @@
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Cliente;
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.dto.ClienteDTO;
 import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.EventoNormalizadoDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
+import edu.unc.eventos.dto.SugerenciaDTO;
+import edu.unc.eventos.dto.TopClienteDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.ClienteService;
+import edu.unc.eventos.services.EventoService;
+import edu.unc.eventos.services.SugerenciaService;
+import edu.unc.eventos.services.TopClientesService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
+import edu.unc.eventos.util.ApiResponseNormalizada;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -23,6 +36,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -33,9 +47,24 @@ public class ClienteController {
     @Autowired
     private ClienteService clienteService;
 
+    @Autowired
+    private CamposService camposService;
+
+    @Autowired
+    private EventoService eventoService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private TopClientesService topClientesService;
+
+    @Autowired
+    private SugerenciaService sugerenciaService;
+
     /**
      * Obtiene todos los clientes.
      *
@@ -43,14 +72,13 @@ public class ClienteController {
      */
     @GetMapping
     public ResponseEntity<?> getAll() {
-        List<Cliente> clientes = clienteService.getAll();
+        List<ClienteDTO> clientes = clienteService.getAllVistas();
 
         if (clientes == null || clientes.isEmpty()) {
             return ResponseEntity.noContent().build();
         } else {
             List<ClienteDTO> clienteDTOs = clientes.stream()
-                    .map(cliente -> {
-                        ClienteDTO clienteDTO = modelMapper.map(cliente, ClienteDTO.class);
+                    .map(clienteDTO -> {
                         clienteDTO.add(WebMvcLinkBuilder.linkTo(methodOn(ClienteController.class).getById(clienteDTO.getIdCliente())).withSelfRel());
                         Link eventosLink = WebMvcLinkBuilder.linkTo(methodOn(ClienteController.class).getAllEventosByIdCliente(clienteDTO.getIdCliente())).withRel("cliente-eventos");
                         clienteDTO.add(eventosLink);
@@ -63,6 +91,99 @@ public class ClienteController {
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los clientes ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de clientes con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.CLIENTE, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de clientes", idsPedidos, campos, fila -> (Long) fila.get("idCliente")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.CLIENTE, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de clientes", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un cliente ({@code ?fields=}).
+     *
+     * @param id     Identificador del cliente.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del cliente.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.CLIENTE, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Cliente encontrado", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios clientes por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de clientes encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<ClienteDTO> clienteDTOs = clienteService.getVistasByIds(idsPedidos);
+        for (ClienteDTO clienteDTO : clienteDTOs) {
+            clienteDTO.add(WebMvcLinkBuilder.linkTo(methodOn(ClienteController.class).getById(clienteDTO.getIdCliente())).withSelfRel());
+            clienteDTO.add(WebMvcLinkBuilder.linkTo(methodOn(ClienteController.class).getAllEventosByIdCliente(clienteDTO.getIdCliente())).withRel("cliente-eventos"));
+        }
+        return ResponseEntity.ok(LoteIds.responder("Lista de clientes", idsPedidos, clienteDTOs, ClienteDTO::getIdCliente));
+    }
+
+    /**
+     * Autocompleta clientes por el inicio de su nombre, documento de identidad o teléfono.
+     *
+     * @param prefix Texto escrito hasta el momento.
+     * @param limite Número máximo de sugerencias, hasta 20.
+     * @return Lista de sugerencias.
+     * @throws IllegalOperationException Si el prefijo está vacío o el límite no es válido.
+     */
+    @GetMapping(params = "prefix")
+    public ResponseEntity<?> getByPrefix(@RequestParam String prefix,
+                                         @RequestParam(defaultValue = "10") int limite) throws IllegalOperationException {
+        List<SugerenciaDTO> sugerencias = sugerenciaService.sugerirClientes(prefix, limite);
+        ApiResponse<List<SugerenciaDTO>> response = new ApiResponse<>(true, "Sugerencias de clientes", sugerencias);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene los mejores clientes por número de eventos o por gasto, en total o en un trimestre.
+     *
+     * @param periodo {@code total} o un trimestre con el formato {@code aaaa-Qn}.
+     * @param k       Número de clientes.
+     * @param orden   {@code eventos} o {@code gasto}.
+     * @return Lista de clientes ordenada de mejor a peor.
+     * @throws IllegalOperationException Si algún parámetro no es válido.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "total") String periodo,
+                                    @RequestParam(defaultValue = "10") int k,
+                                    @RequestParam(defaultValue = "eventos") String orden) throws IllegalOperationException {
+        List<TopClienteDTO> top = topClientesService.getTop(periodo, k, orden);
+        ApiResponse<List<TopClienteDTO>> response = new ApiResponse<>(true, "Mejores clientes", top);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene un cliente por su identificador.
      *
@@ -71,8 +192,7 @@ public class ClienteController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getById(@PathVariable Long id) {
-        Cliente cliente = clienteService.getById(id);
-        ClienteDTO clienteDTO = modelMapper.map(cliente, ClienteDTO.class);
+        ClienteDTO clienteDTO = clienteService.getVistaById(id);
 
         // Obtener el ID del cliente siguiente
         Long nextId = clienteService.getNextClienteId(id);
@@ -149,6 +269,7 @@ public class ClienteController {
 
         Cliente cliente = modelMapper.map(clienteDTO, Cliente.class);
         clienteService.update(id, cliente);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         ClienteDTO updateDTO = modelMapper.map(cliente, ClienteDTO.class);
         ApiResponse<ClienteDTO> response = new ApiResponse<>(true, "Cliente actualizado con éxito", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -190,4 +311,24 @@ public class ClienteController {
             return ResponseEntity.ok(response);
         }
     }
+
+    /**
+     * Obtiene los eventos de un cliente en forma normalizada ({@code ?formato=normalizado}).
+     *
+     * @param idCliente Identificador del cliente.
+     * @return Lista de eventos normalizada, con sus entidades relacionadas en {@code included}.
+     * @throws EntityNotFoundException Si el cliente no se encuentra en la base de datos.
+     */
+    @GetMapping(value = "/{idCliente}/eventos", params = "formato=normalizado")
+    public ResponseEntity<?> getAllEventosNormalizadosByIdCliente(@PathVariable Long idCliente) throws EntityNotFoundException {
+        List<Evento> eventos = clienteService.getAllEventosByIdCliente(idCliente);
+        if (eventos == null || eventos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        } else {
+            EventosNormalizadosDTO normalizados = eventoService.normalizar(eventos);
+            ApiResponseNormalizada<List<EventoNormalizadoDTO>> response = new ApiResponseNormalizada<>(true,
+                    "Eventos asociados al cliente", normalizados.getEventos(), normalizados.getIncluidos());
+            return ResponseEntity.ok(response);
+        }
+    }
 }
@@ -5,14 +5,23 @@
  */
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Decoracion;
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.dto.DecoracionDTO;
 import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.EventoNormalizadoDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.DecoracionService;
+import edu.unc.eventos.services.EventoService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
+import edu.unc.eventos.util.ApiResponseNormalizada;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -25,6 +34,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -42,9 +52,18 @@ public class DecoracionController {
     @Autowired
     private DecoracionService decoracionService;
 
+    @Autowired
+    private CamposService camposService;
+
+    @Autowired
+    private EventoService eventoService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     /**
      * Obtiene todas las decoraciones existentes
      *
@@ -52,14 +71,13 @@ public class DecoracionController {
      */
     @GetMapping
     public ResponseEntity<?> getAllDecoraciones() {
-        List<Decoracion> decoraciones = decoracionService.getAll();
+        List<DecoracionDTO> decoraciones = decoracionService.getAllVistas();
 
         if (decoraciones == null || decoraciones.isEmpty()) {
             return ResponseEntity.noContent().build();
         } else {
             List<DecoracionDTO> decoracionesDTOs = decoraciones.stream()
-                    .map(decoracion -> {
-                        DecoracionDTO decoracionDTO = modelMapper.map(decoracion, DecoracionDTO.class);
+                    .map(decoracionDTO -> {
                         decoracionDTO.add(WebMvcLinkBuilder.linkTo(methodOn(DecoracionController.class).getById(decoracionDTO.getIdDecoracion())).withSelfRel());
                         Link eventosLink = WebMvcLinkBuilder.linkTo(methodOn(DecoracionController.class).getAllEventosByIdDecoracion(decoracionDTO.getIdDecoracion())).withRel("decoracion-eventos");
                         decoracionDTO.add(eventosLink);
@@ -72,6 +90,65 @@ public class DecoracionController {
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todas las decoraciones ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de decoraciones con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.DECORACION, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de decoraciones", idsPedidos, campos, fila -> (Long) fila.get("idDecoracion")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.DECORACION, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de decoraciones", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de una decoración ({@code ?fields=}).
+     *
+     * @param id     Identificador de la decoración.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos de la decoración.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.DECORACION, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Decoración encontrada", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varias decoraciones por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de decoraciones encontradas.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<DecoracionDTO> decoracionDTOs = decoracionService.getVistasByIds(idsPedidos);
+        for (DecoracionDTO decoracionDTO : decoracionDTOs) {
+            decoracionDTO.add(WebMvcLinkBuilder.linkTo(methodOn(DecoracionController.class).getById(decoracionDTO.getIdDecoracion())).withSelfRel());
+            decoracionDTO.add(WebMvcLinkBuilder.linkTo(methodOn(DecoracionController.class).getAllEventosByIdDecoracion(decoracionDTO.getIdDecoracion())).withRel("decoracion-eventos"));
+        }
+        return ResponseEntity.ok(LoteIds.responder("Lista de decoraciones", idsPedidos, decoracionDTOs, DecoracionDTO::getIdDecoracion));
+    }
+
 
     /**
      * Obtiene una decoración por su identificador
@@ -81,8 +158,7 @@ public class DecoracionController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getById(@PathVariable Long id) {
-        Decoracion decoracion = decoracionService.getById(id);
-        DecoracionDTO decoracionDTO = modelMapper.map(decoracion, DecoracionDTO.class);
+        DecoracionDTO decoracionDTO = decoracionService.getVistaById(id);
 
         // Obtener el ID de la decoración anterior si existe
         Long previousId = decoracionService.getPreviousDecoracionId(id);
@@ -137,6 +213,7 @@ public class DecoracionController {
 
         Decoracion decoracion = modelMapper.map(decoracionDTO, Decoracion.class);
         decoracionService.save(decoracion);
+        responseCache.invalidate(CacheRegion.DECORACIONES);
         DecoracionDTO saveDTO = modelMapper.map(decoracion, DecoracionDTO.class);
         ApiResponse<DecoracionDTO> response = new ApiResponse<>(true, "Decoración guardada", saveDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -158,6 +235,7 @@ public class DecoracionController {
 
         Decoracion decoracion = modelMapper.map(decoracionDTO, Decoracion.class);
         decoracionService.update(id, decoracion);
+        responseCache.invalidate(CacheRegion.DECORACIONES, CacheRegion.PLATOS, CacheRegion.LOCALES);
         DecoracionDTO updateDTO = modelMapper.map(decoracion, DecoracionDTO.class);
         ApiResponse<DecoracionDTO> response = new ApiResponse<>(true, "Decoración actualizada", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -174,6 +252,7 @@ public class DecoracionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
         decoracionService.delete(id);
+        responseCache.invalidate(CacheRegion.DECORACIONES);
         ApiResponse<?> response = new ApiResponse<>(true, "Decoración eliminada con éxito", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -199,6 +278,26 @@ public class DecoracionController {
         }
     }
 
+    /**
+     * Devuelve los eventos de una decoración en forma normalizada ({@code ?formato=normalizado}).
+     *
+     * @param idDecoracion Identificador de la decoración
+     * @return Retorna la lista de eventos normalizada, con sus entidades relacionadas en {@code included}
+     * @throws EntityNotFoundException Si el Id de la decoración no existe en la DB
+     */
+    @GetMapping(value = "/{idDecoracion}/eventos", params = "formato=normalizado")
+    public ResponseEntity<?> getAllEventosNormalizadosByIdDecoracion(@PathVariable Long idDecoracion) throws EntityNotFoundException {
+        List<Evento> eventos = decoracionService.getAllEventosByIdDecoracion(idDecoracion);
+        if (eventos == null || eventos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        } else {
+            EventosNormalizadosDTO normalizados = eventoService.normalizar(eventos);
+            ApiResponseNormalizada<List<EventoNormalizadoDTO>> response = new ApiResponseNormalizada<>(true,
+                    "Eventos asociados a la decoracion", normalizados.getEventos(), normalizados.getIncluidos());
+            return ResponseEntity.ok(response);
+        }
+    }
+
     /**
      * Este controlodaro devuelve un evento específico que tiene asignado una decoración específica
      *
@@ -5,12 +5,21 @@
  */
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Empleado;
 import edu.unc.eventos.dto.EmpleadoDTO;
+import edu.unc.eventos.dto.NodoOrganigramaDTO;
+import edu.unc.eventos.dto.SugerenciaDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.EmpleadoService;
+import edu.unc.eventos.services.OrganigramaService;
+import edu.unc.eventos.services.SugerenciaService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -21,6 +30,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +46,21 @@ public class EmpleadoController {
     @Autowired
     private EmpleadoService empleadoService;
 
+    @Autowired
+    private CamposService camposService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private SugerenciaService sugerenciaService;
+
+    @Autowired
+    private OrganigramaService organigramaService;
+
     /**
      * Obtiene todas los empleados existentes
      *
@@ -46,18 +68,86 @@ public class EmpleadoController {
      */
     @GetMapping
     public ResponseEntity<?> getAll() {
-        List<Empleado> empleados = empleadoService.getAll();
-        if (empleados == null || empleados.isEmpty()) {
+        List<EmpleadoDTO> empleadosDTOs = empleadoService.getAllVistas();
+        if (empleadosDTOs.isEmpty()) {
             return ResponseEntity.noContent().build();
         } else {
-            List<EmpleadoDTO> empleadosDTOs = empleados.stream()
-                    .map(empleado -> modelMapper.map(empleado, EmpleadoDTO.class))
-                    .collect(Collectors.toList());
             ApiResponse<List<EmpleadoDTO>> response = new ApiResponse<>(true, "Lista de empleados", empleadosDTOs);
             return ResponseEntity.ok(response);
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los empleados ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de empleados con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.EMPLEADO, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de empleados", idsPedidos, campos, fila -> (Long) fila.get("idEmpleado")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.EMPLEADO, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de empleados", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un empleado ({@code ?fields=}).
+     *
+     * @param id     Identificador del empleado.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del empleado.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.EMPLEADO, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Empleado encontrado", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios empleados por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de empleados encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<EmpleadoDTO> empleadoDTOs = empleadoService.getVistasByIds(idsPedidos);
+        return ResponseEntity.ok(LoteIds.responder("Lista de empleados", idsPedidos, empleadoDTOs, EmpleadoDTO::getIdEmpleado));
+    }
+
+    /**
+     * Autocompleta empleados por el inicio de sus nombres, apellidos o DNI.
+     *
+     * @param prefix Texto escrito hasta el momento.
+     * @param limite Número máximo de sugerencias, hasta 20.
+     * @return Lista de sugerencias.
+     * @throws IllegalOperationException Si el prefijo está vacío o el límite no es válido.
+     */
+    @GetMapping(params = "prefix")
+    public ResponseEntity<?> getByPrefix(@RequestParam String prefix,
+                                         @RequestParam(defaultValue = "10") int limite) throws IllegalOperationException {
+        List<SugerenciaDTO> sugerencias = sugerenciaService.sugerirEmpleados(prefix, limite);
+        ApiResponse<List<SugerenciaDTO>> response = new ApiResponse<>(true, "Sugerencias de empleados", sugerencias);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene un empleado por su identificador
      *
@@ -66,8 +156,7 @@ public class EmpleadoController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getById(@PathVariable Long id) {
-        Empleado empleado = empleadoService.getById(id);
-        EmpleadoDTO empleadoDTO = modelMapper.map(empleado, EmpleadoDTO.class);
+        EmpleadoDTO empleadoDTO = empleadoService.getVistaById(id);
         ApiResponse<EmpleadoDTO> response = new ApiResponse<>(true, "Empleado encontrado", empleadoDTO);
         return ResponseEntity.ok(response);
     }
@@ -106,6 +195,7 @@ public class EmpleadoController {
 
         Empleado empleado = modelMapper.map(empleadoDTO, Empleado.class);
         empleadoService.update(id, empleado);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         EmpleadoDTO updateDTO = modelMapper.map(empleado, EmpleadoDTO.class);
         ApiResponse<EmpleadoDTO> response = new ApiResponse<>(true, "Decoración actualizada", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -122,6 +212,7 @@ public class EmpleadoController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
         empleadoService.delete(id);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         ApiResponse<String> response = new ApiResponse<>(true, "Empleado eliminado", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -133,11 +224,12 @@ public class EmpleadoController {
      * @param idSupervisor ID del supervisor que se asignará al empleado
      * @return ResponseEntity con el resultado de la operación
      * @throws EntityNotFoundException   Si no se encuentra el empleado o el supervisor
-     * @throws IllegalOperationException Si el empleado ya tiene asignado el supervisor proporcionado
+     * @throws IllegalOperationException Si el empleado es el supervisor o está por encima de él en la jerarquía
      */
     @PatchMapping("/{idEmpleado}/addSupervisor/{idSupervisor}")
     public ResponseEntity<?> addSupervisor(@PathVariable Long idEmpleado, @PathVariable Long idSupervisor) throws EntityNotFoundException, IllegalOperationException {
         Empleado empleado = empleadoService.addSupervisor(idEmpleado, idSupervisor);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         EmpleadoDTO empleadoDTO = modelMapper.map(empleado, EmpleadoDTO.class);
         ApiResponse<EmpleadoDTO> response = new ApiResponse<>(true, "Supervisor asignado al empleado correctamente", empleadoDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -163,6 +255,34 @@ public class EmpleadoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Obtiene todos los empleados bajo el mando de un empleado, directos e indirectos.
+     *
+     * @param id ID del empleado
+     * @return Lista de subordinados con su nivel, del más cercano al más lejano
+     * @throws EntityNotFoundException Si no se encuentra el empleado
+     */
+    @GetMapping("/{id}/subordinados")
+    public ResponseEntity<?> getSubordinados(@PathVariable Long id) throws EntityNotFoundException {
+        List<NodoOrganigramaDTO> subordinados = organigramaService.getSubordinados(id);
+        ApiResponse<List<NodoOrganigramaDTO>> response = new ApiResponse<>(true, "Subordinados del empleado " + id, subordinados);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene la cadena de mando de un empleado, desde su supervisor directo hasta la cima.
+     *
+     * @param id ID del empleado
+     * @return Lista de supervisores con su nivel
+     * @throws EntityNotFoundException Si no se encuentra el empleado
+     */
+    @GetMapping("/{id}/supervisores")
+    public ResponseEntity<?> getSupervisores(@PathVariable Long id) throws EntityNotFoundException {
+        List<NodoOrganigramaDTO> supervisores = organigramaService.getSupervisores(id);
+        ApiResponse<List<NodoOrganigramaDTO>> response = new ApiResponse<>(true, "Cadena de mando del empleado " + id, supervisores);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene un empleado supervisado por un supervisor definido.
      *
@@ -5,24 +5,39 @@
  */
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Plato;
 import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.EventoDetalleDTO;
+import edu.unc.eventos.dto.EventoNormalizadoDTO;
+import edu.unc.eventos.dto.EventoVistaDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
 import edu.unc.eventos.dto.PlatoDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.EventoService;
+import edu.unc.eventos.services.EventoVistaService;
+import edu.unc.eventos.services.PlatoService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
+import edu.unc.eventos.util.ApiResponseNormalizada;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -33,9 +48,21 @@ class EventoController {
     @Autowired
     private EventoService eventoService;
 
+    @Autowired
+    private EventoVistaService eventoVistaService;
+
+    @Autowired
+    private CamposService camposService;
+
+    @Autowired
+    private PlatoService platoService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     /**
      * Obtiene todos los eventos existentes
      *
@@ -56,6 +83,112 @@ class EventoController {
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los eventos ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de eventos con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = {"fields", "!formato"})
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.EVENTO, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de eventos", idsPedidos, campos, fila -> (Long) fila.get("idEvento")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.EVENTO, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de eventos", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un evento ({@code ?fields=}).
+     *
+     * @param id     Identificador del evento.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del evento.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.EVENTO, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Evento", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios eventos por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de eventos encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<EventoDTO> eventoDTOs = eventoService.getByIds(idsPedidos).stream()
+                .map(evento -> modelMapper.map(evento, EventoDTO.class))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(LoteIds.responder("Lista de eventos", idsPedidos, eventoDTOs, EventoDTO::getIdEvento));
+    }
+
+    /**
+     * Obtiene todos los eventos en forma normalizada ({@code ?formato=normalizado}): cada evento lleva los
+     * identificadores de sus relaciones y cada cliente, empleado, local, decoración y plato va una sola vez en
+     * {@code included}.
+     *
+     * @return Lista de eventos normalizada
+     */
+    @GetMapping(params = "formato=normalizado")
+    public ResponseEntity<?> getAllNormalizado() {
+        List<Evento> eventos = eventoService.getAll();
+        if (eventos == null || eventos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        } else {
+            EventosNormalizadosDTO normalizados = eventoService.normalizar(eventos);
+            ApiResponseNormalizada<List<EventoNormalizadoDTO>> response = new ApiResponseNormalizada<>(true,
+                    "Lista de eventos", normalizados.getEventos(), normalizados.getIncluidos());
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * Obtiene los eventos en forma plana ({@code ?formato=plano}), con los nombres de sus relaciones y el número de
+     * platos, filtrados opcionalmente por cliente, empleado, local, decoración y rango de fechas. Se leen de la tabla
+     * {@code evento_view}, sin unir otras tablas.
+     *
+     * @param idCliente    Cliente de los eventos.
+     * @param idEmpleado   Empleado de los eventos.
+     * @param idLocal      Local de los eventos.
+     * @param idDecoracion Decoración de los eventos.
+     * @param desde        Primera fecha incluida ({@code aaaa-mm-dd}).
+     * @param hasta        Última fecha incluida ({@code aaaa-mm-dd}).
+     * @return Lista de eventos ordenada por fecha.
+     * @throws IllegalOperationException Si el rango de fechas no es válido.
+     */
+    @GetMapping(params = "formato=plano")
+    public ResponseEntity<?> getAllPlano(@RequestParam(required = false) Long idCliente,
+                                         @RequestParam(required = false) Long idEmpleado,
+                                         @RequestParam(required = false) Long idLocal,
+                                         @RequestParam(required = false) Long idDecoracion,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta)
+            throws IllegalOperationException {
+        List<EventoVistaDTO> eventos = eventoVistaService.buscar(idCliente, idEmpleado, idLocal, idDecoracion, desde, hasta);
+        if (eventos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Lista de eventos", eventos));
+    }
+
     /**
      * Obtiene un evento por su identificador
      *
@@ -70,6 +203,19 @@ class EventoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Obtiene el detalle de un evento con su cliente, empleado, local, decoración y platos en una sola respuesta.
+     *
+     * @param id Identificador del evento
+     * @return Detalle del evento
+     */
+    @GetMapping("/{id}/detalle")
+    public ResponseEntity<?> getDetalle(@PathVariable Long id) {
+        EventoDetalleDTO detalle = eventoService.getDetalle(id);
+        ApiResponse<EventoDetalleDTO> response = new ApiResponse<>(true, "Detalle del evento", detalle);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene una lista de platos asociados a un evento mediante su ID.
      * <p>
@@ -82,8 +228,7 @@ class EventoController {
      */
     @GetMapping("/{eventoId}/platos")
     public ResponseEntity<?> getPlatosByEventoId(@PathVariable Long eventoId) {
-        List<Plato> platos = eventoService.getPlatosByEventoId(eventoId);
-        List<PlatoDTO> platoDTOS = platos.stream().map(plato -> modelMapper.map(plato, PlatoDTO.class)).collect(Collectors.toList());
+        List<PlatoDTO> platoDTOS = platoService.getVistasByIdEvento(eventoId);
         ApiResponse<List<PlatoDTO>> response = new ApiResponse<>(true, "Lista de platos", platoDTOS);
         return ResponseEntity.ok(response);
     }
@@ -120,6 +265,7 @@ class EventoController {
 
         Evento evento = modelMapper.map(eventoDTO, Evento.class);
         eventoService.save(evento);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         EventoDTO createdDTO = modelMapper.map(evento, EventoDTO.class);
         ApiResponse<EventoDTO> response = new ApiResponse<>(true, "Evento creado con éxito", createdDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -141,6 +287,7 @@ class EventoController {
 
         Evento evento = modelMapper.map(eventoDTO, Evento.class);
         eventoService.update(id, evento);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         EventoDTO updateDTO = modelMapper.map(evento, EventoDTO.class);
         ApiResponse<EventoDTO> response = new ApiResponse<>(true, "Evento actualizado", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -162,6 +309,7 @@ class EventoController {
     @PatchMapping("/{idEvento}/addPlato")
     public ResponseEntity<?> addPlato(@PathVariable Long idEvento, @RequestParam Long idPlato) throws IllegalOperationException {
         Evento evento = eventoService.addPlato(idEvento, idPlato);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         EventoDTO updatedDTO = modelMapper.map(evento, EventoDTO.class);
         ApiResponse<EventoDTO> response = new ApiResponse<>(true, "Plato agregado al evento correctamente", updatedDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -179,6 +327,7 @@ class EventoController {
     @PatchMapping("/{idEvento}/addDecoracionToEvento")
     public ResponseEntity<?> addDecoracionToEvento(@PathVariable Long idEvento, @RequestParam Long idDecoracion) throws IllegalOperationException {
         eventoService.addDecoracionToEvento(idEvento, idDecoracion);
+        responseCache.invalidate(CacheRegion.DECORACIONES, CacheRegion.PLATOS, CacheRegion.LOCALES);
         return ResponseEntity.ok("Decoracion agregada al evento correctamente");
     }
 
@@ -193,6 +342,7 @@ class EventoController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
         eventoService.delete(id);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         ApiResponse<?> response = new ApiResponse<>(true, "Evento eliminado con éxito", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
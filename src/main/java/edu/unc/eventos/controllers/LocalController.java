@@ -9,12 +9,17 @@
  */
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Local;
 import edu.unc.eventos.dto.LocalDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.LocalService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -25,6 +30,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -34,9 +40,15 @@ public class LocalController {
     @Autowired
     private LocalService localService;
 
+    @Autowired
+    private CamposService camposService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     /**
      * Obtiene todos los locales existentes
      *
@@ -56,6 +68,63 @@ public class LocalController {
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los locales ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de locales con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.LOCAL, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de locales", idsPedidos, campos, fila -> (Long) fila.get("idLocal")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.LOCAL, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de locales", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un local ({@code ?fields=}).
+     *
+     * @param id     Identificador del local.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del local.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.LOCAL, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Local", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios locales por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de locales encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<LocalDTO> localDTOs = localService.getByIds(idsPedidos).stream()
+                .map(local -> modelMapper.map(local, LocalDTO.class))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(LoteIds.responder("Lista de locales", idsPedidos, localDTOs, LocalDTO::getIdLocal));
+    }
+
     /**
      * Obtiene un local por su identificador
      *
@@ -85,6 +154,7 @@ public class LocalController {
 
         Local local = modelMapper.map(localDTO, Local.class);
         localService.save(local);
+        responseCache.invalidate(CacheRegion.LOCALES);
         LocalDTO saveDTO = modelMapper.map(local, LocalDTO.class);
         ApiResponse<LocalDTO> response = new ApiResponse<>(true, "Local guardado", saveDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -107,6 +177,7 @@ public class LocalController {
 
         Local local = modelMapper.map(localDTO, Local.class);
         localService.update(id, local);
+        responseCache.invalidate(CacheRegion.LOCALES, CacheRegion.PLATOS, CacheRegion.DECORACIONES);
         LocalDTO updateDTO = modelMapper.map(local, LocalDTO.class);
         ApiResponse<LocalDTO> response = new ApiResponse<>(true, "Local actualizado", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -123,6 +194,7 @@ public class LocalController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
         localService.delete(id);
+        responseCache.invalidate(CacheRegion.LOCALES);
         ApiResponse<?> response = new ApiResponse<>(true, "Local eliminado con éxito", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -0,0 +1,56 @@
+/**
+ * @file: LoteController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:58:20 AM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.dto.LoteDTO;
+import edu.unc.eventos.dto.RespuestaLoteDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.services.LoteService;
+import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.EntityValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST que ejecuta varias peticiones a la API en una sola llamada.
+ * <p>Se mapea a la ruta '/api/batch' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.
+ * Las peticiones heredan los encabezados del lote, salvo los que describen su cuerpo.</p>
+ */
+@RestController
+@RequestMapping(value = "/api/batch", headers = "Api-Version=1")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LoteController {
+    @Autowired
+    private LoteService loteService;
+
+    /**
+     * Ejecuta un lote de peticiones. La respuesta es 200 aunque alguna petición falle: el estado de cada una va en
+     * su propia respuesta.
+     *
+     * @param lote     Peticiones del lote.
+     * @param result   Resultado de la validación del lote.
+     * @param request  Solicitud del lote.
+     * @param response Respuesta del lote.
+     * @return ResponseEntity con las respuestas de las peticiones, en el orden del lote.
+     * @throws IllegalOperationException Si el lote es demasiado grande o alguna petición no es válida.
+     */
+    @PostMapping
+    public ResponseEntity<?> ejecutar(@RequestBody @Valid LoteDTO lote, BindingResult result,
+                                      HttpServletRequest request, HttpServletResponse response) throws IllegalOperationException {
+        if (result.hasErrors()) return new EntityValidator().validate(result);
+
+        List<RespuestaLoteDTO> respuestas = loteService.ejecutar(lote.getPeticiones(), request, response);
+        ApiResponse<List<RespuestaLoteDTO>> apiResponse = new ApiResponse<>(true, "Lote procesado", respuestas);
+        return ResponseEntity.ok(apiResponse);
+    }
+}
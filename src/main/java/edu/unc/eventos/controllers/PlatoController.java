@@ -10,14 +10,23 @@
 
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Plato;
 import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.EventoNormalizadoDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
 import edu.unc.eventos.dto.PlatoDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
+import edu.unc.eventos.services.EventoService;
 import edu.unc.eventos.services.PlatoService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
+import edu.unc.eventos.util.ApiResponseNormalizada;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -28,6 +37,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -37,39 +47,100 @@ public class PlatoController {
     @Autowired
     private PlatoService platoService;
 
+    @Autowired
+    private CamposService camposService;
+
+    @Autowired
+    private EventoService eventoService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     /**
      * Obtiene todos los platos disponibles.
      * <p>
      * Este método GET permite recuperar todos los platos disponibles en el sistema.
      * Retorna una lista de todos los platos en forma de ResponseEntity.
      * Si no se encuentran platos disponibles, devuelve una respuesta sin contenido (status 204).
-     * Si se encuentran platos disponibles, los convierte en DTOs (Data Transfer Objects), los agrega a una ApiResponse y retorna una respuesta con estado OK (status 200) junto con la lista de platos en formato DTO.
+     * Si se encuentran platos disponibles, los lee como DTOs (Data Transfer Objects) con consultas de proyección, los agrega a una ApiResponse y retorna una respuesta con estado OK (status 200) junto con la lista de platos en formato DTO.
      *
      * @return ResponseEntity que contiene una lista de platos en formato DTO o una respuesta sin contenido si no hay platos disponibles.
      */
     @GetMapping
     public ResponseEntity<?> getAll() {
-        List<Plato> platos = platoService.getAll();
-        if (platos == null || platos.isEmpty()) {
+        List<PlatoDTO> PlatosDTOs = platoService.getAllVistas();
+        if (PlatosDTOs.isEmpty()) {
             return ResponseEntity.noContent().build();
         } else {
-            List<PlatoDTO> PlatosDTOs = platos.stream()
-                    .map(Plato -> modelMapper.map(Plato, PlatoDTO.class))
-                    .collect(Collectors.toList());
             ApiResponse<List<PlatoDTO>> response = new ApiResponse<>(true, "Lista de Platos", PlatosDTOs);
             return ResponseEntity.ok(response);
         }
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los platos ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de platos con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.PLATO, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de Platos", idsPedidos, campos, fila -> (Long) fila.get("idPlato")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.PLATO, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de Platos", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un plato ({@code ?fields=}).
+     *
+     * @param id     Identificador del plato.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del plato.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.PLATO, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Plato", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios platos por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de platos encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<PlatoDTO> platoDTOs = platoService.getVistasByIds(idsPedidos);
+        return ResponseEntity.ok(LoteIds.responder("Lista de Platos", idsPedidos, platoDTOs, PlatoDTO::getIdPlato));
+    }
+
     /**
      * Obtiene un plato por su ID.
      * <p>
      * Este método GET permite recuperar un plato específico mediante su ID.
      * Recibe el ID del plato como parámetro en la URL y retorna una respuesta con el plato correspondiente.
-     * Si se encuentra el plato, lo convierte en un DTO (Data Transfer Object), lo agrega a una ApiResponse y retorna una respuesta con estado OK (status 200) junto con el plato en formato DTO.
+     * Si se encuentra el plato, lo lee como un DTO (Data Transfer Object) con consultas de proyección, lo agrega a una ApiResponse y retorna una respuesta con estado OK (status 200) junto con el plato en formato DTO.
      *
      * @param id El ID del plato que se desea recuperar.
      * @return ResponseEntity que contiene el plato en formato DTO.
@@ -77,8 +148,7 @@ public class PlatoController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getById(@PathVariable Long id) {
-        Plato plato = platoService.getById(id);
-        PlatoDTO PlatoDTO = modelMapper.map(plato, PlatoDTO.class);
+        PlatoDTO PlatoDTO = platoService.getVistaById(id);
         ApiResponse<PlatoDTO> response = new ApiResponse<>(true, "Plato", PlatoDTO);
         return ResponseEntity.ok(response);
     }
@@ -101,6 +171,25 @@ public class PlatoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Obtiene los eventos de un plato en forma normalizada ({@code ?formato=normalizado}).
+     * <p>
+     * Cada evento lleva los identificadores de sus relaciones y las entidades relacionadas van una sola vez en
+     * {@code included}, en lugar de repetirse en cada evento.
+     *
+     * @param platoId El ID del plato del cual se desean obtener los eventos.
+     * @return ResponseEntity con la lista de eventos normalizada.
+     * @throws EntityNotFoundException Si el plato con el ID especificado no se encuentra en la base de datos.
+     */
+    @GetMapping(value = "/{platoId}/eventos", params = "formato=normalizado")
+    public ResponseEntity<?> getEventosNormalizadosByPlatoId(@PathVariable Long platoId) {
+        List<Evento> eventos = platoService.getEventosByPlatoId(platoId);
+        EventosNormalizadosDTO normalizados = eventoService.normalizar(eventos);
+        ApiResponseNormalizada<List<EventoNormalizadoDTO>> response = new ApiResponseNormalizada<>(true,
+                "Lista de Eventos", normalizados.getEventos(), normalizados.getIncluidos());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene un evento asociado a un plato mediante los IDs de plato y evento.
      * <p>
@@ -139,6 +228,7 @@ public class PlatoController {
 
         Plato plato = modelMapper.map(platoDTO, Plato.class);
         platoService.save(plato);
+        responseCache.invalidate(CacheRegion.PLATOS);
         PlatoDTO saveDTO = modelMapper.map(plato, PlatoDTO.class);
         ApiResponse<PlatoDTO> response = new ApiResponse<>(true, "Plato guardado", saveDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -165,6 +255,7 @@ public class PlatoController {
 
         Plato plato = modelMapper.map(platoDTO, Plato.class);
         platoService.update(id, plato);
+        responseCache.invalidate(CacheRegion.PLATOS, CacheRegion.LOCALES, CacheRegion.DECORACIONES);
         PlatoDTO updateDTO = modelMapper.map(plato, PlatoDTO.class);
         ApiResponse<PlatoDTO> response = new ApiResponse<>(true, "Plato actualizado", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -181,6 +272,7 @@ public class PlatoController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
         platoService.delete(id);
+        responseCache.invalidate(CacheRegion.PLATOS);
         ApiResponse<?> response = new ApiResponse<>(true, "Plato eliminado con éxito", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
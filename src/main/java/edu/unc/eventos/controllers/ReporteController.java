@@ -0,0 +1,74 @@
+/**
+ * @file: ReporteController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:58:16 PM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.dto.ResumenLocalDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.services.ReporteService;
+import edu.unc.eventos.util.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Controlador REST de los reportes de ingresos y ocupación por local.
+ * <p>Se mapea a la ruta '/api/reportes' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.
+ * Los reportes se responden desde el resumen mensual, sin recorrer la tabla de eventos.</p>
+ */
+@RestController
+@RequestMapping(value = "/api/reportes", headers = "Api-Version=1")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ReporteController {
+    @Autowired
+    private ReporteService reporteService;
+
+    /**
+     * Obtiene los ingresos y días reservados de cada local, mes a mes.
+     *
+     * @param desde   Primer mes del rango ({@code aaaa-mm}).
+     * @param hasta   Último mes del rango ({@code aaaa-mm}).
+     * @param idLocal Local que se quiere consultar; si no se indica, se incluyen todos.
+     * @return ResponseEntity con el resumen por local y mes.
+     * @throws IllegalOperationException Si el rango no es válido.
+     */
+    @GetMapping("/locales")
+    public ResponseEntity<?> getResumenMensual(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth desde,
+                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth hasta,
+                                               @RequestParam(required = false) Long idLocal) throws IllegalOperationException {
+        List<ResumenLocalDTO> resumen = reporteService.getResumenMensual(desde, hasta, idLocal);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Resumen mensual de locales", resumen));
+    }
+
+    /**
+     * Obtiene los ingresos, días reservados y ocupación de cada local en todo el rango.
+     *
+     * @param desde Primer mes del rango ({@code aaaa-mm}).
+     * @param hasta Último mes del rango ({@code aaaa-mm}).
+     * @return ResponseEntity con un resumen por local.
+     * @throws IllegalOperationException Si el rango no es válido.
+     */
+    @GetMapping("/locales/totales")
+    public ResponseEntity<?> getTotales(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth desde,
+                                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth hasta) throws IllegalOperationException {
+        List<ResumenLocalDTO> totales = reporteService.getTotales(desde, hasta);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Totales de locales", totales));
+    }
+
+    /**
+     * Reconstruye el resumen a partir de todos los eventos. Se usa para cargar datos históricos o corregir el resumen.
+     *
+     * @return ResponseEntity con el número de filas generadas.
+     */
+    @PostMapping("/locales/reconstruir")
+    public ResponseEntity<?> reconstruir() {
+        int filas = reporteService.reconstruir();
+        return ResponseEntity.ok(new ApiResponse<>(true, "Resumen reconstruido", filas));
+    }
+}
@@ -5,12 +5,17 @@
  */
 package edu.unc.eventos.controllers;
 
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
 import edu.unc.eventos.domain.Seguro;
 import edu.unc.eventos.dto.SeguroDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.services.CamposService;
 import edu.unc.eventos.services.SeguroService;
 import edu.unc.eventos.util.ApiResponse;
+import edu.unc.eventos.util.LoteIds;
 import edu.unc.eventos.util.EntityValidator;
 import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
@@ -21,6 +26,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,9 +36,15 @@ public class SeguroController {
     @Autowired
     private SeguroService seguroService;
 
+    @Autowired
+    private CamposService camposService;
+
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     /**
      * Obtiene todos los seguros.
      *
@@ -48,6 +60,63 @@ public class SeguroController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Obtiene solo los campos pedidos de todos los seguros ({@code ?fields=}). Las relaciones se devuelven como
+     * identificadores y solo se consultan si se piden.
+     *
+     * @param fields Campos separados por comas.
+     * @param ids    Identificadores separados por comas, para leer solo esas entidades en el orden pedido.
+     * @return Lista de seguros con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllCampos(@RequestParam String fields,
+                                          @RequestParam(required = false) String ids) throws IllegalOperationException {
+        if (ids != null) {
+            List<Long> idsPedidos = LoteIds.parsear(ids);
+            List<Map<String, Object>> campos = camposService.getByIds(RecursoCampos.SEGURO, idsPedidos, fields);
+            return ResponseEntity.ok(LoteIds.responder("Lista de seguros", idsPedidos, campos, fila -> (Long) fila.get("idSeguro")));
+        }
+        List<Map<String, Object>> filas = camposService.getAll(RecursoCampos.SEGURO, fields);
+        if (filas.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(true, "Lista de seguros", filas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene solo los campos pedidos de un seguro ({@code ?fields=}).
+     *
+     * @param id     Identificador del seguro.
+     * @param fields Campos separados por comas.
+     * @return Campos pedidos del seguro.
+     * @throws IllegalOperationException Si algún campo no está permitido.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getByIdCampos(@PathVariable Long id, @RequestParam String fields) throws IllegalOperationException {
+        Map<String, Object> campos = camposService.getById(RecursoCampos.SEGURO, id, fields);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Seguro", campos);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene varios seguros por sus identificadores ({@code ?ids=1,2,3}), en el orden pedido. Los
+     * identificadores que no existen se informan en {@code missing}.
+     *
+     * @param ids Identificadores separados por comas, hasta {@value LoteIds#MAXIMO}.
+     * @return Lista de seguros encontrados.
+     * @throws IllegalOperationException Si algún identificador no es válido o se piden demasiados.
+     */
+    @GetMapping(params = {"ids", "!fields"})
+    public ResponseEntity<?> getByIds(@RequestParam String ids) throws IllegalOperationException {
+        List<Long> idsPedidos = LoteIds.parsear(ids);
+        List<SeguroDTO> seguroDTOs = seguroService.getByIds(idsPedidos).stream()
+                .map(seguro -> modelMapper.map(seguro, SeguroDTO.class))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(LoteIds.responder("Lista de seguros", idsPedidos, seguroDTOs, SeguroDTO::getIdSeguro));
+    }
+
     /**
      * Obtiene un seguro por su identificador.
      *
@@ -75,6 +144,7 @@ public class SeguroController {
 
         Seguro seguro = modelMapper.map(seguroDTO, Seguro.class);
         seguro = seguroService.save(seguro);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         SeguroDTO createdDTO = modelMapper.map(seguro, SeguroDTO.class);
         ApiResponse<SeguroDTO> response = new ApiResponse<>(true, "Seguro creado con éxito", createdDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -96,6 +166,7 @@ public class SeguroController {
 
         Seguro seguro = modelMapper.map(seguroDTO, Seguro.class);
         seguroService.update(id, seguro);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         SeguroDTO updateDTO = modelMapper.map(seguro, SeguroDTO.class);
         ApiResponse<SeguroDTO> response = new ApiResponse<>(true, "Seguro actualizado con éxito", updateDTO);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -113,6 +184,7 @@ public class SeguroController {
     public ResponseEntity<?> delete(@PathVariable Long id)
             throws EntityNotFoundException, IllegalOperationException {
         seguroService.delete(id);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         ApiResponse<String> response = new ApiResponse<>(true, "Seguro eliminado con éxito", null);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -129,6 +201,7 @@ public class SeguroController {
     @PutMapping("/{idSeguro}/addEmpleado/{idEmpleado}")
     public ResponseEntity<?> addEmpleado(@PathVariable Long idEmpleado, @PathVariable Long idSeguro) throws EntityNotFoundException, IllegalOperationException {
         Seguro seguro = seguroService.addEmpleado(idSeguro, idEmpleado);
+        responseCache.invalidate(CacheRegion.SEGUROS);
         SeguroDTO seguroDTO = modelMapper.map(seguro, SeguroDTO.class);
         ApiResponse<SeguroDTO> response = new ApiResponse<>(true, "Empleado asignado a su seguro correctamente", seguroDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -0,0 +1,44 @@
+/**
+ * @file: SincronizacionController.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 03:15:52 AM
+ */
+package edu.unc.eventos.controllers;
+
+import edu.unc.eventos.dto.SincronizacionDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.services.SincronizacionService;
+import edu.unc.eventos.util.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST de la sincronización incremental para los clientes que trabajan sin conexión.
+ * <p>Se mapea a la ruta '/api/sync' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.</p>
+ */
+@RestController
+@RequestMapping(value = "/api/sync", headers = "Api-Version=1")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SincronizacionController {
+    @Autowired
+    private SincronizacionService sincronizacionService;
+
+    /**
+     * Obtiene los cambios de eventos, clientes, platos, decoraciones, locales, empleados y seguros posteriores a una
+     * marca. Para sincronizar, se pide sin {@code since} la primera vez y luego con el {@code siguiente} recibido,
+     * hasta que {@code completo} sea {@code true}.
+     *
+     * @param since  Marca de la última sincronización: el valor {@code siguiente} de la respuesta anterior o un
+     *               instante ISO-8601.
+     * @param limite Número máximo de cambios por página.
+     * @return ResponseEntity con la página de cambios.
+     * @throws IllegalOperationException Si la marca o el límite no son válidos.
+     */
+    @GetMapping
+    public ResponseEntity<?> sincronizar(@RequestParam(required = false) String since,
+                                         @RequestParam(required = false) Integer limite) throws IllegalOperationException {
+        SincronizacionDTO pagina = sincronizacionService.sincronizar(since, limite);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Cambios desde la marca", pagina));
+    }
+}
@@ -4,19 +4,23 @@
  * @created: Mar 03, 2024 17:28:00 PM
  * Representa a un cliente en el contexto de un dominio específico.
  * Esta clase está anotada para persistencia y validación mediante anotaciones JPA.
+ * Los enlaces HATEOAS se agregan solo en {@link edu.unc.eventos.dto.ClienteDTO}; la entidad no los guarda.
  */
 package edu.unc.eventos.domain;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.springframework.hateoas.RepresentationModel;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
-public class Cliente extends RepresentationModel<Cliente> {
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cliente_di", columnNames = "di"),
+        indexes = @Index(name = "idx_cliente_actualizado", columnList = "actualizado_en, id_cliente"))
+public class Cliente implements ConMarcasTiempo {
     /**
      * El campo 'idCliente' es el identificador único del cliente.
      */
@@ -50,4 +54,15 @@ public class Cliente extends RepresentationModel<Cliente> {
      */
     @OneToMany(mappedBy = "cliente", cascade = CascadeType.ALL)
     private List<Evento> eventos = new ArrayList<>();
+
+    /**
+     * Momento en que se creó el cliente. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del cliente. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
@@ -0,0 +1,22 @@
+/**
+ * @file: ConMarcasTiempo.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:21:40 AM
+ */
+package edu.unc.eventos.domain;
+
+import java.time.Instant;
+
+/**
+ * Entidad que guarda el momento de su creación y de su última modificación. Las marcas las asigna
+ * {@link MarcasTiempoListener} al guardar la entidad.
+ */
+public interface ConMarcasTiempo {
+    Instant getCreadoEn();
+
+    void setCreadoEn(Instant creadoEn);
+
+    Instant getActualizadoEn();
+
+    void setActualizadoEn(Instant actualizadoEn);
+}
@@ -8,12 +8,15 @@ package edu.unc.eventos.domain;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
-public class Decoracion {
+@Table(indexes = @Index(name = "idx_decoracion_actualizado", columnList = "actualizado_en, id_decoracion"))
+public class Decoracion implements ConMarcasTiempo {
     /**
      * El campo 'idDecoracion' corresponde al identificador único de la decoración en el sistema.
      */
@@ -41,4 +44,15 @@ public class Decoracion {
      */
     @OneToMany(mappedBy = "decoracion", cascade = CascadeType.ALL)
     private List<Evento> eventos = new ArrayList<>();
+
+    /**
+     * Momento en que se creó la decoración. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación de la decoración. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
@@ -0,0 +1,62 @@
+/**
+ * @file: Eliminacion.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:33:48 AM
+ */
+package edu.unc.eventos.domain;
+
+import edu.unc.eventos.events.TipoEntidad;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Registro de una entidad eliminada, que se conserva para que la sincronización incremental ({@code /api/sync})
+ * informe la eliminación a los clientes que ya tenían la entidad. Se guarda en la misma transacción que la elimina.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "eliminacion", indexes = @Index(name = "idx_eliminacion_fecha", columnList = "eliminado_en, id_eliminacion"))
+public class Eliminacion {
+    /**
+     * El campo 'idEliminacion' es el identificador del registro.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idEliminacion;
+
+    /**
+     * El campo 'tipo' es el tipo de la entidad eliminada.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoEntidad tipo;
+
+    /**
+     * El campo 'idEntidad' es el identificador de la entidad eliminada.
+     */
+    @Column(nullable = false)
+    private Long idEntidad;
+
+    /**
+     * El campo 'eliminadoEn' es el momento de la eliminación.
+     */
+    @Column(nullable = false)
+    private Instant eliminadoEn;
+
+    /**
+     * Constructor del registro.
+     *
+     * @param tipo        Tipo de la entidad eliminada.
+     * @param idEntidad   Identificador de la entidad eliminada.
+     * @param eliminadoEn Momento de la eliminación.
+     */
+    public Eliminacion(TipoEntidad tipo, Long idEntidad, Instant eliminadoEn) {
+        this.tipo = tipo;
+        this.idEntidad = idEntidad;
+        this.eliminadoEn = eliminadoEn;
+    }
+}
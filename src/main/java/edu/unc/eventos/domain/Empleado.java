@@ -8,6 +8,7 @@ package edu.unc.eventos.domain;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -16,8 +17,10 @@ import java.util.List;
  * Clase Empleado.
  */
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
-public class Empleado {
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_empleado_dni", columnNames = "dni"), indexes = @Index(name = "idx_empleado_actualizado", columnList = "actualizado_en, id_empleado"))
+public class Empleado implements ConMarcasTiempo {
     /**
      * El campo 'idEmpleado' es el identificador único del empleado.
      */
@@ -77,4 +80,15 @@ public class Empleado {
      */
     @OneToOne(mappedBy = "empleado")
     private Seguro seguro;
+
+    /**
+     * Momento en que se creó el empleado. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del empleado. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
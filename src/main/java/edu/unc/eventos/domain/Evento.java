@@ -8,14 +8,18 @@ package edu.unc.eventos.domain;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
+@Table(indexes = @Index(name = "idx_evento_actualizado", columnList = "actualizado_en, id_evento"))
 
-public class Evento {
+public class Evento implements ConMarcasTiempo {
     /**
      * El campo 'idEvento' es el identificador único del evento.
      */
@@ -45,9 +49,10 @@ public class Evento {
     private Integer duracion;
 
     /**
-     * El campo 'total' representa el precio total del evento.
+     * El campo 'total' representa el precio total del evento. Lo calcula {@code TarifaService}.
      */
-    private String total;
+    @Column(precision = 10, scale = 2)
+    private BigDecimal total;
 
     /**
      * Relación con Empleado: Representa el empleado asociado al evento.
@@ -88,4 +93,15 @@ public class Evento {
     @ManyToOne
     @JoinColumn(name = "id_local")
     private Local local;
+
+    /**
+     * Momento en que se creó el evento. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del evento. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
@@ -0,0 +1,125 @@
+/**
+ * @file: EventoVista.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:12:37 AM
+ */
+package edu.unc.eventos.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Fila de lectura de un evento: sus columnas, los nombres de su cliente, empleado, local y decoración, y el número
+ * de platos, en una sola tabla.
+ * <p>
+ * La mantiene {@code EventoVistaServiceImp} en la misma transacción en la que se guarda, actualiza o elimina cada
+ * evento, y cuando cambia el nombre de una entidad relacionada. Los listados la leen sin unir otras tablas.
+ */
+@Entity
+@Data
+@Table(name = "evento_view", indexes = {
+        @Index(name = "idx_evento_view_fecha", columnList = "fecha, id_evento"),
+        @Index(name = "idx_evento_view_cliente", columnList = "id_cliente, fecha"),
+        @Index(name = "idx_evento_view_empleado", columnList = "id_empleado, fecha"),
+        @Index(name = "idx_evento_view_local", columnList = "id_local, fecha"),
+        @Index(name = "idx_evento_view_decoracion", columnList = "id_decoracion, fecha")
+})
+public class EventoVista {
+    /**
+     * El campo 'idEvento' es el identificador del evento, el mismo de la tabla {@code evento}.
+     */
+    @Id
+    @Column(name = "id_evento")
+    private Long idEvento;
+
+    /**
+     * El campo 'nombre' es el nombre del evento.
+     */
+    private String nombre;
+
+    /**
+     * El campo 'numPersonas' es el número de personas esperadas.
+     */
+    @Column(name = "num_personas")
+    private Integer numPersonas;
+
+    /**
+     * El campo 'fecha' es la fecha del evento.
+     */
+    @Temporal(TemporalType.DATE)
+    private Date fecha;
+
+    /**
+     * El campo 'duracion' es la duración del evento en horas.
+     */
+    private Integer duracion;
+
+    /**
+     * El campo 'total' es el precio total del evento.
+     */
+    @Column(precision = 10, scale = 2)
+    private BigDecimal total;
+
+    /**
+     * El campo 'idCliente' es el identificador del cliente del evento.
+     */
+    @Column(name = "id_cliente")
+    private Long idCliente;
+
+    /**
+     * El campo 'clienteNombre' es el nombre del cliente.
+     */
+    @Column(name = "cliente_nombre")
+    private String clienteNombre;
+
+    /**
+     * El campo 'idEmpleado' es el identificador del empleado a cargo del evento.
+     */
+    @Column(name = "id_empleado")
+    private Long idEmpleado;
+
+    /**
+     * El campo 'empleadoNombres' son los nombres del empleado.
+     */
+    @Column(name = "empleado_nombres")
+    private String empleadoNombres;
+
+    /**
+     * El campo 'empleadoApellidos' son los apellidos del empleado.
+     */
+    @Column(name = "empleado_apellidos")
+    private String empleadoApellidos;
+
+    /**
+     * El campo 'idLocal' es el identificador del local del evento.
+     */
+    @Column(name = "id_local")
+    private Long idLocal;
+
+    /**
+     * El campo 'localNombre' es el nombre del local.
+     */
+    @Column(name = "local_nombre")
+    private String localNombre;
+
+    /**
+     * El campo 'idDecoracion' es el identificador de la decoración del evento.
+     */
+    @Column(name = "id_decoracion")
+    private Long idDecoracion;
+
+    /**
+     * El campo 'decoracionDescripcion' es la descripción de la decoración.
+     */
+    @Column(name = "decoracion_descripcion")
+    private String decoracionDescripcion;
+
+    /**
+     * El campo 'numPlatos' es el número de platos del evento.
+     */
+    @Column(name = "num_platos", nullable = false)
+    private Integer numPlatos;
+}
@@ -12,13 +12,19 @@ package edu.unc.eventos.domain;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_local_nombre", columnNames = "nombre"),
+        @UniqueConstraint(name = "uk_local_ubicacion", columnNames = "ubicacion")
+}, indexes = @Index(name = "idx_local_actualizado", columnList = "actualizado_en, id_local"))
 
-public class Local {
+public class Local implements ConMarcasTiempo {
     /**
      * El campo 'idLocal' corresponde al identificador único del local en el sistema.
      */
@@ -52,4 +58,15 @@ public class Local {
      */
     @OneToMany(mappedBy = "local")
     private List<Evento> eventos = new ArrayList<>();
+
+    /**
+     * Momento en que se creó el local. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del local. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
@@ -0,0 +1,33 @@
+/**
+ * @file: MarcasTiempoListener.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:24:13 AM
+ */
+package edu.unc.eventos.domain;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Asigna las marcas de tiempo de las entidades {@link ConMarcasTiempo} en el mismo {@code INSERT} o {@code UPDATE}
+ * que las guarda, sin consultas adicionales.
+ * <p>
+ * Las marcas se truncan a microsegundos, la precisión de las columnas, para que el valor en memoria sea el mismo que
+ * se lee después de la base de datos.
+ */
+public class MarcasTiempoListener {
+    @PrePersist
+    void alCrear(ConMarcasTiempo entidad) {
+        Instant ahora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        entidad.setCreadoEn(ahora);
+        entidad.setActualizadoEn(ahora);
+    }
+
+    @PreUpdate
+    void alActualizar(ConMarcasTiempo entidad) {
+        entidad.setActualizadoEn(Instant.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
@@ -12,13 +12,18 @@ package edu.unc.eventos.domain;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_plato_nombre", columnNames = "nombre"),
+        indexes = @Index(name = "idx_plato_actualizado", columnList = "actualizado_en, id_plato"))
 
-public class Plato {
+public class Plato implements ConMarcasTiempo {
     /**
      * El campo 'idPlato' corresponde al identificador único del plato en el sistema.
      */
@@ -41,9 +46,26 @@ public class Plato {
      */
     private String tipo;
 
+    /**
+     * El campo 'precio' representa el costo del plato por persona.
+     */
+    @Column(precision = 8, scale = 2)
+    private BigDecimal precio;
+
     /**
      * El campo 'eventos' es una lista de todos los eventos en los que se puede servir este plato.
      */
     @ManyToMany(mappedBy = "platos")
     private List<Evento> eventos = new ArrayList<>();
+
+    /**
+     * Momento en que se creó el plato. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del plato. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
@@ -0,0 +1,67 @@
+/**
+ * @file: ResumenClientePeriodo.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:22:07 PM
+ */
+package edu.unc.eventos.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Contadores persistidos de un cliente en un periodo: número de eventos y gasto total.
+ * <p>
+ * El periodo {@code 0} acumula todos los eventos del cliente; los trimestres se guardan como {@code aaaat}, por
+ * ejemplo {@code 20271} para el primer trimestre de 2027. Los mantiene {@code ReporteServiceImp} en la misma
+ * transacción que modifica cada evento y sirven de base a la clasificación de mejores clientes.
+ */
+@Entity
+@Data
+@IdClass(ResumenClientePeriodo.Clave.class)
+@Table(name = "resumen_cliente_periodo", indexes = {
+        @Index(name = "idx_resumen_cliente_eventos", columnList = "periodo, eventos"),
+        @Index(name = "idx_resumen_cliente_gasto", columnList = "periodo, gasto")
+})
+public class ResumenClientePeriodo {
+    /**
+     * Periodo que acumula todos los eventos del cliente.
+     */
+    public static final int TOTAL = 0;
+
+    /**
+     * El campo 'idCliente' es el identificador del cliente.
+     */
+    @Id
+    @Column(name = "id_cliente")
+    private Long idCliente;
+
+    /**
+     * El campo 'periodo' es {@code 0} para el total o el trimestre con el formato {@code aaaat}.
+     */
+    @Id
+    private Integer periodo;
+
+    /**
+     * El campo 'eventos' es el número de eventos del cliente en el periodo.
+     */
+    @Column(nullable = false)
+    private Long eventos;
+
+    /**
+     * El campo 'gasto' es la suma del total de los eventos del cliente en el periodo.
+     */
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal gasto;
+
+    /**
+     * Clave compuesta: cliente y periodo.
+     */
+    @Data
+    public static class Clave implements Serializable {
+        private Long idCliente;
+        private Integer periodo;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * @file: ResumenLocalMes.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:21:44 PM
+ */
+package edu.unc.eventos.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Resumen materializado de los eventos de un local en un mes: ingresos y días reservados.
+ * <p>
+ * Lo mantiene {@code ReporteServiceImp} en la misma transacción en la que se guarda, actualiza o elimina cada evento.
+ * Como solo puede haber un evento por local y día, cada evento cuenta como un día reservado.
+ */
+@Entity
+@Data
+@IdClass(ResumenLocalMes.Clave.class)
+@Table(name = "resumen_local_mes", indexes = @Index(name = "idx_resumen_periodo", columnList = "periodo"))
+public class ResumenLocalMes {
+    /**
+     * El campo 'idLocal' es el identificador del local resumido.
+     */
+    @Id
+    @Column(name = "id_local")
+    private Long idLocal;
+
+    /**
+     * El campo 'periodo' es el mes resumido con el formato {@code aaaamm}, por ejemplo {@code 202610}.
+     */
+    @Id
+    private Integer periodo;
+
+    /**
+     * El campo 'ingresos' es la suma del total de los eventos del mes.
+     */
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal ingresos;
+
+    /**
+     * El campo 'diasReservados' es el número de días del mes con un evento en el local.
+     */
+    @Column(name = "dias_reservados", nullable = false)
+    private Integer diasReservados;
+
+    /**
+     * Clave compuesta del resumen: local y periodo.
+     */
+    @Data
+    public static class Clave implements Serializable {
+        private Long idLocal;
+        private Integer periodo;
+    }
+}
@@ -11,13 +11,17 @@ import jakarta.persistence.*;
 
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.Date;
 
 
 @Entity
+@EntityListeners(MarcasTiempoListener.class)
 @Data
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_seguro_codigo", columnNames = "codigo"),
+        indexes = @Index(name = "idx_seguro_actualizado", columnList = "actualizado_en, id_seguro"))
 
-public class Seguro {
+public class Seguro implements ConMarcasTiempo {
     /**
      * El campo 'idSeguro' es el identificador único del seguro.
      */
@@ -42,4 +46,15 @@ public class Seguro {
     @OneToOne
     @JoinColumn(name = "id_empleado")
     private Empleado empleado;
+
+    /**
+     * Momento en que se creó el seguro. Lo asigna {@link MarcasTiempoListener}.
+     */
+    @Column(updatable = false)
+    private Instant creadoEn;
+
+    /**
+     * Momento de la última modificación del seguro. Lo asigna {@link MarcasTiempoListener}.
+     */
+    private Instant actualizadoEn;
 }
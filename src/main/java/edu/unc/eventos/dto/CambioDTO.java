@@ -0,0 +1,41 @@
+/**
+ * @file: CambioDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 01:12:44 AM
+ */
+package edu.unc.eventos.dto;
+
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * Aviso de un cambio confirmado en una entidad, tal como se envía a los suscriptores de {@code /api/cambios}.
+ * Solo identifica la entidad; quien lo recibe la vuelve a leer si necesita sus datos.
+ */
+@Data
+@AllArgsConstructor
+public class CambioDTO {
+    /**
+     * Tipo de la entidad modificada.
+     */
+    private TipoEntidad tipo;
+
+    /**
+     * Identificador de la entidad modificada.
+     */
+    private Long id;
+
+    /**
+     * Operación realizada.
+     */
+    private TipoCambio cambio;
+
+    /**
+     * Momento en que se confirmó el cambio.
+     */
+    private Date fecha;
+}
@@ -0,0 +1,29 @@
+/**
+ * @file: CatalogoDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:48:21 AM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Instantánea de los catálogos que utiliza el front-end al iniciar: platos, decoraciones y locales.
+ * <p>
+ * Las listas no incluyen los eventos asociados a cada elemento.
+ */
+@Data
+public class CatalogoDTO {
+    /**
+     * Versión de la instantánea; aumenta cada vez que cambia algún catálogo.
+     */
+    private long version;
+
+    private List<PlatoDTO> platos;
+
+    private List<DecoracionDTO> decoraciones;
+
+    private List<LocalDTO> locales;
+}
@@ -0,0 +1,42 @@
+/**
+ * @file: CatalogoDeltaDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:51:09 AM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cambios de los catálogos entre la versión que tiene el cliente y la versión actual.
+ * <p>
+ * Las listas contienen los elementos creados o modificados; las listas de eliminados contienen los identificadores
+ * de los elementos que ya no existen.
+ */
+@Data
+public class CatalogoDeltaDTO {
+    /**
+     * Versión que tenía el cliente.
+     */
+    private long desdeVersion;
+
+    /**
+     * Versión actual del catálogo.
+     */
+    private long version;
+
+    private List<PlatoDTO> platos = new ArrayList<>();
+
+    private List<DecoracionDTO> decoraciones = new ArrayList<>();
+
+    private List<LocalDTO> locales = new ArrayList<>();
+
+    private List<Long> platosEliminados = new ArrayList<>();
+
+    private List<Long> decoracionesEliminadas = new ArrayList<>();
+
+    private List<Long> localesEliminados = new ArrayList<>();
+}
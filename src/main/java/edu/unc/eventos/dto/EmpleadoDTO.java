@@ -110,4 +110,15 @@ public class EmpleadoDTO {
      */
     private SeguroDTO seguro;
 
+    /**
+     * Crea un empleado que solo tiene el identificador, para las relaciones que se serializan como id.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return El empleado con solo el identificador.
+     */
+    public static EmpleadoDTO referencia(Long idEmpleado) {
+        EmpleadoDTO empleado = new EmpleadoDTO();
+        empleado.setIdEmpleado(idEmpleado);
+        return empleado;
+    }
 }
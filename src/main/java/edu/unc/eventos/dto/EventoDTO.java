@@ -68,12 +68,9 @@ public class EventoDTO {
 
     /**
      * El campo total representa el precio total del evento.
-     * Debe estar entre 3000.00 y 20000.00, con un máximo de 5 dígitos y 2 decimales.
+     * Lo calcula el servidor a partir de la decoración, los platos y el número de personas; el valor enviado se ignora.
      */
-    @NotNull(message = "El precio no puede estar vacío")
-    @DecimalMin(value = "3000.00", message = "El precio mínimo debe ser mayor que 3,000")
-    @DecimalMax(value = "20000.00", message = "El precio máximo debe ser menor que 20,000")
-    @Digits(integer = 5, fraction = 2, message = "El precio debe tener un máximo de 5 dígitos, con 2 decimales")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private BigDecimal total;
 
     /**
@@ -109,4 +106,16 @@ public class EventoDTO {
      * Relación con Local: Representa el local asociado al evento.
      */
     private LocalDTO local;
+
+    /**
+     * Crea un evento que solo tiene el identificador, para las relaciones que se serializan como id.
+     *
+     * @param idEvento Identificador del evento.
+     * @return El evento con solo el identificador.
+     */
+    public static EventoDTO referencia(Long idEvento) {
+        EventoDTO evento = new EventoDTO();
+        evento.setIdEvento(idEvento);
+        return evento;
+    }
 }
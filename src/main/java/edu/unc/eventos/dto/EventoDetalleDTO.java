@@ -0,0 +1,87 @@
+/**
+ * @file: EventoDetalleDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:14:36 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Vista de lectura de un evento con todo lo necesario para mostrarlo: cliente, empleado, local, decoración y platos.
+ * <p>
+ * Se llena directamente con columnas de la base de datos, sin cargar entidades; las relaciones solo incluyen los
+ * datos que se muestran y son {@code null} cuando el evento no las tiene.
+ */
+@Data
+public class EventoDetalleDTO {
+    private Long idEvento;
+    private String nombre;
+    private Integer numPersonas;
+    private Date fecha;
+    private Integer duracion;
+    private BigDecimal total;
+    private ResumenCliente cliente;
+    private ResumenEmpleado empleado;
+    private ResumenLocal local;
+    private ResumenDecoracion decoracion;
+    private List<ResumenPlato> platos = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumenCliente {
+        private Long idCliente;
+        private String nombre;
+        private String di;
+        private String telefono;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumenEmpleado {
+        private Long idEmpleado;
+        private String nombres;
+        private String apellidos;
+        private String telefono;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumenLocal {
+        private Long idLocal;
+        private String nombre;
+        private String ubicacion;
+        private String referencia;
+        private Integer aforo;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumenDecoracion {
+        private Long idDecoracion;
+        private String descripcion;
+        private String color;
+        private Double precio;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumenPlato {
+        private Long idPlato;
+        private String nombre;
+        private String tipo;
+        private BigDecimal precio;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * @file: EventoNormalizadoDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:41:27 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Evento en la forma normalizada de las listas: sus relaciones son identificadores y las entidades relacionadas se
+ * envían una sola vez en la sección {@code included} de la respuesta.
+ */
+@Data
+public class EventoNormalizadoDTO {
+    private Long idEvento;
+    private String nombre;
+    private Integer numPersonas;
+    private Date fecha;
+    private Integer duracion;
+    private BigDecimal total;
+
+    /**
+     * Identificador del empleado a cargo, o null si no tiene.
+     */
+    private Long empleado;
+
+    /**
+     * Identificador del cliente, o null si no tiene.
+     */
+    private Long cliente;
+
+    /**
+     * Identificador del local, o null si no tiene.
+     */
+    private Long local;
+
+    /**
+     * Identificador de la decoración, o null si no tiene.
+     */
+    private Long decoracion;
+
+    /**
+     * Identificadores de los platos del evento.
+     */
+    private List<Long> platos = new ArrayList<>();
+}
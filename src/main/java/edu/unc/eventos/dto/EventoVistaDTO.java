@@ -0,0 +1,39 @@
+/**
+ * @file: EventoVistaDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:26:03 AM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Evento en forma plana para los listados: sus columnas, los identificadores y nombres de sus relaciones y el número
+ * de platos. Se lee de la tabla {@code evento_view}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoVistaDTO {
+    private Long idEvento;
+    private String nombre;
+    private Integer numPersonas;
+    private Date fecha;
+    private Integer duracion;
+    private BigDecimal total;
+    private Long idCliente;
+    private String clienteNombre;
+    private Long idEmpleado;
+    private String empleadoNombres;
+    private String empleadoApellidos;
+    private Long idLocal;
+    private String localNombre;
+    private Long idDecoracion;
+    private String decoracionDescripcion;
+    private Integer numPlatos;
+}
@@ -0,0 +1,21 @@
+/**
+ * @file: EventosNormalizadosDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:44:15 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Lista de eventos en forma normalizada junto con las entidades que referencian.
+ */
+@Data
+@AllArgsConstructor
+public class EventosNormalizadosDTO {
+    private List<EventoNormalizadoDTO> eventos;
+    private IncluidosDTO incluidos;
+}
@@ -0,0 +1,24 @@
+/**
+ * @file: IncluidosDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:43:02 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entidades relacionadas de una respuesta normalizada. Cada entidad aparece una sola vez, aunque la referencien
+ * varios elementos, con el mismo resumen que el detalle de un evento.
+ */
+@Data
+public class IncluidosDTO {
+    private List<EventoDetalleDTO.ResumenCliente> clientes = new ArrayList<>();
+    private List<EventoDetalleDTO.ResumenEmpleado> empleados = new ArrayList<>();
+    private List<EventoDetalleDTO.ResumenLocal> locales = new ArrayList<>();
+    private List<EventoDetalleDTO.ResumenDecoracion> decoraciones = new ArrayList<>();
+    private List<EventoDetalleDTO.ResumenPlato> platos = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+/**
+ * @file: LoteDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:36:30 AM
+ */
+package edu.unc.eventos.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lote de peticiones a la API que se ejecutan en una sola llamada ({@code POST /api/batch}).
+ */
+@Data
+public class LoteDTO {
+    /**
+     * Peticiones del lote, en orden. Las lecturas seguidas se ejecutan en paralelo; cada escritura espera a las
+     * peticiones anteriores y las siguientes esperan a que termine.
+     */
+    @NotEmpty(message = "El lote debe tener al menos una petición.")
+    private List<@Valid PeticionLoteDTO> peticiones = new ArrayList<>();
+}
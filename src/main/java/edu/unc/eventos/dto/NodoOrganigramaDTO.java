@@ -0,0 +1,30 @@
+/**
+ * @file: NodoOrganigramaDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:45:30 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Empleado dentro de la jerarquía de supervisión de otro empleado.
+ */
+@Data
+@AllArgsConstructor
+public class NodoOrganigramaDTO {
+    private Long idEmpleado;
+
+    /**
+     * Nombres y apellidos del empleado.
+     */
+    private String nombre;
+
+    private Long idSupervisor;
+
+    /**
+     * Distancia al empleado consultado: 1 para los subordinados o el supervisor directos.
+     */
+    private int nivel;
+}
@@ -0,0 +1,46 @@
+/**
+ * @file: PeticionLoteDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:34:52 AM
+ */
+package edu.unc.eventos.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Petición de un lote ({@code POST /api/batch}).
+ */
+@Data
+public class PeticionLoteDTO {
+    /**
+     * Identificador con el que se devuelve la respuesta; si no se indica, se usa la posición en el lote.
+     */
+    private String id;
+
+    /**
+     * Método HTTP: {@code GET}, {@code POST}, {@code PUT}, {@code PATCH} o {@code DELETE}.
+     */
+    @NotBlank(message = "El método no puede estar vacío.")
+    private String metodo;
+
+    /**
+     * Ruta de la API con sus parámetros, por ejemplo {@code /api/platos?ids=1,2}.
+     */
+    @NotBlank(message = "La URL no puede estar vacía.")
+    private String url;
+
+    /**
+     * Encabezados propios de la petición; se agregan a los del lote.
+     */
+    private Map<String, String> encabezados = new LinkedHashMap<>();
+
+    /**
+     * Cuerpo JSON de la petición.
+     */
+    private JsonNode cuerpo;
+}
@@ -8,11 +8,14 @@ package edu.unc.eventos.dto;
 
 import com.fasterxml.jackson.annotation.*;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +51,13 @@ public class PlatoDTO {
     @Size(min = 5, max = 15, message = "La tipo del plato debe tener entre 5 a 15 caracteres.")
     private String tipo;
 
+    /** Precio del plato por persona.
+     * Se usa para calcular el total de los eventos. Si no se indica, el plato no suma al total.
+     */
+    @DecimalMin(value = "0.00", message = "El precio no puede ser negativo")
+    @Digits(integer = 6, fraction = 2, message = "El precio debe tener un máximo de 6 dígitos, con 2 decimales")
+    private BigDecimal precio;
+
     /**
      * El campo 'eventos' es una lista de todos los eventos en los que se puede servir este plato.
      */
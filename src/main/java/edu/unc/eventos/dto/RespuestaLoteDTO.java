@@ -0,0 +1,39 @@
+/**
+ * @file: RespuestaLoteDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:38:05 AM
+ */
+package edu.unc.eventos.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Respuesta de una petición de un lote.
+ */
+@Data
+@AllArgsConstructor
+public class RespuestaLoteDTO {
+    /**
+     * Identificador de la petición.
+     */
+    private String id;
+
+    /**
+     * Estado HTTP de la respuesta.
+     */
+    private int estado;
+
+    /**
+     * Encabezados de la respuesta.
+     */
+    private Map<String, String> encabezados;
+
+    /**
+     * Cuerpo de la respuesta: el JSON tal cual, un texto si no es JSON o {@code null} si no hay cuerpo.
+     */
+    private JsonNode cuerpo;
+}
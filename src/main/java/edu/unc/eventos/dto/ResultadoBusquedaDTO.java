@@ -0,0 +1,33 @@
+/**
+ * @file: ResultadoBusquedaDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:38:44 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Resultado de la búsqueda en los catálogos de platos, decoraciones y locales.
+ */
+@Data
+@AllArgsConstructor
+public class ResultadoBusquedaDTO {
+    /**
+     * Catálogo al que pertenece el resultado: {@code plato}, {@code decoracion} o {@code local}.
+     */
+    private String tipo;
+
+    private Long id;
+
+    /**
+     * Nombre del plato o local, o descripción de la decoración.
+     */
+    private String titulo;
+
+    /**
+     * Relevancia del resultado; solo sirve para comparar resultados de una misma consulta.
+     */
+    private double puntaje;
+}
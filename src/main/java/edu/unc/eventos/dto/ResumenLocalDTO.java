@@ -0,0 +1,43 @@
+/**
+ * @file: ResumenLocalDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:34:52 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Ingresos y ocupación de un local en un mes o en un rango de meses.
+ */
+@Data
+public class ResumenLocalDTO {
+    private Long idLocal;
+
+    /**
+     * Mes ({@code aaaa-mm}) o rango de meses ({@code aaaa-mm/aaaa-mm}) resumido.
+     */
+    private String periodo;
+
+    /**
+     * Suma del total de los eventos del periodo.
+     */
+    private BigDecimal ingresos;
+
+    /**
+     * Días con un evento en el local.
+     */
+    private int diasReservados;
+
+    /**
+     * Días del periodo.
+     */
+    private int diasPeriodo;
+
+    /**
+     * Fracción de días reservados, entre 0 y 1.
+     */
+    private BigDecimal ocupacion;
+}
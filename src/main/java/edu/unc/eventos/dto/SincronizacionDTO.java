@@ -0,0 +1,76 @@
+/**
+ * @file: SincronizacionDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:52:31 AM
+ */
+package edu.unc.eventos.dto;
+
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de la sincronización incremental: los cambios de todos los recursos después de una marca, en orden.
+ */
+@Data
+@AllArgsConstructor
+public class SincronizacionDTO {
+    /**
+     * Cambios de la página, ordenados por momento.
+     */
+    private List<Cambio> cambios;
+
+    /**
+     * Marca que se envía en {@code since} para pedir los cambios siguientes.
+     */
+    private String siguiente;
+
+    /**
+     * Indica si no quedan más cambios por ahora; si es {@code false}, se debe pedir la página siguiente.
+     */
+    private boolean completo;
+
+    /**
+     * Indica que la marca recibida es anterior al historial de eliminaciones: el cliente debe descartar sus datos,
+     * porque la página empieza desde cero.
+     */
+    private boolean reinicio;
+
+    /**
+     * Cambio de una entidad.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Cambio {
+        /**
+         * Tipo de la entidad.
+         */
+        private TipoEntidad tipo;
+
+        /**
+         * Identificador de la entidad.
+         */
+        private Long id;
+
+        /**
+         * {@code CREACION} y {@code ACTUALIZACION} se aplican igual (insertar o reemplazar); {@code ELIMINACION}
+         * no lleva datos.
+         */
+        private TipoCambio cambio;
+
+        /**
+         * Momento del cambio.
+         */
+        private Instant fecha;
+
+        /**
+         * Campos de la entidad, con los mismos nombres que en {@code ?fields=}; {@code null} en las eliminaciones.
+         */
+        private Map<String, Object> datos;
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * @file: SugerenciaDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:21:17 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Sugerencia de autocompletado de un cliente o empleado.
+ */
+@Data
+@AllArgsConstructor
+public class SugerenciaDTO {
+    private Long id;
+
+    /**
+     * Nombre completo de la persona.
+     */
+    private String nombre;
+
+    /**
+     * Documento de identidad, para distinguir a personas con el mismo nombre.
+     */
+    private String documento;
+}
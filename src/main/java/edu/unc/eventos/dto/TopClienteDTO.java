@@ -0,0 +1,35 @@
+/**
+ * @file: TopClienteDTO.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:40:12 PM
+ */
+package edu.unc.eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Posición de un cliente en la clasificación de mejores clientes de un periodo.
+ */
+@Data
+@AllArgsConstructor
+public class TopClienteDTO {
+    /**
+     * Posición en la clasificación, empezando en 1.
+     */
+    private int posicion;
+
+    private Long idCliente;
+
+    /**
+     * Número de eventos del cliente en el periodo.
+     */
+    private long eventos;
+
+    /**
+     * Gasto del cliente en el periodo.
+     */
+    private BigDecimal gasto;
+}
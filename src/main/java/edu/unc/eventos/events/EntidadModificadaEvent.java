@@ -0,0 +1,49 @@
+/**
+ * @file: EntidadModificadaEvent.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:35:40 AM
+ */
+package edu.unc.eventos.events;
+
+import lombok.Getter;
+
+/**
+ * Evento de aplicación que publican los servicios cuando crean, actualizan o eliminan una entidad.
+ * <p>
+ * Los oyentes que necesitan datos confirmados deben usar {@code @TransactionalEventListener}, de modo que reaccionen
+ * después del commit de la transacción que originó el cambio.
+ */
+@Getter
+public class EntidadModificadaEvent {
+    /**
+     * Tipo de la entidad modificada.
+     */
+    private final TipoEntidad tipo;
+    /**
+     * Identificador de la entidad modificada.
+     */
+    private final Long id;
+    /**
+     * Operación realizada.
+     */
+    private final TipoCambio cambio;
+    /**
+     * Estado de la entidad luego del cambio; {@code null} en las eliminaciones.
+     */
+    private final Object entidad;
+
+    /**
+     * Constructor del evento.
+     *
+     * @param tipo    Tipo de la entidad modificada.
+     * @param id      Identificador de la entidad.
+     * @param cambio  Operación realizada.
+     * @param entidad Estado de la entidad luego del cambio.
+     */
+    public EntidadModificadaEvent(TipoEntidad tipo, Long id, TipoCambio cambio, Object entidad) {
+        this.tipo = tipo;
+        this.id = id;
+        this.cambio = cambio;
+        this.entidad = entidad;
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * @file: ResumenClienteEvent.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:31:18 PM
+ */
+package edu.unc.eventos.events;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Evento de aplicación que se publica cuando cambian los contadores de eventos y gasto de un cliente.
+ * <p>
+ * Solo indica qué contadores cambiaron; los oyentes leen los valores confirmados después del commit.
+ */
+@Getter
+public class ResumenClienteEvent {
+    /**
+     * Identificador del cliente.
+     */
+    private final Long idCliente;
+    /**
+     * Periodos cuyos contadores cambiaron.
+     */
+    private final List<Integer> periodos;
+
+    /**
+     * Constructor del evento.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param periodos  Periodos cuyos contadores cambiaron.
+     */
+    public ResumenClienteEvent(Long idCliente, List<Integer> periodos) {
+        this.idCliente = idCliente;
+        this.periodos = periodos;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * @file: TipoCambio.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:33:02 AM
+ */
+package edu.unc.eventos.events;
+
+/**
+ * Operación que modificó una entidad.
+ */
+public enum TipoCambio {
+    CREACION,
+    ACTUALIZACION,
+    ELIMINACION
+}
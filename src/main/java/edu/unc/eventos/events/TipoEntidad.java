@@ -0,0 +1,19 @@
+/**
+ * @file: TipoEntidad.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:32:14 AM
+ */
+package edu.unc.eventos.events;
+
+/**
+ * Tipos de entidad del dominio que publican eventos de modificación.
+ */
+public enum TipoEntidad {
+    PLATO,
+    DECORACION,
+    LOCAL,
+    CLIENTE,
+    EMPLEADO,
+    EVENTO,
+    SEGURO
+}
@@ -1,14 +1,18 @@
 package edu.unc.eventos.exception;
 
 import feign.FeignException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+
 /**
  * Gestiona las excepciones globales, permite controlar y personalizar las respuestas de errores en la aplicación.
  */
@@ -54,6 +58,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(message, HttpStatus.valueOf(e.status()));
     }
 
+    /**
+     * Maneja los errores de escritura en un flujo de eventos ({@code text/event-stream}), que se producen cuando el
+     * suscriptor se desconecta. La respuesta ya no se puede escribir, así que no se responde nada.
+     *
+     * @param ex       la excepción lanzada.
+     * @param request  la solicitud web asociada.
+     * @param response la respuesta HTTP.
+     * @return {@code null} en un flujo de eventos; en otro caso, la misma respuesta que cualquier excepción.
+     */
+    @ExceptionHandler(IOException.class)
+    public ResponseEntity<ErrorMessage> ioExceptionHandler(IOException ex, WebRequest request, HttpServletResponse response) {
+        String tipo = response.getContentType();
+        if (tipo != null && tipo.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            logger.debug("Suscriptor desconectado: {}", ex.getMessage());
+            return null;
+        }
+        return globalExceptionHandler(ex, request);
+    }
+
     /**
      * Maneja cualquier excepción no específica.
      *
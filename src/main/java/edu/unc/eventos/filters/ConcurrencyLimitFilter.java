@@ -0,0 +1,82 @@
+/**
+ * @file: ConcurrencyLimitFilter.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 02:24:51 PM
+ */
+package edu.unc.eventos.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.exception.ErrorMessage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtro que limita las solicitudes concurrentes con un {@link LimitadorAdaptativo} para lecturas
+ * ({@code GET}, {@code HEAD}, {@code OPTIONS}) y otro para escrituras.
+ * <p>
+ * Cuando la base de datos se vuelve lenta la latencia sube, el límite baja y el exceso se rechaza de inmediato con
+ * 503, en lugar de acumular hilos de Tomcat esperando conexiones. Las solicitudes asíncronas liberan su permiso al
+ * iniciar el procesamiento asíncrono y no aportan muestras de latencia.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final LimitadorAdaptativo lecturas;
+    private final LimitadorAdaptativo escrituras;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor del filtro.
+     *
+     * @param lecturas     Limitador de las solicitudes de lectura.
+     * @param escrituras   Limitador de las solicitudes de escritura.
+     * @param objectMapper Serializador de los mensajes de error.
+     */
+    public ConcurrencyLimitFilter(LimitadorAdaptativo lecturas, LimitadorAdaptativo escrituras, ObjectMapper objectMapper) {
+        this.lecturas = lecturas;
+        this.escrituras = escrituras;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Devuelve el limitador que corresponde a un método HTTP.
+     *
+     * @param metodo Método HTTP de la solicitud.
+     * @return el limitador de lecturas o el de escrituras.
+     */
+    public LimitadorAdaptativo limitador(String metodo) {
+        return "GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo) ? lecturas : escrituras;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LimitadorAdaptativo limitador = limitador(request.getMethod());
+        if (!limitador.adquirir()) {
+            rechazar(request, response);
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limitador.liberar(request.isAsyncStarted() ? -1 : System.nanoTime() - inicio);
+        }
+    }
+
+    private void rechazar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(HttpStatus.SERVICE_UNAVAILABLE,
+                "El servicio está saturado. Vuelva a intentarlo en unos segundos.", "uri=" + request.getRequestURI()));
+    }
+}
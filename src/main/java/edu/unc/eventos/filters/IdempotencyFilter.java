@@ -0,0 +1,298 @@
+/**
+ * @file: IdempotencyFilter.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 01:15:52 PM
+ */
+package edu.unc.eventos.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.exception.ErrorMessage;
+import edu.unc.eventos.idempotency.IdempotencyStore;
+import edu.unc.eventos.idempotency.RespuestaIdempotente;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro que hace idempotentes las solicitudes {@code POST} y {@code PATCH} que incluyen el encabezado
+ * {@code Idempotency-Key}, como {@code POST /api/eventos}, {@code POST /api/clientes} o
+ * {@code PATCH /api/eventos/{id}/addPlato}.
+ * <p>
+ * La primera solicitud con una clave se ejecuta y su respuesta se guarda en el {@link IdempotencyStore}; los
+ * reintentos con la misma clave reciben la misma respuesta con el encabezado {@code Idempotent-Replayed: true} sin
+ * volver a ejecutarse. Si el reintento llega mientras la primera solicitud sigue en proceso en este nodo, espera su
+ * resultado; si está en proceso en otro nodo, recibe 409. Las respuestas con estado 5xx no se guardan, para que el
+ * cliente pueda reintentar.
+ * <p>
+ * Cada clave queda ligada a la huella (SHA-256) del método, la ruta, los parámetros y el cuerpo de la solicitud que
+ * la usó primero: reutilizarla con otra solicitud responde 422 en lugar de repetir una respuesta que no le
+ * corresponde. La reserva dura {@code reserva}, del orden del tiempo de una solicitud, y solo la respuesta completada
+ * se conserva durante {@code ttl}; así una solicitud interrumpida no bloquea la clave.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String ENCABEZADO = "Idempotency-Key";
+    private static final int LONGITUD_MAXIMA_CLAVE = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration reserva;
+    private final Duration espera;
+    private final ConcurrentHashMap<String, CompletableFuture<RespuestaIdempotente>> enCurso = new ConcurrentHashMap<>();
+
+    private final Counter nuevas;
+    private final Counter repetidas;
+    private final Counter esperas;
+    private final Counter conflictos;
+    private final Counter reutilizadas;
+
+    /**
+     * Constructor del filtro.
+     *
+     * @param store        Almacén de claves de idempotencia.
+     * @param objectMapper Serializador de los mensajes de error.
+     * @param registry     Registro de métricas.
+     * @param ttl          Tiempo durante el que se conserva la respuesta de una clave.
+     * @param reserva      Tiempo durante el que se mantiene reservada una clave cuya solicitud no terminó.
+     * @param espera       Tiempo máximo que un duplicado espera a la solicitud en curso.
+     */
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry registry,
+                             Duration ttl, Duration reserva, Duration espera) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.reserva = reserva;
+        this.espera = espera;
+        this.nuevas = Counter.builder("eventos.idempotencia").tag("resultado", "nueva").register(registry);
+        this.repetidas = Counter.builder("eventos.idempotencia").tag("resultado", "repetida").register(registry);
+        this.esperas = Counter.builder("eventos.idempotencia").tag("resultado", "espera").register(registry);
+        this.conflictos = Counter.builder("eventos.idempotencia").tag("resultado", "conflicto").register(registry);
+        this.reutilizadas = Counter.builder("eventos.idempotencia").tag("resultado", "reutilizada").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String metodo = request.getMethod();
+        return request.getHeader(ENCABEZADO) == null || !("POST".equals(metodo) || "PATCH".equals(metodo));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String valor = request.getHeader(ENCABEZADO);
+        if (valor.isBlank() || valor.length() > LONGITUD_MAXIMA_CLAVE) {
+            escribirError(request, response, HttpStatus.BAD_REQUEST,
+                    "El encabezado " + ENCABEZADO + " debe tener entre 1 y " + LONGITUD_MAXIMA_CLAVE + " caracteres.");
+            return;
+        }
+        byte[] cuerpo = request.getInputStream().readAllBytes();
+        HttpServletRequest leida = new CuerpoLeido(request, cuerpo);
+        String clave = resumen(valor.getBytes(StandardCharsets.UTF_8));
+        String huella = huella(request, cuerpo);
+
+        CompletableFuture<RespuestaIdempotente> propia = new CompletableFuture<>();
+        CompletableFuture<RespuestaIdempotente> existente = enCurso.putIfAbsent(clave, propia);
+        if (existente != null) {
+            esperar(existente, huella, request, response);
+            return;
+        }
+
+        RespuestaIdempotente resultado = null;
+        try {
+            RespuestaIdempotente guardada = store.buscar(clave);
+            if (guardada != null) {
+                if (!huella.equals(guardada.getHuella())) {
+                    rechazarReutilizada(request, response);
+                    return;
+                }
+                repetidas.increment();
+                resultado = guardada;
+                repetir(guardada, response);
+                return;
+            }
+            if (!store.reservar(clave, huella, reserva)) {
+                String otra = store.buscarHuella(clave);
+                if (otra != null && !otra.equals(huella)) {
+                    rechazarReutilizada(request, response);
+                    return;
+                }
+                conflictos.increment();
+                escribirError(request, response, HttpStatus.CONFLICT,
+                        "Una solicitud con la misma clave de idempotencia está en proceso.");
+                return;
+            }
+
+            nuevas.increment();
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            boolean guardar = false;
+            try {
+                chain.doFilter(leida, wrapper);
+                if (wrapper.getStatus() < 500 && !request.isAsyncStarted()) {
+                    resultado = new RespuestaIdempotente(wrapper.getStatus(), wrapper.getContentType(),
+                            wrapper.getContentAsByteArray(), huella);
+                    store.completar(clave, resultado, ttl);
+                    guardar = true;
+                }
+            } finally {
+                if (!guardar) {
+                    store.liberar(clave);
+                }
+                wrapper.copyBodyToResponse();
+            }
+        } finally {
+            enCurso.remove(clave, propia);
+            propia.complete(resultado);
+        }
+    }
+
+    /**
+     * Espera el resultado de la solicitud en curso con la misma clave y lo repite.
+     */
+    private void esperar(CompletableFuture<RespuestaIdempotente> enProceso, String huella, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        RespuestaIdempotente resultado;
+        try {
+            resultado = enProceso.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultado = null;
+        } catch (ExecutionException | TimeoutException e) {
+            resultado = null;
+        }
+        if (resultado == null) {
+            conflictos.increment();
+            escribirError(request, response, HttpStatus.CONFLICT,
+                    "La solicitud original con la misma clave de idempotencia no terminó; vuelva a intentarlo.");
+            return;
+        }
+        if (!huella.equals(resultado.getHuella())) {
+            rechazarReutilizada(request, response);
+            return;
+        }
+        esperas.increment();
+        repetir(resultado, response);
+    }
+
+    private void rechazarReutilizada(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        reutilizadas.increment();
+        escribirError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                "La clave de idempotencia ya se usó con otra solicitud (método, ruta o cuerpo distintos).");
+    }
+
+    private static void repetir(RespuestaIdempotente respuesta, HttpServletResponse response) throws IOException {
+        response.setStatus(respuesta.getStatus());
+        if (respuesta.getContentType() != null) {
+            response.setContentType(respuesta.getContentType());
+        }
+        response.setHeader("Idempotent-Replayed", "true");
+        response.setContentLength(respuesta.getCuerpo().length);
+        response.getOutputStream().write(respuesta.getCuerpo());
+    }
+
+    private void escribirError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                               String mensaje) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(status, mensaje, "uri=" + request.getRequestURI()));
+    }
+
+    /**
+     * Huella de la solicitud: método, ruta, parámetros y cuerpo.
+     */
+    private static String huella(HttpServletRequest request, byte[] cuerpo) {
+        String linea = request.getMethod() + ' ' + request.getRequestURI() + '?'
+                + (request.getQueryString() == null ? "" : request.getQueryString()) + '\n';
+        byte[] inicio = linea.getBytes(StandardCharsets.UTF_8);
+        byte[] datos = new byte[inicio.length + cuerpo.length];
+        System.arraycopy(inicio, 0, datos, 0, inicio.length);
+        System.arraycopy(cuerpo, 0, datos, inicio.length, cuerpo.length);
+        return resumen(datos);
+    }
+
+    /**
+     * Resumen SHA-256 en hexadecimal, de longitud fija.
+     */
+    private static String resumen(byte[] datos) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(datos));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Solicitud cuyo cuerpo ya se leyó para calcular la huella; lo entrega de nuevo a los filtros y controladores.
+     */
+    private static class CuerpoLeido extends HttpServletRequestWrapper {
+        private final byte[] cuerpo;
+
+        CuerpoLeido(HttpServletRequest request, byte[] cuerpo) {
+            super(request);
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String codificacion = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(codificacion)));
+        }
+    }
+}
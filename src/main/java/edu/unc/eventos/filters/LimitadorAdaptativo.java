@@ -0,0 +1,117 @@
+/**
+ * @file: LimitadorAdaptativo.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 02:10:33 PM
+ */
+package edu.unc.eventos.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite adaptativo de solicitudes concurrentes basado en el gradiente de la latencia.
+ * <p>
+ * Toma como referencia la latencia mínima observada, que aproxima la latencia sin colas, y la compara con cada
+ * muestra. Si la muestra supera la referencia multiplicada por la tolerancia, el gradiente es menor que uno y el
+ * límite baja; si no, el límite sube en {@code sqrt(límite)}, que hace de cola permitida. La latencia mínima se
+ * renueva en cada ventana para seguir los cambios de la base de datos. El límite solo crece si la carga lo está
+ * usando, para no inflarlo mientras sobra capacidad.
+ */
+public class LimitadorAdaptativo {
+    private static final double TOLERANCIA = 1.5;
+    private static final double SUAVIZADO = 0.2;
+    private static final long VENTANA = TimeUnit.SECONDS.toNanos(30);
+
+    private final int minimo;
+    private final int maximo;
+    private final AtomicInteger enCurso = new AtomicInteger();
+    private final Counter rechazos;
+
+    private volatile int limite;
+    private double limiteExacto;
+    private long latenciaMinima;
+    private long minimaVentana = Long.MAX_VALUE;
+    private long inicioVentana = System.nanoTime();
+
+    /**
+     * Constructor del limitador.
+     *
+     * @param nombre   Nombre usado en la etiqueta {@code tipo} de las métricas.
+     * @param inicial  Límite inicial.
+     * @param minimo   Límite mínimo.
+     * @param maximo   Límite máximo.
+     * @param registry Registro de métricas.
+     */
+    public LimitadorAdaptativo(String nombre, int inicial, int minimo, int maximo, MeterRegistry registry) {
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limite = inicial;
+        this.limiteExacto = inicial;
+        this.rechazos = Counter.builder("eventos.concurrencia.rechazos").tag("tipo", nombre).register(registry);
+        Gauge.builder("eventos.concurrencia.limite", this, LimitadorAdaptativo::getLimite).tag("tipo", nombre).register(registry);
+        Gauge.builder("eventos.concurrencia.en.curso", enCurso, AtomicInteger::get).tag("tipo", nombre).register(registry);
+    }
+
+    /**
+     * Intenta admitir una solicitud.
+     *
+     * @return {@code true} si se admite; {@code false} si se alcanzó el límite.
+     */
+    public boolean adquirir() {
+        while (true) {
+            int actuales = enCurso.get();
+            if (actuales >= limite) {
+                rechazos.increment();
+                return false;
+            }
+            if (enCurso.compareAndSet(actuales, actuales + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una solicitud admitida y, si se indica, ajusta el límite con su latencia.
+     *
+     * @param latenciaNanos Latencia de la solicitud en nanosegundos, o un valor negativo para no tomar la muestra.
+     */
+    public void liberar(long latenciaNanos) {
+        int actuales = enCurso.getAndDecrement();
+        if (latenciaNanos > 0) {
+            ajustar(latenciaNanos, actuales);
+        }
+    }
+
+    private synchronized void ajustar(long latenciaNanos, int enCursoAlTerminar) {
+        long ahora = System.nanoTime();
+        if (latenciaMinima == 0 || latenciaNanos < latenciaMinima) {
+            latenciaMinima = latenciaNanos;
+        }
+        minimaVentana = Math.min(minimaVentana, latenciaNanos);
+        if (ahora - inicioVentana > VENTANA) {
+            latenciaMinima = minimaVentana;
+            minimaVentana = Long.MAX_VALUE;
+            inicioVentana = ahora;
+        }
+        if (enCursoAlTerminar < limiteExacto / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * latenciaMinima / latenciaNanos));
+        double nuevo = limiteExacto * gradiente + Math.sqrt(limiteExacto);
+        limiteExacto = Math.max(minimo, Math.min(maximo, limiteExacto * (1 - SUAVIZADO) + nuevo * SUAVIZADO));
+        limite = (int) limiteExacto;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEnCurso() {
+        return enCurso.get();
+    }
+}
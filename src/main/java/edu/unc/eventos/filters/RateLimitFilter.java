@@ -0,0 +1,207 @@
+/**
+ * @file: RateLimitFilter.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 01:42:09 PM
+ */
+package edu.unc.eventos.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.exception.ErrorMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de control de admisión que limita las solicitudes por cliente y por grupo de rutas.
+ * <p>
+ * El cliente se identifica por su dirección IP: el encabezado {@code Authorization} no se valida aquí y cada valor
+ * distinto daría una cubeta nueva. El grupo de rutas es el primer segmento después de {@code /api/}
+ * ({@code eventos}, {@code clientes}, ...); los que no son grupos conocidos se cuentan juntos como {@code otros}.
+ * Cada par cliente-grupo tiene su propia cubeta de fichas, con una tasa y una ráfaga configurables por grupo. Cuando
+ * la cubeta está vacía se responde 429 con el encabezado {@code Retry-After}.
+ * <p>
+ * Las cubetas llenas se descartan periódicamente con {@link #descartarLlenas()}, fuera del camino de las solicitudes.
+ * Si aun así se alcanza {@code maxCubetas}, los clientes nuevos comparten una cubeta por grupo hasta la siguiente
+ * depuración.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String OTROS = "otros";
+
+    private final Limite limitePorDefecto;
+    private final Map<String, Limite> limitesPorGrupo;
+    private final Set<String> gruposConocidos;
+    private final int maxCubetas;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+
+    private final ConcurrentHashMap<String, Cubeta> cubetas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> rechazos = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor del filtro.
+     *
+     * @param tasa         Solicitudes por segundo permitidas por defecto a cada cliente en cada grupo.
+     * @param rafaga       Solicitudes que se admiten de golpe antes de aplicar la tasa.
+     * @param grupos       Límites por grupo con el formato {@code grupo:tasa:rafaga}.
+     * @param conocidos    Grupos de rutas de la API; los grupos con límite propio también se consideran conocidos.
+     * @param maxCubetas   Número máximo de cubetas por cliente.
+     * @param objectMapper Serializador de los mensajes de error.
+     * @param registry     Registro de métricas.
+     */
+    public RateLimitFilter(double tasa, int rafaga, String[] grupos, String[] conocidos, int maxCubetas,
+                           ObjectMapper objectMapper, MeterRegistry registry) {
+        this.limitePorDefecto = new Limite(tasa, rafaga);
+        this.limitesPorGrupo = new HashMap<>();
+        for (String grupo : grupos) {
+            if (grupo.isBlank()) {
+                continue;
+            }
+            String[] partes = grupo.trim().split(":");
+            if (partes.length != 3) {
+                throw new IllegalArgumentException("Límite de grupo inválido: '" + grupo + "'. Formato esperado: grupo:tasa:rafaga");
+            }
+            limitesPorGrupo.put(partes[0], new Limite(Double.parseDouble(partes[1]), Integer.parseInt(partes[2])));
+        }
+        this.gruposConocidos = new HashSet<>(limitesPorGrupo.keySet());
+        for (String grupo : conocidos) {
+            if (!grupo.isBlank()) {
+                gruposConocidos.add(grupo.trim());
+            }
+        }
+        this.maxCubetas = maxCubetas;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        Gauge.builder("eventos.limite.cubetas", this, RateLimitFilter::getNumeroCubetas).register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String grupo = grupo(request.getRequestURI());
+        if (!gruposConocidos.contains(grupo)) {
+            grupo = OTROS;
+        }
+        Limite limite = limitesPorGrupo.getOrDefault(grupo, limitePorDefecto);
+        String clave = grupo + '|' + request.getRemoteAddr();
+
+        Cubeta cubeta = cubetas.get(clave);
+        if (cubeta == null) {
+            if (cubetas.size() >= maxCubetas) {
+                clave = grupo + "|*";
+            }
+            cubeta = cubetas.computeIfAbsent(clave, c -> new Cubeta(limite));
+        }
+
+        long espera = cubeta.consumir(System.nanoTime());
+        if (espera > 0) {
+            rechazos.computeIfAbsent(grupo, g -> Counter.builder("eventos.limite.rechazos").tag("grupo", g).register(registry))
+                    .increment();
+            rechazar(request, response, espera);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void rechazar(HttpServletRequest request, HttpServletResponse response, long esperaNanos) throws IOException {
+        long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(HttpStatus.TOO_MANY_REQUESTS,
+                "Se superó el límite de solicitudes. Vuelva a intentarlo en " + segundos + " segundos.",
+                "uri=" + request.getRequestURI()));
+    }
+
+    /**
+     * Elimina las cubetas que ya se rellenaron por completo; equivalen a una cubeta nueva. Se ejecuta en segundo
+     * plano cada {@code app.limite.depuracion}.
+     */
+    @Scheduled(fixedDelayString = "${app.limite.depuracion:PT10S}", initialDelayString = "${app.limite.depuracion:PT10S}")
+    public void descartarLlenas() {
+        long ahora = System.nanoTime();
+        cubetas.values().removeIf(c -> c.llena(ahora));
+    }
+
+    public int getNumeroCubetas() {
+        return cubetas.size();
+    }
+
+    /**
+     * Devuelve el primer segmento de la ruta después de {@code /api/}.
+     */
+    static String grupo(String uri) {
+        int inicio = uri.indexOf("/api/");
+        if (inicio < 0) {
+            return "";
+        }
+        inicio += 5;
+        int fin = uri.indexOf('/', inicio);
+        return fin < 0 ? uri.substring(inicio) : uri.substring(inicio, fin);
+    }
+
+    record Limite(double tasa, int rafaga) {
+    }
+
+    /**
+     * Cubeta de fichas sin bloqueos, implementada con el algoritmo GCRA.
+     * <p>
+     * En lugar de contar fichas guarda el instante teórico de llegada ({@code tat}) de la siguiente solicitud. Cada
+     * solicitud admitida lo adelanta un intervalo ({@code 1 / tasa}); se rechaza si quedaría más de
+     * {@code rafaga} intervalos por delante del instante actual. El estado es un único {@link AtomicLong}.
+     */
+    static class Cubeta {
+        private final long intervalo;
+        private final long tolerancia;
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        Cubeta(Limite limite) {
+            this.intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / limite.tasa());
+            this.tolerancia = intervalo * limite.rafaga();
+        }
+
+        /**
+         * Intenta consumir una ficha.
+         *
+         * @param ahora Instante actual en nanosegundos ({@link System#nanoTime()}).
+         * @return {@code 0} si se admite la solicitud; en otro caso, los nanosegundos que faltan para admitirla.
+         */
+        long consumir(long ahora) {
+            while (true) {
+                long actual = tat.get();
+                long nuevo = (actual == Long.MIN_VALUE || actual - ahora < 0 ? ahora : actual) + intervalo;
+                long exceso = nuevo - ahora - tolerancia;
+                if (exceso > 0) {
+                    return exceso;
+                }
+                if (tat.compareAndSet(actual, nuevo)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean llena(long ahora) {
+            long actual = tat.get();
+            return actual == Long.MIN_VALUE || actual - ahora <= 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * @file: ResponseCacheFilter.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:41:27 AM
+ */
+package edu.unc.eventos.filters;
+
+import edu.unc.eventos.cache.CacheRegion;
+import edu.unc.eventos.cache.ResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Filtro que sirve desde memoria las lecturas de los catálogos ({@code GET /api/platos}, {@code /api/decoraciones},
+ * {@code /api/locales} y {@code /api/seguros}).
+ * <p>
+ * La clave de la caché se forma con la ruta, los parámetros y el encabezado {@code Api-Version}. Solo se guardan
+ * respuestas con estado 200. Las invalidaciones las realizan los controladores que modifican datos.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    private final ResponseCache responseCache;
+    private final String cacheControl;
+
+    /**
+     * Constructor del filtro.
+     *
+     * @param responseCache Caché de respuestas.
+     * @param maxAge        Segundos que el cliente puede reutilizar la respuesta; {@code 0} obliga a revalidar.
+     */
+    public ResponseCacheFilter(ResponseCache responseCache, long maxAge) {
+        this.responseCache = responseCache;
+        this.cacheControl = maxAge > 0 ? "max-age=" + maxAge : "no-cache";
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || CacheRegion.fromPath(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CacheRegion region = CacheRegion.fromPath(request.getRequestURI());
+        String clave = clave(request);
+
+        ResponseCache.Entrada entrada = responseCache.get(clave);
+        if (entrada != null) {
+            response.setStatus(entrada.getStatus());
+            response.setContentType(entrada.getContentType());
+            response.setContentLength(entrada.getCuerpo().length);
+            escribirEncabezados(response, "HIT");
+            response.getOutputStream().write(entrada.getCuerpo());
+            return;
+        }
+
+        long generacion = responseCache.generacion(region);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && !request.isAsyncStarted()) {
+                responseCache.put(clave, generacion,
+                        new ResponseCache.Entrada(region, wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                escribirEncabezados(wrapper, "MISS");
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void escribirEncabezados(HttpServletResponse response, String resultado) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, "Api-Version");
+        response.setHeader("X-Cache", resultado);
+    }
+
+    private static String clave(HttpServletRequest request) {
+        StringBuilder clave = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            clave.append('?').append(request.getQueryString());
+        }
+        return clave.append("|v=").append(request.getHeader("Api-Version")).toString();
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * @file: IdempotencyStore.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 12:52:18 PM
+ */
+package edu.unc.eventos.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Almacén de las respuestas asociadas a una clave de idempotencia ({@code Idempotency-Key}).
+ * <p>
+ * Una clave pasa por dos estados: reservada, mientras se procesa la primera solicitud, y completada, cuando ya tiene
+ * una respuesta que se puede repetir. La reserva dura poco, para que una solicitud que no terminó (por ejemplo, porque
+ * el proceso se detuvo) no bloquee la clave; la respuesta completada se conserva más tiempo. Cada clave guarda la
+ * huella de la solicitud que la reservó, para rechazar su reutilización con otra solicitud.
+ */
+public interface IdempotencyStore {
+    /**
+     * Busca la respuesta guardada para una clave.
+     *
+     * @param clave Clave de idempotencia.
+     * @return La respuesta guardada o {@code null} si la clave no existe, caducó o sigue en proceso.
+     */
+    RespuestaIdempotente buscar(String clave);
+
+    /**
+     * Busca la huella de la solicitud que reservó una clave, esté en proceso o completada.
+     *
+     * @param clave Clave de idempotencia.
+     * @return La huella o {@code null} si la clave no existe o caducó.
+     */
+    String buscarHuella(String clave);
+
+    /**
+     * Reserva una clave para procesar la solicitud. La operación es atómica.
+     *
+     * @param clave  Clave de idempotencia.
+     * @param huella Huella del método, la ruta y el cuerpo de la solicitud.
+     * @param plazo  Tiempo durante el que se mantiene la reserva si la solicitud no se completa ni se libera.
+     * @return {@code true} si la clave quedó reservada; {@code false} si ya estaba reservada o completada.
+     */
+    boolean reservar(String clave, String huella, Duration plazo);
+
+    /**
+     * Guarda la respuesta de una clave reservada y extiende su caducidad al tiempo de conservación.
+     *
+     * @param clave     Clave de idempotencia.
+     * @param respuesta Respuesta de la primera solicitud.
+     * @param ttl       Tiempo durante el que se conserva la respuesta.
+     */
+    void completar(String clave, RespuestaIdempotente respuesta, Duration ttl);
+
+    /**
+     * Libera una clave reservada para que la solicitud se pueda volver a ejecutar.
+     *
+     * @param clave Clave de idempotencia.
+     */
+    void liberar(String clave);
+}
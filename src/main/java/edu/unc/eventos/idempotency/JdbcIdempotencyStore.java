@@ -0,0 +1,94 @@
+/**
+ * @file: JdbcIdempotencyStore.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 01:04:37 PM
+ */
+package edu.unc.eventos.idempotency;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Almacén de claves de idempotencia en la tabla {@code idempotencia}, compartido por todos los nodos.
+ * <p>
+ * La reserva se hace con un {@code INSERT}: si otro nodo ya insertó la clave, la clave primaria lo impide.
+ * Las filas caducadas se eliminan al reservar la misma clave y, cada cierto número de reservas, en bloque.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotencia.almacen", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final int RESERVAS_ENTRE_PURGAS = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger reservas = new AtomicInteger();
+
+    /**
+     * Crea la tabla si no existe.
+     */
+    @PostConstruct
+    public void crearTabla() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS idempotencia ("
+                + "clave VARCHAR(64) NOT NULL PRIMARY KEY, "
+                + "huella VARCHAR(64) NOT NULL, "
+                + "status INT, "
+                + "content_type VARCHAR(255), "
+                + "cuerpo LONGBLOB, "
+                + "expira BIGINT NOT NULL)");
+    }
+
+    @Override
+    public RespuestaIdempotente buscar(String clave) {
+        List<RespuestaIdempotente> respuestas = jdbcTemplate.query(
+                "SELECT status, content_type, cuerpo, huella FROM idempotencia WHERE clave = ? AND expira > ? AND status IS NOT NULL",
+                (rs, n) -> new RespuestaIdempotente(rs.getInt("status"), rs.getString("content_type"), rs.getBytes("cuerpo"),
+                        rs.getString("huella")),
+                clave, System.currentTimeMillis());
+        return respuestas.isEmpty() ? null : respuestas.get(0);
+    }
+
+    @Override
+    public String buscarHuella(String clave) {
+        List<String> huellas = jdbcTemplate.queryForList("SELECT huella FROM idempotencia WHERE clave = ? AND expira > ?",
+                String.class, clave, System.currentTimeMillis());
+        return huellas.isEmpty() ? null : huellas.get(0);
+    }
+
+    @Override
+    public boolean reservar(String clave, String huella, Duration plazo) {
+        long ahora = System.currentTimeMillis();
+        if (reservas.incrementAndGet() % RESERVAS_ENTRE_PURGAS == 0) {
+            jdbcTemplate.update("DELETE FROM idempotencia WHERE expira <= ?", ahora);
+        } else {
+            jdbcTemplate.update("DELETE FROM idempotencia WHERE clave = ? AND expira <= ?", clave, ahora);
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO idempotencia (clave, huella, expira) VALUES (?, ?, ?)", clave, huella,
+                    ahora + plazo.toMillis());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void completar(String clave, RespuestaIdempotente respuesta, Duration ttl) {
+        jdbcTemplate.update("UPDATE idempotencia SET status = ?, content_type = ?, cuerpo = ?, expira = ? WHERE clave = ?",
+                respuesta.getStatus(), respuesta.getContentType(), respuesta.getCuerpo(),
+                System.currentTimeMillis() + ttl.toMillis(), clave);
+    }
+
+    @Override
+    public void liberar(String clave) {
+        jdbcTemplate.update("DELETE FROM idempotencia WHERE clave = ?", clave);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * @file: MemoryIdempotencyStore.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 12:56:02 PM
+ */
+package edu.unc.eventos.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Almacén de claves de idempotencia en memoria, válido cuando la aplicación se ejecuta en un solo nodo.
+ * <p>
+ * Guarda como máximo {@code app.idempotencia.max-entradas} claves; al superarlo se descartan las más antiguas.
+ * Las claves caducadas se eliminan al recorrer el mapa en cada escritura.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotencia.almacen", havingValue = "memoria", matchIfMissing = true)
+public class MemoryIdempotencyStore implements IdempotencyStore {
+    private final int maxEntradas;
+    private final Map<String, Entrada> entradas = new LinkedHashMap<>();
+
+    public MemoryIdempotencyStore(@Value("${app.idempotencia.max-entradas:10000}") int maxEntradas, MeterRegistry registry) {
+        this.maxEntradas = maxEntradas;
+        Gauge.builder("eventos.idempotencia.entradas", this, MemoryIdempotencyStore::getNumeroEntradas).register(registry);
+    }
+
+    @Override
+    public synchronized RespuestaIdempotente buscar(String clave) {
+        Entrada entrada = entradas.get(clave);
+        if (entrada == null || entrada.expira <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entrada.respuesta;
+    }
+
+    @Override
+    public synchronized String buscarHuella(String clave) {
+        Entrada entrada = entradas.get(clave);
+        if (entrada == null || entrada.expira <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entrada.huella;
+    }
+
+    @Override
+    public synchronized boolean reservar(String clave, String huella, Duration plazo) {
+        long ahora = System.currentTimeMillis();
+        Entrada entrada = entradas.get(clave);
+        if (entrada != null && entrada.expira > ahora) {
+            return false;
+        }
+        entradas.remove(clave);
+        entradas.put(clave, new Entrada(null, huella, ahora + plazo.toMillis()));
+        purgar(ahora);
+        return true;
+    }
+
+    @Override
+    public synchronized void completar(String clave, RespuestaIdempotente respuesta, Duration ttl) {
+        if (entradas.containsKey(clave)) {
+            entradas.put(clave, new Entrada(respuesta, respuesta.getHuella(), System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    @Override
+    public synchronized void liberar(String clave) {
+        entradas.remove(clave);
+    }
+
+    public synchronized int getNumeroEntradas() {
+        return entradas.size();
+    }
+
+    /**
+     * Elimina las claves caducadas del inicio del mapa y las más antiguas si se supera el máximo.
+     */
+    private void purgar(long ahora) {
+        Iterator<Entrada> it = entradas.values().iterator();
+        while (it.hasNext()) {
+            Entrada entrada = it.next();
+            if (entradas.size() <= maxEntradas && entrada.expira > ahora) {
+                break;
+            }
+            it.remove();
+        }
+    }
+
+    private record Entrada(RespuestaIdempotente respuesta, String huella, long expira) {
+    }
+}
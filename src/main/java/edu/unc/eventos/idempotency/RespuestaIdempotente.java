@@ -0,0 +1,25 @@
+/**
+ * @file: RespuestaIdempotente.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 12:53:40 PM
+ */
+package edu.unc.eventos.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Respuesta HTTP guardada para una clave de idempotencia.
+ */
+@Getter
+@AllArgsConstructor
+public class RespuestaIdempotente {
+    private final int status;
+    private final String contentType;
+    private final byte[] cuerpo;
+
+    /**
+     * Huella del método, la ruta y el cuerpo de la solicitud que produjo la respuesta.
+     */
+    private final String huella;
+}
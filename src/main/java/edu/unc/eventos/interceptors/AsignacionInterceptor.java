@@ -0,0 +1,57 @@
+/**
+ * @file: AsignacionInterceptor.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:41:52 PM
+ */
+package edu.unc.eventos.interceptors;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mide la memoria que asigna cada petición en el heap, desde que llega al controlador hasta que se escribe la
+ * respuesta (incluida la serialización JSON).
+ * <p>
+ * Usa el contador de bytes asignados del hilo que ofrece la JVM, que es barato de leer, y publica la distribución
+ * {@code eventos.peticion.asignacion} por método y ruta. Las respuestas servidas por los filtros de caché no llegan al
+ * controlador y no se miden.
+ */
+@Component
+public class AsignacionInterceptor implements HandlerInterceptor {
+    private static final String INICIO = AsignacionInterceptor.class.getName() + ".inicio";
+
+    private final com.sun.management.ThreadMXBean hilos =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(INICIO, hilos.getCurrentThreadAllocatedBytes());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(INICIO) instanceof Long inicio)) {
+            return;
+        }
+        Object ruta = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("eventos.peticion.asignacion")
+                .description("Bytes asignados en el heap por petición")
+                .baseUnit("bytes")
+                .tag("metodo", request.getMethod())
+                .tag("uri", ruta == null ? "UNKNOWN" : ruta.toString())
+                .register(registry)
+                .record(hilos.getCurrentThreadAllocatedBytes() - inicio);
+    }
+}
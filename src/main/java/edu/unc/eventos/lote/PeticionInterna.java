@@ -0,0 +1,311 @@
+/**
+ * @file: PeticionInterna.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:18:44 AM
+ */
+package edu.unc.eventos.lote;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Solicitud de una petición de un lote, que se despacha dentro del servidor sin pasar por la red.
+ * <p>
+ * Tiene su propio método, ruta, parámetros, encabezados, cuerpo y atributos. Los datos de la conexión (esquema,
+ * servidor, puerto, contexto y dirección remota) se copian de la solicitud del lote al crearla, para que las
+ * peticiones que se ejecutan en otros hilos no lean la solicitud original mientras el contenedor la reutiliza.
+ */
+public class PeticionInterna extends HttpServletRequestWrapper {
+    private final String metodo;
+    private final String contexto;
+    private final String ruta;
+    private final String consulta;
+    private final Map<String, String[]> parametros = new LinkedHashMap<>();
+    private final Map<String, List<String>> encabezados = new LinkedCaseInsensitiveMap<>();
+    private final byte[] cuerpo;
+    private final Map<String, Object> atributos = new ConcurrentHashMap<>();
+    private final String esquema;
+    private final String servidor;
+    private final int puerto;
+    private final String direccionRemota;
+    private final Locale idioma;
+
+    /**
+     * Constructor de la solicitud.
+     *
+     * @param lote        Solicitud del lote, de la que se copian los datos de la conexión.
+     * @param metodo      Método HTTP.
+     * @param uri         Ruta y parámetros, relativos al contexto de la aplicación.
+     * @param encabezados Encabezados de la petición.
+     * @param cuerpo      Cuerpo de la petición, o {@code null} si no tiene.
+     */
+    public PeticionInterna(HttpServletRequest lote, String metodo, UriComponents uri,
+                           Map<String, List<String>> encabezados, byte[] cuerpo) {
+        super(lote);
+        this.metodo = metodo;
+        this.contexto = lote.getContextPath();
+        this.ruta = uri.getPath();
+        this.consulta = uri.getQuery();
+        MultiValueMap<String, String> query = uri.getQueryParams();
+        query.forEach((nombre, valores) -> parametros.put(decodificar(nombre),
+                valores.stream().map(valor -> valor == null ? "" : decodificar(valor)).toArray(String[]::new)));
+        this.encabezados.putAll(encabezados);
+        this.cuerpo = cuerpo == null ? new byte[0] : cuerpo;
+        this.esquema = lote.getScheme();
+        this.servidor = lote.getServerName();
+        this.puerto = lote.getServerPort();
+        this.direccionRemota = lote.getRemoteAddr();
+        this.idioma = lote.getLocale();
+    }
+
+    private static String decodificar(String valor) {
+        return UriUtils.decode(valor, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getMethod() {
+        return metodo;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return contexto + ruta;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer(esquema).append("://").append(servidor);
+        if (!("http".equals(esquema) && puerto == 80) && !("https".equals(esquema) && puerto == 443)) {
+            url.append(':').append(puerto);
+        }
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getContextPath() {
+        return contexto;
+    }
+
+    @Override
+    public String getServletPath() {
+        return ruta;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return consulta;
+    }
+
+    @Override
+    public String getParameter(String nombre) {
+        String[] valores = parametros.get(nombre);
+        return valores == null || valores.length == 0 ? null : valores[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parametros);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parametros.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String nombre) {
+        return parametros.get(nombre);
+    }
+
+    @Override
+    public String getHeader(String nombre) {
+        List<String> valores = encabezados.get(nombre);
+        return valores == null || valores.isEmpty() ? null : valores.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String nombre) {
+        return Collections.enumeration(encabezados.getOrDefault(nombre, List.of()));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(encabezados.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String nombre) {
+        String valor = getHeader(nombre);
+        return valor == null ? -1 : Integer.parseInt(valor);
+    }
+
+    @Override
+    public long getDateHeader(String nombre) {
+        String valor = getHeader(nombre);
+        if (valor == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(valor, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("El encabezado " + nombre + " no es una fecha válida.", e);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public int getContentLength() {
+        return cuerpo.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return cuerpo.length;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return entrada.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() {
+                return entrada.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return entrada.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(cuerpo), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object getAttribute(String nombre) {
+        return atributos.get(nombre);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(atributos.keySet());
+    }
+
+    @Override
+    public void setAttribute(String nombre, Object valor) {
+        if (valor == null) {
+            atributos.remove(nombre);
+        } else {
+            atributos.put(nombre, valor);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String nombre) {
+        atributos.remove(nombre);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public String getScheme() {
+        return esquema;
+    }
+
+    @Override
+    public String getServerName() {
+        return servidor;
+    }
+
+    @Override
+    public int getServerPort() {
+        return puerto;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return "https".equals(esquema);
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return direccionRemota;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return direccionRemota;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return idioma;
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(List.of(idioma));
+    }
+}
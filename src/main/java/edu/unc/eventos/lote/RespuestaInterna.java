@@ -0,0 +1,256 @@
+/**
+ * @file: RespuestaInterna.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:26:09 AM
+ */
+package edu.unc.eventos.lote;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Respuesta de una petición de un lote. Guarda en memoria el estado, los encabezados y el cuerpo, sin escribir nada
+ * en la respuesta del lote.
+ */
+public class RespuestaInterna extends HttpServletResponseWrapper {
+    private final ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+    private final Map<String, List<String>> encabezados = new LinkedCaseInsensitiveMap<>();
+    private int estado = SC_OK;
+    private String mensajeError;
+    private PrintWriter escritor;
+    private ServletOutputStream salida;
+    private boolean confirmada;
+
+    /**
+     * Constructor de la respuesta.
+     *
+     * @param lote Respuesta del lote; solo se usa para los métodos que no escriben.
+     */
+    public RespuestaInterna(HttpServletResponse lote) {
+        super(lote);
+    }
+
+    /**
+     * Estado HTTP de la respuesta.
+     */
+    @Override
+    public int getStatus() {
+        return estado;
+    }
+
+    /**
+     * Mensaje indicado con {@link #sendError(int, String)}, si lo hubo.
+     */
+    public String getMensajeError() {
+        return mensajeError;
+    }
+
+    /**
+     * Encabezados de la respuesta, con el primer valor de cada uno.
+     */
+    public Map<String, String> getEncabezados() {
+        Map<String, String> primeros = new LinkedHashMap<>();
+        encabezados.forEach((nombre, valores) -> primeros.put(nombre, valores.get(0)));
+        return primeros;
+    }
+
+    /**
+     * Cuerpo escrito en la respuesta.
+     */
+    public byte[] getCuerpo() {
+        if (escritor != null) {
+            escritor.flush();
+        }
+        return cuerpo.toByteArray();
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!confirmada) {
+            estado = sc;
+        }
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        estado = sc;
+        mensajeError = msg;
+        confirmada = true;
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        setHeader("Location", location);
+        estado = SC_FOUND;
+        confirmada = true;
+    }
+
+    @Override
+    public void setHeader(String nombre, String valor) {
+        if (valor == null) {
+            encabezados.remove(nombre);
+        } else {
+            encabezados.put(nombre, new ArrayList<>(List.of(valor)));
+        }
+    }
+
+    @Override
+    public void addHeader(String nombre, String valor) {
+        encabezados.computeIfAbsent(nombre, n -> new ArrayList<>()).add(valor);
+    }
+
+    @Override
+    public void setIntHeader(String nombre, int valor) {
+        setHeader(nombre, Integer.toString(valor));
+    }
+
+    @Override
+    public void addIntHeader(String nombre, int valor) {
+        addHeader(nombre, Integer.toString(valor));
+    }
+
+    @Override
+    public void setDateHeader(String nombre, long fecha) {
+        setHeader(nombre, formatear(fecha));
+    }
+
+    @Override
+    public void addDateHeader(String nombre, long fecha) {
+        addHeader(nombre, formatear(fecha));
+    }
+
+    private static String formatear(long fecha) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(fecha), ZoneOffset.UTC));
+    }
+
+    @Override
+    public boolean containsHeader(String nombre) {
+        return encabezados.containsKey(nombre);
+    }
+
+    @Override
+    public String getHeader(String nombre) {
+        List<String> valores = encabezados.get(nombre);
+        return valores == null ? null : valores.get(0);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String nombre) {
+        return encabezados.getOrDefault(nombre, List.of());
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return encabezados.keySet();
+    }
+
+    @Override
+    public void setContentType(String tipo) {
+        setHeader("Content-Type", tipo);
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public void setCharacterEncoding(String codificacion) {
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public void setContentLength(int longitud) {
+    }
+
+    @Override
+    public void setContentLengthLong(long longitud) {
+    }
+
+    @Override
+    public void setLocale(Locale idioma) {
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (salida == null) {
+            salida = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void write(int b) {
+                    cuerpo.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    cuerpo.write(b, off, len);
+                }
+            };
+        }
+        return salida;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (escritor == null) {
+            escritor = new PrintWriter(new OutputStreamWriter(cuerpo, StandardCharsets.UTF_8));
+        }
+        return escritor;
+    }
+
+    @Override
+    public void flushBuffer() {
+        confirmada = true;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return confirmada;
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        encabezados.clear();
+        estado = SC_OK;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (escritor != null) {
+            escritor.flush();
+        }
+        cuerpo.reset();
+    }
+}
@@ -8,7 +8,12 @@ package edu.unc.eventos.repositories;
 
 import edu.unc.eventos.domain.Cliente;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
 
@@ -43,4 +48,111 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
      * @return El cliente con el número de teléfono proporcionado.
      */
     Cliente findByTelefono(String telefono);
+
+    /**
+     * Columnas de un cliente que devuelven las lecturas de la API.
+     */
+    interface Vista {
+        Long getIdCliente();
+
+        String getDi();
+
+        String getNombre();
+
+        String getDireccion();
+
+        String getTelefono();
+    }
+
+    /**
+     * Obtiene todos los clientes sin cargar entidades.
+     *
+     * @return Lista de clientes ordenada por identificador.
+     */
+    @Query("SELECT c.idCliente AS idCliente, c.di AS di, c.nombre AS nombre, c.direccion AS direccion, c.telefono AS telefono"
+            + " FROM Cliente c ORDER BY c.idCliente")
+    List<Vista> findAllVistas();
+
+    /**
+     * Obtiene un cliente sin cargar la entidad.
+     *
+     * @param idCliente Identificador del cliente.
+     * @return El cliente, o vacío si no existe.
+     */
+    @Query("SELECT c.idCliente AS idCliente, c.di AS di, c.nombre AS nombre, c.direccion AS direccion, c.telefono AS telefono"
+            + " FROM Cliente c WHERE c.idCliente = :idCliente")
+    Optional<Vista> findVistaById(@Param("idCliente") Long idCliente);
+
+    /**
+     * Obtiene varios clientes sin cargar entidades.
+     *
+     * @param idsCliente Identificadores de los clientes.
+     * @return Los clientes que existen, en cualquier orden.
+     */
+    @Query("SELECT c.idCliente AS idCliente, c.di AS di, c.nombre AS nombre, c.direccion AS direccion, c.telefono AS telefono"
+            + " FROM Cliente c WHERE c.idCliente IN :idsCliente")
+    List<Vista> findVistasByIdClienteIn(@Param("idsCliente") Collection<Long> idsCliente);
+
+    /**
+     * Obtiene los eventos de todos los clientes como pares (cliente, evento).
+     *
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.cliente.idCliente AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.cliente IS NOT NULL ORDER BY e.idEvento")
+    List<ParIds> findIdsEventos();
+
+    /**
+     * Obtiene los eventos de un cliente como pares (cliente, evento).
+     *
+     * @param idCliente Identificador del cliente.
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.cliente.idCliente AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.cliente.idCliente = :idCliente ORDER BY e.idEvento")
+    List<ParIds> findIdsEventosByIdCliente(@Param("idCliente") Long idCliente);
+
+    /**
+     * Obtiene los eventos de varios clientes como pares (cliente, evento).
+     *
+     * @param idsCliente Identificadores de los clientes.
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.cliente.idCliente AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.cliente.idCliente IN :idsCliente ORDER BY e.idEvento")
+    List<ParIds> findIdsEventosByIdClienteIn(@Param("idsCliente") Collection<Long> idsCliente);
+
+    /**
+     * Obtiene el identificador del cliente siguiente.
+     *
+     * @param idCliente Identificador del cliente actual.
+     * @return El menor identificador mayor que el actual, o null si no hay.
+     */
+    @Query("SELECT MIN(c.idCliente) FROM Cliente c WHERE c.idCliente > :idCliente")
+    Long findIdSiguiente(@Param("idCliente") Long idCliente);
+
+    /**
+     * Obtiene el identificador del cliente anterior.
+     *
+     * @param idCliente Identificador del cliente actual.
+     * @return El mayor identificador menor que el actual, o null si no hay.
+     */
+    @Query("SELECT MAX(c.idCliente) FROM Cliente c WHERE c.idCliente < :idCliente")
+    Long findIdAnterior(@Param("idCliente") Long idCliente);
+
+    /**
+     * Obtiene el identificador del primer cliente.
+     *
+     * @return El menor identificador, o null si no hay clientes.
+     */
+    @Query("SELECT MIN(c.idCliente) FROM Cliente c")
+    Long findIdPrimero();
+
+    /**
+     * Obtiene el identificador del último cliente.
+     *
+     * @return El mayor identificador, o null si no hay clientes.
+     */
+    @Query("SELECT MAX(c.idCliente) FROM Cliente c")
+    Long findIdUltimo();
 }
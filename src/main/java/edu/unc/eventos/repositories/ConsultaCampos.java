@@ -0,0 +1,119 @@
+/**
+ * @file: ConsultaCampos.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:20:05 PM
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.repositories.RecursoCampos.Campo;
+import edu.unc.eventos.repositories.RecursoCampos.Tipo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Consultas que leen solo los campos pedidos de un recurso.
+ * <p>
+ * La consulta principal selecciona las columnas y claves foráneas pedidas, y agrega un {@code LEFT JOIN} solo por
+ * cada relación inversa pedida; cada colección pedida se lee con una consulta de pares de identificadores. Nunca se cargan entidades, así
+ * que las asociaciones que no se piden no se consultan. Los campos llegan en el orden de {@link RecursoCampos}, de
+ * modo que la misma selección genera siempre el mismo texto de consulta y aprovecha la caché de planes.
+ */
+@Repository
+public class ConsultaCampos {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Lee los campos pedidos de todas las entidades de un recurso, o solo de las indicadas.
+     *
+     * @param recurso Recurso consultado.
+     * @param campos  Campos pedidos, en el orden de la lista blanca y con el identificador primero.
+     * @param ids     Identificadores de las entidades, o {@code null} para leer todas.
+     * @return Una fila por entidad con los campos pedidos, ordenadas por identificador.
+     */
+    public List<Map<String, Object>> buscar(RecursoCampos recurso, List<Campo> campos, Collection<Long> ids) {
+        StringBuilder seleccion = new StringBuilder();
+        StringBuilder uniones = new StringBuilder();
+        List<Campo> leidos = new ArrayList<>();
+        List<Campo> colecciones = new ArrayList<>();
+        for (Campo campo : campos) {
+            if (campo.tipo() == Tipo.COLECCION) {
+                colecciones.add(campo);
+                continue;
+            }
+            if (!leidos.isEmpty()) {
+                seleccion.append(", ");
+            }
+            if (campo.tipo() == Tipo.RELACION) {
+                // Se resuelve con la clave foránea de la propia tabla, sin unir la tabla relacionada
+                seleccion.append("x.").append(campo.atributo()).append('.').append(campo.idRelacion());
+            } else if (campo.tipo() == Tipo.RELACION_INVERSA) {
+                // Alias generados: algunos nombres de atributo (local) son palabras reservadas
+                String alias = "c" + leidos.size();
+                uniones.append(" LEFT JOIN x.").append(campo.atributo()).append(' ').append(alias);
+                seleccion.append(alias).append('.').append(campo.idRelacion());
+            } else {
+                seleccion.append("x.").append(campo.atributo());
+            }
+            leidos.add(campo);
+        }
+
+        String jpql = "SELECT " + seleccion + " FROM " + recurso.getEntidad() + " x" + uniones
+                + (ids == null ? "" : " WHERE x." + recurso.getId() + " IN :ids")
+                + " ORDER BY x." + recurso.getId();
+        TypedQuery<Tuple> consulta = entityManager.createQuery(jpql, Tuple.class);
+        if (ids != null) {
+            consulta.setParameter("ids", ids);
+        }
+
+        Map<Long, Map<String, Object>> filas = new LinkedHashMap<>();
+        for (Tuple tupla : consulta.getResultList()) {
+            Map<String, Object> fila = new LinkedHashMap<>();
+            for (int i = 0; i < leidos.size(); i++) {
+                fila.put(leidos.get(i).nombre(), valor(tupla.get(i)));
+            }
+            filas.put((Long) tupla.get(0), fila);
+        }
+        if (filas.isEmpty()) {
+            return List.of();
+        }
+
+        for (Campo campo : colecciones) {
+            Map<Long, List<Long>> relacionados = buscarRelacionados(campo, ids);
+            for (Map.Entry<Long, Map<String, Object>> fila : filas.entrySet()) {
+                fila.getValue().put(campo.nombre(), relacionados.getOrDefault(fila.getKey(), List.of()));
+            }
+        }
+        return new ArrayList<>(filas.values());
+    }
+
+    private Map<Long, List<Long>> buscarRelacionados(Campo campo, Collection<Long> ids) {
+        String jpql = "SELECT " + campo.clave() + ", " + campo.relacionado() + " FROM " + campo.desde()
+                + (ids == null ? " WHERE " + campo.clave() + " IS NOT NULL" : " WHERE " + campo.clave() + " IN :ids")
+                + " ORDER BY " + campo.relacionado();
+        TypedQuery<Tuple> consulta = entityManager.createQuery(jpql, Tuple.class);
+        if (ids != null) {
+            consulta.setParameter("ids", ids);
+        }
+        Map<Long, List<Long>> grupos = new HashMap<>();
+        for (Tuple tupla : consulta.getResultList()) {
+            grupos.computeIfAbsent((Long) tupla.get(0), clave -> new ArrayList<>()).add((Long) tupla.get(1));
+        }
+        return grupos;
+    }
+
+    /**
+     * Las fechas llegan como {@code java.sql.Date}; se convierten para que se serialicen igual que en los DTO.
+     */
+    private static Object valor(Object valor) {
+        if (valor instanceof Date fecha && valor.getClass() != Date.class) {
+            return new Date(fecha.getTime());
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * @file: ConsultaEventoVista.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:31:18 AM
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.dto.EventoVistaDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listado de eventos desde la tabla de lectura {@code evento_view}, con filtros opcionales.
+ * <p>
+ * La consulta se arma solo con los filtros indicados, en lugar de usar condiciones del tipo
+ * {@code (:id IS NULL OR ...)}, para que la base de datos pueda usar el índice {@code (id_x, fecha)} del filtro o el
+ * de {@code fecha} cuando no hay ninguno.
+ */
+@Repository
+public class ConsultaEventoVista {
+    private static final String SELECCION = "SELECT new edu.unc.eventos.dto.EventoVistaDTO(v.idEvento, v.nombre,"
+            + " v.numPersonas, v.fecha, v.duracion, v.total, v.idCliente, v.clienteNombre, v.idEmpleado,"
+            + " v.empleadoNombres, v.empleadoApellidos, v.idLocal, v.localNombre, v.idDecoracion,"
+            + " v.decoracionDescripcion, v.numPlatos) FROM EventoVista v";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Busca los eventos que cumplen todos los filtros indicados, ordenados por fecha e identificador.
+     *
+     * @param idCliente    Cliente de los eventos, o {@code null}.
+     * @param idEmpleado   Empleado de los eventos, o {@code null}.
+     * @param idLocal      Local de los eventos, o {@code null}.
+     * @param idDecoracion Decoración de los eventos, o {@code null}.
+     * @param desde        Primera fecha incluida, o {@code null}.
+     * @param hasta        Última fecha incluida, o {@code null}.
+     * @return Los eventos encontrados.
+     */
+    public List<EventoVistaDTO> buscar(Long idCliente, Long idEmpleado, Long idLocal, Long idDecoracion,
+                                       LocalDate desde, LocalDate hasta) {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        StringBuilder jpql = new StringBuilder(SELECCION);
+        condicion(jpql, parametros, "v.idCliente = :idCliente", "idCliente", idCliente);
+        condicion(jpql, parametros, "v.idEmpleado = :idEmpleado", "idEmpleado", idEmpleado);
+        condicion(jpql, parametros, "v.idLocal = :idLocal", "idLocal", idLocal);
+        condicion(jpql, parametros, "v.idDecoracion = :idDecoracion", "idDecoracion", idDecoracion);
+        condicion(jpql, parametros, "v.fecha >= :desde", "desde", desde == null ? null : Date.valueOf(desde));
+        condicion(jpql, parametros, "v.fecha <= :hasta", "hasta", hasta == null ? null : Date.valueOf(hasta));
+        jpql.append(" ORDER BY v.fecha, v.idEvento");
+
+        TypedQuery<EventoVistaDTO> consulta = entityManager.createQuery(jpql.toString(), EventoVistaDTO.class);
+        parametros.forEach(consulta::setParameter);
+        return consulta.getResultList();
+    }
+
+    private static void condicion(StringBuilder jpql, Map<String, Object> parametros, String condicion,
+                                  String nombre, Object valor) {
+        if (valor != null) {
+            jpql.append(parametros.isEmpty() ? " WHERE " : " AND ").append(condicion);
+            parametros.put(nombre, valor);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * @file: ConsultaSincronizacion.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:45:09 AM
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.domain.Eliminacion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Consultas de la sincronización incremental: entidades modificadas y eliminadas después de una posición.
+ * <p>
+ * Las consultas recorren el índice {@code (actualizado_en, id)} de cada tabla con paginación por clave: continúan
+ * después de la última fila entregada, sin {@code OFFSET}, de modo que cada página cuesta lo mismo aunque haya
+ * muchos cambios detrás.
+ */
+@Repository
+public class ConsultaSincronizacion {
+    /**
+     * Entidad modificada: identificador y marcas de tiempo.
+     */
+    public record Modificacion(Long id, Instant creadoEn, Instant actualizadoEn) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Busca las entidades de un recurso modificadas después de una posición, en orden de modificación.
+     *
+     * @param recurso   Recurso consultado.
+     * @param desde     Momento de la posición.
+     * @param despuesDe Identificador de la posición: en {@code desde} solo se incluyen los mayores.
+     * @param hasta     Último momento que se incluye.
+     * @param limite    Número máximo de entidades.
+     * @return Las entidades modificadas, ordenadas por momento de modificación e identificador.
+     */
+    public List<Modificacion> buscarModificadas(RecursoCampos recurso, Instant desde, long despuesDe, Instant hasta, int limite) {
+        String id = "x." + recurso.getId();
+        String jpql = "SELECT " + id + ", x.creadoEn, x.actualizadoEn FROM " + recurso.getEntidad() + " x"
+                + " WHERE (x.actualizadoEn > :desde OR (x.actualizadoEn = :desde AND " + id + " > :despuesDe))"
+                + " AND x.actualizadoEn <= :hasta ORDER BY x.actualizadoEn, " + id;
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("desde", desde)
+                .setParameter("despuesDe", despuesDe)
+                .setParameter("hasta", hasta)
+                .setMaxResults(limite)
+                .getResultList().stream()
+                .map(t -> new Modificacion(t.get(0, Long.class), t.get(1, Instant.class), t.get(2, Instant.class)))
+                .toList();
+    }
+
+    /**
+     * Busca las eliminaciones registradas después de una posición, en orden.
+     *
+     * @param desde     Momento de la posición.
+     * @param despuesDe Identificador de la posición: en {@code desde} solo se incluyen los mayores.
+     * @param hasta     Último momento que se incluye.
+     * @param limite    Número máximo de registros.
+     * @return Los registros, ordenados por momento de eliminación e identificador.
+     */
+    public List<Eliminacion> buscarEliminaciones(Instant desde, long despuesDe, Instant hasta, int limite) {
+        return entityManager.createQuery("SELECT e FROM Eliminacion e"
+                        + " WHERE (e.eliminadoEn > :desde OR (e.eliminadoEn = :desde AND e.idEliminacion > :despuesDe))"
+                        + " AND e.eliminadoEn <= :hasta ORDER BY e.eliminadoEn, e.idEliminacion", Eliminacion.class)
+                .setParameter("desde", desde)
+                .setParameter("despuesDe", despuesDe)
+                .setParameter("hasta", hasta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    /**
+     * Asigna las marcas de tiempo a las entidades de un recurso que aún no las tienen (filas anteriores a las
+     * columnas).
+     *
+     * @param recurso Recurso actualizado.
+     * @param momento Marca que se asigna.
+     * @return Número de entidades actualizadas.
+     */
+    public int completarMarcas(RecursoCampos recurso, Instant momento) {
+        return entityManager.createQuery("UPDATE " + recurso.getEntidad()
+                        + " x SET x.creadoEn = :momento, x.actualizadoEn = :momento WHERE x.actualizadoEn IS NULL")
+                .setParameter("momento", momento)
+                .executeUpdate();
+    }
+}
@@ -8,7 +8,12 @@ package edu.unc.eventos.repositories;
 
 import edu.unc.eventos.domain.Decoracion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface DecoracionRepository extends JpaRepository<Decoracion, Long> {
 
@@ -28,4 +33,80 @@ public interface DecoracionRepository extends JpaRepository<Decoracion, Long> {
      * @return Lista de decoraciones dentro del rango de precio especificado.
      */
     List<Decoracion> findByPrecioBetween(Double minPrecio, Double maxPrecio);
+
+    /**
+     * Columnas de una decoración que devuelven las lecturas de la API.
+     */
+    interface Vista {
+        Long getIdDecoracion();
+
+        String getDescripcion();
+
+        Double getPrecio();
+
+        String getColor();
+    }
+
+    /**
+     * Obtiene todas las decoraciones sin cargar entidades.
+     *
+     * @return Lista de decoraciones ordenada por identificador.
+     */
+    @Query("SELECT d.idDecoracion AS idDecoracion, d.descripcion AS descripcion, d.precio AS precio, d.color AS color"
+            + " FROM Decoracion d ORDER BY d.idDecoracion")
+    List<Vista> findAllVistas();
+
+    /**
+     * Obtiene una decoración sin cargar la entidad.
+     *
+     * @param idDecoracion Identificador de la decoración.
+     * @return La decoración, o vacío si no existe.
+     */
+    @Query("SELECT d.idDecoracion AS idDecoracion, d.descripcion AS descripcion, d.precio AS precio, d.color AS color"
+            + " FROM Decoracion d WHERE d.idDecoracion = :idDecoracion")
+    Optional<Vista> findVistaById(@Param("idDecoracion") Long idDecoracion);
+
+    /**
+     * Obtiene varias decoraciones sin cargar entidades.
+     *
+     * @param idsDecoracion Identificadores de las decoraciones.
+     * @return Las decoraciones que existen, en cualquier orden.
+     */
+    @Query("SELECT d.idDecoracion AS idDecoracion, d.descripcion AS descripcion, d.precio AS precio, d.color AS color"
+            + " FROM Decoracion d WHERE d.idDecoracion IN :idsDecoracion")
+    List<Vista> findVistasByIdDecoracionIn(@Param("idsDecoracion") Collection<Long> idsDecoracion);
+
+    /**
+     * Obtiene el identificador de la decoración siguiente.
+     *
+     * @param idDecoracion Identificador de la decoración actual.
+     * @return El menor identificador mayor que el actual, o null si no hay.
+     */
+    @Query("SELECT MIN(d.idDecoracion) FROM Decoracion d WHERE d.idDecoracion > :idDecoracion")
+    Long findIdSiguiente(@Param("idDecoracion") Long idDecoracion);
+
+    /**
+     * Obtiene el identificador de la decoración anterior.
+     *
+     * @param idDecoracion Identificador de la decoración actual.
+     * @return El mayor identificador menor que el actual, o null si no hay.
+     */
+    @Query("SELECT MAX(d.idDecoracion) FROM Decoracion d WHERE d.idDecoracion < :idDecoracion")
+    Long findIdAnterior(@Param("idDecoracion") Long idDecoracion);
+
+    /**
+     * Obtiene el identificador de la primera decoración.
+     *
+     * @return El menor identificador, o null si no hay decoraciones.
+     */
+    @Query("SELECT MIN(d.idDecoracion) FROM Decoracion d")
+    Long findIdPrimero();
+
+    /**
+     * Obtiene el identificador de la última decoración.
+     *
+     * @return El mayor identificador, o null si no hay decoraciones.
+     */
+    @Query("SELECT MAX(d.idDecoracion) FROM Decoracion d")
+    Long findIdUltimo();
 }
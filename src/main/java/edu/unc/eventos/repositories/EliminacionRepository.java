@@ -0,0 +1,29 @@
+/**
+ * @file: EliminacionRepository.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:38:26 AM
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.domain.Eliminacion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * Repositorio de los registros de entidades eliminadas.
+ */
+public interface EliminacionRepository extends JpaRepository<Eliminacion, Long> {
+    /**
+     * Borra los registros anteriores a un momento.
+     *
+     * @param limite Momento a partir del cual se conservan los registros.
+     * @return Número de registros borrados.
+     */
+    @Modifying
+    @Query("DELETE FROM Eliminacion e WHERE e.eliminadoEn < :limite")
+    int borrarAnteriores(@Param("limite") Instant limite);
+}
@@ -6,10 +6,16 @@
  */
 package edu.unc.eventos.repositories;
 
+import edu.unc.eventos.cache.Organigrama;
 import edu.unc.eventos.domain.Empleado;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 public interface EmpleadoRepository extends JpaRepository<Empleado, Long> {
     /**
@@ -51,4 +57,159 @@ public interface EmpleadoRepository extends JpaRepository<Empleado, Long> {
      * @return El empleado con el email proporcionado.
      */
     Empleado findByEmail(String email);
+
+    /**
+     * Bloquea las filas de varios empleados ({@code SELECT ... FOR UPDATE}) en orden de identificador, para que dos
+     * transacciones que bloquean el mismo par no se esperen mutuamente.
+     *
+     * @param idsEmpleado Identificadores de los empleados.
+     * @return Identificadores de los empleados bloqueados.
+     */
+    @Query(value = "SELECT id_empleado FROM empleado WHERE id_empleado IN (:ids) ORDER BY id_empleado FOR UPDATE",
+            nativeQuery = true)
+    List<Long> bloquear(@Param("ids") Collection<Long> idsEmpleado);
+
+    /**
+     * Obtiene el supervisor directo de un empleado y bloquea su fila ({@code SELECT ... FOR UPDATE}), de modo que
+     * lee el último valor confirmado y nadie lo cambia hasta el final de la transacción.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Identificador del supervisor, o {@code null} si no tiene.
+     */
+    @Query(value = "SELECT id_supervisor FROM empleado WHERE id_empleado = :idEmpleado FOR UPDATE", nativeQuery = true)
+    Long findIdSupervisorParaActualizar(@Param("idEmpleado") Long idEmpleado);
+
+    /**
+     * Obtiene la relación de supervisión de todos los empleados, sin cargar las entidades.
+     *
+     * @return Un nodo por empleado, con su supervisor directo.
+     */
+    @Query("SELECT new edu.unc.eventos.cache.Organigrama$Nodo(e.idEmpleado, s.idEmpleado, CONCAT(e.nombres, ' ', e.apellidos))"
+            + " FROM Empleado e LEFT JOIN e.supervisor s")
+    List<Organigrama.Nodo> findNodosOrganigrama();
+
+    /**
+     * Columnas de un empleado que devuelven las lecturas de la API, con su supervisor y su seguro.
+     */
+    interface Vista {
+        Long getIdEmpleado();
+
+        String getNombres();
+
+        String getApellidos();
+
+        String getDni();
+
+        Date getFechaNacimiento();
+
+        String getDireccion();
+
+        String getTelefono();
+
+        String getEmail();
+
+        Long getIdSupervisor();
+
+        Long getIdSeguro();
+
+        String getCodigoSeguro();
+
+        Date getFechaInscripcionSeguro();
+    }
+
+    /**
+     * Obtiene todos los empleados sin cargar entidades.
+     *
+     * @return Lista de empleados ordenada por identificador.
+     */
+    @Query("SELECT e.idEmpleado AS idEmpleado, e.nombres AS nombres, e.apellidos AS apellidos, e.dni AS dni,"
+            + " e.fechaNacimiento AS fechaNacimiento, e.direccion AS direccion, e.telefono AS telefono, e.email AS email,"
+            + " s.idEmpleado AS idSupervisor, g.idSeguro AS idSeguro, g.codigo AS codigoSeguro,"
+            + " g.fechaInscripcion AS fechaInscripcionSeguro"
+            + " FROM Empleado e LEFT JOIN e.supervisor s LEFT JOIN e.seguro g ORDER BY e.idEmpleado")
+    List<Vista> findAllVistas();
+
+    /**
+     * Obtiene un empleado sin cargar la entidad.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return El empleado, o vacío si no existe.
+     */
+    @Query("SELECT e.idEmpleado AS idEmpleado, e.nombres AS nombres, e.apellidos AS apellidos, e.dni AS dni,"
+            + " e.fechaNacimiento AS fechaNacimiento, e.direccion AS direccion, e.telefono AS telefono, e.email AS email,"
+            + " s.idEmpleado AS idSupervisor, g.idSeguro AS idSeguro, g.codigo AS codigoSeguro,"
+            + " g.fechaInscripcion AS fechaInscripcionSeguro"
+            + " FROM Empleado e LEFT JOIN e.supervisor s LEFT JOIN e.seguro g WHERE e.idEmpleado = :idEmpleado")
+    Optional<Vista> findVistaById(@Param("idEmpleado") Long idEmpleado);
+
+    /**
+     * Obtiene varios empleados sin cargar entidades.
+     *
+     * @param idsEmpleado Identificadores de los empleados.
+     * @return Los empleados que existen, en cualquier orden.
+     */
+    @Query("SELECT e.idEmpleado AS idEmpleado, e.nombres AS nombres, e.apellidos AS apellidos, e.dni AS dni,"
+            + " e.fechaNacimiento AS fechaNacimiento, e.direccion AS direccion, e.telefono AS telefono, e.email AS email,"
+            + " s.idEmpleado AS idSupervisor, g.idSeguro AS idSeguro, g.codigo AS codigoSeguro,"
+            + " g.fechaInscripcion AS fechaInscripcionSeguro"
+            + " FROM Empleado e LEFT JOIN e.supervisor s LEFT JOIN e.seguro g WHERE e.idEmpleado IN :idsEmpleado")
+    List<Vista> findVistasByIdEmpleadoIn(@Param("idsEmpleado") Collection<Long> idsEmpleado);
+
+    /**
+     * Obtiene los subordinados directos de todos los empleados como pares (supervisor, empleado).
+     *
+     * @return Pares ordenados por empleado.
+     */
+    @Query("SELECT e.supervisor.idEmpleado AS id, e.idEmpleado AS idRelacionado FROM Empleado e"
+            + " WHERE e.supervisor IS NOT NULL ORDER BY e.idEmpleado")
+    List<ParIds> findIdsSupervisados();
+
+    /**
+     * Obtiene los subordinados directos de un empleado como pares (supervisor, empleado).
+     *
+     * @param idEmpleado Identificador del supervisor.
+     * @return Pares ordenados por empleado.
+     */
+    @Query("SELECT e.supervisor.idEmpleado AS id, e.idEmpleado AS idRelacionado FROM Empleado e"
+            + " WHERE e.supervisor.idEmpleado = :idEmpleado ORDER BY e.idEmpleado")
+    List<ParIds> findIdsSupervisadosByIdEmpleado(@Param("idEmpleado") Long idEmpleado);
+
+    /**
+     * Obtiene los subordinados directos de varios empleados como pares (supervisor, empleado).
+     *
+     * @param idsEmpleado Identificadores de los supervisores.
+     * @return Pares ordenados por empleado.
+     */
+    @Query("SELECT e.supervisor.idEmpleado AS id, e.idEmpleado AS idRelacionado FROM Empleado e"
+            + " WHERE e.supervisor.idEmpleado IN :idsEmpleado ORDER BY e.idEmpleado")
+    List<ParIds> findIdsSupervisadosByIdEmpleadoIn(@Param("idsEmpleado") Collection<Long> idsEmpleado);
+
+    /**
+     * Obtiene los eventos de todos los empleados como pares (empleado, evento).
+     *
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.empleado.idEmpleado AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.empleado IS NOT NULL ORDER BY e.idEvento")
+    List<ParIds> findIdsEventos();
+
+    /**
+     * Obtiene los eventos de un empleado como pares (empleado, evento).
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.empleado.idEmpleado AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.empleado.idEmpleado = :idEmpleado ORDER BY e.idEvento")
+    List<ParIds> findIdsEventosByIdEmpleado(@Param("idEmpleado") Long idEmpleado);
+
+    /**
+     * Obtiene los eventos de varios empleados como pares (empleado, evento).
+     *
+     * @param idsEmpleado Identificadores de los empleados.
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT e.empleado.idEmpleado AS id, e.idEvento AS idRelacionado FROM Evento e"
+            + " WHERE e.empleado.idEmpleado IN :idsEmpleado ORDER BY e.idEvento")
+    List<ParIds> findIdsEventosByIdEmpleadoIn(@Param("idsEmpleado") Collection<Long> idsEmpleado);
 }
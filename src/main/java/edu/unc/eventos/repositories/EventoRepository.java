@@ -8,11 +8,19 @@ package edu.unc.eventos.repositories;
 
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.dto.EventoDetalleDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventoRepository extends JpaRepository<Evento, Long> {
 
@@ -35,4 +43,64 @@ public interface EventoRepository extends JpaRepository<Evento, Long> {
 
     List<Evento> findByLocalAndFecha(Local local, LocalDate fechaEvento);
 
+    /**
+     * Busca un evento y bloquea su fila hasta el final de la transacción, para que dos modificaciones del mismo
+     * evento no lean a la vez los valores que se descuentan del resumen.
+     *
+     * @param idEvento Identificador del evento.
+     * @return El evento bloqueado, o vacío si no existe.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Evento e WHERE e.idEvento = :idEvento")
+    Optional<Evento> findByIdForUpdate(@Param("idEvento") Long idEvento);
+
+    /**
+     * Obtiene en una sola consulta las columnas del evento y de su cliente, empleado, local y decoración que muestra
+     * el detalle del evento, sin cargar entidades.
+     *
+     * @param idEvento Identificador del evento.
+     * @return Una fila con alias por columna, o vacío si el evento no existe.
+     */
+    @Query("SELECT e.idEvento AS idEvento, e.nombre AS nombre, e.numPersonas AS numPersonas, e.fecha AS fecha,"
+            + " e.duracion AS duracion, e.total AS total,"
+            + " c.idCliente AS idCliente, c.nombre AS clienteNombre, c.di AS clienteDi, c.telefono AS clienteTelefono,"
+            + " em.idEmpleado AS idEmpleado, em.nombres AS empleadoNombres, em.apellidos AS empleadoApellidos,"
+            + " em.telefono AS empleadoTelefono,"
+            + " l.idLocal AS idLocal, l.nombre AS localNombre, l.ubicacion AS localUbicacion,"
+            + " l.referencia AS localReferencia, l.aforo AS localAforo,"
+            + " d.idDecoracion AS idDecoracion, d.descripcion AS decoracionDescripcion, d.color AS decoracionColor,"
+            + " d.precio AS decoracionPrecio"
+            + " FROM Evento e LEFT JOIN e.cliente c LEFT JOIN e.empleado em LEFT JOIN e.local l LEFT JOIN e.decoracion d"
+            + " WHERE e.idEvento = :idEvento")
+    Optional<Tuple> findDetalleById(@Param("idEvento") Long idEvento);
+
+    /**
+     * Obtiene los platos de un evento para su detalle, sin cargar entidades.
+     *
+     * @param idEvento Identificador del evento.
+     * @return Los platos ordenados por nombre.
+     */
+    @Query("SELECT new edu.unc.eventos.dto.EventoDetalleDTO$ResumenPlato(p.idPlato, p.nombre, p.tipo, p.precio)"
+            + " FROM Evento e JOIN e.platos p WHERE e.idEvento = :idEvento ORDER BY p.nombre")
+    List<EventoDetalleDTO.ResumenPlato> findPlatosDetalleById(@Param("idEvento") Long idEvento);
+
+    /**
+     * Obtiene los platos de los eventos indicados como pares (evento, plato).
+     *
+     * @param idsEvento Identificadores de los eventos.
+     * @return Pares ordenados por plato.
+     */
+    @Query("SELECT e.idEvento AS id, p.idPlato AS idRelacionado FROM Evento e JOIN e.platos p"
+            + " WHERE e.idEvento IN :idsEvento ORDER BY p.idPlato")
+    List<ParIds> findIdsPlatosByIdEventoIn(@Param("idsEvento") Collection<Long> idsEvento);
+
+    /**
+     * Obtiene el resumen de los platos indicados, sin cargar entidades.
+     *
+     * @param idsPlato Identificadores de los platos.
+     * @return Los platos ordenados por identificador.
+     */
+    @Query("SELECT new edu.unc.eventos.dto.EventoDetalleDTO$ResumenPlato(p.idPlato, p.nombre, p.tipo, p.precio)"
+            + " FROM Plato p WHERE p.idPlato IN :idsPlato ORDER BY p.idPlato")
+    List<EventoDetalleDTO.ResumenPlato> findResumenesPlatoByIdIn(@Param("idsPlato") Collection<Long> idsPlato);
 }
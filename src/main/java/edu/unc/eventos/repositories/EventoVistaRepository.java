@@ -0,0 +1,114 @@
+/**
+ * @file: EventoVistaRepository.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:20:51 AM
+ * Repository para la tabla de lectura de eventos.
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.domain.EventoVista;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventoVistaRepository extends JpaRepository<EventoVista, Long> {
+
+    /**
+     * Inserción de las filas de lectura a partir de {@code evento} y sus relaciones. Es la única consulta que une las
+     * tablas; se completa con la condición de los eventos que se copian.
+     */
+    String COPIAR = "INSERT INTO evento_view (id_evento, nombre, num_personas, fecha, duracion, total,"
+            + " id_cliente, cliente_nombre, id_empleado, empleado_nombres, empleado_apellidos,"
+            + " id_local, local_nombre, id_decoracion, decoracion_descripcion, num_platos) "
+            + "SELECT e.id_evento, e.nombre, e.num_personas, e.fecha, e.duracion, e.total,"
+            + " e.id_cliente, c.nombre, e.id_empleado, em.nombres, em.apellidos,"
+            + " e.id_local, l.nombre, e.id_decoracion, d.descripcion,"
+            + " (SELECT COUNT(*) FROM evento_plato ep WHERE ep.id_evento = e.id_evento) "
+            + "FROM evento e LEFT JOIN cliente c ON c.id_cliente = e.id_cliente"
+            + " LEFT JOIN empleado em ON em.id_empleado = e.id_empleado"
+            + " LEFT JOIN local l ON l.id_local = e.id_local"
+            + " LEFT JOIN decoracion d ON d.id_decoracion = e.id_decoracion";
+
+    /**
+     * Copia un evento a la tabla de lectura. Los cambios pendientes del evento se envían antes a la base de datos.
+     *
+     * @param idEvento Identificador del evento.
+     * @return Número de filas insertadas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = COPIAR + " WHERE e.id_evento = :idEvento", nativeQuery = true)
+    int copiar(@Param("idEvento") Long idEvento);
+
+    /**
+     * Elimina la fila de lectura de un evento.
+     *
+     * @param idEvento Identificador del evento.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM evento_view WHERE id_evento = :idEvento", nativeQuery = true)
+    void borrar(@Param("idEvento") Long idEvento);
+
+    /**
+     * Actualiza el nombre del cliente en las filas de sus eventos.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param nombre    Nombre nuevo.
+     * @return Número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE EventoVista v SET v.clienteNombre = :nombre WHERE v.idCliente = :idCliente")
+    int actualizarCliente(@Param("idCliente") Long idCliente, @Param("nombre") String nombre);
+
+    /**
+     * Actualiza los nombres del empleado en las filas de sus eventos.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @param nombres    Nombres nuevos.
+     * @param apellidos  Apellidos nuevos.
+     * @return Número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE EventoVista v SET v.empleadoNombres = :nombres, v.empleadoApellidos = :apellidos"
+            + " WHERE v.idEmpleado = :idEmpleado")
+    int actualizarEmpleado(@Param("idEmpleado") Long idEmpleado, @Param("nombres") String nombres,
+                           @Param("apellidos") String apellidos);
+
+    /**
+     * Actualiza el nombre del local en las filas de sus eventos.
+     *
+     * @param idLocal Identificador del local.
+     * @param nombre  Nombre nuevo.
+     * @return Número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE EventoVista v SET v.localNombre = :nombre WHERE v.idLocal = :idLocal")
+    int actualizarLocal(@Param("idLocal") Long idLocal, @Param("nombre") String nombre);
+
+    /**
+     * Actualiza la descripción de la decoración en las filas de sus eventos.
+     *
+     * @param idDecoracion Identificador de la decoración.
+     * @param descripcion  Descripción nueva.
+     * @return Número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE EventoVista v SET v.decoracionDescripcion = :descripcion WHERE v.idDecoracion = :idDecoracion")
+    int actualizarDecoracion(@Param("idDecoracion") Long idDecoracion, @Param("descripcion") String descripcion);
+
+    /**
+     * Elimina todas las filas de lectura.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM evento_view", nativeQuery = true)
+    void borrarTodo();
+
+    /**
+     * Copia todos los eventos a la tabla de lectura.
+     *
+     * @return Número de filas generadas.
+     */
+    @Modifying
+    @Query(value = COPIAR, nativeQuery = true)
+    int reconstruir();
+}
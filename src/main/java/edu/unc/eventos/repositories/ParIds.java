@@ -0,0 +1,41 @@
+/**
+ * @file: ParIds.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 09:52:08 PM
+ */
+package edu.unc.eventos.repositories;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proyección de una relación uno a muchos o muchos a muchos como pares de identificadores, para leerla sin cargar
+ * entidades. Las consultas deben usar los alias {@code id} e {@code idRelacionado}.
+ */
+public interface ParIds {
+    /**
+     * Identificador de la entidad consultada.
+     */
+    Long getId();
+
+    /**
+     * Identificador de la entidad relacionada.
+     */
+    Long getIdRelacionado();
+
+    /**
+     * Agrupa los pares por entidad consultada, conservando el orden de la consulta.
+     *
+     * @param pares Pares leídos de la base de datos.
+     * @return Los identificadores relacionados de cada entidad.
+     */
+    static Map<Long, List<Long>> agrupar(List<ParIds> pares) {
+        Map<Long, List<Long>> grupos = new HashMap<>();
+        for (ParIds par : pares) {
+            grupos.computeIfAbsent(par.getId(), id -> new ArrayList<>()).add(par.getIdRelacionado());
+        }
+        return grupos;
+    }
+}
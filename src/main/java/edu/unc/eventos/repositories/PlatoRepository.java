@@ -8,7 +8,13 @@ package edu.unc.eventos.repositories;
 
 import edu.unc.eventos.domain.Plato;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PlatoRepository extends JpaRepository<Plato, Long> {
 
@@ -27,4 +33,76 @@ public interface PlatoRepository extends JpaRepository<Plato, Long> {
      * @return El plato con el nombre proporcionado.
      */
     Plato findByNombre(String nombre);
+
+    /**
+     * Columnas de un plato que devuelven las lecturas de la API.
+     */
+    interface Vista {
+        Long getIdPlato();
+
+        String getNombre();
+
+        String getDescripcion();
+
+        String getTipo();
+
+        BigDecimal getPrecio();
+    }
+
+    /**
+     * Obtiene todos los platos sin cargar entidades.
+     *
+     * @return Lista de platos ordenada por identificador.
+     */
+    @Query("SELECT p.idPlato AS idPlato, p.nombre AS nombre, p.descripcion AS descripcion, p.tipo AS tipo, p.precio AS precio"
+            + " FROM Plato p ORDER BY p.idPlato")
+    List<Vista> findAllVistas();
+
+    /**
+     * Obtiene un plato sin cargar la entidad.
+     *
+     * @param idPlato Identificador del plato.
+     * @return El plato, o vacío si no existe.
+     */
+    @Query("SELECT p.idPlato AS idPlato, p.nombre AS nombre, p.descripcion AS descripcion, p.tipo AS tipo, p.precio AS precio"
+            + " FROM Plato p WHERE p.idPlato = :idPlato")
+    Optional<Vista> findVistaById(@Param("idPlato") Long idPlato);
+
+    /**
+     * Obtiene varios platos sin cargar entidades.
+     *
+     * @param idsPlato Identificadores de los platos.
+     * @return Los platos que existen, en cualquier orden.
+     */
+    @Query("SELECT p.idPlato AS idPlato, p.nombre AS nombre, p.descripcion AS descripcion, p.tipo AS tipo, p.precio AS precio"
+            + " FROM Plato p WHERE p.idPlato IN :idsPlato")
+    List<Vista> findVistasByIdPlatoIn(@Param("idsPlato") Collection<Long> idsPlato);
+
+    /**
+     * Obtiene los platos de un evento sin cargar entidades.
+     *
+     * @param idEvento Identificador del evento.
+     * @return Lista de platos del evento.
+     */
+    @Query("SELECT p.idPlato AS idPlato, p.nombre AS nombre, p.descripcion AS descripcion, p.tipo AS tipo, p.precio AS precio"
+            + " FROM Evento e JOIN e.platos p WHERE e.idEvento = :idEvento ORDER BY p.idPlato")
+    List<Vista> findVistasByIdEvento(@Param("idEvento") Long idEvento);
+
+    /**
+     * Obtiene los eventos de todos los platos como pares (plato, evento).
+     *
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT p.idPlato AS id, e.idEvento AS idRelacionado FROM Plato p JOIN p.eventos e ORDER BY e.idEvento")
+    List<ParIds> findIdsEventos();
+
+    /**
+     * Obtiene los eventos de los platos indicados como pares (plato, evento).
+     *
+     * @param idsPlato Identificadores de los platos.
+     * @return Pares ordenados por evento.
+     */
+    @Query("SELECT p.idPlato AS id, e.idEvento AS idRelacionado FROM Plato p JOIN p.eventos e"
+            + " WHERE p.idPlato IN :idsPlato ORDER BY e.idEvento")
+    List<ParIds> findIdsEventosByIdPlatoIn(@Param("idsPlato") Collection<Long> idsPlato);
 }
@@ -0,0 +1,168 @@
+/**
+ * @file: RecursoCampos.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:12:40 PM
+ */
+package edu.unc.eventos.repositories;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Campos que se pueden pedir con {@code ?fields=} en cada recurso, y cómo se leen de la base de datos.
+ * <p>
+ * Es la lista blanca de la selección de campos: un campo que no está aquí no se puede pedir, y validar una petición
+ * es buscar cada nombre en un mapa. Las columnas y las relaciones de uno se leen en la consulta principal: una
+ * relación devuelve el identificador de la entidad relacionada, tomado de la clave foránea o, si la clave está en la
+ * otra tabla, de un {@code LEFT JOIN} que solo se agrega si se pide. Las colecciones devuelven los identificadores
+ * relacionados con una consulta aparte, también solo si se piden.
+ */
+public enum RecursoCampos {
+    EVENTO("Evento", "idEvento", "El Evento con el ID proporcionado no se encontró.",
+            Campo.columna("nombre"),
+            Campo.columna("numPersonas"),
+            Campo.columna("fecha"),
+            Campo.columna("duracion"),
+            Campo.columna("total"),
+            Campo.relacion("empleado", "idEmpleado"),
+            Campo.relacion("cliente", "idCliente"),
+            Campo.relacion("local", "idLocal"),
+            Campo.relacion("decoracion", "idDecoracion"),
+            Campo.coleccion("platos", "Evento x JOIN x.platos r", "x.idEvento", "r.idPlato"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    CLIENTE("Cliente", "idCliente", "El cliente con el ID proporcionado no se encontró.",
+            Campo.columna("di"),
+            Campo.columna("nombre"),
+            Campo.columna("direccion"),
+            Campo.columna("telefono"),
+            Campo.coleccion("eventos", "Evento r", "r.cliente.idCliente", "r.idEvento"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    PLATO("Plato", "idPlato", "El plato con el ID proporcionado no se encontró.",
+            Campo.columna("nombre"),
+            Campo.columna("descripcion"),
+            Campo.columna("tipo"),
+            Campo.columna("precio"),
+            Campo.coleccion("eventos", "Plato x JOIN x.eventos r", "x.idPlato", "r.idEvento"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    DECORACION("Decoracion", "idDecoracion", "La decoración con el Id proporcionado no se encontró.",
+            Campo.columna("descripcion"),
+            Campo.columna("precio"),
+            Campo.columna("color"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    LOCAL("Local", "idLocal", "El local con el ID proporcionado no se encontró.",
+            Campo.columna("nombre"),
+            Campo.columna("ubicacion"),
+            Campo.columna("aforo"),
+            Campo.columna("referencia"),
+            Campo.coleccion("eventos", "Evento r", "r.local.idLocal", "r.idEvento"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    EMPLEADO("Empleado", "idEmpleado", "El empleado con el Id proporcionado no se encontró.",
+            Campo.columna("nombres"),
+            Campo.columna("apellidos"),
+            Campo.columna("dni"),
+            Campo.columna("fechaNacimiento"),
+            Campo.columna("direccion"),
+            Campo.columna("telefono"),
+            Campo.columna("email"),
+            Campo.relacion("supervisor", "idEmpleado"),
+            Campo.coleccion("empleados_supervisados", "Empleado r", "r.supervisor.idEmpleado", "r.idEmpleado"),
+            Campo.coleccion("eventos", "Evento r", "r.empleado.idEmpleado", "r.idEvento"),
+            Campo.inversa("seguro", "idSeguro"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn")),
+    SEGURO("Seguro", "idSeguro", "El seguro con el ID proporcionado no se encontró.",
+            Campo.columna("codigo"),
+            Campo.columna("fechaInscripcion"),
+            Campo.relacion("empleado", "idEmpleado"),
+            Campo.columna("creadoEn"),
+            Campo.columna("actualizadoEn"));
+
+    /**
+     * Forma en que se lee un campo.
+     */
+    public enum Tipo {
+        COLUMNA, RELACION, RELACION_INVERSA, COLECCION
+    }
+
+    /**
+     * Campo de un recurso.
+     *
+     * @param nombre      Nombre del campo en la respuesta, igual al del DTO completo.
+     * @param tipo        Forma en que se lee.
+     * @param atributo    Atributo de la entidad (columnas y relaciones de uno).
+     * @param idRelacion  Atributo identificador de la entidad relacionada (relaciones de uno).
+     * @param desde       Cláusula {@code FROM} de la consulta de pares (colecciones).
+     * @param clave       Expresión del identificador de la entidad consultada (colecciones).
+     * @param relacionado Expresión del identificador relacionado (colecciones).
+     */
+    public record Campo(String nombre, Tipo tipo, String atributo, String idRelacion, String desde, String clave,
+                        String relacionado) {
+        static Campo columna(String nombre) {
+            return new Campo(nombre, Tipo.COLUMNA, nombre, null, null, null, null);
+        }
+
+        static Campo relacion(String nombre, String idRelacion) {
+            return new Campo(nombre, Tipo.RELACION, nombre, idRelacion, null, null, null);
+        }
+
+        static Campo inversa(String nombre, String idRelacion) {
+            return new Campo(nombre, Tipo.RELACION_INVERSA, nombre, idRelacion, null, null, null);
+        }
+
+        static Campo coleccion(String nombre, String desde, String clave, String relacionado) {
+            return new Campo(nombre, Tipo.COLECCION, null, null, desde, clave, relacionado);
+        }
+    }
+
+    private final String entidad;
+    private final String id;
+    private final String mensajeNoEncontrado;
+    private final Map<String, Campo> campos;
+
+    RecursoCampos(String entidad, String id, String mensajeNoEncontrado, Campo... campos) {
+        this.entidad = entidad;
+        this.id = id;
+        this.mensajeNoEncontrado = mensajeNoEncontrado;
+        Map<String, Campo> mapa = new LinkedHashMap<>();
+        mapa.put(id, Campo.columna(id));
+        for (Campo campo : List.of(campos)) {
+            mapa.put(campo.nombre(), campo);
+        }
+        this.campos = Collections.unmodifiableMap(mapa);
+    }
+
+    /**
+     * Nombre de la entidad JPA.
+     */
+    public String getEntidad() {
+        return entidad;
+    }
+
+    /**
+     * Nombre del campo identificador, que siempre se incluye en la respuesta.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Mensaje de la respuesta cuando no existe la entidad pedida.
+     */
+    public String getMensajeNoEncontrado() {
+        return mensajeNoEncontrado;
+    }
+
+    /**
+     * Campos permitidos, en el orden en que aparecen en la respuesta.
+     */
+    public Map<String, Campo> getCampos() {
+        return campos;
+    }
+}
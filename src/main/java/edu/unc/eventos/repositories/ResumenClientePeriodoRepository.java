@@ -0,0 +1,110 @@
+/**
+ * @file: ResumenClientePeriodoRepository.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:26:40 PM
+ * Repository para los contadores de eventos y gasto de cada cliente por periodo.
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.domain.ResumenClientePeriodo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface ResumenClientePeriodoRepository extends JpaRepository<ResumenClientePeriodo, ResumenClientePeriodo.Clave> {
+
+    /**
+     * Suma (o resta, con valores negativos) eventos y gasto a los contadores de un cliente en un periodo, creando la
+     * fila si no existe. La actualización es atómica en la base de datos. Como en
+     * {@link ResumenLocalMesRepository#acumular}, la parte {@code UPDATE} repite los parámetros en lugar de usar
+     * {@code VALUES()}.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param periodo   Periodo ({@code 0} o {@code aaaat}).
+     * @param eventos   Eventos a sumar.
+     * @param gasto     Gasto a sumar.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_cliente_periodo (id_cliente, periodo, eventos, gasto) "
+            + "VALUES (:idCliente, :periodo, :eventos, :gasto) "
+            + "ON DUPLICATE KEY UPDATE eventos = eventos + :eventos, gasto = gasto + :gasto",
+            nativeQuery = true)
+    void acumular(@Param("idCliente") Long idCliente, @Param("periodo") int periodo,
+                  @Param("eventos") long eventos, @Param("gasto") BigDecimal gasto);
+
+    /**
+     * Elimina los contadores de un cliente en un periodo si ya no tienen eventos.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param periodo   Periodo ({@code 0} o {@code aaaat}).
+     */
+    @Modifying
+    @Query(value = "DELETE FROM resumen_cliente_periodo WHERE id_cliente = :idCliente AND periodo = :periodo AND eventos = 0",
+            nativeQuery = true)
+    void borrarSiVacio(@Param("idCliente") Long idCliente, @Param("periodo") int periodo);
+
+    /**
+     * Busca los clientes con más eventos en un periodo.
+     *
+     * @param periodo  Periodo ({@code 0} o {@code aaaat}).
+     * @param pageable Número de clientes a devolver.
+     * @return Lista de contadores ordenada de mayor a menor.
+     */
+    List<ResumenClientePeriodo> findByPeriodoOrderByEventosDescIdClienteAsc(Integer periodo, Pageable pageable);
+
+    /**
+     * Busca los clientes con más gasto en un periodo.
+     *
+     * @param periodo  Periodo ({@code 0} o {@code aaaat}).
+     * @param pageable Número de clientes a devolver.
+     * @return Lista de contadores ordenada de mayor a menor.
+     */
+    List<ResumenClientePeriodo> findByPeriodoOrderByGastoDescIdClienteAsc(Integer periodo, Pageable pageable);
+
+    /**
+     * Busca los contadores de un cliente en varios periodos.
+     *
+     * @param idCliente Identificador del cliente.
+     * @param periodos  Periodos buscados.
+     * @return Lista de contadores existentes.
+     */
+    List<ResumenClientePeriodo> findByIdClienteAndPeriodoIn(Long idCliente, Collection<Integer> periodos);
+
+    /**
+     * Elimina todos los contadores.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM resumen_cliente_periodo", nativeQuery = true)
+    void borrarTodo();
+
+    /**
+     * Recalcula los contadores totales de cada cliente a partir de la tabla de eventos.
+     *
+     * @return Número de filas generadas.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_cliente_periodo (id_cliente, periodo, eventos, gasto) "
+            + "SELECT id_cliente, 0, COUNT(*), COALESCE(SUM(total), 0) FROM evento "
+            + "WHERE id_cliente IS NOT NULL GROUP BY id_cliente",
+            nativeQuery = true)
+    int reconstruirTotales();
+
+    /**
+     * Recalcula los contadores trimestrales de cada cliente a partir de la tabla de eventos.
+     *
+     * @return Número de filas generadas.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_cliente_periodo (id_cliente, periodo, eventos, gasto) "
+            + "SELECT id_cliente, YEAR(fecha) * 10 + QUARTER(fecha), COUNT(*), COALESCE(SUM(total), 0) FROM evento "
+            + "WHERE id_cliente IS NOT NULL AND fecha IS NOT NULL "
+            + "GROUP BY id_cliente, YEAR(fecha) * 10 + QUARTER(fecha)",
+            nativeQuery = true)
+    int reconstruirTrimestres();
+}
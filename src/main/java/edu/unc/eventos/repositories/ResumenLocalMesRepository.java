@@ -0,0 +1,89 @@
+/**
+ * @file: ResumenLocalMesRepository.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:27:10 PM
+ * Repository para el resumen mensual de eventos por local.
+ */
+package edu.unc.eventos.repositories;
+
+import edu.unc.eventos.domain.ResumenLocalMes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface ResumenLocalMesRepository extends JpaRepository<ResumenLocalMes, ResumenLocalMes.Clave> {
+
+    /**
+     * Suma (o resta, con valores negativos) ingresos y días reservados al resumen de un local y mes, creando la fila
+     * si no existe. La actualización es atómica en la base de datos, por lo que no se pierden cambios concurrentes.
+     * La parte {@code UPDATE} repite los parámetros en lugar de usar {@code VALUES()}, obsoleta desde MySQL 8.0.20;
+     * el alias de fila que la reemplaza no lo admite H2, con el que se ejecutan las pruebas.
+     *
+     * @param idLocal  Identificador del local.
+     * @param periodo  Mes con el formato aaaamm.
+     * @param ingresos Ingresos a sumar.
+     * @param dias     Días reservados a sumar.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_local_mes (id_local, periodo, ingresos, dias_reservados) "
+            + "VALUES (:idLocal, :periodo, :ingresos, :dias) "
+            + "ON DUPLICATE KEY UPDATE ingresos = ingresos + :ingresos, dias_reservados = dias_reservados + :dias",
+            nativeQuery = true)
+    void acumular(@Param("idLocal") Long idLocal, @Param("periodo") int periodo,
+                  @Param("ingresos") BigDecimal ingresos, @Param("dias") int dias);
+
+    /**
+     * Elimina el resumen de un local y mes si ya no tiene días reservados, como queda tras anular su último evento;
+     * la reconstrucción tampoco genera esas filas.
+     *
+     * @param idLocal Identificador del local.
+     * @param periodo Mes con el formato aaaamm.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM resumen_local_mes WHERE id_local = :idLocal AND periodo = :periodo AND dias_reservados = 0",
+            nativeQuery = true)
+    void borrarSiVacio(@Param("idLocal") Long idLocal, @Param("periodo") int periodo);
+
+    /**
+     * Busca los resúmenes de un rango de meses, ordenados por periodo y local.
+     *
+     * @param desde Primer mes (aaaamm).
+     * @param hasta Último mes (aaaamm).
+     * @return Lista de resúmenes del rango.
+     */
+    List<ResumenLocalMes> findByPeriodoBetweenOrderByPeriodoAscIdLocalAsc(Integer desde, Integer hasta);
+
+    /**
+     * Busca los resúmenes de un local en un rango de meses, ordenados por periodo.
+     *
+     * @param idLocal Identificador del local.
+     * @param desde   Primer mes (aaaamm).
+     * @param hasta   Último mes (aaaamm).
+     * @return Lista de resúmenes del local en el rango.
+     */
+    List<ResumenLocalMes> findByIdLocalAndPeriodoBetweenOrderByPeriodoAsc(Long idLocal, Integer desde, Integer hasta);
+
+    /**
+     * Elimina todos los resúmenes.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM resumen_local_mes", nativeQuery = true)
+    void borrarTodo();
+
+    /**
+     * Recalcula todos los resúmenes a partir de la tabla de eventos.
+     *
+     * @return Número de filas generadas.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_local_mes (id_local, periodo, ingresos, dias_reservados) "
+            + "SELECT id_local, YEAR(fecha) * 100 + MONTH(fecha), COALESCE(SUM(total), 0), COUNT(*) FROM evento "
+            + "WHERE id_local IS NOT NULL AND fecha IS NOT NULL "
+            + "GROUP BY id_local, YEAR(fecha) * 100 + MONTH(fecha)",
+            nativeQuery = true)
+    int reconstruir();
+}
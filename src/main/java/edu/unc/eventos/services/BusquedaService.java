@@ -0,0 +1,33 @@
+/**
+ * @file: BusquedaService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:40:02 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.ResultadoBusquedaDTO;
+import edu.unc.eventos.events.TipoEntidad;
+
+import java.util.List;
+
+/**
+ * Interfaz que define la búsqueda de texto en los catálogos de platos, decoraciones y locales.
+ */
+public interface BusquedaService {
+    /**
+     * Busca en los catálogos. No distingue mayúsculas ni tildes, y ordena los resultados por relevancia.
+     *
+     * @param consulta Texto a buscar.
+     * @param tipo     Catálogo en el que buscar; si es {@code null}, se busca en todos.
+     * @param limite   Número máximo de resultados.
+     * @return Los resultados más relevantes.
+     */
+    List<ResultadoBusquedaDTO> buscar(String consulta, TipoEntidad tipo, int limite);
+
+    /**
+     * Vuelve a construir el índice con el contenido actual de los catálogos.
+     *
+     * @return Número de documentos indexados.
+     */
+    int reconstruir();
+}
@@ -0,0 +1,139 @@
+/**
+ * @file: BusquedaServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 07:43:27 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.busqueda.IndiceInvertido;
+import edu.unc.eventos.busqueda.IndiceInvertido.Campo;
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.ResultadoBusquedaDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.repositories.DecoracionRepository;
+import edu.unc.eventos.repositories.LocalRepository;
+import edu.unc.eventos.repositories.PlatoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación de {@link BusquedaService}.
+ * <p>
+ * El índice se construye con la primera búsqueda (o durante el calentamiento) y luego se mantiene con los cambios
+ * que confirman {@code PlatoServiceImp}, {@code DecoracionServiceImp} y {@code LocalServiceImp}, así que las
+ * búsquedas no consultan la base de datos. Los nombres pesan más que el resto de los campos.
+ */
+@Service
+public class BusquedaServiceImp implements BusquedaService {
+    private static final int PESO_NOMBRE = 3;
+    private static final int PESO_CAMPO = 1;
+    private static final Set<TipoEntidad> CATALOGOS = EnumSet.of(TipoEntidad.PLATO, TipoEntidad.DECORACION, TipoEntidad.LOCAL);
+
+    @Autowired
+    private PlatoRepository platoRepository;
+
+    @Autowired
+    private DecoracionRepository decoracionRepository;
+
+    @Autowired
+    private LocalRepository localRepository;
+
+    /**
+     * Índice vigente; {@code null} hasta la primera carga. Cada reconstrucción llena un índice nuevo y lo publica
+     * al terminar, así que las búsquedas nunca ven un índice vacío o a medio llenar.
+     */
+    private volatile IndiceInvertido<Clave> indice;
+
+    /**
+     * Clave de un documento del índice.
+     */
+    private record Clave(TipoEntidad tipo, Long id) {
+    }
+
+    @Override
+    public List<ResultadoBusquedaDTO> buscar(String consulta, TipoEntidad tipo, int limite) {
+        IndiceInvertido<Clave> actual = indice;
+        if (actual == null) {
+            actual = cargar();
+        }
+        return actual.buscar(consulta, clave -> tipo == null || clave.tipo() == tipo, limite).stream()
+                .map(r -> new ResultadoBusquedaDTO(r.clave().tipo().name().toLowerCase(), r.clave().id(), r.titulo(), r.puntaje()))
+                .toList();
+    }
+
+    /**
+     * Construye el índice si nadie lo hizo mientras se esperaba el bloqueo; las búsquedas que llegan juntas antes de
+     * la primera carga leen la base de datos una sola vez.
+     */
+    private synchronized IndiceInvertido<Clave> cargar() {
+        if (indice == null) {
+            reconstruir();
+        }
+        return indice;
+    }
+
+    /**
+     * Los cambios que se confirman durante la reconstrucción esperan el mismo bloqueo y se aplican sobre el índice
+     * nuevo, que ya leyó la versión anterior de la entidad.
+     */
+    @Override
+    public synchronized int reconstruir() {
+        IndiceInvertido<Clave> nuevo = new IndiceInvertido<>();
+        platoRepository.findAll().forEach(plato -> indexar(nuevo, plato));
+        decoracionRepository.findAll().forEach(decoracion -> indexar(nuevo, decoracion));
+        localRepository.findAll().forEach(local -> indexar(nuevo, local));
+        indice = nuevo;
+        return nuevo.tamanio();
+    }
+
+    /**
+     * Actualiza el índice cuando se confirma un cambio en un plato, una decoración o un local.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntidadModificada(EntidadModificadaEvent evento) {
+        IndiceInvertido<Clave> actual = indice;
+        if (actual == null || !CATALOGOS.contains(evento.getTipo())) {
+            return;
+        }
+        if (evento.getCambio() == TipoCambio.ELIMINACION) {
+            actual.quitar(new Clave(evento.getTipo(), evento.getId()));
+        } else if (evento.getEntidad() instanceof Plato plato) {
+            indexar(actual, plato);
+        } else if (evento.getEntidad() instanceof Decoracion decoracion) {
+            indexar(actual, decoracion);
+        } else if (evento.getEntidad() instanceof Local local) {
+            indexar(actual, local);
+        }
+    }
+
+    private static void indexar(IndiceInvertido<Clave> destino, Plato plato) {
+        destino.agregar(new Clave(TipoEntidad.PLATO, plato.getIdPlato()), plato.getNombre(),
+                new Campo(plato.getNombre(), PESO_NOMBRE),
+                new Campo(plato.getDescripcion(), PESO_CAMPO),
+                new Campo(plato.getTipo(), PESO_CAMPO));
+    }
+
+    private static void indexar(IndiceInvertido<Clave> destino, Decoracion decoracion) {
+        destino.agregar(new Clave(TipoEntidad.DECORACION, decoracion.getIdDecoracion()), decoracion.getDescripcion(),
+                new Campo(decoracion.getDescripcion(), PESO_NOMBRE),
+                new Campo(decoracion.getColor(), PESO_CAMPO));
+    }
+
+    private static void indexar(IndiceInvertido<Clave> destino, Local local) {
+        destino.agregar(new Clave(TipoEntidad.LOCAL, local.getIdLocal()), local.getNombre(),
+                new Campo(local.getNombre(), PESO_NOMBRE),
+                new Campo(local.getReferencia(), PESO_CAMPO),
+                new Campo(local.getUbicacion(), PESO_CAMPO));
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * @file: CambioService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 01:26:37 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.events.TipoEntidad;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Interfaz que define el flujo de cambios de eventos, platos, decoraciones y locales (Server-Sent Events).
+ */
+public interface CambioService {
+    /**
+     * Tipos de entidad que se pueden seguir en el flujo de cambios.
+     */
+    Set<TipoEntidad> TIPOS = Set.of(TipoEntidad.EVENTO, TipoEntidad.PLATO, TipoEntidad.DECORACION, TipoEntidad.LOCAL);
+
+    /**
+     * Abre una suscripción al flujo de cambios.
+     * <p>
+     * Si se indica el identificador del último cambio recibido y ese cambio sigue en el historial, primero se envían
+     * los cambios posteriores. Si ya no está, se envía un evento {@code reinicio} para que el cliente vuelva a cargar
+     * los datos.
+     *
+     * @param tipos    Tipos de entidad que se quieren recibir.
+     * @param ultimoId Identificador del último cambio recibido ({@code Last-Event-ID}); puede ser {@code null}.
+     * @return La conexión SSE, o vacío si se alcanzó el máximo de suscriptores.
+     */
+    Optional<SseEmitter> suscribir(Set<TipoEntidad> tipos, String ultimoId);
+}
@@ -0,0 +1,212 @@
+/**
+ * @file: CambioServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 01:34:52 AM
+ */
+package edu.unc.eventos.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.cambios.Suscripcion;
+import edu.unc.eventos.dto.CambioDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoEntidad;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementación de {@link CambioService}.
+ * <p>
+ * Los cambios se reciben después del commit de la transacción que los originó y se reparten a las suscripciones sin
+ * bloquear a quien los publica: cada suscripción tiene su propio buffer y un grupo pequeño de hilos compartidos hace
+ * los envíos. Un suscriptor que no vacía su buffer a tiempo se desconecta. Los últimos cambios se guardan en un
+ * historial en memoria para que un cliente que se reconecta con {@code Last-Event-ID} retome donde se quedó; los
+ * identificadores incluyen el instante de arranque, de modo que los de una ejecución anterior piden un reinicio.
+ */
+@Service
+public class CambioServiceImp implements CambioService {
+    private static final String EVENTO_CAMBIO = "cambio";
+    private static final String EVENTO_REINICIO = "reinicio";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.cambios.max-suscriptores:10000}")
+    private int maxSuscriptores;
+
+    @Value("${app.cambios.buffer:256}")
+    private int buffer;
+
+    @Value("${app.cambios.historial:1000}")
+    private int historial;
+
+    @Value("${app.cambios.hilos:4}")
+    private int hilos;
+
+    @Value("${app.cambios.latido:30s}")
+    private Duration latido;
+
+    @Value("${app.cambios.tiempo-conexion:30m}")
+    private Duration tiempoConexion;
+
+    private final String arranque = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Suscripcion> suscripciones = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<Registro> ultimos = new ArrayDeque<>();
+    private long secuencia;
+
+    private ExecutorService enviador;
+    private ScheduledExecutorService latidos;
+    private Counter desconexionesLentas;
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger contador = new AtomicInteger();
+        enviador = Executors.newFixedThreadPool(hilos, r -> {
+            Thread hilo = new Thread(r, "cambios-envio-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        latidos = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "cambios-latido");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        latidos.scheduleAtFixedRate(() -> suscripciones.forEach(Suscripcion::latir),
+                latido.toMillis(), latido.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("eventos.cambios.suscriptores", suscripciones, Set::size)
+                .description("Suscripciones abiertas al flujo de cambios")
+                .register(registry);
+        desconexionesLentas = Counter.builder("eventos.cambios.desconexiones")
+                .description("Suscriptores desconectados por no leer los cambios a tiempo")
+                .tag("motivo", "lento")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void detener() {
+        latidos.shutdownNow();
+        suscripciones.forEach(Suscripcion::cerrar);
+        enviador.shutdown();
+    }
+
+    @Override
+    public Optional<SseEmitter> suscribir(Set<TipoEntidad> tipos, String ultimoId) {
+        if (suscripciones.size() >= maxSuscriptores) {
+            return Optional.empty();
+        }
+        SseEmitter emisor = new SseEmitter(tiempoConexion.toMillis());
+        Suscripcion suscripcion = new Suscripcion(emisor, tipos, buffer, enviador, suscripciones::remove);
+        emisor.onCompletion(suscripcion::cerrar);
+        emisor.onError(e -> suscripcion.cerrar());
+        emisor.onTimeout(() -> {
+            suscripcion.cerrar();
+            emisor.complete();
+        });
+        // Con el historial bloqueado no se publican cambios: no se pierde ni se repite ninguno entre el historial y
+        // los nuevos
+        synchronized (ultimos) {
+            List<Suscripcion.Envio> perdidos = perdidos(ultimoId, tipos);
+            if (perdidos == null) {
+                suscripcion.ofrecer(new Suscripcion.Envio(arranque + "-" + secuencia, EVENTO_REINICIO,
+                        "Los cambios desde el último recibido ya no están disponibles. Vuelva a cargar los datos."));
+            } else {
+                perdidos.forEach(suscripcion::ofrecer);
+            }
+            suscripciones.add(suscripcion);
+        }
+        return Optional.of(emisor);
+    }
+
+    /**
+     * Reparte a las suscripciones los cambios confirmados de eventos, platos, decoraciones y locales.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (!TIPOS.contains(evento.getTipo())) {
+            return;
+        }
+        // Se serializa una sola vez para todos los suscriptores
+        String cambio;
+        try {
+            cambio = objectMapper.writeValueAsString(
+                    new CambioDTO(evento.getTipo(), evento.getId(), evento.getCambio(), new Date()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cambio", e);
+        }
+        synchronized (ultimos) {
+            secuencia++;
+            Suscripcion.Envio envio = new Suscripcion.Envio(arranque + "-" + secuencia, EVENTO_CAMBIO, cambio);
+            ultimos.addLast(new Registro(secuencia, evento.getTipo(), envio));
+            if (ultimos.size() > historial) {
+                ultimos.removeFirst();
+            }
+            for (Suscripcion suscripcion : suscripciones) {
+                if (suscripcion.interesa(evento.getTipo()) && !suscripcion.ofrecer(envio)) {
+                    desconexionesLentas.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Busca en el historial los cambios posteriores al último recibido por el cliente.
+     *
+     * @return Los cambios que faltan, o {@code null} si no se pueden recuperar y el cliente debe reiniciar.
+     */
+    private List<Suscripcion.Envio> perdidos(String ultimoId, Set<TipoEntidad> tipos) {
+        if (ultimoId == null || ultimoId.isBlank()) {
+            return List.of();
+        }
+        int separador = ultimoId.lastIndexOf('-');
+        if (separador < 0 || !ultimoId.substring(0, separador).equals(arranque)) {
+            return null;
+        }
+        long ultimo;
+        try {
+            ultimo = Long.parseLong(ultimoId.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long primero = ultimos.isEmpty() ? secuencia + 1 : ultimos.getFirst().secuencia();
+        if (ultimo > secuencia || ultimo < primero - 1) {
+            return null;
+        }
+        List<Suscripcion.Envio> perdidos = new ArrayList<>();
+        for (Registro registro : ultimos) {
+            if (registro.secuencia() > ultimo && tipos.contains(registro.tipo())) {
+                perdidos.add(registro.envio());
+            }
+        }
+        return perdidos.size() > buffer ? null : perdidos;
+    }
+
+    private record Registro(long secuencia, TipoEntidad tipo, Suscripcion.Envio envio) {
+    }
+}
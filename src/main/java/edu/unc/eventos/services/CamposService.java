@@ -0,0 +1,52 @@
+/**
+ * @file: CamposService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:26:14 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.exception.EntityNotFoundException;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.RecursoCampos;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interfaz que define las consultas que devuelven solo los campos pedidos con el parámetro {@code fields}.
+ */
+public interface CamposService {
+    /**
+     * Obtiene los campos pedidos de todas las entidades de un recurso.
+     *
+     * @param recurso Recurso consultado.
+     * @param fields  Nombres de los campos separados por comas; el identificador se incluye siempre.
+     * @return Una fila por entidad con los campos pedidos.
+     * @throws IllegalOperationException Si algún campo no está permitido para el recurso.
+     */
+    List<Map<String, Object>> getAll(RecursoCampos recurso, String fields) throws IllegalOperationException;
+
+    /**
+     * Obtiene los campos pedidos de varias entidades.
+     *
+     * @param recurso Recurso consultado.
+     * @param ids     Identificadores de las entidades.
+     * @param fields  Nombres de los campos separados por comas; el identificador se incluye siempre.
+     * @return Una fila por cada entidad que existe, ordenadas por identificador.
+     * @throws IllegalOperationException Si algún campo no está permitido para el recurso.
+     */
+    List<Map<String, Object>> getByIds(RecursoCampos recurso, Collection<Long> ids, String fields) throws IllegalOperationException;
+
+    /**
+     * Obtiene los campos pedidos de una entidad.
+     *
+     * @param recurso Recurso consultado.
+     * @param id      Identificador de la entidad.
+     * @param fields  Nombres de los campos separados por comas; el identificador se incluye siempre.
+     * @return Los campos pedidos de la entidad.
+     * @throws EntityNotFoundException   Si la entidad no existe.
+     * @throws IllegalOperationException Si algún campo no está permitido para el recurso.
+     */
+    Map<String, Object> getById(RecursoCampos recurso, Long id, String fields) throws EntityNotFoundException, IllegalOperationException;
+}
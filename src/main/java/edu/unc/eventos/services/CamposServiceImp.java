@@ -0,0 +1,80 @@
+/**
+ * @file: CamposServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:29:47 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.exception.EntityNotFoundException;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaCampos;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.repositories.RecursoCampos.Campo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Implementación de {@link CamposService}.
+ * <p>
+ * Los campos se validan contra la lista blanca de {@link RecursoCampos} antes de armar la consulta, de modo que solo
+ * llegan al texto JPQL nombres conocidos.
+ */
+@Service
+public class CamposServiceImp implements CamposService {
+    @Autowired
+    private ConsultaCampos consultaCampos;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAll(RecursoCampos recurso, String fields) throws IllegalOperationException {
+        return consultaCampos.buscar(recurso, seleccionar(recurso, fields), null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getByIds(RecursoCampos recurso, Collection<Long> ids, String fields) throws IllegalOperationException {
+        return consultaCampos.buscar(recurso, seleccionar(recurso, fields), ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getById(RecursoCampos recurso, Long id, String fields) throws EntityNotFoundException, IllegalOperationException {
+        List<Map<String, Object>> filas = consultaCampos.buscar(recurso, seleccionar(recurso, fields), List.of(id));
+        if (filas.isEmpty()) {
+            throw new EntityNotFoundException(recurso.getMensajeNoEncontrado());
+        }
+        return filas.get(0);
+    }
+
+    /**
+     * Valida los campos pedidos y los devuelve en el orden de la lista blanca, con el identificador primero.
+     */
+    private static List<Campo> seleccionar(RecursoCampos recurso, String fields) throws IllegalOperationException {
+        Set<String> pedidos = new HashSet<>();
+        for (String nombre : fields.split(",")) {
+            String campo = nombre.trim();
+            if (campo.isEmpty()) {
+                continue;
+            }
+            if (!recurso.getCampos().containsKey(campo)) {
+                throw new IllegalOperationException("El campo '" + campo + "' no está permitido. Campos permitidos: "
+                        + String.join(", ", recurso.getCampos().keySet()));
+            }
+            pedidos.add(campo);
+        }
+        if (pedidos.isEmpty()) {
+            throw new IllegalOperationException("Debe indicar al menos un campo. Campos permitidos: "
+                    + String.join(", ", recurso.getCampos().keySet()));
+        }
+        List<Campo> campos = new ArrayList<>();
+        for (Campo campo : recurso.getCampos().values()) {
+            if (campo.nombre().equals(recurso.getId()) || pedidos.contains(campo.nombre())) {
+                campos.add(campo);
+            }
+        }
+        return campos;
+    }
+}
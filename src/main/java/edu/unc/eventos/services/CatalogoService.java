@@ -0,0 +1,33 @@
+/**
+ * @file: CatalogoService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:10:52 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.cache.CatalogoSnapshot;
+
+/**
+ * Interfaz que define los servicios de la instantánea versionada de catálogos (platos, decoraciones y locales).
+ */
+public interface CatalogoService {
+    /**
+     * Devuelve la instantánea vigente de los catálogos. Si aún no existe, la construye.
+     *
+     * @return La instantánea actual.
+     */
+    CatalogoSnapshot getSnapshot();
+
+    /**
+     * Devuelve los cambios serializados entre una versión anterior y la versión actual.
+     *
+     * @param desdeVersion Versión que tiene el cliente.
+     * @return Los cambios en formato JSON o {@code null} si la versión ya no está en el historial.
+     */
+    byte[] getDelta(long desdeVersion);
+
+    /**
+     * Reconstruye la instantánea a partir de la base de datos.
+     */
+    void reconstruir();
+}
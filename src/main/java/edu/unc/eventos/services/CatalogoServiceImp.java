@@ -0,0 +1,252 @@
+/**
+ * @file: CatalogoServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:18:05 AM
+ */
+package edu.unc.eventos.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.cache.CatalogoSnapshot;
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.CatalogoDTO;
+import edu.unc.eventos.dto.CatalogoDeltaDTO;
+import edu.unc.eventos.dto.DecoracionDTO;
+import edu.unc.eventos.dto.LocalDTO;
+import edu.unc.eventos.dto.PlatoDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.repositories.DecoracionRepository;
+import edu.unc.eventos.repositories.LocalRepository;
+import edu.unc.eventos.repositories.PlatoRepository;
+import edu.unc.eventos.util.ApiResponse;
+import jakarta.annotation.PreDestroy;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementación de {@link CatalogoService}.
+ * <p>
+ * La instantánea se reconstruye en segundo plano, en un único hilo, cada vez que {@code PlatoServiceImp},
+ * {@code DecoracionServiceImp} o {@code LocalServiceImp} confirman un cambio. Varias modificaciones seguidas se
+ * agrupan en una sola reconstrucción. La versión es el mayor valor entre la versión anterior más uno y la hora actual
+ * en milisegundos, de modo que sigue creciendo aunque la aplicación se reinicie.
+ */
+@Service
+public class CatalogoServiceImp implements CatalogoService {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogoServiceImp.class);
+
+    @Autowired
+    private PlatoRepository platoRepository;
+
+    @Autowired
+    private DecoracionRepository decoracionRepository;
+
+    @Autowired
+    private LocalRepository localRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.catalogo.gzip:true}")
+    private boolean gzip;
+
+    @Value("${app.catalogo.historial:16}")
+    private int historial;
+
+    /**
+     * Mapper propio que omite las listas de eventos, que no forman parte del catálogo.
+     */
+    private final ModelMapper catalogoMapper = crearMapper();
+
+    private final AtomicReference<CatalogoSnapshot> actual = new AtomicReference<>();
+    private final Deque<CatalogoSnapshot> anteriores = new ArrayDeque<>();
+    private final AtomicBoolean pendiente = new AtomicBoolean();
+    private final ExecutorService reconstructor = Executors.newSingleThreadExecutor(r -> {
+        Thread hilo = new Thread(r, "catalogo-snapshot");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    @Override
+    public CatalogoSnapshot getSnapshot() {
+        CatalogoSnapshot snapshot = actual.get();
+        if (snapshot == null) {
+            reconstruir();
+            snapshot = actual.get();
+        }
+        return snapshot;
+    }
+
+    @Override
+    public byte[] getDelta(long desdeVersion) {
+        CatalogoSnapshot snapshot = getSnapshot();
+        CatalogoSnapshot base = buscarAnterior(desdeVersion);
+        if (base == null) {
+            return null;
+        }
+        return snapshot.getDeltas().computeIfAbsent(desdeVersion, v ->
+                serializar(new ApiResponse<>(true, "Cambios del catálogo", calcularDelta(base, snapshot))));
+    }
+
+    @Override
+    public synchronized void reconstruir() {
+        Map<Long, PlatoDTO> platos = indexar(platoRepository.findAll(Sort.by("idPlato")), PlatoDTO.class, PlatoDTO::getIdPlato);
+        Map<Long, DecoracionDTO> decoraciones = indexar(decoracionRepository.findAll(Sort.by("idDecoracion")), DecoracionDTO.class, DecoracionDTO::getIdDecoracion);
+        Map<Long, LocalDTO> locales = indexar(localRepository.findAll(Sort.by("idLocal")), LocalDTO.class, LocalDTO::getIdLocal);
+
+        CatalogoSnapshot anterior = actual.get();
+        if (anterior != null && anterior.getPlatos().equals(platos)
+                && anterior.getDecoraciones().equals(decoraciones) && anterior.getLocales().equals(locales)) {
+            return;
+        }
+
+        long version = anterior == null
+                ? System.currentTimeMillis()
+                : Math.max(anterior.getVersion() + 1, System.currentTimeMillis());
+        CatalogoDTO catalogo = new CatalogoDTO();
+        catalogo.setVersion(version);
+        catalogo.setPlatos(new ArrayList<>(platos.values()));
+        catalogo.setDecoraciones(new ArrayList<>(decoraciones.values()));
+        catalogo.setLocales(new ArrayList<>(locales.values()));
+        byte[] json = serializar(new ApiResponse<>(true, "Catálogo", catalogo));
+
+        if (anterior != null) {
+            anteriores.addFirst(anterior);
+            while (anteriores.size() > historial) {
+                anteriores.removeLast();
+            }
+        }
+        actual.set(new CatalogoSnapshot(version, platos, decoraciones, locales, json, gzip ? comprimir(json) : null));
+        logger.info("Catálogo reconstruido. Versión: {}, platos: {}, decoraciones: {}, locales: {}",
+                version, platos.size(), decoraciones.size(), locales.size());
+    }
+
+    /**
+     * Construye la primera instantánea cuando la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        programarReconstruccion();
+    }
+
+    /**
+     * Programa una reconstrucción cuando se confirma un cambio en alguno de los catálogos.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (evento.getTipo() == TipoEntidad.PLATO || evento.getTipo() == TipoEntidad.DECORACION
+                || evento.getTipo() == TipoEntidad.LOCAL) {
+            programarReconstruccion();
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        reconstructor.shutdownNow();
+    }
+
+    private void programarReconstruccion() {
+        if (pendiente.compareAndSet(false, true)) {
+            reconstructor.execute(() -> {
+                pendiente.set(false);
+                try {
+                    reconstruir();
+                } catch (RuntimeException e) {
+                    logger.error("No se pudo reconstruir el catálogo", e);
+                }
+            });
+        }
+    }
+
+    private synchronized CatalogoSnapshot buscarAnterior(long version) {
+        for (CatalogoSnapshot snapshot : anteriores) {
+            if (snapshot.getVersion() == version) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    private static CatalogoDeltaDTO calcularDelta(CatalogoSnapshot base, CatalogoSnapshot snapshot) {
+        CatalogoDeltaDTO delta = new CatalogoDeltaDTO();
+        delta.setDesdeVersion(base.getVersion());
+        delta.setVersion(snapshot.getVersion());
+        comparar(base.getPlatos(), snapshot.getPlatos(), delta.getPlatos(), delta.getPlatosEliminados());
+        comparar(base.getDecoraciones(), snapshot.getDecoraciones(), delta.getDecoraciones(), delta.getDecoracionesEliminadas());
+        comparar(base.getLocales(), snapshot.getLocales(), delta.getLocales(), delta.getLocalesEliminados());
+        return delta;
+    }
+
+    private static <T> void comparar(Map<Long, T> antes, Map<Long, T> despues, List<T> modificados, List<Long> eliminados) {
+        despues.forEach((id, dto) -> {
+            if (!dto.equals(antes.get(id))) {
+                modificados.add(dto);
+            }
+        });
+        antes.keySet().stream().filter(id -> !despues.containsKey(id)).forEach(eliminados::add);
+    }
+
+    private <E, D> Map<Long, D> indexar(List<E> entidades, Class<D> tipo, Function<D, Long> id) {
+        Map<Long, D> indice = new LinkedHashMap<>();
+        for (E entidad : entidades) {
+            D dto = catalogoMapper.map(entidad, tipo);
+            indice.put(id.apply(dto), dto);
+        }
+        return indice;
+    }
+
+    private byte[] serializar(Object valor) {
+        try {
+            return objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el catálogo", e);
+        }
+    }
+
+    private static byte[] comprimir(byte[] datos) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(datos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return salida.toByteArray();
+    }
+
+    private static ModelMapper crearMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.typeMap(Plato.class, PlatoDTO.class).addMappings(m -> m.skip(PlatoDTO::setEventos));
+        mapper.typeMap(Decoracion.class, DecoracionDTO.class).addMappings(m -> m.skip(DecoracionDTO::setEventos));
+        mapper.typeMap(Local.class, LocalDTO.class).addMappings(m -> m.skip(LocalDTO::setEventos));
+        return mapper;
+    }
+}
@@ -7,9 +7,11 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Cliente;
 import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.ClienteDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +36,30 @@ public interface ClienteService {
      */
     Cliente getById(Long idCliente) throws EntityNotFoundException;
 
+    /**
+     * Recupera todos los clientes con consultas de proyección, sin cargar entidades.
+     *
+     * @return Lista de clientes con los identificadores de sus eventos.
+     */
+    List<ClienteDTO> getAllVistas();
+
+    /**
+     * Recupera un cliente con consultas de proyección, sin cargar entidades.
+     *
+     * @param idCliente Identificador del cliente.
+     * @return El cliente con los identificadores de sus eventos.
+     * @throws EntityNotFoundException Si el cliente no existe.
+     */
+    ClienteDTO getVistaById(Long idCliente) throws EntityNotFoundException;
+
+    /**
+     * Recupera varios clientes con consultas de proyección, sin cargar entidades.
+     *
+     * @param idsCliente Identificadores de los clientes.
+     * @return Los clientes que existen, en cualquier orden.
+     */
+    List<ClienteDTO> getVistasByIds(Collection<Long> idsCliente);
+
     /**
      * Guarda un nuevo cliente.
      *
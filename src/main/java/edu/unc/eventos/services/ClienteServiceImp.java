@@ -7,15 +7,26 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Cliente;
 import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.ClienteDTO;
+import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.ClienteRepository;
+import edu.unc.eventos.repositories.ParIds;
+import edu.unc.eventos.util.RestriccionUnica;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -32,13 +43,16 @@ public class ClienteServiceImp implements ClienteService {
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve todos los clientes que hay en la base de datos.
      *
      * @return Lista de entidades de tipo cliente.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Cliente> getAll() {
         return clienteRepository.findAll();
     }
@@ -51,7 +65,7 @@ public class ClienteServiceImp implements ClienteService {
      * @throws EntityNotFoundException Si el cliente no se encuentra en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Cliente getById(Long idCliente) throws EntityNotFoundException {
         Optional<Cliente> clienteOpt = clienteRepository.findById(idCliente);
         if (clienteOpt.isEmpty()) {
@@ -60,6 +74,60 @@ public class ClienteServiceImp implements ClienteService {
         return clienteOpt.get();
     }
 
+    /**
+     * Devuelve todos los clientes con dos consultas: una para las columnas del cliente y otra para los identificadores
+     * de sus eventos.
+     *
+     * @return Lista de clientes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClienteDTO> getAllVistas() {
+        Map<Long, List<Long>> eventos = ParIds.agrupar(clienteRepository.findIdsEventos());
+        List<ClienteDTO> clientes = new ArrayList<>();
+        for (ClienteRepository.Vista vista : clienteRepository.findAllVistas()) {
+            clientes.add(aDTO(vista, eventos));
+        }
+        return clientes;
+    }
+
+    /**
+     * Devuelve un cliente con dos consultas: una para las columnas del cliente y otra para los identificadores de sus
+     * eventos.
+     *
+     * @param idCliente Id del cliente que se quiere buscar.
+     * @return El cliente que se encontró.
+     * @throws EntityNotFoundException Si el cliente no se encuentra en la base de datos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ClienteDTO getVistaById(Long idCliente) throws EntityNotFoundException {
+        ClienteRepository.Vista vista = clienteRepository.findVistaById(idCliente)
+                .orElseThrow(() -> new EntityNotFoundException("El cliente con el ID proporcionado no se encontró."));
+        return aDTO(vista, ParIds.agrupar(clienteRepository.findIdsEventosByIdCliente(idCliente)));
+    }
+
+    /**
+     * Devuelve varios clientes con dos consultas, sin importar cuántos se pidan.
+     *
+     * @param idsCliente Ids de los clientes que se quieren buscar.
+     * @return Los clientes que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClienteDTO> getVistasByIds(Collection<Long> idsCliente) {
+        List<ClienteDTO> clientes = new ArrayList<>();
+        List<ClienteRepository.Vista> vistas = clienteRepository.findVistasByIdClienteIn(idsCliente);
+        if (vistas.isEmpty()) {
+            return clientes;
+        }
+        Map<Long, List<Long>> eventos = ParIds.agrupar(clienteRepository.findIdsEventosByIdClienteIn(idsCliente));
+        for (ClienteRepository.Vista vista : vistas) {
+            clientes.add(aDTO(vista, eventos));
+        }
+        return clientes;
+    }
+
     /**
      * Guarda un nuevo cliente
      *
@@ -68,12 +136,16 @@ public class ClienteServiceImp implements ClienteService {
      * @throws IllegalOperationException Si el documento de identidad del cliente ya existe.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Cliente save(Cliente cliente) throws IllegalOperationException {
-        if (clienteRepository.findByDi(cliente.getDi()) != null) {
-            throw new IllegalOperationException("El cliente con el mismo documento de identidad ya existe.");
+        Cliente guardado;
+        try {
+            guardado = clienteRepository.saveAndFlush(cliente);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e, "El cliente con el mismo documento de identidad ya existe.");
         }
-        return clienteRepository.save(cliente);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.CLIENTE, guardado.getIdCliente(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -86,19 +158,22 @@ public class ClienteServiceImp implements ClienteService {
      * @throws IllegalOperationException Si el documento de identidad ya pertenece a otro cliente.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Cliente update(Long idCliente, Cliente cliente) throws EntityNotFoundException, IllegalOperationException {
         Optional<Cliente> clienteOpt = clienteRepository.findById(idCliente);
         if (clienteOpt.isEmpty()) {
             throw new EntityNotFoundException("El cliente con el Id proporcionado no se encontró.");
         }
-        Cliente clienteConNuevoDi = clienteRepository.findByDi(cliente.getDi());
-        if (clienteConNuevoDi != null) {
-            throw new IllegalOperationException("El documento de identidad ya se encuentra registrado.");
-        }
 
         cliente.setIdCliente(idCliente);
-        return clienteRepository.save(cliente);
+        Cliente actualizado;
+        try {
+            actualizado = clienteRepository.saveAndFlush(cliente);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e, "El documento de identidad ya se encuentra registrado.");
+        }
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.CLIENTE, actualizado.getIdCliente(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -118,6 +193,7 @@ public class ClienteServiceImp implements ClienteService {
             throw new IllegalOperationException("El cliente tiene eventos asociados.");
         }
         clienteRepository.deleteById(idCliente);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.CLIENTE, idCliente, TipoCambio.ELIMINACION, null));
     }
 
     /**
@@ -128,7 +204,7 @@ public class ClienteServiceImp implements ClienteService {
      * @throws EntityNotFoundException Si el cliente no se encuentra en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Evento> getAllEventosByIdCliente(Long idCliente) throws EntityNotFoundException {
         Cliente cliente = clienteRepository.findById(idCliente)
                 .orElseThrow(() -> new EntityNotFoundException("Cliente no encontrado con ID: " + idCliente));
@@ -138,42 +214,50 @@ public class ClienteServiceImp implements ClienteService {
 
     @Override
     public Long getNextClienteId(Long id) {
-        List<Cliente> clientes = clienteRepository.findAll(Sort.by(Sort.Direction.ASC, "idCliente"));
-        for (int i = 0; i < clientes.size() - 1; i++) {
-            if (clientes.get(i).getIdCliente().equals(id)) {
-                return clientes.get(i + 1).getIdCliente();
-            }
-        }
-        return null; // Si no hay cliente siguiente, retorna null
+        return clienteRepository.findIdSiguiente(id); // Si no hay cliente siguiente, retorna null
     }
 
     @Override
     public Long getPreviousClienteId(Long id) {
-        List<Cliente> clientes = clienteRepository.findAll(Sort.by(Sort.Direction.ASC, "idCliente"));
-        for (int i = 1; i < clientes.size(); i++) {
-            if (clientes.get(i).getIdCliente().equals(id)) {
-                return clientes.get(i - 1).getIdCliente();
-            }
-        }
-        return null; // Si no hay cliente anterior, retorna null
+        return clienteRepository.findIdAnterior(id); // Si no hay cliente anterior, retorna null
     }
 
     @Override
     public Long getFirstClienteId() {
-        List<Cliente> clientes = clienteRepository.findAll(Sort.by(Sort.Direction.ASC, "idCliente"));
-        if (!clientes.isEmpty()) {
-            return clientes.get(0).getIdCliente();
-        }
-        return null; // Si no hay clientes, retorna null
+        return clienteRepository.findIdPrimero(); // Si no hay clientes, retorna null
     }
 
     @Override
     public Long getLastClienteId() {
-        List<Cliente> clientes = clienteRepository.findAll(Sort.by(Sort.Direction.ASC, "idCliente"));
-        if (!clientes.isEmpty()) {
-            return clientes.get(clientes.size() - 1).getIdCliente();
+        return clienteRepository.findIdUltimo(); // Si no hay clientes, retorna null
+    }
+
+    private static ClienteDTO aDTO(ClienteRepository.Vista vista, Map<Long, List<Long>> eventos) {
+        ClienteDTO cliente = new ClienteDTO();
+        cliente.setIdCliente(vista.getIdCliente());
+        cliente.setDi(vista.getDi());
+        cliente.setNombre(vista.getNombre());
+        cliente.setDireccion(vista.getDireccion());
+        cliente.setTelefono(vista.getTelefono());
+        List<EventoDTO> referencias = new ArrayList<>();
+        for (Long idEvento : eventos.getOrDefault(vista.getIdCliente(), List.of())) {
+            referencias.add(EventoDTO.referencia(idEvento));
         }
-        return null; // Si no hay clientes, retorna null
+        cliente.setEventos(referencias);
+        return cliente;
     }
 
+    /**
+     * Traduce la violación de la restricción única del documento de identidad en una operación ilegal.
+     *
+     * @param e       Excepción lanzada por la base de datos.
+     * @param mensaje Mensaje que se devuelve si el documento de identidad está repetido.
+     * @return La excepción que se debe lanzar.
+     */
+    private IllegalOperationException traducirViolacion(DataIntegrityViolationException e, String mensaje) {
+        if (RestriccionUnica.es(e, "uk_cliente_di")) {
+            return new IllegalOperationException(mensaje);
+        }
+        throw e;
+    }
 }
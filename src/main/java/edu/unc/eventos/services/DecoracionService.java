@@ -7,9 +7,11 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Decoracion;
 import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.DecoracionDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +36,30 @@ public interface DecoracionService {
      */
     Decoracion getById(Long idDecoracion) throws EntityNotFoundException;
 
+    /**
+     * Recupera todas las decoraciones con consultas de proyección, sin cargar entidades.
+     *
+     * @return Lista de decoraciones.
+     */
+    List<DecoracionDTO> getAllVistas();
+
+    /**
+     * Recupera una decoración con consultas de proyección, sin cargar entidades.
+     *
+     * @param idDecoracion Identificador de la decoración.
+     * @return La decoración.
+     * @throws EntityNotFoundException Si la decoración no existe.
+     */
+    DecoracionDTO getVistaById(Long idDecoracion) throws EntityNotFoundException;
+
+    /**
+     * Recupera varias decoraciones con una consulta de proyección, sin cargar entidades.
+     *
+     * @param idsDecoracion Identificadores de las decoraciones.
+     * @return Las decoraciones que existen, en cualquier orden.
+     */
+    List<DecoracionDTO> getVistasByIds(Collection<Long> idsDecoracion);
+
     /**
      * Crea una nueva decoración en la base de datos.
      *
@@ -7,14 +7,20 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Decoracion;
 import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.DecoracionDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.DecoracionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.domain.Sort;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,13 +39,16 @@ public class DecoracionServiceImp implements DecoracionService {
     @Autowired
     private DecoracionRepository decoracionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve todas las decoraciones que hay en la base de datos.
      *
      * @return Lista de entidades de tipo decoración.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Decoracion> getAll() {
         return decoracionRepository.findAll();
     }
@@ -52,7 +61,7 @@ public class DecoracionServiceImp implements DecoracionService {
      * @throws EntityNotFoundException Si la decoración no se encuentra en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Decoracion getById(Long idDecoracion) throws EntityNotFoundException {
         Optional<Decoracion> decoracionOpt = decoracionRepository.findById(idDecoracion);
         if (decoracionOpt.isEmpty()) {
@@ -61,6 +70,43 @@ public class DecoracionServiceImp implements DecoracionService {
         return decoracionOpt.get();
     }
 
+    /**
+     * Devuelve todas las decoraciones con una sola consulta de proyección.
+     *
+     * @return Lista de decoraciones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DecoracionDTO> getAllVistas() {
+        return decoracionRepository.findAllVistas().stream().map(DecoracionServiceImp::aDTO).toList();
+    }
+
+    /**
+     * Devuelve una decoración con una sola consulta de proyección.
+     *
+     * @param idDecoracion Id de la decoración que se quiere buscar.
+     * @return La decoración que se encontró.
+     * @throws EntityNotFoundException Si la decoración no se encuentra en la base de datos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DecoracionDTO getVistaById(Long idDecoracion) throws EntityNotFoundException {
+        return decoracionRepository.findVistaById(idDecoracion).map(DecoracionServiceImp::aDTO)
+                .orElseThrow(() -> new EntityNotFoundException("La decoración con el Id proporcionado no se encontró."));
+    }
+
+    /**
+     * Devuelve varias decoraciones con una sola consulta de proyección.
+     *
+     * @param idsDecoracion Ids de las decoraciones que se quieren buscar.
+     * @return Las decoraciones que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DecoracionDTO> getVistasByIds(Collection<Long> idsDecoracion) {
+        return decoracionRepository.findVistasByIdDecoracionIn(idsDecoracion).stream().map(DecoracionServiceImp::aDTO).toList();
+    }
+
     /**
      * Guardar una nueva decoración
      *
@@ -77,7 +123,9 @@ public class DecoracionServiceImp implements DecoracionService {
         if (decoracion.getColor().isEmpty()) {
             throw new IllegalOperationException("El color de la decoración no puede estar vacío.");
         }
-        return decoracionRepository.save(decoracion);
+        Decoracion guardado = decoracionRepository.save(decoracion);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.DECORACION, guardado.getIdDecoracion(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -96,7 +144,9 @@ public class DecoracionServiceImp implements DecoracionService {
             throw new EntityNotFoundException("La decoración con id proporcionado no fue encontrado");
         }
         decoracion.setIdDecoracion(idDecoracion);
-        return decoracionRepository.save(decoracion);
+        Decoracion actualizado = decoracionRepository.save(decoracion);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.DECORACION, actualizado.getIdDecoracion(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -117,6 +167,7 @@ public class DecoracionServiceImp implements DecoracionService {
         }
 
         decoracionRepository.deleteById(idDecoracion);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.DECORACION, idDecoracion, TipoCambio.ELIMINACION, null));
     }
 
     /**
@@ -167,41 +218,30 @@ public class DecoracionServiceImp implements DecoracionService {
      * @return El ID de la siguiente decoración, o null si no hay siguiente.
      */
     public Long getNextDecoracionId(Long id) {
-        List<Decoracion> decoraciones = getAll();
-        for (int i = 0; i < decoraciones.size() - 1; i++) {
-            if (decoraciones.get(i).getIdDecoracion().equals(id)) {
-                return decoraciones.get(i + 1).getIdDecoracion();
-            }
-        }
-        return null; // Si no se encuentra la decoración o es la última, retorna null
+        return decoracionRepository.findIdSiguiente(id); // Si es la última, retorna null
     }
 
     @Override
     public Long getPreviousDecoracionId(Long id) {
-        List<Decoracion> decoraciones = decoracionRepository.findAll(Sort.by(Sort.Direction.ASC, "idDecoracion"));
-        for (int i = 1; i < decoraciones.size(); i++) {
-            if (decoraciones.get(i).getIdDecoracion().equals(id)) {
-                return decoraciones.get(i - 1).getIdDecoracion();
-            }
-        }
-        return null; // Si no se encuentra la decoración o es la primera, retorna null
+        return decoracionRepository.findIdAnterior(id); // Si es la primera, retorna null
     }
 
     @Override
     public Long getFirstDecoracionId() {
-        List<Decoracion> decoraciones = decoracionRepository.findAll(Sort.by(Sort.Direction.ASC, "idDecoracion"));
-        if (!decoraciones.isEmpty()) {
-            return decoraciones.get(0).getIdDecoracion();
-        }
-        return null; // Si no hay decoraciones, retorna null
+        return decoracionRepository.findIdPrimero(); // Si no hay decoraciones, retorna null
     }
 
     @Override
     public Long getLastDecoracionId() {
-        List<Decoracion> decoraciones = decoracionRepository.findAll(Sort.by(Sort.Direction.ASC, "idDecoracion"));
-        if (!decoraciones.isEmpty()) {
-            return decoraciones.get(decoraciones.size() - 1).getIdDecoracion();
-        }
-        return null; // Si no hay decoraciones, retorna null
+        return decoracionRepository.findIdUltimo(); // Si no hay decoraciones, retorna null
+    }
+
+    private static DecoracionDTO aDTO(DecoracionRepository.Vista vista) {
+        DecoracionDTO decoracion = new DecoracionDTO();
+        decoracion.setIdDecoracion(vista.getIdDecoracion());
+        decoracion.setDescripcion(vista.getDescripcion());
+        decoracion.setPrecio(vista.getPrecio() == null ? null : BigDecimal.valueOf(vista.getPrecio()));
+        decoracion.setColor(vista.getColor());
+        return decoracion;
     }
 }
\ No newline at end of file
@@ -6,9 +6,11 @@
 package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.dto.EmpleadoDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +35,30 @@ public interface EmpleadoService {
      */
     Empleado getById(Long idEmpleado) throws EntityNotFoundException;
 
+    /**
+     * Recupera todos los empleados con consultas de proyección, sin cargar entidades.
+     *
+     * @return Lista de empleados con su seguro y los identificadores de sus relaciones.
+     */
+    List<EmpleadoDTO> getAllVistas();
+
+    /**
+     * Recupera un empleado con consultas de proyección, sin cargar entidades.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return El empleado con su seguro y los identificadores de sus relaciones.
+     * @throws EntityNotFoundException Si el empleado no existe.
+     */
+    EmpleadoDTO getVistaById(Long idEmpleado) throws EntityNotFoundException;
+
+    /**
+     * Recupera varios empleados con consultas de proyección, sin cargar entidades.
+     *
+     * @param idsEmpleado Identificadores de los empleados.
+     * @return Los empleados que existen, en cualquier orden.
+     */
+    List<EmpleadoDTO> getVistasByIds(Collection<Long> idsEmpleado);
+
     /**
      * Crea un nuevo empleado en la base de datos.
      *
@@ -68,7 +94,7 @@ public interface EmpleadoService {
      * @param idEmpleado   ID del empleado al que se asignará el supervisor
      * @param idSupervisor ID del supervisor que se asignará al empleado
      * @throws EntityNotFoundException   Si no se encuentra el empleado o el supervisor
-     * @throws IllegalOperationException Si el empleado ya tiene asignado el supervisor proporcionado
+     * @throws IllegalOperationException Si el empleado es el supervisor o está por encima de él en la jerarquía
      */
     Empleado addSupervisor(Long idEmpleado, Long idSupervisor) throws EntityNotFoundException, IllegalOperationException;
 
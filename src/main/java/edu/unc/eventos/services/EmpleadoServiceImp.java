@@ -6,14 +6,30 @@
 package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.dto.EmpleadoDTO;
+import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.SeguroDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.EmpleadoRepository;
+import edu.unc.eventos.repositories.ParIds;
+import edu.unc.eventos.util.RestriccionUnica;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,13 +46,22 @@ public class EmpleadoServiceImp implements EmpleadoService {
     @Autowired
     private EmpleadoRepository empleadoRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Número máximo de supervisores por encima de un empleado.
+     */
+    @Value("${app.empleados.maximo-niveles:1000}")
+    private int maximoNiveles;
+
     /**
      * Devuelve todos los empleados que hay en la base de datos.
      *
      * @return Lista de entidades de tipo empleado.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Empleado> getAll() {
         return empleadoRepository.findAll();
     }
@@ -47,9 +72,10 @@ public class EmpleadoServiceImp implements EmpleadoService {
      * @param empleadoId   ID del empleado al que se asignará el supervisor
      * @param supervisorId ID del supervisor que se asignará al empleado
      * @throws EntityNotFoundException   Si no se encuentra el empleado o el supervisor
-     * @throws IllegalOperationException Si el empleado ya tiene asignado el supervisor proporcionado
+     * @throws IllegalOperationException Si el empleado es el supervisor o está por encima de él en la jerarquía
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Empleado addSupervisor(Long empleadoId, Long supervisorId) throws IllegalOperationException {
         Empleado empleado = empleadoRepository.findById(empleadoId)
                 .orElseThrow(() -> new EntityNotFoundException("El Empleado no se ha encontrado"));
@@ -57,12 +83,11 @@ public class EmpleadoServiceImp implements EmpleadoService {
         Empleado supervisor = empleadoRepository.findById(supervisorId)
                 .orElseThrow(() -> new EntityNotFoundException("El Supervisor no se ha encontrado"));
 
-        if (empleado.equals(supervisor)) {
-            throw new IllegalOperationException("Un empleado no puede supervisarse a sí mismo");
-        }
-
+        validarSupervisor(empleadoId, supervisorId);
         empleado.setSupervisor(supervisor);
-        return empleadoRepository.save(empleado);
+        Empleado actualizado = empleadoRepository.save(empleado);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EMPLEADO, empleadoId, TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -73,7 +98,7 @@ public class EmpleadoServiceImp implements EmpleadoService {
      * @throws EntityNotFoundException Si el empleado no se encuentra en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Empleado getById(Long idEmpleado) throws EntityNotFoundException {
         Optional<Empleado> empleadoOpt = empleadoRepository.findById(idEmpleado);
         if (empleadoOpt.isEmpty()) {
@@ -82,6 +107,63 @@ public class EmpleadoServiceImp implements EmpleadoService {
         return empleadoOpt.get();
     }
 
+    /**
+     * Devuelve todos los empleados con tres consultas: una para las columnas del empleado, su supervisor y su seguro,
+     * y una por cada relación de la que solo se devuelven identificadores.
+     *
+     * @return Lista de empleados.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmpleadoDTO> getAllVistas() {
+        Map<Long, List<Long>> supervisados = ParIds.agrupar(empleadoRepository.findIdsSupervisados());
+        Map<Long, List<Long>> eventos = ParIds.agrupar(empleadoRepository.findIdsEventos());
+        List<EmpleadoDTO> empleados = new ArrayList<>();
+        for (EmpleadoRepository.Vista vista : empleadoRepository.findAllVistas()) {
+            empleados.add(aDTO(vista, supervisados, eventos));
+        }
+        return empleados;
+    }
+
+    /**
+     * Devuelve un empleado con tres consultas: una para las columnas del empleado, su supervisor y su seguro, y una
+     * por cada relación de la que solo se devuelven identificadores.
+     *
+     * @param idEmpleado Id del empleado que se quiere buscar.
+     * @return El empleado que se encontró.
+     * @throws EntityNotFoundException Si el empleado no se encuentra en la base de datos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmpleadoDTO getVistaById(Long idEmpleado) throws EntityNotFoundException {
+        EmpleadoRepository.Vista vista = empleadoRepository.findVistaById(idEmpleado)
+                .orElseThrow(() -> new EntityNotFoundException("El empleado con el Id proporcionado no se encontró."));
+        return aDTO(vista, ParIds.agrupar(empleadoRepository.findIdsSupervisadosByIdEmpleado(idEmpleado)),
+                ParIds.agrupar(empleadoRepository.findIdsEventosByIdEmpleado(idEmpleado)));
+    }
+
+    /**
+     * Devuelve varios empleados con tres consultas, sin importar cuántos se pidan.
+     *
+     * @param idsEmpleado Ids de los empleados que se quieren buscar.
+     * @return Los empleados que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmpleadoDTO> getVistasByIds(Collection<Long> idsEmpleado) {
+        List<EmpleadoDTO> empleados = new ArrayList<>();
+        List<EmpleadoRepository.Vista> vistas = empleadoRepository.findVistasByIdEmpleadoIn(idsEmpleado);
+        if (vistas.isEmpty()) {
+            return empleados;
+        }
+        Map<Long, List<Long>> supervisados = ParIds.agrupar(empleadoRepository.findIdsSupervisadosByIdEmpleadoIn(idsEmpleado));
+        Map<Long, List<Long>> eventos = ParIds.agrupar(empleadoRepository.findIdsEventosByIdEmpleadoIn(idsEmpleado));
+        for (EmpleadoRepository.Vista vista : vistas) {
+            empleados.add(aDTO(vista, supervisados, eventos));
+        }
+        return empleados;
+    }
+
     /**
      * Crea un nuevo empleado en la base de datos.
      *
@@ -90,22 +172,16 @@ public class EmpleadoServiceImp implements EmpleadoService {
      * @throws IllegalOperationException Si el empleado ya existe en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Empleado save(Empleado empleado) throws IllegalOperationException {
-        Empleado empleadoDB = empleadoRepository.findByDni(empleado.getDni());
-        if (empleadoDB != null) {
-            if (empleadoDB.getDni().equals(empleado.getDni())) {
-                throw new IllegalOperationException("Un empleado con el DNI ingresado ya existe en la base de datos.");
-            }
-            if (empleadoDB.getEmail().equals(empleado.getEmail())) {
-                throw new IllegalOperationException("El email ya existe en la base de datos.");
-            }
-            if (empleadoDB.getTelefono().equals(empleado.getTelefono())) {
-                throw new IllegalOperationException("El teléfono ya existe en la base de datos.");
-            }
-            throw new IllegalOperationException("El empleado ya existe en la base de datos.");
+        Empleado guardado;
+        try {
+            guardado = empleadoRepository.saveAndFlush(empleado);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
         }
-        return empleadoRepository.save(empleado);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EMPLEADO, guardado.getIdEmpleado(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -118,26 +194,24 @@ public class EmpleadoServiceImp implements EmpleadoService {
      * @throws IllegalOperationException Si el empleado ya existe en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Empleado update(Long idEmpleado, Empleado empleado) throws EntityNotFoundException, IllegalOperationException {
         Optional<Empleado> empleadoEntity = empleadoRepository.findById(idEmpleado);
         if (empleadoEntity.isEmpty()) {
             throw new EntityNotFoundException("El empleado con el Id proporcionado no se encontró.");
         }
-        Empleado empleadoDB = empleadoRepository.findByDni(empleado.getDni());
-        if (empleadoDB != null) {
-            if (empleadoDB.getDni().equals(empleado.getDni())) {
-                throw new IllegalOperationException("Un empleado con el DNI ingresado ya existe en la base de datos.");
-            }
-            if (empleadoDB.getEmail().equals(empleado.getEmail())) {
-                throw new IllegalOperationException("El email ya existe en la base de datos.");
-            }
-            if (empleadoDB.getTelefono().equals(empleado.getTelefono())) {
-                throw new IllegalOperationException("El teléfono ya existe en la base de datos.");
-            }
-            throw new IllegalOperationException("El empleado ya existe en la base de datos.");
+        empleado.setIdEmpleado(idEmpleado);
+        if (empleado.getSupervisor() != null && empleado.getSupervisor().getIdEmpleado() != null) {
+            validarSupervisor(idEmpleado, empleado.getSupervisor().getIdEmpleado());
+        }
+        Empleado actualizado;
+        try {
+            actualizado = empleadoRepository.saveAndFlush(empleado);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
         }
-        return empleadoRepository.save(empleado);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EMPLEADO, actualizado.getIdEmpleado(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -159,6 +233,7 @@ public class EmpleadoServiceImp implements EmpleadoService {
             throw new IllegalOperationException("El empleado es supervisor de otros empleados.");
         }
         empleadoRepository.delete(empleado);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EMPLEADO, idEmpleado, TipoCambio.ELIMINACION, null));
     }
 
     /**
@@ -193,4 +268,92 @@ public class EmpleadoServiceImp implements EmpleadoService {
                 .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException("No hay un empleado supervisado con el Id proporcionado"));
     }
+
+    private static EmpleadoDTO aDTO(EmpleadoRepository.Vista vista, Map<Long, List<Long>> supervisados,
+                                    Map<Long, List<Long>> eventos) {
+        EmpleadoDTO empleado = new EmpleadoDTO();
+        empleado.setIdEmpleado(vista.getIdEmpleado());
+        empleado.setNombres(vista.getNombres());
+        empleado.setApellidos(vista.getApellidos());
+        empleado.setDni(vista.getDni());
+        empleado.setFechaNacimiento(aFecha(vista.getFechaNacimiento()));
+        empleado.setDireccion(vista.getDireccion());
+        empleado.setTelefono(vista.getTelefono());
+        empleado.setEmail(vista.getEmail());
+        if (vista.getIdSupervisor() != null) {
+            empleado.setSupervisor(EmpleadoDTO.referencia(vista.getIdSupervisor()));
+        }
+        List<EmpleadoDTO> subordinados = new ArrayList<>();
+        for (Long idSubordinado : supervisados.getOrDefault(vista.getIdEmpleado(), List.of())) {
+            subordinados.add(EmpleadoDTO.referencia(idSubordinado));
+        }
+        empleado.setEmpleados_supervisados(subordinados);
+        for (Long idEvento : eventos.getOrDefault(vista.getIdEmpleado(), List.of())) {
+            empleado.getEventos().add(EventoDTO.referencia(idEvento));
+        }
+        if (vista.getIdSeguro() != null) {
+            SeguroDTO seguro = new SeguroDTO();
+            seguro.setIdSeguro(vista.getIdSeguro());
+            seguro.setCodigo(vista.getCodigoSeguro());
+            seguro.setFechaInscripcion(aFecha(vista.getFechaInscripcionSeguro()));
+            seguro.setEmpleado(empleado);
+            empleado.setSeguro(seguro);
+        }
+        return empleado;
+    }
+
+    /**
+     * Convierte la fecha leída de la base de datos en una {@link Date}, que es como la serializa la API.
+     */
+    private static Date aFecha(Date fecha) {
+        return fecha == null ? null : new Date(fecha.getTime());
+    }
+
+    /**
+     * Comprueba que asignar el supervisor no cree un ciclo ni una cadena de mando de más de {@code maximoNiveles}: el
+     * supervisor no puede ser el propio empleado ni estar bajo su mando.
+     * <p>
+     * Bloquea el empleado y el supervisor, y después recorre la cadena de mando del supervisor bloqueando cada fila.
+     * Dos asignaciones concurrentes que juntas cerrarían un ciclo pasan por una fila que la otra ya bloqueó: la
+     * segunda espera a que la primera confirme y lee su cambio, o la base de datos aborta una de las dos por
+     * interbloqueo. Sin los bloqueos, ambas verían la jerarquía anterior y confirmarían el ciclo.
+     *
+     * @param idEmpleado   ID del empleado.
+     * @param idSupervisor ID del supervisor que se quiere asignar.
+     * @throws IllegalOperationException Si la asignación crearía un ciclo o superaría la profundidad máxima.
+     */
+    private void validarSupervisor(Long idEmpleado, Long idSupervisor) throws IllegalOperationException {
+        if (idEmpleado.equals(idSupervisor)) {
+            throw new IllegalOperationException("Un empleado no puede supervisarse a sí mismo");
+        }
+        try {
+            empleadoRepository.bloquear(List.of(idEmpleado, idSupervisor));
+            int niveles = 1;
+            Long actual = empleadoRepository.findIdSupervisorParaActualizar(idSupervisor);
+            while (actual != null) {
+                if (actual.equals(idEmpleado)) {
+                    throw new IllegalOperationException("El supervisor está bajo el mando del empleado; la asignación crearía un ciclo");
+                }
+                if (++niveles > maximoNiveles) {
+                    throw new IllegalOperationException("La cadena de mando no puede tener más de " + maximoNiveles + " niveles");
+                }
+                actual = empleadoRepository.findIdSupervisorParaActualizar(actual);
+            }
+        } catch (PessimisticLockingFailureException e) {
+            throw new IllegalOperationException("La jerarquía se está modificando al mismo tiempo; vuelva a intentarlo");
+        }
+    }
+
+    /**
+     * Traduce la violación del DNI único en una operación ilegal; cualquier otra violación se propaga sin cambios.
+     *
+     * @param e Excepción lanzada por la base de datos.
+     * @return La excepción que se debe lanzar.
+     */
+    private IllegalOperationException traducirViolacion(DataIntegrityViolationException e) {
+        if (RestriccionUnica.es(e, "uk_empleado_dni")) {
+            return new IllegalOperationException("Un empleado con el DNI ingresado ya existe en la base de datos.");
+        }
+        throw e;
+    }
 }
@@ -9,9 +9,12 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.EventoDetalleDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +56,33 @@ public interface EventoService {
      */
     Evento getEventoById(Long idEvento) throws EntityNotFoundException;
 
+    /**
+     * Recupera varios eventos con una sola consulta.
+     *
+     * @param idsEvento Identificadores de los eventos.
+     * @return Los eventos que existen, en cualquier orden.
+     */
+    List<Evento> getByIds(Collection<Long> idsEvento);
+
+    /**
+     * Obtiene la vista de lectura de un evento con su cliente, empleado, local, decoración y platos, usando como
+     * máximo dos consultas.
+     *
+     * @param idEvento Identificador único del evento.
+     * @return El detalle del evento.
+     * @throws EntityNotFoundException Si no se encuentra ningún evento con el identificador especificado.
+     */
+    EventoDetalleDTO getDetalle(Long idEvento) throws EntityNotFoundException;
+
+    /**
+     * Convierte una lista de eventos a la forma normalizada: cada evento referencia sus relaciones por identificador
+     * y cada cliente, empleado, local, decoración y plato se resume una sola vez, aunque lo compartan varios eventos.
+     *
+     * @param eventos Eventos que se van a devolver.
+     * @return Los eventos normalizados y las entidades que referencian.
+     */
+    EventosNormalizadosDTO normalizar(List<Evento> eventos);
+
     /**
      * Guarda un nuevo local
      *
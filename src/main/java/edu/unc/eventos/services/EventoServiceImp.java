@@ -5,25 +5,43 @@
  */
 package edu.unc.eventos.services;
 
+import edu.unc.eventos.domain.Cliente;
 import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Empleado;
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Local;
 import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.EventoDetalleDTO;
+import edu.unc.eventos.dto.EventoNormalizadoDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
+import edu.unc.eventos.dto.IncluidosDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.DecoracionRepository;
 import edu.unc.eventos.repositories.EventoRepository;
+import edu.unc.eventos.repositories.ParIds;
 import edu.unc.eventos.repositories.PlatoRepository;
+import jakarta.persistence.Tuple;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 
 @Service
 public class EventoServiceImp implements EventoService {
@@ -40,13 +58,25 @@ public class EventoServiceImp implements EventoService {
     @Autowired
     private DecoracionRepository decoracionRepository;
 
+    @Autowired
+    private TarifaService tarifaService;
+
+    @Autowired
+    private ReporteService reporteService;
+
+    @Autowired
+    private EventoVistaService eventoVistaService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Este método devuelve una lista de todos los eventos
      *
      * @return Lista de entidades de tipo evento.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Evento> getAll() {
         return eventoRepository.findAll();
     }
@@ -96,7 +126,7 @@ public class EventoServiceImp implements EventoService {
      * @throws EntityNotFoundException Si el evento no se encuentra en la base de datos
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Evento getEventoById(Long idEvento) throws EntityNotFoundException {
         Optional<Evento> evento = eventoRepository.findById(idEvento);
         if (evento.isEmpty()) {
@@ -105,6 +135,135 @@ public class EventoServiceImp implements EventoService {
         return evento.get();
     }
 
+    /**
+     * Obtiene varios eventos con una sola consulta.
+     *
+     * @param idsEvento Ids de los eventos que se quieren buscar.
+     * @return Los eventos que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Evento> getByIds(Collection<Long> idsEvento) {
+        return eventoRepository.findAllById(idsEvento);
+    }
+
+    /**
+     * Devuelve el detalle de un evento con una consulta para el evento y sus relaciones de uno, y otra para los platos.
+     *
+     * @param idEvento Identificador del Evento
+     * @return El detalle del evento
+     * @throws EntityNotFoundException Si el evento no se encuentra en la base de datos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventoDetalleDTO getDetalle(Long idEvento) throws EntityNotFoundException {
+        Tuple fila = eventoRepository.findDetalleById(idEvento)
+                .orElseThrow(() -> new EntityNotFoundException("El Evento con el ID proporcionado no se encontró."));
+        EventoDetalleDTO detalle = new EventoDetalleDTO();
+        detalle.setIdEvento(fila.get("idEvento", Long.class));
+        detalle.setNombre(fila.get("nombre", String.class));
+        detalle.setNumPersonas(fila.get("numPersonas", Integer.class));
+        detalle.setFecha(fila.get("fecha", Date.class));
+        detalle.setDuracion(fila.get("duracion", Integer.class));
+        detalle.setTotal(fila.get("total", BigDecimal.class));
+        if (fila.get("idCliente") != null) {
+            detalle.setCliente(new EventoDetalleDTO.ResumenCliente(fila.get("idCliente", Long.class),
+                    fila.get("clienteNombre", String.class), fila.get("clienteDi", String.class),
+                    fila.get("clienteTelefono", String.class)));
+        }
+        if (fila.get("idEmpleado") != null) {
+            detalle.setEmpleado(new EventoDetalleDTO.ResumenEmpleado(fila.get("idEmpleado", Long.class),
+                    fila.get("empleadoNombres", String.class), fila.get("empleadoApellidos", String.class),
+                    fila.get("empleadoTelefono", String.class)));
+        }
+        if (fila.get("idLocal") != null) {
+            detalle.setLocal(new EventoDetalleDTO.ResumenLocal(fila.get("idLocal", Long.class),
+                    fila.get("localNombre", String.class), fila.get("localUbicacion", String.class),
+                    fila.get("localReferencia", String.class), fila.get("localAforo", Integer.class)));
+        }
+        if (fila.get("idDecoracion") != null) {
+            detalle.setDecoracion(new EventoDetalleDTO.ResumenDecoracion(fila.get("idDecoracion", Long.class),
+                    fila.get("decoracionDescripcion", String.class), fila.get("decoracionColor", String.class),
+                    fila.get("decoracionPrecio", Double.class)));
+        }
+        detalle.setPlatos(eventoRepository.findPlatosDetalleById(idEvento));
+        return detalle;
+    }
+
+    /**
+     * Normaliza los eventos recorriéndolos una vez. Cada entidad relacionada se resume la primera vez que aparece y
+     * las siguientes referencias reutilizan ese resumen. Las relaciones de uno ya están cargadas en los eventos; los
+     * platos se leen con dos consultas para toda la lista, en lugar de inicializar la colección de cada evento.
+     *
+     * @param eventos Eventos que se van a devolver
+     * @return Los eventos normalizados y las entidades que referencian
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventosNormalizadosDTO normalizar(List<Evento> eventos) {
+        Map<Long, EventoDetalleDTO.ResumenCliente> clientes = new LinkedHashMap<>();
+        Map<Long, EventoDetalleDTO.ResumenEmpleado> empleados = new LinkedHashMap<>();
+        Map<Long, EventoDetalleDTO.ResumenLocal> locales = new LinkedHashMap<>();
+        Map<Long, EventoDetalleDTO.ResumenDecoracion> decoraciones = new LinkedHashMap<>();
+        List<EventoNormalizadoDTO> normalizados = new ArrayList<>(eventos.size());
+        for (Evento evento : eventos) {
+            EventoNormalizadoDTO normalizado = new EventoNormalizadoDTO();
+            normalizado.setIdEvento(evento.getIdEvento());
+            normalizado.setNombre(evento.getNombre());
+            normalizado.setNumPersonas(evento.getNumPersonas());
+            normalizado.setFecha(evento.getFecha());
+            normalizado.setDuracion(evento.getDuracion());
+            normalizado.setTotal(evento.getTotal());
+            Cliente cliente = evento.getCliente();
+            if (cliente != null) {
+                normalizado.setCliente(cliente.getIdCliente());
+                clientes.computeIfAbsent(cliente.getIdCliente(), id -> new EventoDetalleDTO.ResumenCliente(id,
+                        cliente.getNombre(), cliente.getDi(), cliente.getTelefono()));
+            }
+            Empleado empleado = evento.getEmpleado();
+            if (empleado != null) {
+                normalizado.setEmpleado(empleado.getIdEmpleado());
+                empleados.computeIfAbsent(empleado.getIdEmpleado(), id -> new EventoDetalleDTO.ResumenEmpleado(id,
+                        empleado.getNombres(), empleado.getApellidos(), empleado.getTelefono()));
+            }
+            Local local = evento.getLocal();
+            if (local != null) {
+                normalizado.setLocal(local.getIdLocal());
+                locales.computeIfAbsent(local.getIdLocal(), id -> new EventoDetalleDTO.ResumenLocal(id,
+                        local.getNombre(), local.getUbicacion(), local.getReferencia(), local.getAforo()));
+            }
+            Decoracion decoracion = evento.getDecoracion();
+            if (decoracion != null) {
+                normalizado.setDecoracion(decoracion.getIdDecoracion());
+                decoraciones.computeIfAbsent(decoracion.getIdDecoracion(), id -> new EventoDetalleDTO.ResumenDecoracion(id,
+                        decoracion.getDescripcion(), decoracion.getColor(), decoracion.getPrecio()));
+            }
+            normalizados.add(normalizado);
+        }
+
+        IncluidosDTO incluidos = new IncluidosDTO();
+        incluidos.setClientes(new ArrayList<>(clientes.values()));
+        incluidos.setEmpleados(new ArrayList<>(empleados.values()));
+        incluidos.setLocales(new ArrayList<>(locales.values()));
+        incluidos.setDecoraciones(new ArrayList<>(decoraciones.values()));
+        if (!normalizados.isEmpty()) {
+            List<Long> idsEvento = normalizados.stream().map(EventoNormalizadoDTO::getIdEvento).toList();
+            Map<Long, List<Long>> platos = ParIds.agrupar(eventoRepository.findIdsPlatosByIdEventoIn(idsEvento));
+            TreeSet<Long> idsPlato = new TreeSet<>();
+            for (EventoNormalizadoDTO normalizado : normalizados) {
+                List<Long> platosEvento = platos.get(normalizado.getIdEvento());
+                if (platosEvento != null) {
+                    normalizado.setPlatos(platosEvento);
+                    idsPlato.addAll(platosEvento);
+                }
+            }
+            if (!idsPlato.isEmpty()) {
+                incluidos.setPlatos(eventoRepository.findResumenesPlatoByIdIn(idsPlato));
+            }
+        }
+        return new EventosNormalizadosDTO(normalizados, incluidos);
+    }
+
     /**
      * Guarda un nuevo evento
      *
@@ -140,8 +299,13 @@ public class EventoServiceImp implements EventoService {
 
         Local local = localService.getById(evento.getLocal().getIdLocal());
         evento.setLocal(local);
+        evento.setTotal(tarifaService.calcularTotal(evento));
 
-        return eventoRepository.save(evento);
+        Evento guardado = eventoRepository.save(evento);
+        reporteService.registrar(guardado);
+        eventoVistaService.refrescar(guardado.getIdEvento());
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EVENTO, guardado.getIdEvento(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -156,7 +320,7 @@ public class EventoServiceImp implements EventoService {
     @Override
     @Transactional
     public Evento update(Long idEvento, Evento evento) throws EntityNotFoundException, IllegalOperationException {
-        Optional<Evento> eventoOpt = eventoRepository.findById(idEvento);
+        Optional<Evento> eventoOpt = eventoRepository.findByIdForUpdate(idEvento);
 
         if (eventoOpt.isEmpty()) {
             throw new EntityNotFoundException("El evento con el id proporcionado no fue encontrado");
@@ -183,9 +347,16 @@ public class EventoServiceImp implements EventoService {
 
         Local local = localService.getById(evento.getLocal().getIdLocal());
         evento.setLocal(local);
+        evento.setTotal(tarifaService.calcularTotal(evento));
 
+        // El resumen se descuenta con los valores anteriores, leídos con la fila bloqueada, antes de que el guardado los reemplace
+        reporteService.anular(eventoOpt.get());
         evento.setIdEvento(idEvento);
-        return eventoRepository.save(evento);
+        Evento actualizado = eventoRepository.save(evento);
+        reporteService.registrar(actualizado);
+        eventoVistaService.refrescar(actualizado.getIdEvento());
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EVENTO, actualizado.getIdEvento(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -199,7 +370,7 @@ public class EventoServiceImp implements EventoService {
     @Transactional
     public void delete(Long idEvento) throws EntityNotFoundException, IllegalOperationException {
 
-        Evento evento = eventoRepository.findById(idEvento).orElseThrow(
+        Evento evento = eventoRepository.findByIdForUpdate(idEvento).orElseThrow(
                 () -> new EntityNotFoundException("El evento con el ID proporcionado no se encontró")
         );
         if (evento.getCliente() != null) {
@@ -211,7 +382,10 @@ public class EventoServiceImp implements EventoService {
         if (evento.getLocal() != null) {
             throw new IllegalOperationException("El evento tiene un local asociado.");
         }
+        reporteService.anular(evento);
         eventoRepository.deleteById(idEvento);
+        eventoVistaService.eliminar(idEvento);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EVENTO, idEvento, TipoCambio.ELIMINACION, null));
     }
 
 
@@ -245,8 +419,9 @@ public class EventoServiceImp implements EventoService {
      * @throws IllegalOperationException Si el plato ya está asociado al evento.
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Evento addPlato(Long idEvento, Long idPlato) throws EntityNotFoundException, IllegalOperationException {
-        Evento evento = eventoRepository.findById(idEvento)
+        Evento evento = eventoRepository.findByIdForUpdate(idEvento)
                 .orElseThrow(() -> new EntityNotFoundException("El Evento no se ha encontrado"));
 
         Plato plato = platoRepository.findById(idPlato)
@@ -255,8 +430,13 @@ public class EventoServiceImp implements EventoService {
         if (evento.getPlatos().contains(plato)) {
             throw new IllegalOperationException("El plato ya está agregado al evento");
         }
+        reporteService.anular(evento);
         evento.getPlatos().add(plato);
+        evento.setTotal(tarifaService.calcularTotal(evento));
         eventoRepository.save(evento);
+        reporteService.registrar(evento);
+        eventoVistaService.refrescar(idEvento);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EVENTO, idEvento, TipoCambio.ACTUALIZACION, evento));
         return evento;
     }
 
@@ -269,14 +449,21 @@ public class EventoServiceImp implements EventoService {
      * @throws EntityNotFoundException Si el evento o la decoracion con los IDs especificados no se encuentran en la base de datos.
      * @throws IllegalOperationException Si la decoracion ya está asociado al evento.
      */
+    @Transactional
     public Evento addDecoracionToEvento(Long idEvento, Long idDecoracion) throws EntityNotFoundException, IllegalOperationException {
-        Evento evento = eventoRepository.findById(idEvento).orElseThrow(
+        Evento evento = eventoRepository.findByIdForUpdate(idEvento).orElseThrow(
                 () -> new EntityNotFoundException("El evento con el ID proporcionado no se encontró")
         );
         Decoracion decoracion = decoracionRepository.findById(idDecoracion).orElseThrow(
                 () -> new EntityNotFoundException("La decoracion con el ID proporcionado no se encontró")
         );
+        reporteService.anular(evento);
         evento.setDecoracion(decoracion);
-        return eventoRepository.save(evento);
+        evento.setTotal(tarifaService.calcularTotal(evento));
+        Evento actualizado = eventoRepository.save(evento);
+        reporteService.registrar(actualizado);
+        eventoVistaService.refrescar(actualizado.getIdEvento());
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.EVENTO, actualizado.getIdEvento(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 }
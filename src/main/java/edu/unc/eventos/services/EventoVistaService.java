@@ -0,0 +1,55 @@
+/**
+ * @file: EventoVistaService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:36:40 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.EventoVistaDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interfaz que define el mantenimiento de la tabla de lectura de eventos ({@code evento_view}) y los listados que
+ * se responden desde ella.
+ */
+public interface EventoVistaService {
+    /**
+     * Copia el estado actual de un evento a la tabla de lectura. Debe llamarse dentro de la transacción que crea o
+     * modifica el evento, después de guardarlo.
+     *
+     * @param idEvento Identificador del evento.
+     */
+    void refrescar(Long idEvento);
+
+    /**
+     * Quita un evento de la tabla de lectura. Debe llamarse dentro de la transacción que elimina el evento.
+     *
+     * @param idEvento Identificador del evento.
+     */
+    void eliminar(Long idEvento);
+
+    /**
+     * Lista los eventos que cumplen todos los filtros indicados, ordenados por fecha.
+     *
+     * @param idCliente    Cliente de los eventos; {@code null} para todos.
+     * @param idEmpleado   Empleado de los eventos; {@code null} para todos.
+     * @param idLocal      Local de los eventos; {@code null} para todos.
+     * @param idDecoracion Decoración de los eventos; {@code null} para todas.
+     * @param desde        Primera fecha incluida; {@code null} sin límite.
+     * @param hasta        Última fecha incluida; {@code null} sin límite.
+     * @return Lista de eventos en forma plana.
+     * @throws IllegalOperationException Si el rango de fechas no es válido.
+     */
+    List<EventoVistaDTO> buscar(Long idCliente, Long idEmpleado, Long idLocal, Long idDecoracion,
+                                LocalDate desde, LocalDate hasta) throws IllegalOperationException;
+
+    /**
+     * Reconstruye toda la tabla de lectura a partir de la tabla de eventos.
+     *
+     * @return Número de filas generadas.
+     */
+    int reconstruir();
+}
@@ -0,0 +1,118 @@
+/**
+ * @file: EventoVistaServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 04:44:22 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.dto.EventoVistaDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaEventoVista;
+import edu.unc.eventos.repositories.EventoRepository;
+import edu.unc.eventos.repositories.EventoVistaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementación de {@link EventoVistaService}.
+ * <p>
+ * Cada escritura de un evento reemplaza su fila de {@code evento_view} con una sola inserción que lee el evento y sus
+ * relaciones, en la misma transacción. Cuando cambia el nombre de un cliente, empleado, local o decoración, un oyente
+ * síncrono del {@link EntidadModificadaEvent} actualiza las filas de sus eventos dentro de la transacción que lo
+ * modificó, por el índice de la relación. Así la tabla nunca queda desfasada y los listados la leen sola.
+ */
+@Service
+public class EventoVistaServiceImp implements EventoVistaService {
+    private static final Logger logger = LoggerFactory.getLogger(EventoVistaServiceImp.class);
+
+    @Autowired
+    private EventoVistaRepository eventoVistaRepository;
+
+    @Autowired
+    private ConsultaEventoVista consultaEventoVista;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refrescar(Long idEvento) {
+        eventoVistaRepository.borrar(idEvento);
+        eventoVistaRepository.copiar(idEvento);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void eliminar(Long idEvento) {
+        eventoVistaRepository.borrar(idEvento);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventoVistaDTO> buscar(Long idCliente, Long idEmpleado, Long idLocal, Long idDecoracion,
+                                       LocalDate desde, LocalDate hasta) throws IllegalOperationException {
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new IllegalOperationException("La fecha inicial no puede ser posterior a la fecha final.");
+        }
+        return consultaEventoVista.buscar(idCliente, idEmpleado, idLocal, idDecoracion, desde, hasta);
+    }
+
+    @Override
+    @Transactional
+    public int reconstruir() {
+        long inicio = System.currentTimeMillis();
+        eventoVistaRepository.borrarTodo();
+        int filas = eventoVistaRepository.reconstruir();
+        logger.info("Tabla de lectura de eventos reconstruida en {} ms: {} filas", System.currentTimeMillis() - inicio, filas);
+        return filas;
+    }
+
+    /**
+     * Lleva el nuevo nombre de un cliente, empleado, local o decoración a las filas de sus eventos, en la misma
+     * transacción que lo actualizó.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @EventListener
+    public void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (evento.getCambio() != TipoCambio.ACTUALIZACION) {
+            return;
+        }
+        if (evento.getEntidad() instanceof Cliente cliente) {
+            eventoVistaRepository.actualizarCliente(evento.getId(), cliente.getNombre());
+        } else if (evento.getEntidad() instanceof Empleado empleado) {
+            eventoVistaRepository.actualizarEmpleado(evento.getId(), empleado.getNombres(), empleado.getApellidos());
+        } else if (evento.getEntidad() instanceof Local local) {
+            eventoVistaRepository.actualizarLocal(evento.getId(), local.getNombre());
+        } else if (evento.getEntidad() instanceof Decoracion decoracion) {
+            eventoVistaRepository.actualizarDecoracion(evento.getId(), decoracion.getDescripcion());
+        }
+    }
+
+    /**
+     * Llena la tabla de lectura al arrancar si no tiene una fila por evento, por ejemplo la primera vez o después de
+     * cargar eventos fuera de la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void completar() {
+        if (eventoVistaRepository.count() != eventoRepository.count()) {
+            reconstruir();
+        }
+    }
+}
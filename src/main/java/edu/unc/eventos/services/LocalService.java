@@ -11,6 +11,7 @@ import edu.unc.eventos.domain.Local;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +35,14 @@ public interface LocalService {
      */
     Local getById(Long idLocal) throws EntityNotFoundException;
 
+    /**
+     * Recupera varios locales con una sola consulta.
+     *
+     * @param idsLocal Identificadores de los locales.
+     * @return Los locales que existen, en cualquier orden.
+     */
+    List<Local> getByIds(Collection<Long> idsLocal);
+
     /**
      * Guarda un nuevo local.
      *
@@ -9,13 +9,20 @@
 package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.LocalRepository;
+import edu.unc.eventos.util.RestriccionUnica;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,13 +31,16 @@ public class LocalServiceImp implements LocalService {
     @Autowired
     private LocalRepository localRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve todos los locales que hay en la base de datos.
      *
      * @return Lista de entidades de tipo local.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Local> getAll() {
         return localRepository.findAll();
     }
@@ -52,6 +62,18 @@ public class LocalServiceImp implements LocalService {
         return localOpt.get();
     }
 
+    /**
+     * Obtiene varios locales con una sola consulta.
+     *
+     * @param idsLocal Ids de los locales que se quieren buscar.
+     * @return Los locales que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Local> getByIds(Collection<Long> idsLocal) {
+        return localRepository.findAllById(idsLocal);
+    }
+
     /**
      * Guarda un objeto Local en el sistema.
      *
@@ -63,7 +85,7 @@ public class LocalServiceImp implements LocalService {
      * @throws IllegalOperationException Si el nombre del local está vacío o si el aforo del local es menor o igual a cero.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Local save(Local local) throws IllegalOperationException {
         if (local.getNombre().isEmpty()) {
             throw new IllegalOperationException("El nombre del local no puede estar vacio");
@@ -71,13 +93,14 @@ public class LocalServiceImp implements LocalService {
         if (local.getAforo() <= 0) {
             throw new IllegalOperationException("El aforo del local no puede ser menor o igual a cero.");
         }
-        if (!localRepository.findByNombre(local.getNombre()).isEmpty()) {
-            throw new IllegalOperationException("El nombre del local ya existe en la base de datos");
-        }
-        if (!localRepository.findByUbicacion(local.getUbicacion()).isEmpty()) {
-            throw new IllegalOperationException("La dirección del local ya existe en la base de datos");
+        Local guardado;
+        try {
+            guardado = localRepository.saveAndFlush(local);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
         }
-        return localRepository.save(local);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.LOCAL, guardado.getIdLocal(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -89,19 +112,21 @@ public class LocalServiceImp implements LocalService {
      * @throws EntityNotFoundException    Si el local no se encuentra en la base de datos.
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Local update(Long idLocal, Local local) throws EntityNotFoundException, IllegalOperationException {
         Optional<Local> localOpt = localRepository.findById(idLocal);
         if (localOpt.isEmpty()) {
             throw new EntityNotFoundException("El local con el id proporcionado no fue encontrado");
         }
-        if (!localRepository.findByNombre(local.getNombre()).isEmpty()) {
-            throw new IllegalOperationException("El nombre del local ya existe en la base de datos");
-        }
-        if (!localRepository.findByUbicacion(local.getUbicacion()).isEmpty()) {
-            throw new IllegalOperationException("La dirección del local ya existe en la base de datos");
-        }
         local.setIdLocal(idLocal);
-        return localRepository.save(local);
+        Local actualizado;
+        try {
+            actualizado = localRepository.saveAndFlush(local);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
+        }
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.LOCAL, actualizado.getIdLocal(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -120,5 +145,22 @@ public class LocalServiceImp implements LocalService {
             throw new IllegalOperationException("El local tiene eventos asociados.");
         }
         localRepository.deleteById(idLocal);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.LOCAL, idLocal, TipoCambio.ELIMINACION, null));
+    }
+
+    /**
+     * Traduce la violación de una restricción única del local en una operación ilegal.
+     *
+     * @param e Excepción lanzada por la base de datos.
+     * @return La excepción que se debe lanzar.
+     */
+    private IllegalOperationException traducirViolacion(DataIntegrityViolationException e) {
+        if (RestriccionUnica.es(e, "uk_local_nombre")) {
+            return new IllegalOperationException("El nombre del local ya existe en la base de datos");
+        }
+        if (RestriccionUnica.es(e, "uk_local_ubicacion")) {
+            return new IllegalOperationException("La dirección del local ya existe en la base de datos");
+        }
+        throw e;
     }
 }
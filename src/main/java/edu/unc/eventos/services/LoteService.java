@@ -0,0 +1,34 @@
+/**
+ * @file: LoteService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:41:17 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.PeticionLoteDTO;
+import edu.unc.eventos.dto.RespuestaLoteDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.List;
+
+/**
+ * Interfaz que define la ejecución de lotes de peticiones a la API en una sola llamada.
+ */
+public interface LoteService {
+    /**
+     * Ejecuta las peticiones de un lote y devuelve sus respuestas en el mismo orden.
+     * <p>
+     * Las lecturas ({@code GET}) seguidas se ejecutan en paralelo. Cada escritura empieza cuando terminaron todas las
+     * peticiones anteriores, y las siguientes esperan a que termine, de modo que las escrituras se aplican en orden.
+     *
+     * @param peticiones Peticiones del lote.
+     * @param lote       Solicitud del lote; sus encabezados se heredan en cada petición.
+     * @param respuesta  Respuesta del lote.
+     * @return Las respuestas de las peticiones, en el orden del lote.
+     * @throws IllegalOperationException Si el lote es demasiado grande o alguna petición no es válida.
+     */
+    List<RespuestaLoteDTO> ejecutar(List<PeticionLoteDTO> peticiones, HttpServletRequest lote, HttpServletResponse respuesta)
+            throws IllegalOperationException;
+}
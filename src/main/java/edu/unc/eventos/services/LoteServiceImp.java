@@ -0,0 +1,257 @@
+/**
+ * @file: LoteServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 12:47:33 AM
+ */
+package edu.unc.eventos.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import edu.unc.eventos.dto.PeticionLoteDTO;
+import edu.unc.eventos.dto.RespuestaLoteDTO;
+import edu.unc.eventos.exception.ErrorMessage;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.filters.ConcurrencyLimitFilter;
+import edu.unc.eventos.filters.LimitadorAdaptativo;
+import edu.unc.eventos.lote.PeticionInterna;
+import edu.unc.eventos.lote.RespuestaInterna;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementación de {@link LoteService}.
+ * <p>
+ * Cada petición se despacha directamente en el {@link DispatcherServlet}, con una solicitud y una respuesta en
+ * memoria: pasa por los interceptores, los controladores y el manejo de excepciones igual que una llamada normal,
+ * pero no por la red ni por la cadena de filtros, que se aplica una sola vez al lote. Por eso cada petición ocupa su
+ * propio permiso del {@link ConcurrencyLimitFilter} mientras se ejecuta, y responde 503 si no lo obtiene.
+ * <p>
+ * Las peticiones se ejecutan en un grupo de hilos acotado; si su cola está llena, la petición responde 503 en lugar de
+ * ejecutarse en el hilo del lote, donde no se podría cortar. El lote entero tiene un tiempo máximo: las peticiones
+ * que no terminan a tiempo responden 504 y las que faltan ya no se ejecutan.
+ */
+@Service
+public class LoteServiceImp implements LoteService {
+    private static final Logger logger = LoggerFactory.getLogger(LoteServiceImp.class);
+    private static final Set<String> METODOS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    /**
+     * Encabezados del lote que no se heredan: describen el cuerpo del lote o condicionan su respuesta.
+     */
+    private static final Set<String> NO_HEREDADOS = Set.of("content-length", "content-type", "transfer-encoding",
+            "connection", "expect", "accept-encoding", "idempotency-key", "if-none-match", "if-modified-since", "if-match");
+    private static final String RUTA_LOTE = "/api/batch";
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Value("${app.concurrencia.habilitado:true}")
+    private boolean limitarConcurrencia;
+
+    @Value("${app.lote.max-peticiones:30}")
+    private int maxPeticiones;
+
+    @Value("${app.lote.hilos:8}")
+    private int hilos;
+
+    @Value("${app.lote.cola:64}")
+    private int cola;
+
+    @Value("${app.lote.tiempo-maximo:10s}")
+    private Duration tiempoMaximo;
+
+    private ThreadPoolExecutor ejecutor;
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger contador = new AtomicInteger();
+        ejecutor = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(cola), r -> {
+            Thread hilo = new Thread(r, "lote-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        ejecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Override
+    public List<RespuestaLoteDTO> ejecutar(List<PeticionLoteDTO> peticiones, HttpServletRequest lote, HttpServletResponse respuesta)
+            throws IllegalOperationException {
+        if (peticiones.size() > maxPeticiones) {
+            throw new IllegalOperationException("Un lote puede tener como máximo " + maxPeticiones + " peticiones.");
+        }
+        Map<String, List<String>> heredados = heredados(lote);
+        List<String> ids = new ArrayList<>(peticiones.size());
+        List<PeticionInterna> internas = new ArrayList<>(peticiones.size());
+        for (int i = 0; i < peticiones.size(); i++) {
+            PeticionLoteDTO peticion = peticiones.get(i);
+            ids.add(peticion.getId() == null ? Integer.toString(i) : peticion.getId());
+            internas.add(crear(peticion, i, heredados, lote));
+        }
+
+        long limite = System.nanoTime() + tiempoMaximo.toNanos();
+        RespuestaLoteDTO[] respuestas = new RespuestaLoteDTO[internas.size()];
+        int inicio = 0;
+        while (inicio < internas.size()) {
+            // Un grupo es una escritura sola o todas las lecturas seguidas
+            int fin = inicio + 1;
+            if ("GET".equals(internas.get(inicio).getMethod())) {
+                while (fin < internas.size() && "GET".equals(internas.get(fin).getMethod())) {
+                    fin++;
+                }
+            }
+            if (System.nanoTime() >= limite) {
+                for (int i = inicio; i < internas.size(); i++) {
+                    respuestas[i] = error(ids.get(i), HttpStatus.GATEWAY_TIMEOUT,
+                            "La petición no se ejecutó: el lote superó el tiempo máximo.", internas.get(i));
+                }
+                break;
+            }
+            List<Future<RespuestaLoteDTO>> enCurso = new ArrayList<>(fin - inicio);
+            for (int i = inicio; i < fin; i++) {
+                String id = ids.get(i);
+                PeticionInterna interna = internas.get(i);
+                try {
+                    enCurso.add(ejecutor.submit(() -> despachar(id, interna, respuesta)));
+                } catch (RejectedExecutionException e) {
+                    enCurso.add(CompletableFuture.completedFuture(error(id, HttpStatus.SERVICE_UNAVAILABLE,
+                            "La petición no se ejecutó: el servicio está saturado.", interna)));
+                }
+            }
+            for (int i = inicio; i < fin; i++) {
+                respuestas[i] = esperar(enCurso.get(i - inicio), limite, ids.get(i), internas.get(i));
+            }
+            inicio = fin;
+        }
+        return Arrays.asList(respuestas);
+    }
+
+    private PeticionInterna crear(PeticionLoteDTO peticion, int posicion, Map<String, List<String>> heredados,
+                                  HttpServletRequest lote) throws IllegalOperationException {
+        String metodo = peticion.getMetodo().trim().toUpperCase(Locale.ROOT);
+        if (!METODOS.contains(metodo)) {
+            throw new IllegalOperationException("La petición " + posicion + " tiene un método no permitido: " + metodo);
+        }
+        UriComponents uri;
+        try {
+            uri = UriComponentsBuilder.fromUriString(peticion.getUrl().trim()).build();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalOperationException("La petición " + posicion + " tiene una URL no válida.");
+        }
+        String ruta = uri.getPath();
+        if (uri.getScheme() != null || uri.getHost() != null || ruta == null || !ruta.startsWith("/api/")
+                || ruta.contains("..") || ruta.equals(RUTA_LOTE) || ruta.startsWith(RUTA_LOTE + "/")) {
+            throw new IllegalOperationException("La petición " + posicion + " debe ser una ruta relativa de la API, distinta de " + RUTA_LOTE + ".");
+        }
+
+        Map<String, List<String>> encabezados = new LinkedCaseInsensitiveMap<>();
+        encabezados.putAll(heredados);
+        peticion.getEncabezados().forEach((nombre, valor) -> encabezados.put(nombre, List.of(valor)));
+        byte[] cuerpo = null;
+        if (peticion.getCuerpo() != null && !peticion.getCuerpo().isNull()) {
+            try {
+                cuerpo = objectMapper.writeValueAsBytes(peticion.getCuerpo());
+            } catch (JsonProcessingException e) {
+                throw new IllegalOperationException("La petición " + posicion + " tiene un cuerpo no válido.");
+            }
+            encabezados.putIfAbsent("Content-Type", List.of("application/json"));
+        }
+        return new PeticionInterna(lote, metodo, uri, encabezados, cuerpo);
+    }
+
+    private static Map<String, List<String>> heredados(HttpServletRequest lote) {
+        Map<String, List<String>> encabezados = new LinkedCaseInsensitiveMap<>();
+        for (String nombre : Collections.list(lote.getHeaderNames())) {
+            if (!NO_HEREDADOS.contains(nombre.toLowerCase(Locale.ROOT))) {
+                encabezados.put(nombre, Collections.list(lote.getHeaders(nombre)));
+            }
+        }
+        return encabezados;
+    }
+
+    private RespuestaLoteDTO despachar(String id, PeticionInterna peticion, HttpServletResponse lote) {
+        LimitadorAdaptativo limitador = limitarConcurrencia ? concurrencyLimitFilter.limitador(peticion.getMethod()) : null;
+        if (limitador != null && !limitador.adquirir()) {
+            return error(id, HttpStatus.SERVICE_UNAVAILABLE, "La petición no se ejecutó: el servicio está saturado.", peticion);
+        }
+        RespuestaInterna respuesta = new RespuestaInterna(lote);
+        long inicio = System.nanoTime();
+        try {
+            dispatcherServlet.service(peticion, respuesta);
+        } catch (Exception e) {
+            logger.warn("La petición {} {} del lote falló", peticion.getMethod(), peticion.getRequestURI(), e);
+            return error(id, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), peticion);
+        } finally {
+            if (limitador != null) {
+                limitador.liberar(System.nanoTime() - inicio);
+            }
+        }
+        return new RespuestaLoteDTO(id, respuesta.getStatus(), respuesta.getEncabezados(), cuerpo(respuesta));
+    }
+
+    private RespuestaLoteDTO esperar(Future<RespuestaLoteDTO> futuro, long limite, String id, PeticionInterna peticion) {
+        try {
+            return futuro.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            return error(id, HttpStatus.GATEWAY_TIMEOUT, "La petición no terminó dentro del tiempo máximo del lote.", peticion);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(true);
+            return error(id, HttpStatus.SERVICE_UNAVAILABLE, "El lote fue interrumpido.", peticion);
+        } catch (ExecutionException e) {
+            return error(id, HttpStatus.INTERNAL_SERVER_ERROR, e.getCause().getMessage(), peticion);
+        }
+    }
+
+    private JsonNode cuerpo(RespuestaInterna respuesta) {
+        byte[] bytes = respuesta.getCuerpo();
+        if (bytes.length == 0) {
+            return respuesta.getMensajeError() == null ? null : TextNode.valueOf(respuesta.getMensajeError());
+        }
+        String tipo = respuesta.getContentType();
+        if (tipo != null && tipo.contains("json")) {
+            try {
+                return objectMapper.readTree(bytes);
+            } catch (IOException e) {
+                logger.debug("El cuerpo JSON de una petición del lote no se pudo leer", e);
+            }
+        }
+        return TextNode.valueOf(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private RespuestaLoteDTO error(String id, HttpStatus estado, String mensaje, PeticionInterna peticion) {
+        ErrorMessage error = new ErrorMessage(estado, mensaje, "uri=" + peticion.getRequestURI());
+        return new RespuestaLoteDTO(id, estado.value(), Map.of("Content-Type", "application/json"), objectMapper.valueToTree(error));
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * @file: OrganigramaService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:55:48 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.NodoOrganigramaDTO;
+import edu.unc.eventos.exception.EntityNotFoundException;
+
+import java.util.List;
+
+/**
+ * Interfaz que define las consultas sobre la jerarquía de supervisión de los empleados.
+ */
+public interface OrganigramaService {
+    /**
+     * Obtiene todos los empleados bajo el mando de un empleado, directos e indirectos.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Los subordinados, por niveles.
+     * @throws EntityNotFoundException Si el empleado no existe.
+     */
+    List<NodoOrganigramaDTO> getSubordinados(Long idEmpleado) throws EntityNotFoundException;
+
+    /**
+     * Obtiene la cadena de mando de un empleado, desde su supervisor directo hasta la cima.
+     *
+     * @param idEmpleado Identificador del empleado.
+     * @return Los supervisores, por niveles.
+     * @throws EntityNotFoundException Si el empleado no existe.
+     */
+    List<NodoOrganigramaDTO> getSupervisores(Long idEmpleado) throws EntityNotFoundException;
+}
@@ -0,0 +1,77 @@
+/**
+ * @file: OrganigramaServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:58:21 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.cache.Organigrama;
+import edu.unc.eventos.dto.NodoOrganigramaDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.EntityNotFoundException;
+import edu.unc.eventos.repositories.EmpleadoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link OrganigramaService}.
+ * <p>
+ * Las consultas se responden desde una instantánea del árbol que se lee de una vez, en lugar de cargar las relaciones
+ * perezosas nivel por nivel. Cuando {@code EmpleadoServiceImp} confirma un cambio, la instantánea se descarta y se
+ * vuelve a leer con la siguiente consulta.
+ */
+@Service
+public class OrganigramaServiceImp implements OrganigramaService {
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    private volatile Organigrama organigrama;
+
+    @Override
+    public List<NodoOrganigramaDTO> getSubordinados(Long idEmpleado) throws EntityNotFoundException {
+        return organigrama(idEmpleado).subordinados(idEmpleado);
+    }
+
+    @Override
+    public List<NodoOrganigramaDTO> getSupervisores(Long idEmpleado) throws EntityNotFoundException {
+        return organigrama(idEmpleado).supervisores(idEmpleado);
+    }
+
+    /**
+     * Descarta la instantánea cuando se confirma un cambio en un empleado.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (evento.getTipo() == TipoEntidad.EMPLEADO) {
+            organigrama = null;
+        }
+    }
+
+    private Organigrama organigrama(Long idEmpleado) {
+        Organigrama actual = organigrama;
+        if (actual == null) {
+            actual = cargar();
+        }
+        if (!actual.contiene(idEmpleado)) {
+            throw new EntityNotFoundException("El empleado con el Id proporcionado no se encontró.");
+        }
+        return actual;
+    }
+
+    /**
+     * Comparte el bloqueo con {@link #onEntidadModificada}: si un empleado cambia mientras se leen los nodos, el
+     * oyente espera y descarta el árbol recién leído, que podría no incluir el cambio.
+     */
+    private synchronized Organigrama cargar() {
+        if (organigrama == null) {
+            organigrama = new Organigrama(empleadoRepository.findNodosOrganigrama());
+        }
+        return organigrama;
+    }
+}
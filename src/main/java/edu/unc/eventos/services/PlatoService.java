@@ -10,9 +10,11 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.PlatoDTO;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +29,39 @@ public interface PlatoService {
      */
     List<Plato> getAll();
 
+    /**
+     * Recupera todos los platos con consultas de proyección, sin cargar entidades.
+     *
+     * @return Lista de platos con los identificadores de sus eventos.
+     */
+    List<PlatoDTO> getAllVistas();
+
+    /**
+     * Recupera un plato con consultas de proyección, sin cargar entidades.
+     *
+     * @param idPlato Identificador del plato.
+     * @return El plato con los identificadores de sus eventos.
+     * @throws EntityNotFoundException Si el plato no existe.
+     */
+    PlatoDTO getVistaById(Long idPlato) throws EntityNotFoundException;
+
+    /**
+     * Recupera varios platos con consultas de proyección, sin cargar entidades.
+     *
+     * @param idsPlato Identificadores de los platos.
+     * @return Los platos que existen, en cualquier orden.
+     */
+    List<PlatoDTO> getVistasByIds(Collection<Long> idsPlato);
+
+    /**
+     * Recupera los platos de un evento con consultas de proyección, sin cargar entidades.
+     *
+     * @param idEvento Identificador del evento.
+     * @return Lista de platos del evento con los identificadores de sus eventos.
+     * @throws EntityNotFoundException Si el evento no existe.
+     */
+    List<PlatoDTO> getVistasByIdEvento(Long idEvento) throws EntityNotFoundException;
+
     /**
      * Obtiene una lista de eventos asociados a un plato específico.
      *
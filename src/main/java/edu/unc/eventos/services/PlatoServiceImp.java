@@ -9,14 +9,27 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Evento;
 import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.EventoDTO;
+import edu.unc.eventos.dto.PlatoDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.EventoRepository;
+import edu.unc.eventos.repositories.ParIds;
 import edu.unc.eventos.repositories.PlatoRepository;
+import edu.unc.eventos.util.RestriccionUnica;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -25,17 +38,88 @@ public class PlatoServiceImp implements PlatoService {
     @Autowired
     private PlatoRepository platoRepository;
 
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve todos los platos que hay en la base de datos.
      *
      * @return Lista de entidades de tipo plato.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Plato> getAll() {
         return platoRepository.findAll();
     }
 
+    /**
+     * Devuelve todos los platos con dos consultas: una para las columnas del plato y otra para los identificadores
+     * de sus eventos.
+     *
+     * @return Lista de platos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlatoDTO> getAllVistas() {
+        return aDTOs(platoRepository.findAllVistas(), ParIds.agrupar(platoRepository.findIdsEventos()));
+    }
+
+    /**
+     * Devuelve un plato con dos consultas: una para las columnas del plato y otra para los identificadores de sus
+     * eventos.
+     *
+     * @param idPlato Id del plato que se quiere buscar.
+     * @return El plato que se encontró.
+     * @throws EntityNotFoundException Si el plato no se encuentra en la base de datos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlatoDTO getVistaById(Long idPlato) throws EntityNotFoundException {
+        PlatoRepository.Vista vista = platoRepository.findVistaById(idPlato)
+                .orElseThrow(() -> new EntityNotFoundException("El plato con el ID proporcionado no se encontró."));
+        return aDTO(vista, ParIds.agrupar(platoRepository.findIdsEventosByIdPlatoIn(List.of(idPlato))));
+    }
+
+    /**
+     * Devuelve varios platos con dos consultas, sin importar cuántos se pidan.
+     *
+     * @param idsPlato Ids de los platos que se quieren buscar.
+     * @return Los platos que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlatoDTO> getVistasByIds(Collection<Long> idsPlato) {
+        List<PlatoRepository.Vista> vistas = platoRepository.findVistasByIdPlatoIn(idsPlato);
+        if (vistas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return aDTOs(vistas, ParIds.agrupar(platoRepository.findIdsEventosByIdPlatoIn(idsPlato)));
+    }
+
+    /**
+     * Devuelve los platos de un evento sin cargar el evento ni sus relaciones.
+     *
+     * @param idEvento Id del evento.
+     * @return Lista de platos del evento.
+     * @throws EntityNotFoundException Si el evento no se encuentra en la base de datos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlatoDTO> getVistasByIdEvento(Long idEvento) throws EntityNotFoundException {
+        if (!eventoRepository.existsById(idEvento)) {
+            throw new EntityNotFoundException("El Evento no se ha encontrado");
+        }
+        List<PlatoRepository.Vista> vistas = platoRepository.findVistasByIdEvento(idEvento);
+        if (vistas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> idsPlato = vistas.stream().map(PlatoRepository.Vista::getIdPlato).toList();
+        return aDTOs(vistas, ParIds.agrupar(platoRepository.findIdsEventosByIdPlatoIn(idsPlato)));
+    }
+
     /**
      * Obtiene una lista de eventos asociados a un plato específico.
      *
@@ -101,15 +185,19 @@ public class PlatoServiceImp implements PlatoService {
      * @throws IllegalOperationException Si el nombre del plato está vacío.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Plato save(Plato plato) throws IllegalOperationException {
         if (plato.getNombre().isEmpty()) {
             throw new IllegalOperationException("El nombre del plato no puede estar vacio");
         }
-        if (platoRepository.findByNombre(plato.getNombre()) != null) {
-            throw new IllegalOperationException("El nombre del plato ya existe en la base de datos");
+        Plato guardado;
+        try {
+            guardado = platoRepository.saveAndFlush(plato);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
         }
-        return platoRepository.save(plato);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.PLATO, guardado.getIdPlato(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -121,16 +209,21 @@ public class PlatoServiceImp implements PlatoService {
      * @throws EntityNotFoundException    Si el plato no se encuentra en la base de datos.
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Plato update(Long idPlato, Plato plato) throws EntityNotFoundException, IllegalOperationException {
         Optional<Plato> platoOpt = platoRepository.findById(idPlato);
         if (platoOpt.isEmpty()) {
             throw new EntityNotFoundException("El plato con el id proporcionado no fue encontrado");
         }
-        if (platoRepository.findByNombre(plato.getNombre()) != null) {
-            throw new IllegalOperationException("El nombre del plato ya existe en la base de datos");
-        }
         plato.setIdPlato(idPlato);
-        return platoRepository.save(plato);
+        Plato actualizado;
+        try {
+            actualizado = platoRepository.saveAndFlush(plato);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
+        }
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.PLATO, actualizado.getIdPlato(), TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -149,5 +242,40 @@ public class PlatoServiceImp implements PlatoService {
             throw new IllegalOperationException("El plato tiene eventos asociados.");
         }
         platoRepository.deleteById(idPlato);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.PLATO, idPlato, TipoCambio.ELIMINACION, null));
+    }
+
+    private static List<PlatoDTO> aDTOs(List<PlatoRepository.Vista> vistas, Map<Long, List<Long>> eventos) {
+        List<PlatoDTO> platos = new ArrayList<>(vistas.size());
+        for (PlatoRepository.Vista vista : vistas) {
+            platos.add(aDTO(vista, eventos));
+        }
+        return platos;
+    }
+
+    private static PlatoDTO aDTO(PlatoRepository.Vista vista, Map<Long, List<Long>> eventos) {
+        PlatoDTO plato = new PlatoDTO();
+        plato.setIdPlato(vista.getIdPlato());
+        plato.setNombre(vista.getNombre());
+        plato.setDescripcion(vista.getDescripcion());
+        plato.setTipo(vista.getTipo());
+        plato.setPrecio(vista.getPrecio());
+        for (Long idEvento : eventos.getOrDefault(vista.getIdPlato(), List.of())) {
+            plato.getEventos().add(EventoDTO.referencia(idEvento));
+        }
+        return plato;
+    }
+
+    /**
+     * Traduce la violación de la restricción única del nombre en una operación ilegal.
+     *
+     * @param e Excepción lanzada por la base de datos.
+     * @return La excepción que se debe lanzar.
+     */
+    private IllegalOperationException traducirViolacion(DataIntegrityViolationException e) {
+        if (RestriccionUnica.es(e, "uk_plato_nombre")) {
+            return new IllegalOperationException("El nombre del plato ya existe en la base de datos");
+        }
+        throw e;
     }
 }
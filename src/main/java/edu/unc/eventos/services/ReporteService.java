@@ -0,0 +1,69 @@
+/**
+ * @file: ReporteService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:38:03 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.dto.ResumenLocalDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Interfaz que define los reportes de ingresos y ocupación por local y mes, y el mantenimiento de los resúmenes
+ * por local y por cliente.
+ */
+public interface ReporteService {
+    /**
+     * Suma un evento al resumen de su local y mes y a los contadores de su cliente. Debe llamarse dentro de la transacción que guarda el evento.
+     *
+     * @param evento Evento guardado.
+     */
+    void registrar(Evento evento);
+
+    /**
+     * Resta un evento del resumen de su local y mes y de los contadores de su cliente. Debe llamarse con el estado anterior del evento, dentro de la
+     * transacción que lo actualiza o elimina.
+     *
+     * @param evento Evento con los valores que se deben restar.
+     */
+    void anular(Evento evento);
+
+    /**
+     * Obtiene el resumen mensual de los locales en un rango de meses.
+     *
+     * @param desde   Primer mes del rango.
+     * @param hasta   Último mes del rango.
+     * @param idLocal Local que se quiere consultar; {@code null} para todos.
+     * @return Lista de resúmenes por local y mes.
+     * @throws IllegalOperationException Si el rango no es válido.
+     */
+    List<ResumenLocalDTO> getResumenMensual(YearMonth desde, YearMonth hasta, Long idLocal) throws IllegalOperationException;
+
+    /**
+     * Obtiene los totales de cada local en un rango de meses.
+     *
+     * @param desde Primer mes del rango.
+     * @param hasta Último mes del rango.
+     * @return Lista con un resumen por local.
+     * @throws IllegalOperationException Si el rango no es válido.
+     */
+    List<ResumenLocalDTO> getTotales(YearMonth desde, YearMonth hasta) throws IllegalOperationException;
+
+    /**
+     * Reconstruye todo el resumen a partir de la tabla de eventos.
+     *
+     * @return Número de filas del resumen.
+     */
+    int reconstruir();
+
+    /**
+     * Reconstruye los contadores de eventos y gasto de los clientes a partir de la tabla de eventos.
+     *
+     * @return Número de filas de contadores.
+     */
+    int reconstruirClientes();
+}
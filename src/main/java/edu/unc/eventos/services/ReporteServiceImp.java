@@ -0,0 +1,186 @@
+/**
+ * @file: ReporteServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 05:44:29 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.ResumenClientePeriodo;
+import edu.unc.eventos.domain.ResumenLocalMes;
+import edu.unc.eventos.dto.ResumenLocalDTO;
+import edu.unc.eventos.events.ResumenClienteEvent;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ResumenClientePeriodoRepository;
+import edu.unc.eventos.repositories.ResumenLocalMesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación de {@link ReporteService}.
+ * <p>
+ * El resumen se guarda en la tabla {@code resumen_local_mes}, con una fila por local y mes, y los contadores de
+ * clientes en {@code resumen_cliente_periodo}, con una fila por cliente para el total y otra por trimestre. Los
+ * cambios se aplican con una inserción o actualización atómica en la misma transacción que modifica el evento, de
+ * modo que los resúmenes nunca quedan desfasados de la tabla de eventos. Las consultas leen solo los resúmenes.
+ */
+@Service
+public class ReporteServiceImp implements ReporteService {
+    private static final Logger logger = LoggerFactory.getLogger(ReporteServiceImp.class);
+
+    /**
+     * Rango máximo de una consulta, en meses.
+     */
+    private static final int MAX_MESES = 120;
+
+    @Autowired
+    private ResumenLocalMesRepository resumenRepository;
+
+    @Autowired
+    private ResumenClientePeriodoRepository resumenClienteRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Evento evento) {
+        acumular(evento, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void anular(Evento evento) {
+        acumular(evento, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumenLocalDTO> getResumenMensual(YearMonth desde, YearMonth hasta, Long idLocal) throws IllegalOperationException {
+        validarRango(desde, hasta);
+        List<ResumenLocalMes> resumenes = idLocal == null
+                ? resumenRepository.findByPeriodoBetweenOrderByPeriodoAscIdLocalAsc(periodo(desde), periodo(hasta))
+                : resumenRepository.findByIdLocalAndPeriodoBetweenOrderByPeriodoAsc(idLocal, periodo(desde), periodo(hasta));
+        List<ResumenLocalDTO> resultado = new ArrayList<>(resumenes.size());
+        for (ResumenLocalMes resumen : resumenes) {
+            YearMonth mes = YearMonth.of(resumen.getPeriodo() / 100, resumen.getPeriodo() % 100);
+            resultado.add(crear(resumen.getIdLocal(), mes.toString(), resumen.getIngresos(), resumen.getDiasReservados(),
+                    mes.lengthOfMonth()));
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumenLocalDTO> getTotales(YearMonth desde, YearMonth hasta) throws IllegalOperationException {
+        validarRango(desde, hasta);
+        int dias = (int) ChronoUnit.DAYS.between(desde.atDay(1), hasta.plusMonths(1).atDay(1));
+        String rango = desde + "/" + hasta;
+        Map<Long, ResumenLocalDTO> totales = new LinkedHashMap<>();
+        for (ResumenLocalMes resumen : resumenRepository.findByPeriodoBetweenOrderByPeriodoAscIdLocalAsc(periodo(desde), periodo(hasta))) {
+            ResumenLocalDTO total = totales.computeIfAbsent(resumen.getIdLocal(), id -> crear(id, rango, BigDecimal.ZERO, 0, dias));
+            total.setIngresos(total.getIngresos().add(resumen.getIngresos()));
+            total.setDiasReservados(total.getDiasReservados() + resumen.getDiasReservados());
+        }
+        totales.values().forEach(total -> total.setOcupacion(ocupacion(total.getDiasReservados(), dias)));
+        return new ArrayList<>(totales.values());
+    }
+
+    @Override
+    @Transactional
+    public int reconstruir() {
+        long inicio = System.currentTimeMillis();
+        resumenRepository.borrarTodo();
+        int filas = resumenRepository.reconstruir();
+        logger.info("Resumen de locales reconstruido en {} ms: {} filas", System.currentTimeMillis() - inicio, filas);
+        return filas;
+    }
+
+    @Override
+    @Transactional
+    public int reconstruirClientes() {
+        long inicio = System.currentTimeMillis();
+        resumenClienteRepository.borrarTodo();
+        int filas = resumenClienteRepository.reconstruirTotales() + resumenClienteRepository.reconstruirTrimestres();
+        logger.info("Contadores de clientes reconstruidos en {} ms: {} filas", System.currentTimeMillis() - inicio, filas);
+        return filas;
+    }
+
+    private void acumular(Evento evento, int signo) {
+        BigDecimal total = evento.getTotal() == null ? BigDecimal.ZERO : evento.getTotal();
+        BigDecimal importe = signo > 0 ? total : total.negate();
+        LocalDate fecha = evento.getFecha() == null ? null
+                : Instant.ofEpochMilli(evento.getFecha().getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+
+        if (evento.getLocal() != null && evento.getLocal().getIdLocal() != null && fecha != null) {
+            Long idLocal = evento.getLocal().getIdLocal();
+            int mes = periodo(YearMonth.from(fecha));
+            resumenRepository.acumular(idLocal, mes, importe, signo);
+            if (signo < 0) {
+                resumenRepository.borrarSiVacio(idLocal, mes);
+            }
+        }
+        if (evento.getCliente() != null && evento.getCliente().getIdCliente() != null) {
+            Long idCliente = evento.getCliente().getIdCliente();
+            List<Integer> periodos = fecha == null
+                    ? List.of(ResumenClientePeriodo.TOTAL)
+                    : List.of(ResumenClientePeriodo.TOTAL, trimestre(fecha));
+            for (Integer periodo : periodos) {
+                resumenClienteRepository.acumular(idCliente, periodo, signo, importe);
+                if (signo < 0) {
+                    resumenClienteRepository.borrarSiVacio(idCliente, periodo);
+                }
+            }
+            eventPublisher.publishEvent(new ResumenClienteEvent(idCliente, periodos));
+        }
+    }
+
+    private static void validarRango(YearMonth desde, YearMonth hasta) throws IllegalOperationException {
+        if (desde.isAfter(hasta)) {
+            throw new IllegalOperationException("El mes inicial no puede ser posterior al mes final.");
+        }
+        if (ChronoUnit.MONTHS.between(desde, hasta) >= MAX_MESES) {
+            throw new IllegalOperationException("El rango no puede superar los " + MAX_MESES + " meses.");
+        }
+    }
+
+    private static ResumenLocalDTO crear(Long idLocal, String periodo, BigDecimal ingresos, int diasReservados, int diasPeriodo) {
+        ResumenLocalDTO dto = new ResumenLocalDTO();
+        dto.setIdLocal(idLocal);
+        dto.setPeriodo(periodo);
+        dto.setIngresos(ingresos);
+        dto.setDiasReservados(diasReservados);
+        dto.setDiasPeriodo(diasPeriodo);
+        dto.setOcupacion(ocupacion(diasReservados, diasPeriodo));
+        return dto;
+    }
+
+    private static BigDecimal ocupacion(int diasReservados, int diasPeriodo) {
+        return BigDecimal.valueOf(diasReservados).divide(BigDecimal.valueOf(diasPeriodo), 4, RoundingMode.HALF_UP);
+    }
+
+    private static int trimestre(LocalDate fecha) {
+        return fecha.getYear() * 10 + (fecha.getMonthValue() - 1) / 3 + 1;
+    }
+
+    private static int periodo(YearMonth mes) {
+        return mes.getYear() * 100 + mes.getMonthValue();
+    }
+}
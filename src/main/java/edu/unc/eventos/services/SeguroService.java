@@ -9,6 +9,7 @@ import edu.unc.eventos.domain.Seguro;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +34,14 @@ public interface SeguroService {
      */
     Seguro getById(Long idSeguro) throws EntityNotFoundException;
 
+    /**
+     * Recupera varios seguros con una sola consulta.
+     *
+     * @param idsSeguro Identificadores de los seguros.
+     * @return Los seguros que existen, en cualquier orden.
+     */
+    List<Seguro> getByIds(Collection<Long> idsSeguro);
+
     /**
      * Guarda un nuevo seguro.
      *
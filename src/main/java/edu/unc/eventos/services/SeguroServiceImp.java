@@ -7,15 +7,22 @@ package edu.unc.eventos.services;
 
 import edu.unc.eventos.domain.Empleado;
 import edu.unc.eventos.domain.Seguro;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
 import edu.unc.eventos.exception.EntityNotFoundException;
 import edu.unc.eventos.exception.IllegalOperationException;
 import edu.unc.eventos.repositories.EmpleadoRepository;
 import edu.unc.eventos.repositories.SeguroRepository;
+import edu.unc.eventos.util.RestriccionUnica;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -38,13 +45,16 @@ public class SeguroServiceImp implements SeguroService {
     @Autowired
     private EmpleadoRepository empleadoRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve todos los seguros que hay en la base de datos.
      *
      * @return Lista de entidades de tipo seguro.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Seguro> getAll() {
         return seguroRepository.findAll();
     }
@@ -57,7 +67,7 @@ public class SeguroServiceImp implements SeguroService {
      * @throws EntityNotFoundException Si el seguro no se encuentra en la base de datos.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Seguro getById(Long idSeguro) throws EntityNotFoundException {
         Optional<Seguro> seguroOpt = seguroRepository.findById(idSeguro);
         if (seguroOpt.isEmpty()) {
@@ -66,6 +76,18 @@ public class SeguroServiceImp implements SeguroService {
         return seguroOpt.get();
     }
 
+    /**
+     * Obtiene varios seguros con una sola consulta.
+     *
+     * @param idsSeguro Ids de los seguros que se quieren buscar.
+     * @return Los seguros que existen, en cualquier orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Seguro> getByIds(Collection<Long> idsSeguro) {
+        return seguroRepository.findAllById(idsSeguro);
+    }
+
     /**
      * Guarda un nuevo seguro
      *
@@ -74,7 +96,7 @@ public class SeguroServiceImp implements SeguroService {
      * @throws EntityNotFoundException Si ya existe un seguro con el mismo ID o código.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Seguro save(Seguro seguro) throws EntityNotFoundException, IllegalOperationException {
         if (seguro.getCodigo().isEmpty()) {
             throw new EntityNotFoundException("El código no puede estar vacío.");
@@ -90,11 +112,17 @@ public class SeguroServiceImp implements SeguroService {
             }
         }
 
-        if (seguroRepository.findByCodigo(seguro.getCodigo()) != null) {
-            throw new EntityNotFoundException("Ya existe un seguro con el mismo código.");
+        Seguro guardado;
+        try {
+            guardado = seguroRepository.saveAndFlush(seguro);
+        } catch (DataIntegrityViolationException e) {
+            if (RestriccionUnica.es(e, "uk_seguro_codigo")) {
+                throw new EntityNotFoundException("Ya existe un seguro con el mismo código.");
+            }
+            throw e;
         }
-
-        return seguroRepository.save(seguro);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.SEGURO, guardado.getIdSeguro(), TipoCambio.CREACION, guardado));
+        return guardado;
     }
 
     /**
@@ -107,7 +135,7 @@ public class SeguroServiceImp implements SeguroService {
      * @throws IllegalOperationException Si el seguro ya pertenece a otro código.
      */
     @Override
-    @Transactional
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Seguro update(Long idSeguro, Seguro seguro) throws EntityNotFoundException, IllegalOperationException {
         Optional<Seguro> seguroOpt = seguroRepository.findById(idSeguro);
         if (seguroOpt.isEmpty()) {
@@ -125,13 +153,15 @@ public class SeguroServiceImp implements SeguroService {
             }
         }
 
-        Seguro seguroConNuevoCodigo = seguroRepository.findByCodigo(seguro.getCodigo());
-        if (seguroConNuevoCodigo != null && !seguroConNuevoCodigo.getIdSeguro().equals(idSeguro)) {
-            throw new IllegalOperationException("El seguro ya pertenece a otro código.");
-        }
-
         seguro.setIdSeguro(idSeguro);
-        return seguroRepository.save(seguro);
+        Seguro actualizado;
+        try {
+            actualizado = seguroRepository.saveAndFlush(seguro);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e, "El seguro ya pertenece a otro código.");
+        }
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.SEGURO, idSeguro, TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
     }
 
     /**
@@ -152,6 +182,7 @@ public class SeguroServiceImp implements SeguroService {
         }
 
         seguroRepository.deleteById(idSeguro);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.SEGURO, idSeguro, TipoCambio.ELIMINACION, null));
     }
 
     /**
@@ -176,6 +207,22 @@ public class SeguroServiceImp implements SeguroService {
         }
 
         seguro.setEmpleado(empleado);
-        return seguroRepository.save(seguro);
+        Seguro actualizado = seguroRepository.save(seguro);
+        eventPublisher.publishEvent(new EntidadModificadaEvent(TipoEntidad.SEGURO, idSeguro, TipoCambio.ACTUALIZACION, actualizado));
+        return actualizado;
+    }
+
+    /**
+     * Traduce la violación de la restricción única del código en una operación ilegal.
+     *
+     * @param e       Excepción lanzada por la base de datos.
+     * @param mensaje Mensaje que se devuelve si el código está repetido.
+     * @return La excepción que se debe lanzar.
+     */
+    private IllegalOperationException traducirViolacion(DataIntegrityViolationException e, String mensaje) {
+        if (RestriccionUnica.es(e, "uk_seguro_codigo")) {
+            return new IllegalOperationException(mensaje);
+        }
+        throw e;
     }
 }
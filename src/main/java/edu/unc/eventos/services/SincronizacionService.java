@@ -0,0 +1,26 @@
+/**
+ * @file: SincronizacionService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 02:56:47 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.SincronizacionDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+
+/**
+ * Interfaz que define la sincronización incremental de los recursos para los clientes que trabajan sin conexión.
+ */
+public interface SincronizacionService {
+    /**
+     * Obtiene los cambios de todos los recursos posteriores a una marca: entidades creadas o modificadas, con sus
+     * campos, y entidades eliminadas.
+     *
+     * @param desde  Marca: {@code siguiente} de la respuesta anterior o un instante ISO-8601; si es {@code null}, se
+     *               sincroniza desde cero.
+     * @param limite Número máximo de cambios de la página; si es {@code null}, se usa el valor por defecto.
+     * @return La página de cambios y la marca para pedir la siguiente.
+     * @throws IllegalOperationException Si la marca o el límite no son válidos.
+     */
+    SincronizacionDTO sincronizar(String desde, Integer limite) throws IllegalOperationException;
+}
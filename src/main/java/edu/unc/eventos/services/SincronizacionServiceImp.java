@@ -0,0 +1,241 @@
+/**
+ * @file: SincronizacionServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 20, 2026 03:04:15 AM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Eliminacion;
+import edu.unc.eventos.dto.SincronizacionDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaCampos;
+import edu.unc.eventos.repositories.ConsultaSincronizacion;
+import edu.unc.eventos.repositories.ConsultaSincronizacion.Modificacion;
+import edu.unc.eventos.repositories.EliminacionRepository;
+import edu.unc.eventos.repositories.RecursoCampos;
+import edu.unc.eventos.repositories.RecursoCampos.Campo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Implementación de {@link SincronizacionService}.
+ * <p>
+ * Los cambios de los siete recursos y las eliminaciones forman una sola secuencia ordenada por
+ * {@code (momento, fuente, id)}, donde la fuente es la posición del recurso en {@link RecursoCampos} (las
+ * eliminaciones van al final). Cada página lee como mucho {@code limite + 1} filas de cada fuente por su índice, las
+ * mezcla y se queda con las primeras; la fila de más indica que quedan cambios aunque venga de una sola fuente. Luego
+ * lee los campos de esas entidades con una consulta por recurso. La marca {@code siguiente} codifica la posición de
+ * la última fila entregada.
+ * <p>
+ * Solo se entregan los cambios anteriores a {@code ahora - margen}: una transacción que asignó su marca antes pero
+ * confirmó después de la lectura sigue quedando por delante de la marca del cliente.
+ */
+@Service
+public class SincronizacionServiceImp implements SincronizacionService {
+    private static final Logger logger = LoggerFactory.getLogger(SincronizacionServiceImp.class);
+    private static final RecursoCampos[] RECURSOS = RecursoCampos.values();
+    private static final int FUENTE_ELIMINACIONES = RECURSOS.length;
+
+    @Autowired
+    private ConsultaSincronizacion consultaSincronizacion;
+
+    @Autowired
+    private ConsultaCampos consultaCampos;
+
+    @Autowired
+    private EliminacionRepository eliminacionRepository;
+
+    @Value("${app.sync.limite:500}")
+    private int limitePorDefecto;
+
+    @Value("${app.sync.limite-maximo:1000}")
+    private int limiteMaximo;
+
+    @Value("${app.sync.margen:2s}")
+    private Duration margen;
+
+    @Value("${app.sync.retencion:P30D}")
+    private Duration retencion;
+
+    /**
+     * Posición en la secuencia de cambios.
+     */
+    private record Posicion(Instant fecha, int fuente, long id) {
+    }
+
+    /**
+     * Fila candidata de una página.
+     */
+    private record Fila(Posicion posicion, TipoEntidad tipo, Long id, TipoCambio cambio) {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SincronizacionDTO sincronizar(String desde, Integer limite) throws IllegalOperationException {
+        int tamano = limite == null ? limitePorDefecto : limite;
+        if (tamano < 1 || tamano > limiteMaximo) {
+            throw new IllegalOperationException("El límite debe estar entre 1 y " + limiteMaximo + ".");
+        }
+        Posicion inicio = parsear(desde);
+        Instant ahora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        boolean reinicio = inicio != null && inicio.fecha().isBefore(ahora.minus(retencion));
+        if (inicio == null || reinicio) {
+            inicio = new Posicion(Instant.EPOCH, 0, 0);
+        }
+        Instant hasta = ahora.minus(margen);
+
+        // Una fila más por fuente para saber si quedan cambios después de la página
+        int lectura = tamano + 1;
+        List<Fila> filas = new ArrayList<>();
+        for (RecursoCampos recurso : RECURSOS) {
+            TipoEntidad tipo = TipoEntidad.valueOf(recurso.name());
+            int fuente = recurso.ordinal();
+            for (Modificacion m : consultaSincronizacion.buscarModificadas(recurso, inicio.fecha(), despuesDe(inicio, fuente), hasta, lectura)) {
+                TipoCambio cambio = m.actualizadoEn().equals(m.creadoEn()) ? TipoCambio.CREACION : TipoCambio.ACTUALIZACION;
+                filas.add(new Fila(new Posicion(m.actualizadoEn(), fuente, m.id()), tipo, m.id(), cambio));
+            }
+        }
+        for (Eliminacion e : consultaSincronizacion.buscarEliminaciones(inicio.fecha(), despuesDe(inicio, FUENTE_ELIMINACIONES), hasta, lectura)) {
+            filas.add(new Fila(new Posicion(e.getEliminadoEn(), FUENTE_ELIMINACIONES, e.getIdEliminacion()),
+                    e.getTipo(), e.getIdEntidad(), TipoCambio.ELIMINACION));
+        }
+        filas.sort(Comparator.comparing((Fila f) -> f.posicion().fecha())
+                .thenComparingInt(f -> f.posicion().fuente())
+                .thenComparingLong(f -> f.posicion().id()));
+        boolean completo = filas.size() <= tamano;
+        if (!completo) {
+            filas = filas.subList(0, tamano);
+        }
+
+        Map<RecursoCampos, Set<Long>> idsPorRecurso = new EnumMap<>(RecursoCampos.class);
+        for (Fila fila : filas) {
+            if (fila.cambio() != TipoCambio.ELIMINACION) {
+                idsPorRecurso.computeIfAbsent(RECURSOS[fila.posicion().fuente()], r -> new HashSet<>()).add(fila.id());
+            }
+        }
+        Map<RecursoCampos, Map<Long, Map<String, Object>>> datos = new EnumMap<>(RecursoCampos.class);
+        idsPorRecurso.forEach((recurso, ids) -> {
+            Map<Long, Map<String, Object>> porId = new HashMap<>();
+            for (Map<String, Object> fila : consultaCampos.buscar(recurso, campos(recurso), ids)) {
+                porId.put((Long) fila.get(recurso.getId()), fila);
+            }
+            datos.put(recurso, porId);
+        });
+
+        List<SincronizacionDTO.Cambio> cambios = new ArrayList<>(filas.size());
+        for (Fila fila : filas) {
+            Map<String, Object> campos = fila.cambio() == TipoCambio.ELIMINACION
+                    ? null : datos.get(RECURSOS[fila.posicion().fuente()]).get(fila.id());
+            cambios.add(new SincronizacionDTO.Cambio(fila.tipo(), fila.id(), fila.cambio(), fila.posicion().fecha(), campos));
+        }
+        Posicion ultima = filas.isEmpty() ? inicio : filas.get(filas.size() - 1).posicion();
+        return new SincronizacionDTO(cambios, formatear(ultima), completo, reinicio);
+    }
+
+    /**
+     * Registra la eliminación de una entidad en la misma transacción que la elimina, para que la sincronización la
+     * informe.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @EventListener
+    public void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (evento.getCambio() == TipoCambio.ELIMINACION) {
+            eliminacionRepository.save(new Eliminacion(evento.getTipo(), evento.getId(),
+                    Instant.now().truncatedTo(ChronoUnit.MICROS)));
+        }
+    }
+
+    /**
+     * Asigna las marcas de tiempo a las filas creadas antes de que existieran las columnas, para que entren en la
+     * sincronización desde cero.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void completarMarcas() {
+        Instant ahora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        for (RecursoCampos recurso : RECURSOS) {
+            int filas = consultaSincronizacion.completarMarcas(recurso, ahora);
+            if (filas > 0) {
+                logger.info("Marcas de tiempo asignadas a {} filas de {}", filas, recurso.getEntidad());
+            }
+        }
+    }
+
+    /**
+     * Borra los registros de eliminación más antiguos que la retención. Los clientes con una marca anterior reciben
+     * {@code reinicio}.
+     */
+    @Scheduled(fixedDelayString = "${app.sync.depuracion:PT6H}", initialDelayString = "${app.sync.depuracion:PT6H}")
+    @Transactional
+    public void depurarEliminaciones() {
+        int borradas = eliminacionRepository.borrarAnteriores(Instant.now().minus(retencion));
+        if (borradas > 0) {
+            logger.info("Registros de eliminación depurados: {}", borradas);
+        }
+    }
+
+    /**
+     * Identificador a partir del cual se incluyen las filas de una fuente en el momento de la posición: las fuentes
+     * anteriores ya se entregaron completas en ese momento, y las posteriores aún no.
+     */
+    private static long despuesDe(Posicion inicio, int fuente) {
+        if (fuente < inicio.fuente()) {
+            return Long.MAX_VALUE;
+        }
+        return fuente > inicio.fuente() ? 0 : inicio.id();
+    }
+
+    /**
+     * Campos que se sincronizan: los que se guardan en la fila de la entidad y la colección de platos del evento, que
+     * es la única que el recurso posee. Las demás colecciones se reconstruyen con la relación del otro lado.
+     */
+    private static List<Campo> campos(RecursoCampos recurso) {
+        return recurso.getCampos().values().stream()
+                .filter(c -> c.tipo() != RecursoCampos.Tipo.COLECCION || recurso == RecursoCampos.EVENTO)
+                .toList();
+    }
+
+    private static Posicion parsear(String desde) throws IllegalOperationException {
+        if (desde == null || desde.isBlank()) {
+            return null;
+        }
+        try {
+            if (desde.contains("T")) {
+                return new Posicion(Instant.parse(desde.trim()).truncatedTo(ChronoUnit.MICROS), 0, 0);
+            }
+            String[] partes = desde.trim().split("-");
+            if (partes.length == 3) {
+                int fuente = Integer.parseInt(partes[1]);
+                if (fuente >= 0 && fuente <= FUENTE_ELIMINACIONES) {
+                    return new Posicion(Instant.EPOCH.plus(Long.parseLong(partes[0]), ChronoUnit.MICROS), fuente,
+                            Long.parseLong(partes[2]));
+                }
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalOperationException("La marca '" + desde + "' no es válida. Use el valor 'siguiente' de la "
+                + "respuesta anterior o un instante ISO-8601.");
+    }
+
+    private static String formatear(Posicion posicion) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, posicion.fecha()) + "-" + posicion.fuente() + "-" + posicion.id();
+    }
+}
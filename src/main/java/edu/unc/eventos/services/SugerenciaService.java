@@ -0,0 +1,45 @@
+/**
+ * @file: SugerenciaService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:23:40 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.SugerenciaDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+
+import java.util.List;
+
+/**
+ * Interfaz que define el autocompletado de clientes y empleados por prefijo.
+ */
+public interface SugerenciaService {
+    /**
+     * Busca clientes cuyo nombre, documento de identidad o teléfono empieza por el prefijo. Si el prefijo tiene varias
+     * palabras, cada una debe coincidir con el inicio de alguna palabra del nombre.
+     *
+     * @param prefijo Texto escrito hasta el momento.
+     * @param limite  Número máximo de sugerencias.
+     * @return Las sugerencias encontradas.
+     * @throws IllegalOperationException Si el prefijo está vacío o el límite no es válido.
+     */
+    List<SugerenciaDTO> sugerirClientes(String prefijo, int limite) throws IllegalOperationException;
+
+    /**
+     * Busca empleados cuyos nombres, apellidos o DNI empiezan por el prefijo, con las mismas reglas que
+     * {@link #sugerirClientes(String, int)}.
+     *
+     * @param prefijo Texto escrito hasta el momento.
+     * @param limite  Número máximo de sugerencias.
+     * @return Las sugerencias encontradas.
+     * @throws IllegalOperationException Si el prefijo está vacío o el límite no es válido.
+     */
+    List<SugerenciaDTO> sugerirEmpleados(String prefijo, int limite) throws IllegalOperationException;
+
+    /**
+     * Vuelve a construir los índices con el contenido actual de la base de datos.
+     *
+     * @return Número de personas indexadas.
+     */
+    int reconstruir();
+}
@@ -0,0 +1,144 @@
+/**
+ * @file: SugerenciaServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 08:27:05 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.busqueda.IndicePrefijos;
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.dto.SugerenciaDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ClienteRepository;
+import edu.unc.eventos.repositories.EmpleadoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link SugerenciaService}.
+ * <p>
+ * Los índices se construyen con la primera consulta (o durante el calentamiento) y luego se mantienen con los cambios
+ * que confirman {@code ClienteServiceImp} y {@code EmpleadoServiceImp}, así que las consultas no usan la base de
+ * datos.
+ */
+@Service
+public class SugerenciaServiceImp implements SugerenciaService {
+    private static final int LIMITE_MAXIMO = 20;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    /**
+     * Índices vigentes; {@code null} hasta la primera carga. Una reconstrucción prepara índices nuevos y los publica
+     * juntos al terminar, mientras las consultas siguen usando los anteriores.
+     */
+    private volatile Indices indices;
+
+    /**
+     * Índices de clientes y de empleados publicados a la vez.
+     */
+    private record Indices(IndicePrefijos clientes, IndicePrefijos empleados) {
+    }
+
+    @Override
+    public List<SugerenciaDTO> sugerirClientes(String prefijo, int limite) throws IllegalOperationException {
+        validar(prefijo, limite);
+        return sugerir(indices().clientes(), prefijo, limite);
+    }
+
+    @Override
+    public List<SugerenciaDTO> sugerirEmpleados(String prefijo, int limite) throws IllegalOperationException {
+        validar(prefijo, limite);
+        return sugerir(indices().empleados(), prefijo, limite);
+    }
+
+    /**
+     * Lee clientes y empleados con el bloqueo tomado: un cambio confirmado mientras tanto espera y se aplica después
+     * sobre los índices nuevos, en lugar de perderse al reemplazarlos.
+     */
+    @Override
+    public synchronized int reconstruir() {
+        IndicePrefijos clientes = new IndicePrefijos();
+        clientes.cargar(clienteRepository.findAll().stream().map(SugerenciaServiceImp::entrada).toList());
+        IndicePrefijos empleados = new IndicePrefijos();
+        empleados.cargar(empleadoRepository.findAll().stream().map(SugerenciaServiceImp::entrada).toList());
+        indices = new Indices(clientes, empleados);
+        return clientes.tamanio() + empleados.tamanio();
+    }
+
+    /**
+     * Actualiza el índice cuando se confirma un cambio en un cliente o un empleado.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntidadModificada(EntidadModificadaEvent evento) {
+        Indices actuales = indices;
+        if (actuales == null) {
+            return;
+        }
+        IndicePrefijos indice = evento.getTipo() == TipoEntidad.CLIENTE ? actuales.clientes()
+                : evento.getTipo() == TipoEntidad.EMPLEADO ? actuales.empleados() : null;
+        if (indice == null) {
+            return;
+        }
+        if (evento.getCambio() == TipoCambio.ELIMINACION) {
+            indice.quitar(evento.getId());
+        } else if (evento.getEntidad() instanceof Cliente cliente) {
+            indice.agregar(entrada(cliente));
+        } else if (evento.getEntidad() instanceof Empleado empleado) {
+            indice.agregar(entrada(empleado));
+        }
+    }
+
+    private Indices indices() {
+        Indices actuales = indices;
+        return actuales != null ? actuales : cargar();
+    }
+
+    /**
+     * Carga los índices si nadie lo hizo mientras se esperaba el bloqueo, para que las consultas que llegan juntas
+     * antes de la primera carga no lean cada una todas las personas.
+     */
+    private synchronized Indices cargar() {
+        if (indices == null) {
+            reconstruir();
+        }
+        return indices;
+    }
+
+    private static void validar(String prefijo, int limite) throws IllegalOperationException {
+        if (prefijo == null || prefijo.isBlank()) {
+            throw new IllegalOperationException("El prefijo no puede estar vacío");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalOperationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+    }
+
+    private static List<SugerenciaDTO> sugerir(IndicePrefijos indice, String prefijo, int limite) {
+        return indice.sugerir(prefijo, limite).stream()
+                .map(e -> new SugerenciaDTO(e.id(), e.nombre(), e.detalle()))
+                .toList();
+    }
+
+    private static IndicePrefijos.Entrada entrada(Cliente cliente) {
+        return IndicePrefijos.entrada(cliente.getIdCliente(), cliente.getNombre(), cliente.getDi(),
+                cliente.getDi(), cliente.getTelefono());
+    }
+
+    private static IndicePrefijos.Entrada entrada(Empleado empleado) {
+        String nombre = empleado.getNombres() + " " + empleado.getApellidos();
+        return IndicePrefijos.entrada(empleado.getIdEmpleado(), nombre, empleado.getDni(), empleado.getDni());
+    }
+}
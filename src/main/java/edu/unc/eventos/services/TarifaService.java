@@ -0,0 +1,24 @@
+/**
+ * @file: TarifaService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 04:48:21 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Evento;
+
+import java.math.BigDecimal;
+
+/**
+ * Interfaz que define el cálculo del precio total de los eventos.
+ */
+public interface TarifaService {
+    /**
+     * Calcula el total de un evento: el precio de la decoración más el precio por persona de cada plato multiplicado
+     * por el número de personas. Los precios se toman de la tabla en memoria, no del objeto recibido.
+     *
+     * @param evento Evento con la decoración, los platos y el número de personas.
+     * @return El total con dos decimales.
+     */
+    BigDecimal calcularTotal(Evento evento);
+}
@@ -0,0 +1,112 @@
+/**
+ * @file: TarifaServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 04:53:09 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.repositories.DecoracionRepository;
+import edu.unc.eventos.repositories.PlatoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación de {@link TarifaService}.
+ * <p>
+ * Los precios de platos y decoraciones se guardan en una tabla en memoria que se carga con el primer cálculo y se
+ * actualiza con cada cambio confirmado en esos catálogos, de modo que guardar un evento no necesita consultas
+ * adicionales. Los totales ya guardados no cambian cuando cambia un precio.
+ */
+@Service
+public class TarifaServiceImp implements TarifaService {
+    @Autowired
+    private PlatoRepository platoRepository;
+
+    @Autowired
+    private DecoracionRepository decoracionRepository;
+
+    private final Map<Long, BigDecimal> preciosPlato = new ConcurrentHashMap<>();
+    private final Map<Long, BigDecimal> preciosDecoracion = new ConcurrentHashMap<>();
+    private volatile boolean cargada;
+
+    @Override
+    public BigDecimal calcularTotal(Evento evento) {
+        if (!cargada) {
+            cargar();
+        }
+        BigDecimal porPersona = BigDecimal.ZERO;
+        for (Plato plato : evento.getPlatos()) {
+            porPersona = porPersona.add(precio(preciosPlato, plato.getIdPlato()));
+        }
+        int personas = evento.getNumPersonas() == null ? 0 : evento.getNumPersonas();
+        BigDecimal total = porPersona.multiply(BigDecimal.valueOf(personas));
+        if (evento.getDecoracion() != null) {
+            total = total.add(precio(preciosDecoracion, evento.getDecoracion().getIdDecoracion()));
+        }
+        return total.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Actualiza la tabla cuando se confirma un cambio en un plato o una decoración.
+     * Está sincronizado con la carga, para que una carga en curso no sobrescriba un precio más reciente.
+     *
+     * @param evento Evento de modificación de una entidad.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntidadModificada(EntidadModificadaEvent evento) {
+        if (!cargada) {
+            return;
+        }
+        if (evento.getTipo() == TipoEntidad.PLATO) {
+            actualizar(preciosPlato, evento, evento.getEntidad() instanceof Plato plato ? plato.getPrecio() : null);
+        } else if (evento.getTipo() == TipoEntidad.DECORACION) {
+            actualizar(preciosDecoracion, evento, evento.getEntidad() instanceof Decoracion decoracion
+                    ? aDecimal(decoracion.getPrecio()) : null);
+        }
+    }
+
+    private synchronized void cargar() {
+        if (cargada) {
+            return;
+        }
+        for (Plato plato : platoRepository.findAll()) {
+            preciosPlato.put(plato.getIdPlato(), valor(plato.getPrecio()));
+        }
+        for (Decoracion decoracion : decoracionRepository.findAll()) {
+            preciosDecoracion.put(decoracion.getIdDecoracion(), valor(aDecimal(decoracion.getPrecio())));
+        }
+        cargada = true;
+    }
+
+    private static void actualizar(Map<Long, BigDecimal> precios, EntidadModificadaEvent evento, BigDecimal precio) {
+        if (evento.getCambio() == TipoCambio.ELIMINACION) {
+            precios.remove(evento.getId());
+        } else {
+            precios.put(evento.getId(), valor(precio));
+        }
+    }
+
+    private static BigDecimal precio(Map<Long, BigDecimal> precios, Long id) {
+        return id == null ? BigDecimal.ZERO : precios.getOrDefault(id, BigDecimal.ZERO);
+    }
+
+    private static BigDecimal valor(BigDecimal precio) {
+        return precio == null ? BigDecimal.ZERO : precio;
+    }
+
+    private static BigDecimal aDecimal(Double precio) {
+        return precio == null ? null : BigDecimal.valueOf(precio);
+    }
+}
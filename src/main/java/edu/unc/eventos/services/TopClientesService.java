@@ -0,0 +1,33 @@
+/**
+ * @file: TopClientesService.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:52:48 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.dto.TopClienteDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+
+import java.util.List;
+
+/**
+ * Interfaz que define la clasificación de los mejores clientes por número de eventos y por gasto.
+ */
+public interface TopClientesService {
+    /**
+     * Obtiene los mejores clientes de un periodo.
+     *
+     * @param periodo {@code total} (o {@code null}) para todos los eventos, o un trimestre con el formato
+     *                {@code aaaa-Qn}, por ejemplo {@code 2027-Q1}.
+     * @param k       Número de clientes.
+     * @param orden   {@code eventos} o {@code gasto}.
+     * @return Lista de clientes ordenada de mejor a peor.
+     * @throws IllegalOperationException Si algún parámetro no es válido.
+     */
+    List<TopClienteDTO> getTop(String periodo, int k, String orden) throws IllegalOperationException;
+
+    /**
+     * Recalcula los contadores desde la tabla de eventos y recarga las clasificaciones en memoria.
+     */
+    void reconciliar();
+}
@@ -0,0 +1,204 @@
+/**
+ * @file: TopClientesServiceImp.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 06:58:05 PM
+ */
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.cache.RankingClientes;
+import edu.unc.eventos.cache.RankingClientes.Criterio;
+import edu.unc.eventos.cache.RankingClientes.Puntaje;
+import edu.unc.eventos.domain.ResumenClientePeriodo;
+import edu.unc.eventos.dto.TopClienteDTO;
+import edu.unc.eventos.events.ResumenClienteEvent;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ResumenClientePeriodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Implementación de {@link TopClientesService}.
+ * <p>
+ * Cada periodo consultado tiene dos clasificaciones acotadas en memoria (por eventos y por gasto), que se cargan
+ * desde los contadores persistidos la primera vez que se piden. Después de cada commit que modifica eventos se
+ * leen los contadores del cliente afectado y se actualizan las clasificaciones, así que una consulta solo toma una
+ * sublista ya ordenada. Una tarea periódica recalcula los contadores desde la tabla de eventos y recarga las
+ * clasificaciones, corrigiendo cualquier desviación.
+ * <p>
+ * El periodo lo elige el cliente, así que se guardan como máximo {@code app.top-clientes.max-clasificaciones}
+ * clasificaciones y se descarta la usada hace más tiempo; si se vuelve a pedir, se carga de nuevo.
+ */
+@Service
+public class TopClientesServiceImp implements TopClientesService {
+    private static final Logger logger = LoggerFactory.getLogger(TopClientesServiceImp.class);
+
+    private static final Pattern TRIMESTRE = Pattern.compile("(\\d{4})-[QqTt]([1-4])");
+
+    @Autowired
+    private ResumenClientePeriodoRepository resumenClienteRepository;
+
+    @Autowired
+    private ReporteService reporteService;
+
+    @Value("${app.top-clientes.k-maximo:100}")
+    private int kMaximo;
+
+    @Value("${app.top-clientes.max-clasificaciones:64}")
+    private int maxClasificaciones;
+
+    private record Clave(int periodo, Criterio criterio) {
+    }
+
+    /**
+     * Clasificaciones cargadas en orden de uso; se accede con su propio bloqueo.
+     */
+    private final Map<Clave, RankingClientes> rankings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Clave, RankingClientes> masAntigua) {
+            return size() > maxClasificaciones;
+        }
+    };
+
+    @Override
+    public List<TopClienteDTO> getTop(String periodo, int k, String orden) throws IllegalOperationException {
+        if (k < 1 || k > kMaximo) {
+            throw new IllegalOperationException("El parámetro k debe estar entre 1 y " + kMaximo + ".");
+        }
+        Clave clave = new Clave(periodo(periodo), criterio(orden));
+        RankingClientes ranking;
+        synchronized (rankings) {
+            ranking = rankings.get(clave);
+        }
+        if (ranking == null) {
+            RankingClientes nuevo = cargar(clave);
+            synchronized (rankings) {
+                ranking = rankings.putIfAbsent(clave, nuevo);
+            }
+            if (ranking == null) {
+                ranking = nuevo;
+            }
+        }
+        return ranking.top(k);
+    }
+
+    /**
+     * Número de clasificaciones cargadas en memoria.
+     */
+    public int getNumeroClasificaciones() {
+        synchronized (rankings) {
+            return rankings.size();
+        }
+    }
+
+    /**
+     * Actualiza las clasificaciones cargadas con los contadores confirmados del cliente.
+     *
+     * @param evento Evento de cambio en los contadores de un cliente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumenCliente(ResumenClienteEvent evento) {
+        Map<Clave, RankingClientes> cargadas = cargadas();
+        List<Integer> cargados = evento.getPeriodos().stream()
+                .filter(p -> cargadas.containsKey(new Clave(p, Criterio.EVENTOS)) || cargadas.containsKey(new Clave(p, Criterio.GASTO)))
+                .toList();
+        if (cargados.isEmpty()) {
+            return;
+        }
+        Map<Integer, ResumenClientePeriodo> contadores = new HashMap<>();
+        resumenClienteRepository.findByIdClienteAndPeriodoIn(evento.getIdCliente(), cargados)
+                .forEach(c -> contadores.put(c.getPeriodo(), c));
+        for (Integer periodo : cargados) {
+            ResumenClientePeriodo contador = contadores.get(periodo);
+            Puntaje puntaje = contador == null
+                    ? new Puntaje(evento.getIdCliente(), 0, BigDecimal.ZERO)
+                    : puntaje(contador);
+            for (Criterio criterio : Criterio.values()) {
+                RankingClientes ranking = cargadas.get(new Clave(periodo, criterio));
+                if (ranking != null) {
+                    ranking.actualizar(puntaje);
+                }
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.top-clientes.reconciliacion:PT1H}", initialDelayString = "${app.top-clientes.reconciliacion:PT1H}")
+    public void reconciliar() {
+        long inicio = System.currentTimeMillis();
+        reporteService.reconstruirClientes();
+        Map<Clave, RankingClientes> cargadas = cargadas();
+        cargadas.forEach((clave, ranking) -> ranking.cargar(leer(clave)));
+        logger.info("Clasificación de clientes reconciliada en {} ms ({} clasificaciones cargadas)",
+                System.currentTimeMillis() - inicio, cargadas.size());
+    }
+
+    /**
+     * Copia de las clasificaciones cargadas, para leer la base de datos sin retener el bloqueo del mapa ni alterar
+     * el orden de uso.
+     */
+    private Map<Clave, RankingClientes> cargadas() {
+        synchronized (rankings) {
+            return new HashMap<>(rankings);
+        }
+    }
+
+    private RankingClientes cargar(Clave clave) {
+        RankingClientes ranking = new RankingClientes(clave.criterio(), capacidad());
+        ranking.cargar(leer(clave));
+        return ranking;
+    }
+
+    private List<Puntaje> leer(Clave clave) {
+        PageRequest pagina = PageRequest.of(0, capacidad());
+        List<ResumenClientePeriodo> contadores = clave.criterio() == Criterio.EVENTOS
+                ? resumenClienteRepository.findByPeriodoOrderByEventosDescIdClienteAsc(clave.periodo(), pagina)
+                : resumenClienteRepository.findByPeriodoOrderByGastoDescIdClienteAsc(clave.periodo(), pagina);
+        return contadores.stream().map(TopClientesServiceImp::puntaje).toList();
+    }
+
+    /**
+     * La clasificación guarda el doble de clientes de los que se sirven, como margen para los clientes que bajan.
+     */
+    private int capacidad() {
+        return kMaximo * 2;
+    }
+
+    private static Puntaje puntaje(ResumenClientePeriodo contador) {
+        return new Puntaje(contador.getIdCliente(), contador.getEventos(), contador.getGasto());
+    }
+
+    private static int periodo(String periodo) throws IllegalOperationException {
+        if (periodo == null || periodo.isBlank() || periodo.equalsIgnoreCase("total")) {
+            return ResumenClientePeriodo.TOTAL;
+        }
+        Matcher trimestre = TRIMESTRE.matcher(periodo);
+        if (!trimestre.matches()) {
+            throw new IllegalOperationException("El periodo debe ser 'total' o un trimestre con el formato aaaa-Qn.");
+        }
+        return Integer.parseInt(trimestre.group(1)) * 10 + Integer.parseInt(trimestre.group(2));
+    }
+
+    private static Criterio criterio(String orden) throws IllegalOperationException {
+        if (orden == null || orden.equalsIgnoreCase("eventos")) {
+            return Criterio.EVENTOS;
+        }
+        if (orden.equalsIgnoreCase("gasto")) {
+            return Criterio.GASTO;
+        }
+        throw new IllegalOperationException("El orden debe ser 'eventos' o 'gasto'.");
+    }
+}
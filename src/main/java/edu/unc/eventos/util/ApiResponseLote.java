@@ -0,0 +1,36 @@
+/**
+ * @file: ApiResponseLote.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:48:12 PM
+ */
+package edu.unc.eventos.util;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * Respuesta de la API a una consulta por lote de identificadores: además de los datos, lleva en {@code missing} los
+ * identificadores pedidos que no existen.
+ *
+ * @param <T> Tipo de datos asociado a la respuesta.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ApiResponseLote<T> extends ApiResponse<T> {
+    private List<Long> missing;
+
+    /**
+     * Constructor para crear un objeto ApiResponseLote
+     *
+     * @param success Indica si la operación fue exitosa.
+     * @param message Mensaje descriptivo de la respuesta.
+     * @param data    Datos asociados a la respuesta.
+     * @param missing Identificadores pedidos que no se encontraron.
+     */
+    public ApiResponseLote(boolean success, String message, T data, List<Long> missing) {
+        super(success, message, data);
+        this.missing = missing;
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * @file: ApiResponseNormalizada.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 10:46:38 PM
+ */
+package edu.unc.eventos.util;
+
+import edu.unc.eventos.dto.IncluidosDTO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Respuesta de la API en forma normalizada: además de los datos, lleva en {@code included} las entidades que los
+ * datos referencian por identificador.
+ *
+ * @param <T> Tipo de datos asociado a la respuesta.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ApiResponseNormalizada<T> extends ApiResponse<T> {
+    private IncluidosDTO included;
+
+    /**
+     * Constructor para crear un objeto ApiResponseNormalizada
+     *
+     * @param success  Indica si la operación fue exitosa.
+     * @param message  Mensaje descriptivo de la respuesta.
+     * @param data     Datos asociados a la respuesta.
+     * @param included Entidades referenciadas por los datos.
+     */
+    public ApiResponseNormalizada(boolean success, String message, T data, IncluidosDTO included) {
+        super(success, message, data);
+        this.included = included;
+    }
+}
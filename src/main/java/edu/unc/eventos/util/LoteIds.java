@@ -0,0 +1,82 @@
+/**
+ * @file: LoteIds.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 11:51:30 PM
+ */
+package edu.unc.eventos.util;
+
+import edu.unc.eventos.exception.IllegalOperationException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Utilidades de las consultas por lote de identificadores ({@code ?ids=1,2,3}).
+ */
+public final class LoteIds {
+    /**
+     * Número máximo de identificadores por petición, para acotar el tamaño de la cláusula {@code IN}.
+     */
+    public static final int MAXIMO = 100;
+
+    private LoteIds() {
+    }
+
+    /**
+     * Lee los identificadores pedidos, sin repetidos y en el orden en que llegaron.
+     *
+     * @param ids Identificadores separados por comas.
+     * @return Lista de identificadores.
+     * @throws IllegalOperationException Si algún identificador no es un número, no hay ninguno o hay más del máximo.
+     */
+    public static List<Long> parsear(String ids) throws IllegalOperationException {
+        Set<Long> unicos = new LinkedHashSet<>();
+        for (String texto : ids.split(",")) {
+            String id = texto.trim();
+            if (id.isEmpty()) {
+                continue;
+            }
+            try {
+                unicos.add(Long.valueOf(id));
+            } catch (NumberFormatException e) {
+                throw new IllegalOperationException("El identificador '" + id + "' no es válido.");
+            }
+        }
+        if (unicos.isEmpty()) {
+            throw new IllegalOperationException("Debe indicar al menos un identificador.");
+        }
+        if (unicos.size() > MAXIMO) {
+            throw new IllegalOperationException("Se pueden pedir como máximo " + MAXIMO + " identificadores por petición.");
+        }
+        return new ArrayList<>(unicos);
+    }
+
+    /**
+     * Arma la respuesta con los elementos encontrados en el orden pedido y los identificadores que no existen.
+     *
+     * @param mensaje     Mensaje descriptivo de la respuesta.
+     * @param ids         Identificadores pedidos, en orden.
+     * @param encontrados Elementos devueltos por la consulta, en cualquier orden.
+     * @param id          Función que obtiene el identificador de un elemento.
+     * @param <T>         Tipo de los elementos.
+     * @return Respuesta con los datos y los identificadores faltantes.
+     */
+    public static <T> ApiResponseLote<List<T>> responder(String mensaje, List<Long> ids, Collection<T> encontrados,
+                                                         Function<T, Long> id) {
+        Map<Long, T> porId = new HashMap<>();
+        for (T elemento : encontrados) {
+            porId.put(id.apply(elemento), elemento);
+        }
+        List<T> datos = new ArrayList<>(porId.size());
+        List<Long> faltantes = new ArrayList<>();
+        for (Long idPedido : ids) {
+            T elemento = porId.get(idPedido);
+            if (elemento == null) {
+                faltantes.add(idPedido);
+            } else {
+                datos.add(elemento);
+            }
+        }
+        return new ApiResponseLote<>(true, mensaje, datos, faltantes);
+    }
+}
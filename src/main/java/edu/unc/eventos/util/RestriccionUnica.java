@@ -0,0 +1,38 @@
+/**
+ * @file: RestriccionUnica.java
+ * @author: (c)2024 Yeison García
+ * @created: Oct 19, 2026 12:20:44 PM
+ */
+package edu.unc.eventos.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Clase utilitaria para identificar qué restricción única de la base de datos fue violada.
+ * <p>
+ * Los servicios guardan directamente y traducen la violación de la restricción en una
+ * {@code IllegalOperationException}, en lugar de consultar antes si el valor ya existe.
+ */
+public class RestriccionUnica {
+    private RestriccionUnica() {
+    }
+
+    /**
+     * Indica si la excepción fue provocada por la restricción indicada.
+     *
+     * @param ex          Excepción lanzada al guardar.
+     * @param restriccion Nombre de la restricción, por ejemplo {@code uk_cliente_di}.
+     * @return {@code true} si la violación corresponde a la restricción.
+     */
+    public static boolean es(DataIntegrityViolationException ex, String restriccion) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion && violacion.getConstraintName() != null
+                    && violacion.getConstraintName().toLowerCase().contains(restriccion)) {
+                return true;
+            }
+        }
+        String mensaje = ex.getMostSpecificCause().getMessage();
+        return mensaje != null && mensaje.toLowerCase().contains(restriccion);
+    }
+}
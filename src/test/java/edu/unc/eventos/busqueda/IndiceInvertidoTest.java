@@ -0,0 +1,47 @@
+package edu.unc.eventos.busqueda;
+
+import edu.unc.eventos.busqueda.IndiceInvertido.Campo;
+import edu.unc.eventos.busqueda.IndiceInvertido.Resultado;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndiceInvertidoTest {
+    @Test
+    void normalizaTildesPluralesYPalabrasVacias() {
+        assertEquals(List.of("decoracion", "flor", "ros"), Tokenizador.terminos("Decoración de Flores y Rosas"));
+        assertEquals(List.of("limon", "pur"), Tokenizador.terminos("¡LIMÓN, puré!"));
+    }
+
+    @Test
+    void singularYPluralDanElMismoTermino() {
+        assertEquals(Tokenizador.terminos("postre"), Tokenizador.terminos("postres"));
+        assertEquals(Tokenizador.terminos("Mesa verde"), Tokenizador.terminos("mesas verdes"));
+        assertEquals(Tokenizador.terminos("luz"), Tokenizador.terminos("luces"));
+
+        IndiceInvertido<Long> indice = new IndiceInvertido<>();
+        indice.agregar(1L, "Postres", new Campo("Postres", 3));
+        assertEquals(List.of(1L), indice.buscar("postre", clave -> true, 10).stream().map(Resultado::clave).toList());
+    }
+
+    @Test
+    void ordenaPorRelevanciaYSeMantieneConLosCambios() {
+        IndiceInvertido<Long> indice = new IndiceInvertido<>();
+        indice.agregar(1L, "Ceviche", new Campo("Ceviche", 3), new Campo("Pescado con limón", 1));
+        indice.agregar(2L, "Limonada", new Campo("Limonada", 3), new Campo("Bebida de limón", 1));
+        indice.agregar(3L, "Pescado frito", new Campo("Pescado frito", 3), new Campo("Con papas", 1));
+
+        List<Resultado<Long>> resultados = indice.buscar("pescado limon", clave -> true, 10);
+        assertEquals(List.of(1L, 3L, 2L), resultados.stream().map(Resultado::clave).toList());
+        assertEquals(List.of(3L), indice.buscar("PESCADOS", clave -> clave != 1L, 10).stream().map(Resultado::clave).toList());
+
+        indice.agregar(1L, "Ceviche mixto", new Campo("Ceviche mixto", 3), new Campo("Mariscos", 1));
+        indice.quitar(3L);
+        assertTrue(indice.buscar("pescado", clave -> true, 10).isEmpty());
+        assertEquals("Ceviche mixto", indice.buscar("mixto", clave -> true, 1).get(0).titulo());
+        assertEquals(2, indice.tamanio());
+    }
+}
@@ -0,0 +1,48 @@
+package edu.unc.eventos.busqueda;
+
+import edu.unc.eventos.busqueda.IndicePrefijos.Entrada;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndicePrefijosTest {
+    @Test
+    void sugierePorPalabrasDocumentoYTelefono() {
+        IndicePrefijos indice = new IndicePrefijos();
+        indice.cargar(List.of(
+                IndicePrefijos.entrada(1, "José Ángel Pérez", "70112233", "70112233", "987-654-321"),
+                IndicePrefijos.entrada(2, "Josefina Paredes", "70445566", "70445566", "987 111 222"),
+                IndicePrefijos.entrada(3, "Ana Jiménez", "41223344", "41223344", null)));
+
+        assertEquals(List.of(1L, 2L), ids(indice.sugerir("jos", 10)));
+        assertEquals(List.of(1L), ids(indice.sugerir("JOSE ang", 10)));
+        assertEquals(List.of(2L), ids(indice.sugerir("pa jos", 10)));
+        assertEquals(List.of(1L), ids(indice.sugerir("987 65", 10)));
+        assertEquals(List.of(1L, 2L), ids(indice.sugerir("7", 10)));
+        assertEquals(1, indice.sugerir("j", 1).size());
+        assertTrue(indice.sugerir("x", 10).isEmpty());
+    }
+
+    @Test
+    void reemplazaYQuitaEntradas() {
+        IndicePrefijos indice = new IndicePrefijos();
+        indice.agregar(IndicePrefijos.entrada(1, "Luis Torres", "1"));
+        indice.agregar(IndicePrefijos.entrada(2, "Lucía Ramos", "2"));
+        indice.agregar(IndicePrefijos.entrada(1, "Luis Tapia", "1"));
+
+        assertEquals(List.of(1L), ids(indice.sugerir("tap", 10)));
+        assertTrue(indice.sugerir("torres", 10).isEmpty());
+        assertEquals("Luis Tapia", indice.sugerir("luis", 10).get(0).nombre());
+
+        indice.quitar(1);
+        assertEquals(List.of(2L), ids(indice.sugerir("lu", 10)));
+        assertEquals(1, indice.tamanio());
+    }
+
+    private static List<Long> ids(List<Entrada> entradas) {
+        return entradas.stream().map(Entrada::id).toList();
+    }
+}
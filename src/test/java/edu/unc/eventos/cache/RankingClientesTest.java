@@ -0,0 +1,51 @@
+package edu.unc.eventos.cache;
+
+import edu.unc.eventos.cache.RankingClientes.Criterio;
+import edu.unc.eventos.cache.RankingClientes.Puntaje;
+import edu.unc.eventos.dto.TopClienteDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankingClientesTest {
+    @Test
+    void mantieneLosMejoresDentroDeLaCapacidad() {
+        RankingClientes ranking = new RankingClientes(Criterio.EVENTOS, 3);
+        ranking.cargar(List.of(puntaje(1, 5, "100"), puntaje(2, 3, "900"), puntaje(3, 1, "50")));
+
+        ranking.actualizar(puntaje(4, 4, "10"));
+        assertEquals(List.of(1L, 4L, 2L), ids(ranking.top(10)));
+
+        ranking.actualizar(puntaje(3, 6, "60"));
+        assertEquals(List.of(3L, 1L, 4L), ids(ranking.top(10)));
+        assertEquals(1, ranking.top(10).get(0).getPosicion());
+
+        ranking.actualizar(puntaje(1, 0, "0"));
+        assertEquals(List.of(3L, 4L), ids(ranking.top(2)));
+    }
+
+    @Test
+    void noCargaClientesSinEventos() {
+        RankingClientes ranking = new RankingClientes(Criterio.GASTO, 10);
+        ranking.cargar(List.of(puntaje(1, 2, "300"), puntaje(2, 0, "0"), puntaje(3, 1, "100")));
+        assertEquals(List.of(1L, 3L), ids(ranking.top(10)));
+    }
+
+    @Test
+    void ordenaPorGastoYDesempataPorEventosEId() {
+        RankingClientes ranking = new RankingClientes(Criterio.GASTO, 10);
+        ranking.cargar(List.of(puntaje(1, 1, "500"), puntaje(2, 2, "500"), puntaje(3, 2, "500"), puntaje(4, 9, "100")));
+        assertEquals(List.of(2L, 3L, 1L, 4L), ids(ranking.top(4)));
+    }
+
+    private static Puntaje puntaje(long id, long eventos, String gasto) {
+        return new Puntaje(id, eventos, new BigDecimal(gasto));
+    }
+
+    private static List<Long> ids(List<TopClienteDTO> top) {
+        return top.stream().map(TopClienteDTO::getIdCliente).toList();
+    }
+}
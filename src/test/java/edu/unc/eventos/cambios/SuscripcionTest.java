@@ -0,0 +1,36 @@
+package edu.unc.eventos.cambios;
+
+import edu.unc.eventos.events.TipoEntidad;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuscripcionTest {
+    @Test
+    void cierraAlSuscriptorQueNoVaciaSuBuffer() {
+        List<Runnable> envios = new ArrayList<>();
+        AtomicInteger cierres = new AtomicInteger();
+        Suscripcion suscripcion = new Suscripcion(new SseEmitter(), Set.of(TipoEntidad.PLATO), 2, envios::add,
+                s -> cierres.incrementAndGet());
+
+        assertTrue(suscripcion.interesa(TipoEntidad.PLATO));
+        assertFalse(suscripcion.interesa(TipoEntidad.EVENTO));
+        assertTrue(suscripcion.ofrecer(new Suscripcion.Envio("a-1", "cambio", "{}")));
+        assertTrue(suscripcion.ofrecer(new Suscripcion.Envio("a-2", "cambio", "{}")));
+        // El envío sigue pendiente: el tercer cambio no cabe
+        assertFalse(suscripcion.ofrecer(new Suscripcion.Envio("a-3", "cambio", "{}")));
+        assertEquals(1, cierres.get());
+        assertEquals(1, envios.size());
+
+        suscripcion.cerrar();
+        assertEquals(1, cierres.get());
+    }
+}
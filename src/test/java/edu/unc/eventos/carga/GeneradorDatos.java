@@ -0,0 +1,108 @@
+package edu.unc.eventos.carga;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Carga un conjunto de datos sintético con inserciones por lotes de JDBC.
+ * <p>
+ * Los identificadores se asignan de forma explícita (de 1 a N) para que el generador de carga pueda elegirlos al
+ * azar, y al terminar se reinician las columnas de identidad para que las altas posteriores no choquen.
+ */
+public class GeneradorDatos {
+    private static final Logger logger = LoggerFactory.getLogger(GeneradorDatos.class);
+    private static final int LOTE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    public GeneradorDatos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserta el conjunto de datos.
+     *
+     * @param tamano Número de filas de cada tabla.
+     */
+    public void generar(TamanoDatos tamano) {
+        long inicio = System.currentTimeMillis();
+        insertar("INSERT INTO plato (id_plato, nombre, descripcion, tipo, precio) VALUES (?, ?, ?, ?, ?)", tamano.platos(),
+                i -> new Object[]{i, "Plato " + i, "Descripción del plato " + i, i % 3 == 0 ? "Postre" : "Fondo",
+                        BigDecimal.valueOf(500 + i % 3000, 2)});
+        insertar("INSERT INTO decoracion (id_decoracion, descripcion, precio, color) VALUES (?, ?, ?, ?)", tamano.decoraciones(),
+                i -> new Object[]{i, "Decoración " + i, 500.0 + i % 1000, i % 2 == 0 ? "Blanco" : "Dorado"});
+        insertar("INSERT INTO local (id_local, aforo, nombre, referencia, ubicacion) VALUES (?, ?, ?, ?, ?)", tamano.locales(),
+                i -> new Object[]{i, 50 + i % 450, "Local " + i, "Referencia " + i, "Av. Principal " + i});
+        insertar("INSERT INTO empleado (id_empleado, nombres, apellidos, dni, fecha_nacimiento, direccion, telefono, email, id_supervisor) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", tamano.empleados(),
+                i -> new Object[]{i, "Nombre" + i, "Apellido" + i, String.format("%08d", i),
+                        Date.valueOf(LocalDate.of(1980, 1, 1).plusDays(i % 7000)), "Jr. Empleado " + i,
+                        String.format("9%08d", i), "empleado" + i + "@eventos.pe", i > 10 ? (long) (i % 10 + 1) : null});
+        insertar("INSERT INTO cliente (id_cliente, di, nombre, direccion, telefono) VALUES (?, ?, ?, ?, ?)", tamano.clientes(),
+                i -> new Object[]{i, String.format("%010d", i), "Cliente Sintetico", "Calle Los Olivos " + i,
+                        String.format("9%08d", i % 100_000_000)});
+        LocalDate hoy = LocalDate.now();
+        insertar("INSERT INTO evento (id_evento, nombre, num_personas, fecha, duracion, total, id_empleado, id_cliente, id_decoracion, id_local) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", tamano.eventos(),
+                i -> new Object[]{i, "Evento " + i, 10 + random.nextInt(490), Date.valueOf(hoy.plusDays(1 + random.nextInt(365))),
+                        1 + random.nextInt(9), BigDecimal.valueOf(300_000 + random.nextInt(1_700_000), 2), 1 + random.nextInt(tamano.empleados()),
+                        1 + random.nextInt(tamano.clientes()), 1 + random.nextInt(tamano.decoraciones()), 1 + random.nextInt(tamano.locales())});
+        // Cada plato del evento sale de una franja distinta del catálogo, así no se repiten en el mismo evento.
+        int franja = Math.max(1, tamano.platos() / tamano.platosPorEvento());
+        insertar("INSERT INTO evento_plato (id_evento, id_plato) VALUES (?, ?)", (long) tamano.eventos() * tamano.platosPorEvento(),
+                i -> new Object[]{(i - 1) / tamano.platosPorEvento() + 1,
+                        ((i - 1) % tamano.platosPorEvento()) * franja + 1 + random.nextInt(franja)});
+
+        for (String[] tabla : new String[][]{{"plato", "id_plato"}, {"decoracion", "id_decoracion"}, {"local", "id_local"},
+                {"empleado", "id_empleado"}, {"cliente", "id_cliente"}, {"evento", "id_evento"}}) {
+            Long maximo = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + tabla[1] + "), 0) FROM " + tabla[0], Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + tabla[0] + " ALTER COLUMN " + tabla[1] + " RESTART WITH " + (maximo + 1));
+        }
+        logger.info("Datos sintéticos generados en {} ms: {}", System.currentTimeMillis() - inicio, tamano);
+    }
+
+    private void insertar(String sql, long filas, Fila fila) {
+        List<Object[]> lote = new ArrayList<>(LOTE);
+        for (long i = 1; i <= filas; i++) {
+            lote.add(fila.valores(i));
+            if (lote.size() == LOTE) {
+                jdbcTemplate.batchUpdate(sql, lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, lote);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Fila {
+        Object[] valores(long i);
+    }
+
+    /**
+     * Número de filas de cada tabla, leído de las propiedades del sistema {@code carga.*}.
+     */
+    public record TamanoDatos(int clientes, int eventos, int locales, int platos, int decoraciones, int empleados,
+                              int platosPorEvento) {
+        public static TamanoDatos desdePropiedades() {
+            return new TamanoDatos(
+                    Integer.getInteger("carga.clientes", 50),
+                    Integer.getInteger("carga.eventos", 150),
+                    Integer.getInteger("carga.locales", 10),
+                    Integer.getInteger("carga.platos", 20),
+                    Integer.getInteger("carga.decoraciones", 10),
+                    Integer.getInteger("carga.empleados", 10),
+                    Integer.getInteger("carga.platos-por-evento", 2));
+        }
+    }
+}
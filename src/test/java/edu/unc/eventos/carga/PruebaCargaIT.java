@@ -0,0 +1,240 @@
+package edu.unc.eventos.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.unc.eventos.services.CatalogoService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Prueba de carga HTTP sobre la aplicación completa con una base de datos H2 en modo MySQL.
+ * <p>
+ * Se ejecuta con {@code mvn -Pcarga verify}. Genera los datos sintéticos, reproduce una mezcla ponderada de
+ * lecturas y altas de {@code /api/*} con {@code carga.usuarios} usuarios concurrentes durante {@code carga.duracion}
+ * segundos, y escribe el informe en {@code target/carga}. Falla si el p50, el p99, el rendimiento o la tasa de errores
+ * empeoran más de {@code carga.tolerancia} respecto a la línea base confirmada en
+ * {@code src/test/resources/carga/linea-base.json}, si esa línea base no existe o se midió con otro tamaño de datos,
+ * y siempre que la tasa de errores supere {@code carga.tasa-errores-maxima}, aunque la línea base también la tuviera.
+ * <p>
+ * Con {@code -Dcarga.actualizar-linea-base=true} no se compara: el resultado se escribe en
+ * {@code target/carga/linea-base.json}, para revisarlo y copiarlo a mano sobre la línea base confirmada. Una
+ * ejecución con demasiados errores falla antes de escribirse, para que no pueda confirmarse como línea base.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("carga")
+class PruebaCargaIT {
+    private static final Logger logger = LoggerFactory.getLogger(PruebaCargaIT.class);
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CatalogoService catalogoService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicLong siguienteDi = new AtomicLong(9_000_000_000L);
+
+    @Test
+    void cargaMixta() throws Exception {
+        GeneradorDatos.TamanoDatos tamano = GeneradorDatos.TamanoDatos.desdePropiedades();
+        new GeneradorDatos(jdbcTemplate).generar(tamano);
+        catalogoService.reconstruir();
+
+        List<Operacion> mezcla = List.of(
+                new Operacion("GET /api/eventos/{id}", 35, r -> get("/api/eventos/" + (1 + r % tamano.eventos()))),
+                new Operacion("GET /api/eventos/{id}/platos", 10, r -> get("/api/eventos/" + (1 + r % tamano.eventos()) + "/platos")),
+                new Operacion("GET /api/clientes/{id}", 20, r -> get("/api/clientes/" + (1 + r % tamano.clientes()))),
+                new Operacion("GET /api/clientes/{id}/eventos", 15, r -> get("/api/clientes/" + (1 + r % tamano.clientes()) + "/eventos")),
+                new Operacion("GET /api/catalogo", 10, r -> get("/api/catalogo")),
+                new Operacion("POST /api/clientes", 10, r -> postCliente()));
+
+        int usuarios = Integer.getInteger("carga.usuarios", 8);
+        ejecutar(mezcla, usuarios, Integer.getInteger("carga.calentamiento", 5));
+        mezcla.forEach(Operacion::reiniciar);
+        long duracion = Integer.getInteger("carga.duracion", 30);
+        long inicio = System.nanoTime();
+        ejecutar(mezcla, usuarios, duracion);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        ReporteCarga reporte = new ReporteCarga();
+        reporte.tamano = tamano;
+        reporte.duracionSegundos = segundos;
+        for (Operacion operacion : mezcla) {
+            ReporteCarga.Operacion op = ReporteCarga.operacion(operacion.latencias(), operacion.estados());
+            reporte.operaciones.put(operacion.nombre, op);
+            reporte.peticiones += op.peticiones;
+            reporte.errores += op.errores;
+        }
+        reporte.rendimiento = reporte.peticiones / segundos;
+
+        Path directorio = Path.of("target", "carga");
+        Files.createDirectories(directorio);
+        objectMapper.writeValue(directorio.resolve("reporte.json").toFile(), reporte);
+        Files.writeString(directorio.resolve("reporte.txt"), tamano + System.lineSeparator() + reporte.tabla());
+        logger.info("Resultado de la prueba de carga ({}):{}{}", tamano, System.lineSeparator(), reporte.tabla());
+
+        assertTrue(reporte.peticiones > 0, "No se completó ninguna petición");
+        double tasaMaxima = Double.parseDouble(System.getProperty("carga.tasa-errores-maxima", "0.01"));
+        assertTrue(reporte.tasaErrores() <= tasaMaxima, String.format("%d de %d peticiones fallaron (%.1f %% > %.1f %%)",
+                reporte.errores, reporte.peticiones, reporte.tasaErrores() * 100, tasaMaxima * 100));
+        if (Boolean.getBoolean("carga.actualizar-linea-base")) {
+            Path nueva = directorio.resolve("linea-base.json");
+            objectMapper.writeValue(nueva.toFile(), reporte);
+            logger.info("Nueva línea base escrita en {}; revísela y cópiela sobre la línea base confirmada", nueva.toAbsolutePath());
+            return;
+        }
+        compararConLineaBase(reporte);
+    }
+
+    private void compararConLineaBase(ReporteCarga reporte) throws Exception {
+        Path lineaBase = Path.of(System.getProperty("carga.linea-base", "src/test/resources/carga/linea-base.json"));
+        if (!Files.exists(lineaBase)) {
+            fail("No existe la línea base " + lineaBase + ". Genérela con -Dcarga.actualizar-linea-base=true"
+                    + " y confirme target/carga/linea-base.json en esa ruta.");
+        }
+        ReporteCarga base = objectMapper.readValue(lineaBase.toFile(), ReporteCarga.class);
+        if (!reporte.tamano.equals(base.tamano)) {
+            fail("La línea base se midió con " + base.tamano + " y esta ejecución con " + reporte.tamano
+                    + ". Use el mismo tamaño de datos o genere una línea base nueva.");
+        }
+        List<String> regresiones = reporte.regresiones(base, Double.parseDouble(System.getProperty("carga.tolerancia", "0.5")));
+        if (!regresiones.isEmpty()) {
+            fail("Regresiones respecto a la línea base:" + System.lineSeparator() + String.join(System.lineSeparator(), regresiones));
+        }
+    }
+
+    /**
+     * Ejecuta la mezcla con un hilo virtual por usuario durante el tiempo indicado.
+     */
+    private void ejecutar(List<Operacion> mezcla, int usuarios, long segundos) throws InterruptedException {
+        int pesoTotal = mezcla.stream().mapToInt(Operacion::peso).sum();
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < usuarios; u++) {
+                ejecutor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < fin) {
+                        int eleccion = random.nextInt(pesoTotal);
+                        Operacion operacion = mezcla.get(0);
+                        for (Operacion candidata : mezcla) {
+                            eleccion -= candidata.peso;
+                            if (eleccion < 0) {
+                                operacion = candidata;
+                                break;
+                            }
+                        }
+                        operacion.ejecutar(random.nextInt(Integer.MAX_VALUE));
+                    }
+                });
+            }
+        }
+    }
+
+    private int get(String ruta) {
+        return enviar(HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + ruta)).GET());
+    }
+
+    private int postCliente() {
+        String cuerpo = String.format("{\"di\":\"%d\",\"nombre\":\"Cliente de Carga\",\"direccion\":\"Jr. Prueba de Carga 123\",\"telefono\":\"987654321\"}",
+                siguienteDi.incrementAndGet());
+        return enviar(HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/api/clientes"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo)));
+    }
+
+    private int enviar(HttpRequest.Builder peticion) {
+        try {
+            return http.send(peticion.header("Api-Version", "1").timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Operación de la mezcla con su peso y las latencias medidas.
+     */
+    private static final class Operacion {
+        private final String nombre;
+        private final int peso;
+        private final IntFunction<Integer> llamada;
+        private final Map<Integer, LongAdder> estados = new ConcurrentHashMap<>();
+        private long[] latencias = new long[1024];
+        private int total;
+
+        Operacion(String nombre, int peso, IntFunction<Integer> llamada) {
+            this.nombre = nombre;
+            this.peso = peso;
+            this.llamada = llamada;
+        }
+
+        int peso() {
+            return peso;
+        }
+
+        void ejecutar(int aleatorio) {
+            long inicio = System.nanoTime();
+            int status = llamada.apply(aleatorio);
+            long latencia = System.nanoTime() - inicio;
+            estados.computeIfAbsent(status, s -> new LongAdder()).increment();
+            registrar(latencia);
+        }
+
+        private synchronized void registrar(long latencia) {
+            if (total == latencias.length) {
+                latencias = Arrays.copyOf(latencias, total * 2);
+            }
+            latencias[total++] = latencia;
+        }
+
+        synchronized long[] latencias() {
+            return Arrays.copyOf(latencias, total);
+        }
+
+        Map<Integer, Long> estados() {
+            Map<Integer, Long> copia = new TreeMap<>();
+            estados.forEach((status, n) -> copia.put(status, n.sum()));
+            return copia;
+        }
+
+        synchronized void reiniciar() {
+            latencias = new long[1024];
+            total = 0;
+            estados.clear();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package edu.unc.eventos.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de una prueba de carga: latencias por operación y rendimiento total.
+ * <p>
+ * Se serializa a JSON tal cual para guardarlo como informe o como línea base.
+ */
+public class ReporteCarga {
+    public GeneradorDatos.TamanoDatos tamano;
+    public double duracionSegundos;
+    public long peticiones;
+    public long errores;
+    public double rendimiento;
+    public Map<String, Operacion> operaciones = new LinkedHashMap<>();
+
+    /**
+     * Estadísticas de una operación.
+     */
+    public static class Operacion {
+        public long peticiones;
+        public long errores;
+        public double p50Ms;
+        public double p99Ms;
+        public double maxMs;
+        public Map<Integer, Long> estados = new TreeMap<>();
+
+        double tasaErrores() {
+            return peticiones == 0 ? 0 : (double) errores / peticiones;
+        }
+    }
+
+    /**
+     * Fracción de peticiones que terminaron en error o sin respuesta.
+     */
+    public double tasaErrores() {
+        return peticiones == 0 ? 0 : (double) errores / peticiones;
+    }
+
+    /**
+     * Compara el informe con una línea base.
+     *
+     * @param base       Línea base.
+     * @param tolerancia Empeoramiento relativo permitido (0.25 = 25 %).
+     * @return Lista de regresiones encontradas; vacía si no hay.
+     */
+    public List<String> regresiones(ReporteCarga base, double tolerancia) {
+        List<String> regresiones = new ArrayList<>();
+        if (rendimiento < base.rendimiento * (1 - tolerancia)) {
+            regresiones.add(String.format("rendimiento %.1f req/s < %.1f req/s de la línea base", rendimiento, base.rendimiento));
+        }
+        base.operaciones.forEach((nombre, anterior) -> {
+            Operacion actual = operaciones.get(nombre);
+            if (actual == null || actual.peticiones == 0) {
+                return;
+            }
+            if (actual.tasaErrores() > anterior.tasaErrores() + 0.01) {
+                regresiones.add(String.format("%s: %.1f %% de errores > %.1f %% de la línea base", nombre,
+                        actual.tasaErrores() * 100, anterior.tasaErrores() * 100));
+            }
+            if (actual.p99Ms > anterior.p99Ms * (1 + tolerancia)) {
+                regresiones.add(String.format("%s: p99 %.2f ms > %.2f ms de la línea base", nombre, actual.p99Ms, anterior.p99Ms));
+            }
+            if (actual.p50Ms > anterior.p50Ms * (1 + tolerancia)) {
+                regresiones.add(String.format("%s: p50 %.2f ms > %.2f ms de la línea base", nombre, actual.p50Ms, anterior.p50Ms));
+            }
+        });
+        return regresiones;
+    }
+
+    /**
+     * Texto tabulado con las estadísticas de cada operación.
+     */
+    public String tabla() {
+        StringBuilder texto = new StringBuilder(String.format("%-28s %10s %8s %10s %10s %10s%n",
+                "operación", "peticiones", "errores", "p50 (ms)", "p99 (ms)", "máx (ms)"));
+        operaciones.forEach((nombre, op) -> texto.append(String.format("%-28s %10d %8d %10.2f %10.2f %10.2f  %s%n",
+                nombre, op.peticiones, op.errores, op.p50Ms, op.p99Ms, op.maxMs, op.estados)));
+        texto.append(String.format("Total: %d peticiones, %d errores, %.1f req/s en %.1f s%n",
+                peticiones, errores, rendimiento, duracionSegundos));
+        return texto.toString();
+    }
+
+    /**
+     * Calcula las estadísticas de una operación a partir de sus latencias.
+     *
+     * @param latenciasNanos Latencias en nanosegundos (se ordenan en el sitio).
+     * @param estados        Número de respuestas por código de estado HTTP ({@code -1} si no hubo respuesta).
+     * @return Estadísticas de la operación.
+     */
+    static Operacion operacion(long[] latenciasNanos, Map<Integer, Long> estados) {
+        Arrays.sort(latenciasNanos);
+        Operacion op = new Operacion();
+        op.peticiones = latenciasNanos.length;
+        op.estados.putAll(estados);
+        op.errores = estados.entrySet().stream()
+                .filter(e -> e.getKey() < 200 || e.getKey() >= 400)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        if (latenciasNanos.length > 0) {
+            op.p50Ms = percentil(latenciasNanos, 0.50);
+            op.p99Ms = percentil(latenciasNanos, 0.99);
+            op.maxMs = latenciasNanos[latenciasNanos.length - 1] / 1e6;
+        }
+        return op;
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+}
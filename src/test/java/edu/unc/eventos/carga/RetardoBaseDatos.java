@@ -0,0 +1,25 @@
+package edu.unc.eventos.carga;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Añade un retardo artificial a cada sentencia SQL para simular una base de datos lenta durante la prueba de carga.
+ * <p>
+ * El retardo se indica en milisegundos con la propiedad del sistema {@code carga.retardo-bd-ms}; con {@code 0} no
+ * tiene efecto. Hibernate invoca el inspector al preparar cada sentencia, con la conexión ya tomada del pool.
+ */
+public class RetardoBaseDatos implements StatementInspector {
+    private static final long RETARDO_MS = Long.getLong("carga.retardo-bd-ms", 0);
+
+    @Override
+    public String inspect(String sql) {
+        if (RETARDO_MS > 0) {
+            try {
+                Thread.sleep(RETARDO_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
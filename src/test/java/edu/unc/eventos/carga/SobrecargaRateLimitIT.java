@@ -0,0 +1,48 @@
+package edu.unc.eventos.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.eventos.filters.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mide el coste del filtro de límite de solicitudes por solicitud admitida, con 64 clientes. Solo informa el
+ * resultado: el tiempo depende de la máquina y no se compara con un umbral.
+ */
+class SobrecargaRateLimitIT {
+    private static final Logger logger = LoggerFactory.getLogger(SobrecargaRateLimitIT.class);
+
+    @Test
+    void sobrecargaPorSolicitud() throws Exception {
+        RateLimitFilter filtro = new RateLimitFilter(1_000_000, 1_000_000, new String[0], new String[]{"eventos"},
+                100_000, new ObjectMapper(), new SimpleMeterRegistry());
+        FilterChain cadena = (request, response) -> {
+        };
+        MockHttpServletRequest[] solicitudes = new MockHttpServletRequest[64];
+        for (int i = 0; i < solicitudes.length; i++) {
+            solicitudes[i] = new MockHttpServletRequest("GET", "/api/eventos/" + i);
+            solicitudes[i].setRemoteAddr("10.0.0." + i);
+        }
+        MockHttpServletResponse respuesta = new MockHttpServletResponse();
+
+        for (int i = 0; i < 200_000; i++) {
+            filtro.doFilter(solicitudes[i & 63], respuesta, cadena);
+        }
+        int iteraciones = 500_000;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteraciones; i++) {
+            filtro.doFilter(solicitudes[i & 63], respuesta, cadena);
+        }
+        double nanosPorSolicitud = (double) (System.nanoTime() - inicio) / iteraciones;
+
+        assertEquals(200, respuesta.getStatus());
+        logger.info("RateLimitFilter: {} ns por solicitud", Math.round(nanosPorSolicitud));
+    }
+}
@@ -0,0 +1,117 @@
+package edu.unc.eventos.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import edu.unc.eventos.idempotency.IdempotencyStore;
+import edu.unc.eventos.idempotency.MemoryIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final IdempotencyStore store = new MemoryIdempotencyStore(100, new SimpleMeterRegistry());
+    private final AtomicInteger ejecuciones = new AtomicInteger();
+    private final FilterChain cadena = (request, response) -> {
+        String cuerpo = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"n\":" + ejecuciones.incrementAndGet() + ",\"cuerpo\":" + cuerpo + "}");
+    };
+
+    @Test
+    void repiteLaRespuestaSinVolverAEjecutar() throws Exception {
+        IdempotencyFilter filtro = filtro();
+
+        MockHttpServletResponse primera = ejecutar(filtro, "POST", "/api/platos", "{\"a\":1}", "clave-1");
+        MockHttpServletResponse repetida = ejecutar(filtro, "POST", "/api/platos", "{\"a\":1}", "clave-1");
+
+        assertEquals(201, primera.getStatus());
+        assertEquals("{\"n\":1,\"cuerpo\":{\"a\":1}}", primera.getContentAsString());
+        assertNull(primera.getHeader("Idempotent-Replayed"));
+        assertEquals(201, repetida.getStatus());
+        assertEquals(primera.getContentAsString(), repetida.getContentAsString());
+        assertEquals("true", repetida.getHeader("Idempotent-Replayed"));
+        assertEquals(1, ejecuciones.get());
+    }
+
+    @Test
+    void rechazaLaClaveReutilizadaConOtraSolicitud() throws Exception {
+        IdempotencyFilter filtro = filtro();
+        ejecutar(filtro, "POST", "/api/platos", "{\"a\":1}", "clave-2");
+
+        assertEquals(422, ejecutar(filtro, "POST", "/api/platos", "{\"a\":2}", "clave-2").getStatus());
+        assertEquals(422, ejecutar(filtro, "POST", "/api/locales", "{\"a\":1}", "clave-2").getStatus());
+        assertEquals(422, ejecutar(filtro, "PATCH", "/api/platos", "{\"a\":1}", "clave-2").getStatus());
+        assertEquals(1, ejecuciones.get());
+    }
+
+    @Test
+    void rechazaConConflictoElDuplicadoEnProcesoEnOtroNodo() throws Exception {
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch soltar = new CountDownLatch(1);
+        FilterChain lenta = (request, response) -> {
+            dentro.countDown();
+            try {
+                soltar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            cadena.doFilter(request, response);
+        };
+        IdempotencyFilter nodoA = filtro();
+        IdempotencyFilter nodoB = filtro();
+
+        CompletableFuture<MockHttpServletResponse> original = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ejecutar(nodoA, "POST", "/api/platos", "{\"a\":1}", "clave-3", lenta);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(dentro.await(10, TimeUnit.SECONDS));
+        MockHttpServletResponse duplicado = ejecutar(nodoB, "POST", "/api/platos", "{\"a\":1}", "clave-3");
+        MockHttpServletResponse distinto = ejecutar(nodoB, "POST", "/api/platos", "{\"a\":9}", "clave-3");
+        soltar.countDown();
+
+        assertEquals(409, duplicado.getStatus());
+        assertEquals(422, distinto.getStatus());
+        assertEquals(201, original.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals("true", ejecutar(nodoB, "POST", "/api/platos", "{\"a\":1}", "clave-3").getHeader("Idempotent-Replayed"));
+    }
+
+    private IdempotencyFilter filtro() {
+        return new IdempotencyFilter(store, objectMapper, new SimpleMeterRegistry(), Duration.ofHours(24), Duration.ofSeconds(30),
+                Duration.ofSeconds(5));
+    }
+
+    private MockHttpServletResponse ejecutar(IdempotencyFilter filtro, String metodo, String uri, String cuerpo,
+                                             String clave) throws Exception {
+        return ejecutar(filtro, metodo, uri, cuerpo, clave, cadena);
+    }
+
+    private static MockHttpServletResponse ejecutar(IdempotencyFilter filtro, String metodo, String uri, String cuerpo,
+                                                    String clave, FilterChain cadena) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, uri);
+        request.addHeader(IdempotencyFilter.ENCABEZADO, clave);
+        request.setContentType("application/json");
+        request.setContent(cuerpo.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, cadena);
+        return response;
+    }
+}
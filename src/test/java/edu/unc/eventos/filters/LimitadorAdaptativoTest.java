@@ -0,0 +1,84 @@
+package edu.unc.eventos.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LimitadorAdaptativoTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void bajaCuandoSubeLaLatenciaYSeRecupera() {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo("prueba", 20, 2, 100, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 20; i++) {
+            ronda(limitador, 200, n -> 10 * MS);
+        }
+        int conLatenciaNormal = limitador.getLimite();
+        assertTrue(conLatenciaNormal > 20, "El límite debería crecer con latencia estable: " + conLatenciaNormal);
+
+        for (int i = 0; i < 5; i++) {
+            ronda(limitador, 200, n -> 80 * MS);
+        }
+        int conBaseDeDatosLenta = limitador.getLimite();
+        assertTrue(conBaseDeDatosLenta < conLatenciaNormal / 4, "El límite debería caer: " + conBaseDeDatosLenta);
+
+        for (int i = 0; i < 20; i++) {
+            ronda(limitador, 200, n -> 10 * MS);
+        }
+        assertTrue(limitador.getLimite() > conBaseDeDatosLenta, "El límite debería recuperarse: " + limitador.getLimite());
+    }
+
+    @Test
+    void rechazaAlAlcanzarElLimite() {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo("prueba", 2, 1, 10, new SimpleMeterRegistry());
+        assertTrue(limitador.adquirir());
+        assertTrue(limitador.adquirir());
+        assertEquals(false, limitador.adquirir());
+        limitador.liberar(-1);
+        assertTrue(limitador.adquirir());
+    }
+
+    /**
+     * Simula una base de datos con un pool de 8 conexiones (cola FIFO, como HikariCP) que tarda 5 ms por consulta y
+     * 64 clientes concurrentes: la solicitud {@code n} de una ronda espera {@code n / 8} turnos de conexión. Sin
+     * límite las 64 esperarían en la cola; con el limitador el exceso se rechaza y el límite se queda entre el
+     * tamaño del pool, para no dejar conexiones ociosas, y el valor inicial.
+     */
+    @Test
+    void descartaElExcesoConBaseDeDatosLenta() {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo("prueba", 40, 2, 200, new SimpleMeterRegistry());
+        int rechazadas = 0;
+
+        for (int i = 0; i < 50; i++) {
+            rechazadas += 64 - ronda(limitador, 64, n -> 5 * MS * (n / 8 + 1));
+        }
+        assertTrue(rechazadas > 0);
+        for (int i = 0; i < 250; i++) {
+            int admitidas = ronda(limitador, 64, n -> 5 * MS * (n / 8 + 1));
+            assertTrue(admitidas >= 8 && admitidas < 40, "El límite debería ajustarse a la capacidad: " + admitidas);
+        }
+    }
+
+    /**
+     * Intenta admitir {@code demanda} solicitudes a la vez y libera las admitidas en orden, cada una con la latencia
+     * que indica la función según su posición.
+     *
+     * @return Número de solicitudes admitidas.
+     */
+    private static int ronda(LimitadorAdaptativo limitador, int demanda, IntToLongFunction latencia) {
+        int admitidas = 0;
+        while (admitidas < demanda && limitador.adquirir()) {
+            admitidas++;
+        }
+        for (int n = 0; n < admitidas; n++) {
+            limitador.liberar(latencia.applyAsLong(n));
+        }
+        return admitidas;
+    }
+}
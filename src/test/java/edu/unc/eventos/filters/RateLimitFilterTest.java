@@ -0,0 +1,121 @@
+package edu.unc.eventos.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final FilterChain cadena = (request, response) -> {
+    };
+
+    @Test
+    void rechazaConRetryAfterAlAgotarLaRafaga() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitFilter filtro = new RateLimitFilter(1, 3, new String[]{"clientes:100:100"}, new String[]{"eventos"}, 1000,
+                objectMapper, registry);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.1").getStatus());
+        }
+        MockHttpServletResponse rechazada = ejecutar(filtro, "/api/eventos/5", "10.0.0.1");
+        assertEquals(429, rechazada.getStatus());
+        assertNotNull(rechazada.getHeader(HttpHeaders.RETRY_AFTER));
+
+        assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.2").getStatus());
+        assertEquals(200, ejecutar(filtro, "/api/clientes", "10.0.0.1").getStatus());
+        assertEquals(1.0, registry.get("eventos.limite.rechazos").tag("grupo", "eventos").counter().count());
+    }
+
+    @Test
+    void cubetaSeRellenaConElTiempo() {
+        RateLimitFilter.Cubeta cubeta = new RateLimitFilter.Cubeta(new RateLimitFilter.Limite(10, 1));
+        long ahora = 0;
+        assertEquals(0, cubeta.consumir(ahora));
+        assertTrue(cubeta.consumir(ahora) > 0);
+        assertEquals(0, cubeta.consumir(ahora + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    void identificaAlClientePorSuDireccionYNoPorElEncabezadoAuthorization() throws Exception {
+        RateLimitFilter filtro = filtro(1, 2, 1000, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.1", "Bearer " + i).getStatus());
+        }
+        assertEquals(429, ejecutar(filtro, "/api/eventos", "10.0.0.1", "Bearer otro").getStatus());
+        assertEquals(1, filtro.getNumeroCubetas());
+    }
+
+    @Test
+    void cuentaLosGruposDesconocidosComoOtros() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitFilter filtro = filtro(1, 1, 1000, registry);
+
+        assertEquals(200, ejecutar(filtro, "/api/desconocido-1", "10.0.0.1").getStatus());
+        assertEquals(429, ejecutar(filtro, "/api/desconocido-2", "10.0.0.1").getStatus());
+        assertEquals(429, ejecutar(filtro, "/api/desconocido-3/x", "10.0.0.1").getStatus());
+
+        assertEquals(2.0, registry.get("eventos.limite.rechazos").tag("grupo", RateLimitFilter.OTROS).counter().count());
+        assertEquals(1, registry.find("eventos.limite.rechazos").counters().size());
+        assertEquals(1, filtro.getNumeroCubetas());
+    }
+
+    @Test
+    void compartenCubetaLosClientesNuevosAlLlegarAlMaximo() throws Exception {
+        RateLimitFilter filtro = filtro(1, 1, 2, new SimpleMeterRegistry());
+
+        assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.1").getStatus());
+        assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.2").getStatus());
+        assertEquals(200, ejecutar(filtro, "/api/eventos", "10.0.0.3").getStatus());
+        assertEquals(429, ejecutar(filtro, "/api/eventos", "10.0.0.4").getStatus());
+        assertEquals(3, filtro.getNumeroCubetas());
+    }
+
+    @Test
+    void descartaSoloLasCubetasLlenas() throws Exception {
+        RateLimitFilter filtro = filtro(1000, 1, 1000, new SimpleMeterRegistry());
+        ejecutar(filtro, "/api/eventos", "10.0.0.1");
+        Thread.sleep(5);
+        RateLimitFilter lento = filtro(0.001, 1, 1000, new SimpleMeterRegistry());
+        ejecutar(lento, "/api/eventos", "10.0.0.1");
+
+        filtro.descartarLlenas();
+        lento.descartarLlenas();
+
+        assertEquals(0, filtro.getNumeroCubetas());
+        assertEquals(1, lento.getNumeroCubetas());
+    }
+
+    private RateLimitFilter filtro(double tasa, int rafaga, int maxCubetas, SimpleMeterRegistry registry) {
+        return new RateLimitFilter(tasa, rafaga, new String[0], new String[]{"eventos", "clientes"}, maxCubetas,
+                objectMapper, registry);
+    }
+
+    private MockHttpServletResponse ejecutar(RateLimitFilter filtro, String uri, String ip) throws Exception {
+        return ejecutar(filtro, uri, ip, null);
+    }
+
+    private MockHttpServletResponse ejecutar(RateLimitFilter filtro, String uri, String ip, String autorizacion)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(ip);
+        if (autorizacion != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, autorizacion);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, cadena);
+        return response;
+    }
+}
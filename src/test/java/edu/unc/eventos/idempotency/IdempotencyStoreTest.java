@@ -0,0 +1,57 @@
+package edu.unc.eventos.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyStoreTest {
+
+    static List<IdempotencyStore> almacenes() {
+        JdbcIdempotencyStore jdbc = new JdbcIdempotencyStore();
+        ReflectionTestUtils.setField(jdbc, "jdbcTemplate", new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:idempotencia;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")));
+        jdbc.crearTabla();
+        return List.of(new MemoryIdempotencyStore(100, new SimpleMeterRegistry()), jdbc);
+    }
+
+    @ParameterizedTest
+    @MethodSource("almacenes")
+    void laReservaSinCompletarCaducaConSuPlazo(IdempotencyStore store) throws Exception {
+        String clave = "abandonada-" + store.getClass().getSimpleName();
+        assertTrue(store.reservar(clave, "h1", Duration.ofMillis(100)));
+        assertFalse(store.reservar(clave, "h1", Duration.ofMillis(100)));
+        assertEquals("h1", store.buscarHuella(clave));
+        assertNull(store.buscar(clave));
+
+        Thread.sleep(200);
+        assertNull(store.buscarHuella(clave));
+        assertTrue(store.reservar(clave, "h2", Duration.ofMillis(100)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("almacenes")
+    void laRespuestaCompletadaSeConservaDuranteElTtl(IdempotencyStore store) throws Exception {
+        String clave = "completada-" + store.getClass().getSimpleName();
+        assertTrue(store.reservar(clave, "h1", Duration.ofMillis(100)));
+        store.completar(clave, new RespuestaIdempotente(201, "application/json", new byte[]{1, 2}, "h1"), Duration.ofHours(1));
+
+        Thread.sleep(200);
+        RespuestaIdempotente guardada = store.buscar(clave);
+        assertEquals(201, guardada.getStatus());
+        assertArrayEquals(new byte[]{1, 2}, guardada.getCuerpo());
+        assertEquals("h1", guardada.getHuella());
+        assertFalse(store.reservar(clave, "h1", Duration.ofMillis(100)));
+    }
+}
@@ -0,0 +1,73 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaCampos;
+import edu.unc.eventos.repositories.RecursoCampos;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({CamposServiceImp.class, ConsultaCampos.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CamposServiceImpTest {
+    @Autowired
+    private CamposService camposService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void leeSoloLosCamposPedidosSinCargarEntidades() throws Exception {
+        Cliente cliente = new Cliente();
+        cliente.setDi("99887766");
+        cliente.setNombre("Cliente Campos");
+        entityManager.persist(cliente);
+        Plato plato = new Plato();
+        plato.setNombre("Causa");
+        entityManager.persist(plato);
+        Evento evento = new Evento();
+        evento.setNombre("Bautizo");
+        evento.setCliente(cliente);
+        evento.getPlatos().add(plato);
+        entityManager.persist(evento);
+        Evento sinRelaciones = new Evento();
+        sinRelaciones.setNombre("Reunión");
+        entityManager.persist(sinRelaciones);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        List<Map<String, Object>> eventos = camposService.getAll(RecursoCampos.EVENTO, "platos, cliente,nombre");
+
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        assertEquals(List.of("idEvento", "nombre", "cliente", "platos"), List.copyOf(eventos.get(0).keySet()));
+        assertEquals(cliente.getIdCliente(), eventos.get(0).get("cliente"));
+        assertEquals(List.of(plato.getIdPlato()), eventos.get(0).get("platos"));
+        assertEquals(List.of(), eventos.get(1).get("platos"));
+
+        Map<String, Object> soloNombre = camposService.getById(RecursoCampos.CLIENTE, cliente.getIdCliente(), "nombre");
+        assertEquals(Map.of("idCliente", cliente.getIdCliente(), "nombre", "Cliente Campos"), soloNombre);
+        assertThrows(IllegalOperationException.class, () -> camposService.getAll(RecursoCampos.EVENTO, "cliente.nombre"));
+    }
+}
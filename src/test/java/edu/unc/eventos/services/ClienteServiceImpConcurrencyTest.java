@@ -0,0 +1,73 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ClienteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@DataJpaTest
+@Import(ClienteServiceImp.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ClienteServiceImpConcurrencyTest {
+    private static final int HILOS = 16;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Test
+    void saveConcurrenteNoDuplicaElDocumento() throws Exception {
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        List<Future<Cliente>> resultados = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            int n = i;
+            resultados.add(executor.submit(() -> {
+                inicio.await();
+                return clienteService.save(nuevoCliente("12345678", "Cliente " + n));
+            }));
+        }
+        inicio.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        int exitos = 0;
+        for (Future<Cliente> resultado : resultados) {
+            try {
+                resultado.get();
+                exitos++;
+            } catch (Exception e) {
+                assertInstanceOf(IllegalOperationException.class, e.getCause());
+            }
+        }
+        assertEquals(1, exitos);
+        assertEquals(1, clienteRepository.count());
+    }
+
+    private static Cliente nuevoCliente(String di, String nombre) {
+        Cliente cliente = new Cliente();
+        cliente.setDi(di);
+        cliente.setNombre(nombre);
+        return cliente;
+    }
+}
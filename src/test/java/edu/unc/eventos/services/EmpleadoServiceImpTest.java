@@ -0,0 +1,123 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.dto.NodoOrganigramaDTO;
+import edu.unc.eventos.exception.EntityNotFoundException;
+import edu.unc.eventos.exception.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({EmpleadoServiceImp.class, OrganigramaServiceImp.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.empleados.maximo-niveles=3"
+})
+class EmpleadoServiceImpTest {
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private OrganigramaService organigramaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void rechazaLasAsignacionesQueCierranUnCiclo() throws Exception {
+        Empleado gerente = empleado("Gerente");
+        Empleado jefe = empleado("Jefe");
+        Empleado mozo = empleado("Mozo");
+        empleadoService.addSupervisor(jefe.getIdEmpleado(), gerente.getIdEmpleado());
+        empleadoService.addSupervisor(mozo.getIdEmpleado(), jefe.getIdEmpleado());
+
+        assertThrows(IllegalOperationException.class,
+                () -> empleadoService.addSupervisor(gerente.getIdEmpleado(), gerente.getIdEmpleado()));
+        assertThrows(IllegalOperationException.class,
+                () -> empleadoService.addSupervisor(gerente.getIdEmpleado(), mozo.getIdEmpleado()));
+        Empleado cambio = new Empleado();
+        cambio.setNombres("Gerente");
+        cambio.setSupervisor(mozo);
+        assertThrows(IllegalOperationException.class, () -> empleadoService.update(gerente.getIdEmpleado(), cambio));
+
+        entityManager.flush();
+        entityManager.clear();
+        assertNull(entityManager.find(Empleado.class, gerente.getIdEmpleado()).getSupervisor());
+    }
+
+    @Test
+    void limitaLaProfundidadDeLaCadenaDeMando() throws Exception {
+        Empleado anterior = empleado("Nivel 0");
+        for (int nivel = 1; nivel <= 3; nivel++) {
+            Empleado actual = empleado("Nivel " + nivel);
+            empleadoService.addSupervisor(actual.getIdEmpleado(), anterior.getIdEmpleado());
+            anterior = actual;
+        }
+        Long ultimo = anterior.getIdEmpleado();
+        Empleado nuevo = empleado("Nivel 4");
+
+        assertThrows(IllegalOperationException.class, () -> empleadoService.addSupervisor(nuevo.getIdEmpleado(), ultimo));
+    }
+
+    @Test
+    void listaSubordinadosYSupervisoresPorNivel() throws Exception {
+        Empleado gerente = empleado("Gerente");
+        Empleado jefeSala = empleado("Jefe Sala");
+        Empleado jefeCocina = empleado("Jefe Cocina");
+        Empleado mozo = empleado("Mozo");
+        empleadoService.addSupervisor(jefeSala.getIdEmpleado(), gerente.getIdEmpleado());
+        empleadoService.addSupervisor(jefeCocina.getIdEmpleado(), gerente.getIdEmpleado());
+        empleadoService.addSupervisor(mozo.getIdEmpleado(), jefeSala.getIdEmpleado());
+        entityManager.flush();
+
+        List<NodoOrganigramaDTO> subordinados = organigramaService.getSubordinados(gerente.getIdEmpleado());
+        assertEquals(List.of(jefeSala.getIdEmpleado(), jefeCocina.getIdEmpleado(), mozo.getIdEmpleado()),
+                subordinados.stream().map(NodoOrganigramaDTO::getIdEmpleado).sorted().toList());
+        assertEquals(List.of(1, 1, 2), subordinados.stream().map(NodoOrganigramaDTO::getNivel).toList());
+
+        List<NodoOrganigramaDTO> supervisores = organigramaService.getSupervisores(mozo.getIdEmpleado());
+        assertEquals(List.of(jefeSala.getIdEmpleado(), gerente.getIdEmpleado()),
+                supervisores.stream().map(NodoOrganigramaDTO::getIdEmpleado).toList());
+        assertEquals(List.of(1, 2), supervisores.stream().map(NodoOrganigramaDTO::getNivel).toList());
+        assertEquals(List.of(), organigramaService.getSupervisores(gerente.getIdEmpleado()));
+        assertThrows(EntityNotFoundException.class, () -> organigramaService.getSubordinados(-1L));
+    }
+
+    @Test
+    void soloElDniIdentificaAlEmpleado() throws Exception {
+        empleadoService.save(nuevo("70000001", "compartido@eventos.pe", "987654321"));
+        empleadoService.save(nuevo("70000002", "compartido@eventos.pe", "987654321"));
+
+        IllegalOperationException duplicado = assertThrows(IllegalOperationException.class,
+                () -> empleadoService.save(nuevo("70000001", "otro@eventos.pe", "912345678")));
+        assertEquals("Un empleado con el DNI ingresado ya existe en la base de datos.", duplicado.getMessage());
+    }
+
+    private static Empleado nuevo(String dni, String email, String telefono) {
+        Empleado empleado = new Empleado();
+        empleado.setNombres("Empleado " + dni);
+        empleado.setApellidos("Prueba");
+        empleado.setDni(dni);
+        empleado.setEmail(email);
+        empleado.setTelefono(telefono);
+        return empleado;
+    }
+
+    private Empleado empleado(String nombres) {
+        Empleado empleado = new Empleado();
+        empleado.setNombres(nombres);
+        empleado.setApellidos("Prueba");
+        entityManager.persist(empleado);
+        return empleado;
+    }
+}
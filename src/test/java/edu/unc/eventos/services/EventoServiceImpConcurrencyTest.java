@@ -0,0 +1,120 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.dto.ResumenLocalDTO;
+import edu.unc.eventos.repositories.EventoRepository;
+import edu.unc.eventos.repositories.LocalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({EventoServiceImp.class, ReporteServiceImp.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eventos-concurrencia;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class EventoServiceImpConcurrencyTest {
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private ReporteService reporteService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private LocalRepository localRepository;
+
+    @MockBean
+    private LocalService localService;
+
+    @MockBean
+    private TarifaService tarifaService;
+
+    @MockBean
+    private EventoVistaService eventoVistaService;
+
+    @Test
+    void updateConcurrenteMantieneElResumenIgualQueLaReconstruccion() throws Exception {
+        Local local = new Local();
+        local.setNombre("Local Central");
+        local.setUbicacion("Av. Central 100");
+        local.setAforo(200);
+        localRepository.save(local);
+        Evento evento = eventoRepository.save(nuevoEvento(local, LocalDate.of(2027, 1, 10), "1000.00"));
+        reporteService.reconstruir();
+
+        when(localService.getById(anyLong())).thenReturn(local);
+        // Cada actualización espera un momento a la otra después de leer el evento: sin bloqueo, las dos descuentan
+        // los mismos valores anteriores; con bloqueo, la segunda no llega hasta que la primera confirma
+        CountDownLatch leidos = new CountDownLatch(2);
+        when(tarifaService.calcularTotal(any(Evento.class))).thenAnswer(invocacion -> {
+            leidos.countDown();
+            leidos.await(200, TimeUnit.MILLISECONDS);
+            return invocacion.getArgument(0, Evento.class).getTotal();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<Evento>> resultados = new ArrayList<>();
+        resultados.add(executor.submit(() -> eventoService.update(evento.getIdEvento(), nuevoEvento(local, LocalDate.of(2027, 3, 1), "2000.00"))));
+        resultados.add(executor.submit(() -> eventoService.update(evento.getIdEvento(), nuevoEvento(local, LocalDate.of(2027, 4, 1), "3000.00"))));
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        for (Future<Evento> resultado : resultados) {
+            resultado.get();
+        }
+
+        List<ResumenLocalDTO> incremental = reporteService.getResumenMensual(YearMonth.of(2027, 1), YearMonth.of(2027, 12), null);
+        reporteService.reconstruir();
+        List<ResumenLocalDTO> reconstruido = reporteService.getResumenMensual(YearMonth.of(2027, 1), YearMonth.of(2027, 12), null);
+
+        assertEquals(1, reconstruido.size());
+        assertEquals(incremental.size(), reconstruido.size());
+        for (int i = 0; i < incremental.size(); i++) {
+            assertEquals(incremental.get(i).getPeriodo(), reconstruido.get(i).getPeriodo());
+            assertEquals(incremental.get(i).getDiasReservados(), reconstruido.get(i).getDiasReservados());
+            assertEquals(0, incremental.get(i).getIngresos().compareTo(reconstruido.get(i).getIngresos()));
+        }
+    }
+
+    private static Evento nuevoEvento(Local local, LocalDate fecha, String total) {
+        Evento evento = new Evento();
+        evento.setNombre("Evento " + fecha);
+        evento.setNumPersonas(50);
+        evento.setDuracion(4);
+        evento.setFecha(Date.from(fecha.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        evento.setTotal(new BigDecimal(total));
+        evento.setLocal(local);
+        return evento;
+    }
+}
@@ -0,0 +1,158 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Empleado;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.EventoDetalleDTO;
+import edu.unc.eventos.dto.EventosNormalizadosDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@Import(EventoServiceImp.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EventoServiceImpTest {
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private LocalService localService;
+
+    @MockBean
+    private TarifaService tarifaService;
+
+    @MockBean
+    private ReporteService reporteService;
+
+    @MockBean
+    private EventoVistaService eventoVistaService;
+
+    @Test
+    void cargaElDetalleConDosConsultas() {
+        Cliente cliente = new Cliente();
+        cliente.setDi("11223344");
+        cliente.setNombre("Cliente Detalle");
+        entityManager.persist(cliente);
+        Empleado supervisor = new Empleado();
+        supervisor.setNombres("Supervisor");
+        entityManager.persist(supervisor);
+        Empleado empleado = new Empleado();
+        empleado.setNombres("Empleado");
+        empleado.setApellidos("Detalle");
+        empleado.setSupervisor(supervisor);
+        entityManager.persist(empleado);
+        Local local = new Local();
+        local.setNombre("Local Detalle");
+        local.setAforo(120);
+        entityManager.persist(local);
+        Decoracion decoracion = new Decoracion();
+        decoracion.setDescripcion("Globos");
+        decoracion.setPrecio(300.0);
+        entityManager.persist(decoracion);
+        Evento evento = new Evento();
+        evento.setNombre("Boda");
+        evento.setNumPersonas(80);
+        evento.setTotal(new BigDecimal("1500.00"));
+        evento.setCliente(cliente);
+        evento.setEmpleado(empleado);
+        evento.setLocal(local);
+        evento.setDecoracion(decoracion);
+        for (String nombre : List.of("Postre", "Ceviche")) {
+            Plato plato = new Plato();
+            plato.setNombre(nombre);
+            plato.setPrecio(new BigDecimal("10.00"));
+            entityManager.persist(plato);
+            evento.getPlatos().add(plato);
+        }
+        entityManager.persist(evento);
+        Evento sinRelaciones = new Evento();
+        sinRelaciones.setNombre("Reunión");
+        entityManager.persist(sinRelaciones);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        EventoDetalleDTO detalle = eventoService.getDetalle(evento.getIdEvento());
+
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        assertEquals("Cliente Detalle", detalle.getCliente().getNombre());
+        assertEquals("Detalle", detalle.getEmpleado().getApellidos());
+        assertEquals(120, detalle.getLocal().getAforo());
+        assertEquals("Globos", detalle.getDecoracion().getDescripcion());
+        assertEquals(List.of("Ceviche", "Postre"), detalle.getPlatos().stream().map(EventoDetalleDTO.ResumenPlato::getNombre).toList());
+
+        EventoDetalleDTO vacio = eventoService.getDetalle(sinRelaciones.getIdEvento());
+        assertNull(vacio.getCliente());
+        assertNull(vacio.getDecoracion());
+        assertEquals(0, vacio.getPlatos().size());
+    }
+
+    @Test
+    void normalizaIncluyendoCadaEntidadUnaSolaVez() {
+        Cliente cliente = new Cliente();
+        cliente.setDi("55667788");
+        cliente.setNombre("Cliente Frecuente");
+        entityManager.persist(cliente);
+        Local local = new Local();
+        local.setNombre("Local Compartido");
+        entityManager.persist(local);
+        Plato plato = new Plato();
+        plato.setNombre("Lomo");
+        entityManager.persist(plato);
+        for (String nombre : List.of("Cumpleaños", "Aniversario", "Graduación")) {
+            Evento evento = new Evento();
+            evento.setNombre(nombre);
+            evento.setCliente(cliente);
+            evento.setLocal(local);
+            evento.getPlatos().add(plato);
+            entityManager.persist(evento);
+        }
+        Evento sinRelaciones = new Evento();
+        sinRelaciones.setNombre("Reunión");
+        entityManager.persist(sinRelaciones);
+        entityManager.flush();
+        entityManager.clear();
+        List<Evento> eventos = entityManager.getEntityManager()
+                .createQuery("SELECT e FROM Evento e ORDER BY e.idEvento", Evento.class).getResultList();
+
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        EventosNormalizadosDTO normalizados = eventoService.normalizar(eventos);
+
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(4, normalizados.getEventos().size());
+        assertEquals(1, normalizados.getIncluidos().getClientes().size());
+        assertEquals(1, normalizados.getIncluidos().getLocales().size());
+        assertEquals(List.of(plato.getIdPlato()), normalizados.getEventos().get(0).getPlatos());
+        assertEquals("Lomo", normalizados.getIncluidos().getPlatos().get(0).getNombre());
+        assertEquals(cliente.getIdCliente(), normalizados.getEventos().get(2).getCliente());
+        assertNull(normalizados.getEventos().get(3).getLocal());
+        assertEquals(0, normalizados.getEventos().get(3).getPlatos().size());
+    }
+}
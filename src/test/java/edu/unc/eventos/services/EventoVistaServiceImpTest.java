@@ -0,0 +1,102 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.EventoVistaDTO;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaEventoVista;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({EventoVistaServiceImp.class, ConsultaEventoVista.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class EventoVistaServiceImpTest {
+    @Autowired
+    private EventoVistaServiceImp eventoVistaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void mantieneLaTablaIgualQueLaReconstruccion() throws Exception {
+        Cliente cliente = new Cliente();
+        cliente.setDi("99887766");
+        cliente.setNombre("Cliente Vista");
+        entityManager.persist(cliente);
+        Local local = new Local();
+        local.setNombre("Local Vista");
+        local.setAforo(150);
+        entityManager.persist(local);
+        Plato postre = plato("Postre");
+        Plato ceviche = plato("Ceviche");
+
+        Evento boda = new Evento();
+        boda.setNombre("Boda");
+        boda.setFecha(Date.valueOf(LocalDate.of(2027, 5, 10)));
+        boda.setTotal(new BigDecimal("1500.00"));
+        boda.setCliente(cliente);
+        boda.setLocal(local);
+        boda.getPlatos().add(postre);
+        entityManager.persist(boda);
+        eventoVistaService.refrescar(boda.getIdEvento());
+        Evento charla = new Evento();
+        charla.setNombre("Charla");
+        charla.setFecha(Date.valueOf(LocalDate.of(2027, 3, 1)));
+        entityManager.persist(charla);
+        eventoVistaService.refrescar(charla.getIdEvento());
+
+        boda.getPlatos().add(ceviche);
+        eventoVistaService.refrescar(boda.getIdEvento());
+        cliente.setNombre("Cliente Renombrado");
+        eventoVistaService.onEntidadModificada(new EntidadModificadaEvent(TipoEntidad.CLIENTE, cliente.getIdCliente(),
+                TipoCambio.ACTUALIZACION, cliente));
+
+        List<EventoVistaDTO> delCliente = eventoVistaService.buscar(cliente.getIdCliente(), null, null, null, null, null);
+        assertEquals(1, delCliente.size());
+        assertEquals("Cliente Renombrado", delCliente.get(0).getClienteNombre());
+        assertEquals("Local Vista", delCliente.get(0).getLocalNombre());
+        assertEquals(2, delCliente.get(0).getNumPlatos());
+        assertEquals(List.of("Charla", "Boda"), nombres(eventoVistaService.buscar(null, null, null, null, null, null)));
+        assertEquals(List.of("Boda"), nombres(eventoVistaService.buscar(null, null, local.getIdLocal(), null,
+                LocalDate.of(2027, 5, 1), LocalDate.of(2027, 5, 31))));
+
+        List<EventoVistaDTO> incremental = eventoVistaService.buscar(null, null, null, null, null, null);
+        entityManager.flush();
+        eventoVistaService.reconstruir();
+        assertEquals(incremental, eventoVistaService.buscar(null, null, null, null, null, null));
+
+        eventoVistaService.eliminar(charla.getIdEvento());
+        assertEquals(List.of("Boda"), nombres(eventoVistaService.buscar(null, null, null, null, null, null)));
+        assertThrows(IllegalOperationException.class, () -> eventoVistaService.buscar(null, null, null, null,
+                LocalDate.of(2027, 2, 1), LocalDate.of(2027, 1, 1)));
+    }
+
+    private Plato plato(String nombre) {
+        Plato plato = new Plato();
+        plato.setNombre(nombre);
+        entityManager.persist(plato);
+        return plato;
+    }
+
+    private static List<String> nombres(List<EventoVistaDTO> eventos) {
+        return eventos.stream().map(EventoVistaDTO::getNombre).toList();
+    }
+}
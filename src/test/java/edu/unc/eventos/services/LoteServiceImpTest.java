@@ -0,0 +1,202 @@
+package edu.unc.eventos.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import edu.unc.eventos.dto.PeticionLoteDTO;
+import edu.unc.eventos.dto.RespuestaLoteDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.filters.ConcurrencyLimitFilter;
+import edu.unc.eventos.filters.LimitadorAdaptativo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoteServiceImpTest {
+    private final List<String> registro = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, HttpServletRequest> recibidas = new ConcurrentHashMap<>();
+    private final LimitadorAdaptativo lecturas = new LimitadorAdaptativo("lectura", 10, 1, 10, new SimpleMeterRegistry());
+    private final LimitadorAdaptativo escrituras = new LimitadorAdaptativo("escritura", 10, 1, 10, new SimpleMeterRegistry());
+    private final LoteServiceImp loteService = new LoteServiceImp();
+    private volatile CountDownLatch lecturasEnParalelo = new CountDownLatch(0);
+
+    @BeforeEach
+    void configurar() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ReflectionTestUtils.setField(loteService, "dispatcherServlet", new Despachador());
+        ReflectionTestUtils.setField(loteService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(loteService, "concurrencyLimitFilter",
+                new ConcurrencyLimitFilter(lecturas, escrituras, objectMapper));
+        ReflectionTestUtils.setField(loteService, "limitarConcurrencia", true);
+        ReflectionTestUtils.setField(loteService, "maxPeticiones", 30);
+        ReflectionTestUtils.setField(loteService, "hilos", 2);
+        ReflectionTestUtils.setField(loteService, "cola", 2);
+        ReflectionTestUtils.setField(loteService, "tiempoMaximo", Duration.ofMillis(500));
+        loteService.iniciar();
+    }
+
+    @AfterEach
+    void detener() {
+        loteService.detener();
+    }
+
+    @Test
+    void conservaElOrdenYLasLecturasSeguidasVanEnParaleloHastaUnaEscritura() throws Exception {
+        lecturasEnParalelo = new CountDownLatch(2);
+
+        List<RespuestaLoteDTO> respuestas = ejecutar(
+                peticion("a", "GET", "/api/platos/1"),
+                peticion("b", "GET", "/api/platos/2"),
+                peticion("c", "POST", "/api/platos"),
+                peticion("d", "GET", "/api/platos/3"));
+
+        assertEquals(List.of("a", "b", "c", "d"), respuestas.stream().map(RespuestaLoteDTO::getId).toList());
+        assertEquals(List.of(200, 200, 200, 200), respuestas.stream().map(RespuestaLoteDTO::getEstado).toList());
+        assertEquals("/api/platos/2", respuestas.get(1).getCuerpo().get("ruta").asText());
+        // Las dos primeras lecturas solo terminan si se ejecutan a la vez; la escritura espera a ambas
+        int escritura = registro.indexOf("inicio POST /api/platos");
+        assertTrue(registro.indexOf("fin GET /api/platos/1") < escritura);
+        assertTrue(registro.indexOf("fin GET /api/platos/2") < escritura);
+        assertTrue(registro.indexOf("fin POST /api/platos") < registro.indexOf("inicio GET /api/platos/3"));
+    }
+
+    @Test
+    void respondeTiempoAgotadoALaPeticionLentaYNoEjecutaLasSiguientes() throws Exception {
+        List<RespuestaLoteDTO> respuestas = ejecutar(
+                peticion(null, "GET", "/api/lento"),
+                peticion(null, "POST", "/api/platos"));
+
+        assertEquals("0", respuestas.get(0).getId());
+        assertEquals(504, respuestas.get(0).getEstado());
+        assertEquals(504, respuestas.get(1).getEstado());
+        assertTrue(registro.stream().noneMatch(linea -> linea.contains("POST")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/eventos/../batch", "http://otro/api/eventos", "//otro/api/eventos", "/api/batch",
+            "/api/batch/1", "/actuator/health"})
+    void rechazaLasUrlQueNoSonRutasRelativasDeLaApi(String url) {
+        assertThrows(IllegalOperationException.class, () -> ejecutar(peticion(null, "GET", url)));
+        assertTrue(registro.isEmpty());
+    }
+
+    @Test
+    void heredaLosEncabezadosDelLoteSalvoLosDelCuerpoYLosCondicionales() throws Exception {
+        MockHttpServletRequest lote = new MockHttpServletRequest("POST", "/api/batch");
+        lote.addHeader("Authorization", "Bearer abc");
+        lote.addHeader("Api-Version", "1");
+        lote.addHeader("Accept-Language", "es");
+        lote.addHeader("Content-Type", "application/json");
+        lote.addHeader("Idempotency-Key", "clave-lote");
+        lote.addHeader("If-None-Match", "\"v1\"");
+        PeticionLoteDTO propia = peticion("a", "GET", "/api/platos/1");
+        propia.getEncabezados().put("Accept-Language", "en");
+
+        loteService.ejecutar(List.of(propia), lote, new MockHttpServletResponse());
+
+        HttpServletRequest recibida = recibidas.get("/api/platos/1");
+        assertEquals("Bearer abc", recibida.getHeader("authorization"));
+        assertEquals("1", recibida.getHeader("Api-Version"));
+        assertEquals("en", recibida.getHeader("Accept-Language"));
+        assertNull(recibida.getHeader("Content-Type"));
+        assertNull(recibida.getHeader("Idempotency-Key"));
+        assertNull(recibida.getHeader("If-None-Match"));
+    }
+
+    @Test
+    void ocupaUnPermisoDelLimitadorPorPeticion() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(lecturas.adquirir());
+        }
+
+        List<RespuestaLoteDTO> respuestas = ejecutar(
+                peticion("a", "GET", "/api/platos/1"),
+                peticion("b", "POST", "/api/platos"));
+
+        assertEquals(503, respuestas.get(0).getEstado());
+        assertEquals(200, respuestas.get(1).getEstado());
+        assertEquals(10, lecturas.getEnCurso());
+        assertEquals(0, escrituras.getEnCurso());
+    }
+
+    @Test
+    void respondeServicioNoDisponibleSiElGrupoDeHilosEstaLleno() throws Exception {
+        List<RespuestaLoteDTO> respuestas = ejecutar(
+                peticion(null, "GET", "/api/pausa/1"),
+                peticion(null, "GET", "/api/pausa/2"),
+                peticion(null, "GET", "/api/pausa/3"),
+                peticion(null, "GET", "/api/pausa/4"),
+                peticion(null, "GET", "/api/pausa/5"));
+
+        assertEquals(List.of(200, 200, 200, 200, 503), respuestas.stream().map(RespuestaLoteDTO::getEstado).toList());
+    }
+
+    private List<RespuestaLoteDTO> ejecutar(PeticionLoteDTO... peticiones) throws IllegalOperationException {
+        return loteService.ejecutar(List.of(peticiones), new MockHttpServletRequest("POST", "/api/batch"),
+                new MockHttpServletResponse());
+    }
+
+    private static PeticionLoteDTO peticion(String id, String metodo, String url) {
+        PeticionLoteDTO peticion = new PeticionLoteDTO();
+        peticion.setId(id);
+        peticion.setMetodo(metodo);
+        peticion.setUrl(url);
+        return peticion;
+    }
+
+    /**
+     * Responde cada petición con su ruta y registra cuándo empieza y termina.
+     */
+    private class Despachador extends DispatcherServlet {
+        @Override
+        public void service(ServletRequest req, ServletResponse res) throws IOException {
+            HttpServletRequest request = (HttpServletRequest) req;
+            HttpServletResponse response = (HttpServletResponse) res;
+            String peticion = request.getMethod() + " " + request.getRequestURI();
+            recibidas.put(request.getRequestURI(), request);
+            registro.add("inicio " + peticion);
+            try {
+                if (request.getRequestURI().equals("/api/lento")) {
+                    Thread.sleep(5_000);
+                } else if (request.getRequestURI().startsWith("/api/pausa/")) {
+                    Thread.sleep(50);
+                } else if (request.getMethod().equals("GET")) {
+                    lecturasEnParalelo.countDown();
+                    lecturasEnParalelo.await(2, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            response.setStatus(200);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"ruta\":\"" + request.getRequestURI() + "\"}");
+            registro.add("fin " + peticion);
+        }
+    }
+}
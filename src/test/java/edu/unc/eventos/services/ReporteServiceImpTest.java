@@ -0,0 +1,148 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.ResumenClientePeriodo;
+import edu.unc.eventos.dto.ResumenLocalDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(ReporteServiceImp.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reportes;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class ReporteServiceImpTest {
+    @Autowired
+    private ReporteService reporteService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void mantieneElResumenIgualQueLaReconstruccion() throws Exception {
+        Local local = new Local();
+        local.setNombre("Local Central");
+        local.setUbicacion("Av. Central 100");
+        local.setAforo(200);
+        entityManager.persist(local);
+
+        Evento enero = guardar(local, LocalDate.of(2027, 1, 10), "1500.00");
+        guardar(local, LocalDate.of(2027, 1, 20), "2500.50");
+        Evento febrero = guardar(local, LocalDate.of(2027, 2, 5), "800.00");
+
+        // Actualización: el evento de febrero pasa a marzo con otro total
+        reporteService.anular(febrero);
+        febrero.setFecha(Date.valueOf(LocalDate.of(2027, 3, 1)));
+        febrero.setTotal(new BigDecimal("900.00"));
+        reporteService.registrar(febrero);
+        // Eliminación
+        reporteService.anular(enero);
+        entityManager.remove(enero);
+        entityManager.flush();
+
+        List<ResumenLocalDTO> incremental = reporteService.getResumenMensual(YearMonth.of(2027, 1), YearMonth.of(2027, 12), null);
+        // Febrero se queda sin eventos y su fila desaparece, igual que en la reconstrucción
+        assertEquals(List.of("2027-01", "2027-03"), incremental.stream().map(ResumenLocalDTO::getPeriodo).toList());
+        assertEquals(0, new BigDecimal("2500.50").compareTo(incremental.get(0).getIngresos()));
+        assertEquals(1, incremental.get(0).getDiasReservados());
+
+        List<ResumenLocalDTO> totales = reporteService.getTotales(YearMonth.of(2027, 1), YearMonth.of(2027, 3));
+        assertEquals(1, totales.size());
+        assertEquals(0, new BigDecimal("3400.50").compareTo(totales.get(0).getIngresos()));
+        assertEquals(2, totales.get(0).getDiasReservados());
+        assertEquals(90, totales.get(0).getDiasPeriodo());
+
+        reporteService.reconstruir();
+        entityManager.clear();
+        List<ResumenLocalDTO> reconstruido = reporteService.getResumenMensual(YearMonth.of(2027, 1), YearMonth.of(2027, 12), null);
+        assertEquals(incremental.size(), reconstruido.size());
+        for (int i = 0; i < incremental.size(); i++) {
+            assertEquals(incremental.get(i).getPeriodo(), reconstruido.get(i).getPeriodo());
+            assertEquals(incremental.get(i).getDiasReservados(), reconstruido.get(i).getDiasReservados());
+            assertEquals(0, incremental.get(i).getIngresos().compareTo(reconstruido.get(i).getIngresos()));
+        }
+    }
+
+    @Test
+    void mantieneLosContadoresDeClientesIgualQueLaReconstruccion() {
+        Cliente cliente = new Cliente();
+        cliente.setDi("44556677");
+        cliente.setNombre("Cliente Frecuente");
+        entityManager.persist(cliente);
+
+        Evento enero = guardar(cliente, LocalDate.of(2027, 1, 10), "1500.00");
+        guardar(cliente, LocalDate.of(2027, 2, 20), "500.00");
+        guardar(cliente, LocalDate.of(2027, 4, 5), "800.00");
+        Evento julio = guardar(cliente, LocalDate.of(2027, 7, 1), "300.00");
+        reporteService.anular(enero);
+        entityManager.remove(enero);
+        reporteService.anular(julio);
+        entityManager.remove(julio);
+        entityManager.flush();
+
+        List<ResumenClientePeriodo> incremental = contadores(cliente);
+        reporteService.reconstruirClientes();
+        entityManager.clear();
+        List<ResumenClientePeriodo> reconstruido = contadores(cliente);
+
+        assertEquals(3, incremental.size());
+        assertEquals(incremental.size(), reconstruido.size());
+        for (int i = 0; i < incremental.size(); i++) {
+            assertEquals(incremental.get(i).getPeriodo(), reconstruido.get(i).getPeriodo());
+            assertEquals(incremental.get(i).getEventos(), reconstruido.get(i).getEventos());
+            assertEquals(0, incremental.get(i).getGasto().compareTo(reconstruido.get(i).getGasto()));
+        }
+        assertEquals(2L, reconstruido.get(0).getEventos());
+        assertEquals(20271, reconstruido.get(1).getPeriodo());
+        assertEquals(1L, reconstruido.get(1).getEventos());
+    }
+
+    private List<ResumenClientePeriodo> contadores(Cliente cliente) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT r FROM ResumenClientePeriodo r WHERE r.idCliente = :id ORDER BY r.periodo", ResumenClientePeriodo.class)
+                .setParameter("id", cliente.getIdCliente())
+                .getResultList();
+    }
+
+    private Evento guardar(Cliente cliente, LocalDate fecha, String total) {
+        Evento evento = new Evento();
+        evento.setNombre("Evento " + fecha);
+        evento.setFecha(Date.valueOf(fecha));
+        evento.setTotal(new BigDecimal(total));
+        evento.setCliente(cliente);
+        entityManager.persist(evento);
+        reporteService.registrar(evento);
+        return evento;
+    }
+
+    private Evento guardar(Local local, LocalDate fecha, String total) {
+        Evento evento = new Evento();
+        evento.setNombre("Evento " + fecha);
+        evento.setNumPersonas(50);
+        evento.setDuracion(4);
+        evento.setFecha(Date.valueOf(fecha));
+        evento.setTotal(new BigDecimal(total));
+        evento.setLocal(local);
+        entityManager.persist(evento);
+        reporteService.registrar(evento);
+        return evento;
+    }
+}
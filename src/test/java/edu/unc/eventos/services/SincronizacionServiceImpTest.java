@@ -0,0 +1,138 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Cliente;
+import edu.unc.eventos.domain.Eliminacion;
+import edu.unc.eventos.domain.Local;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.dto.SincronizacionDTO;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ConsultaCampos;
+import edu.unc.eventos.repositories.ConsultaSincronizacion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({SincronizacionServiceImp.class, ConsultaSincronizacion.class, ConsultaCampos.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SincronizacionServiceImpTest {
+    private final Instant momento = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MICROS);
+
+    @Autowired
+    private SincronizacionServiceImp sincronizacionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void recorreLasFuentesConLaMismaMarcaPaginaAPaginaSinRepetirNiSaltar() throws Exception {
+        List<Long> clientes = List.of(cliente("10000001"), cliente("10000002"), cliente("10000003"));
+        Plato plato = new Plato();
+        plato.setNombre("Plato Sync");
+        entityManager.persist(plato);
+        Local local = new Local();
+        local.setNombre("Local Sync");
+        local.setAforo(80);
+        entityManager.persist(local);
+        entityManager.persist(new Eliminacion(TipoEntidad.PLATO, 99L, momento));
+        fijarMarcas("Cliente", "Plato", "Local");
+
+        List<String> recorrido = new ArrayList<>();
+        List<Boolean> completos = new ArrayList<>();
+        String siguiente = null;
+        SincronizacionDTO pagina;
+        do {
+            pagina = sincronizacionService.sincronizar(siguiente, 2);
+            for (SincronizacionDTO.Cambio cambio : pagina.getCambios()) {
+                assertEquals(momento, cambio.getFecha());
+                recorrido.add(cambio.getTipo() + ":" + cambio.getId() + ":" + cambio.getCambio());
+            }
+            completos.add(pagina.isCompleto());
+            siguiente = pagina.getSiguiente();
+        } while (!pagina.isCompleto());
+
+        assertEquals(List.of(
+                "CLIENTE:" + clientes.get(0) + ":CREACION",
+                "CLIENTE:" + clientes.get(1) + ":CREACION",
+                "CLIENTE:" + clientes.get(2) + ":CREACION",
+                "PLATO:" + plato.getIdPlato() + ":CREACION",
+                "LOCAL:" + local.getIdLocal() + ":CREACION",
+                "PLATO:99:ELIMINACION"), recorrido);
+        assertEquals(List.of(false, false, true), completos);
+        SincronizacionDTO.Cambio eliminacion = pagina.getCambios().get(1);
+        assertEquals(TipoCambio.ELIMINACION, eliminacion.getCambio());
+        assertNull(eliminacion.getDatos());
+        assertEquals("Local Sync", pagina.getCambios().get(0).getDatos().get("nombre"));
+        assertTrue(sincronizacionService.sincronizar(siguiente, 2).getCambios().isEmpty());
+    }
+
+    @Test
+    void noDaPorCompletaLaPaginaLlenaConUnaSolaFuente() throws Exception {
+        cliente("20000001");
+        cliente("20000002");
+        Long ultimo = cliente("20000003");
+        fijarMarcas("Cliente");
+
+        SincronizacionDTO primera = sincronizacionService.sincronizar(null, 2);
+        assertEquals(2, primera.getCambios().size());
+        assertFalse(primera.isCompleto());
+
+        SincronizacionDTO segunda = sincronizacionService.sincronizar(primera.getSiguiente(), 2);
+        assertEquals(List.of(ultimo), segunda.getCambios().stream().map(SincronizacionDTO.Cambio::getId).toList());
+        assertTrue(segunda.isCompleto());
+    }
+
+    @Test
+    void reiniciaDesdeCeroConUnaMarcaAnteriorALaRetencion() throws Exception {
+        Long id = cliente("30000001");
+        fijarMarcas("Cliente");
+
+        SincronizacionDTO vencida = sincronizacionService.sincronizar(Instant.now().minus(Duration.ofDays(31)).toString(), 10);
+        assertTrue(vencida.isReinicio());
+        assertEquals(List.of(id), vencida.getCambios().stream().map(SincronizacionDTO.Cambio::getId).toList());
+
+        SincronizacionDTO vigente = sincronizacionService.sincronizar(Instant.now().minus(Duration.ofDays(2)).toString(), 10);
+        assertFalse(vigente.isReinicio());
+        assertThrows(IllegalOperationException.class, () -> sincronizacionService.sincronizar("no-es-una-marca", 10));
+        assertThrows(IllegalOperationException.class, () -> sincronizacionService.sincronizar(null, 0));
+    }
+
+    private Long cliente(String di) {
+        Cliente cliente = new Cliente();
+        cliente.setDi(di);
+        cliente.setNombre("Cliente " + di);
+        entityManager.persist(cliente);
+        return cliente.getIdCliente();
+    }
+
+    /**
+     * Asigna la misma marca de creación y modificación a todas las filas de las entidades indicadas.
+     */
+    private void fijarMarcas(String... entidades) {
+        entityManager.flush();
+        for (String entidad : entidades) {
+            entityManager.getEntityManager()
+                    .createQuery("UPDATE " + entidad + " x SET x.creadoEn = :momento, x.actualizadoEn = :momento")
+                    .setParameter("momento", momento)
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.Decoracion;
+import edu.unc.eventos.domain.Evento;
+import edu.unc.eventos.domain.Plato;
+import edu.unc.eventos.events.EntidadModificadaEvent;
+import edu.unc.eventos.events.TipoCambio;
+import edu.unc.eventos.events.TipoEntidad;
+import edu.unc.eventos.repositories.DecoracionRepository;
+import edu.unc.eventos.repositories.PlatoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TarifaServiceImpTest {
+    private final PlatoRepository platoRepository = mock(PlatoRepository.class);
+    private final DecoracionRepository decoracionRepository = mock(DecoracionRepository.class);
+    private final TarifaServiceImp tarifaService = new TarifaServiceImp();
+
+    @BeforeEach
+    void configurar() {
+        ReflectionTestUtils.setField(tarifaService, "platoRepository", platoRepository);
+        ReflectionTestUtils.setField(tarifaService, "decoracionRepository", decoracionRepository);
+        when(platoRepository.findAll()).thenReturn(List.of(plato(1L, "12.50"), plato(2L, "7.25"), plato(3L, null)));
+        when(decoracionRepository.findAll()).thenReturn(List.of(decoracion(1L, 800.0)));
+    }
+
+    @Test
+    void sumaDecoracionYPlatosPorPersona() {
+        Evento evento = evento(40, 1L, 1L, 2L, 3L);
+        assertEquals(new BigDecimal("1590.00"), tarifaService.calcularTotal(evento));
+        assertEquals(new BigDecimal("0.00"), tarifaService.calcularTotal(evento(10, null)));
+    }
+
+    @Test
+    void actualizaLaTablaConLosCambiosSinConsultar() {
+        tarifaService.calcularTotal(evento(1, null));
+        tarifaService.onEntidadModificada(new EntidadModificadaEvent(TipoEntidad.PLATO, 1L, TipoCambio.ACTUALIZACION, plato(1L, "20.00")));
+        tarifaService.onEntidadModificada(new EntidadModificadaEvent(TipoEntidad.DECORACION, 1L, TipoCambio.ELIMINACION, null));
+
+        assertEquals(new BigDecimal("545.00"), tarifaService.calcularTotal(evento(20, 1L, 1L, 2L)));
+        verify(platoRepository, times(1)).findAll();
+    }
+
+    private static Evento evento(int personas, Long idDecoracion, Long... idsPlato) {
+        Evento evento = new Evento();
+        evento.setNumPersonas(personas);
+        if (idDecoracion != null) {
+            evento.setDecoracion(decoracion(idDecoracion, null));
+        }
+        for (Long id : idsPlato) {
+            evento.getPlatos().add(plato(id, null));
+        }
+        return evento;
+    }
+
+    private static Plato plato(Long id, String precio) {
+        Plato plato = new Plato();
+        plato.setIdPlato(id);
+        plato.setPrecio(precio == null ? null : new BigDecimal(precio));
+        return plato;
+    }
+
+    private static Decoracion decoracion(Long id, Double precio) {
+        Decoracion decoracion = new Decoracion();
+        decoracion.setIdDecoracion(id);
+        decoracion.setPrecio(precio);
+        return decoracion;
+    }
+}
@@ -0,0 +1,68 @@
+package edu.unc.eventos.services;
+
+import edu.unc.eventos.domain.ResumenClientePeriodo;
+import edu.unc.eventos.dto.TopClienteDTO;
+import edu.unc.eventos.exception.IllegalOperationException;
+import edu.unc.eventos.repositories.ResumenClientePeriodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TopClientesServiceImpTest {
+    private final ResumenClientePeriodoRepository resumenClienteRepository = mock(ResumenClientePeriodoRepository.class);
+    private final TopClientesServiceImp topClientesService = new TopClientesServiceImp();
+
+    @BeforeEach
+    void configurar() {
+        ReflectionTestUtils.setField(topClientesService, "resumenClienteRepository", resumenClienteRepository);
+        ReflectionTestUtils.setField(topClientesService, "kMaximo", 10);
+        ReflectionTestUtils.setField(topClientesService, "maxClasificaciones", 2);
+        when(resumenClienteRepository.findByPeriodoOrderByEventosDescIdClienteAsc(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(contador(7L, 3), contador(8L, 0)));
+    }
+
+    @Test
+    void descartaLaClasificacionUsadaHaceMasTiempo() throws Exception {
+        topClientesService.getTop("2027-Q1", 5, "eventos");
+        topClientesService.getTop("2027-Q2", 5, "eventos");
+        topClientesService.getTop("2027-Q1", 5, "eventos");
+        topClientesService.getTop("2027-Q3", 5, "eventos");
+        assertEquals(2, topClientesService.getNumeroClasificaciones());
+
+        topClientesService.getTop("2027-Q1", 5, "eventos");
+        verify(resumenClienteRepository, times(1)).findByPeriodoOrderByEventosDescIdClienteAsc(eq(20271), any(Pageable.class));
+        topClientesService.getTop("2027-Q2", 5, "eventos");
+        verify(resumenClienteRepository, times(2)).findByPeriodoOrderByEventosDescIdClienteAsc(eq(20272), any(Pageable.class));
+        assertEquals(2, topClientesService.getNumeroClasificaciones());
+    }
+
+    @Test
+    void noDevuelveClientesSinEventosNiAceptaPeriodosInvalidos() throws Exception {
+        List<TopClienteDTO> top = topClientesService.getTop("total", 10, null);
+        assertEquals(List.of(7L), top.stream().map(TopClienteDTO::getIdCliente).toList());
+        assertThrows(IllegalOperationException.class, () -> topClientesService.getTop("2027-Q5", 5, "eventos"));
+        assertEquals(1, topClientesService.getNumeroClasificaciones());
+    }
+
+    private static ResumenClientePeriodo contador(Long idCliente, long eventos) {
+        ResumenClientePeriodo contador = new ResumenClientePeriodo();
+        contador.setIdCliente(idCliente);
+        contador.setEventos(eventos);
+        contador.setGasto(BigDecimal.TEN);
+        return contador;
+    }
+}
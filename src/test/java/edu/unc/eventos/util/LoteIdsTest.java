@@ -0,0 +1,32 @@
+package edu.unc.eventos.util;
+
+import edu.unc.eventos.exception.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoteIdsTest {
+    @Test
+    void respetaElOrdenPedidoEInformaLosFaltantes() throws Exception {
+        List<Long> ids = LoteIds.parsear("3, 1,999,3,");
+        assertEquals(List.of(3L, 1L, 999L), ids);
+
+        ApiResponseLote<List<Long>> respuesta = LoteIds.responder("Lista", ids, List.of(1L, 3L), Function.identity());
+        assertEquals(List.of(3L, 1L), respuesta.getData());
+        assertEquals(List.of(999L), respuesta.getMissing());
+    }
+
+    @Test
+    void rechazaIdentificadoresInvalidosOExcesivos() {
+        String demasiados = LongStream.rangeClosed(1, LoteIds.MAXIMO + 1).mapToObj(Long::toString).collect(Collectors.joining(","));
+        assertThrows(IllegalOperationException.class, () -> LoteIds.parsear("1,dos"));
+        assertThrows(IllegalOperationException.class, () -> LoteIds.parsear(" , "));
+        assertThrows(IllegalOperationException.class, () -> LoteIds.parsear(demasiados));
+    }
+}